@@ -0,0 +1,157 @@
+package com.bybit.api.benchmark;
+
+import com.bybit.api.client.constant.BybitApiConstants;
+import com.bybit.api.client.security.AuthenticationInterceptor;
+import com.bybit.api.client.security.SignableRequestBody;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import okhttp3.Call;
+import okhttp3.Connection;
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link AuthenticationInterceptor#intercept} alone, the chain answers without any network.
+ * Bodies are a single order or a batch of orders, either produced by the client converter or by another converter.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AuthenticationInterceptorBenchmark {
+    private static final String URL = "https://api.bybit.com/v5/order/create-batch";
+
+    @Param({"1", "20"})
+    public int legs;
+
+    private AuthenticationInterceptor interceptor;
+    private Request signableRequest;
+    private Request stringRequest;
+    private Request queryRequest;
+    private Request publicRequest;
+
+    @Setup
+    public void setUp() throws IOException {
+        interceptor = new AuthenticationInterceptor(Payloads.API_KEY, Payloads.SECRET, 5000L, "");
+        byte[] payload = new ObjectMapper().writeValueAsBytes(legs == 1 ? Payloads.orderMap(0) : Payloads.batchOrderMap(legs));
+        signableRequest = signed(URL).post(new SignableRequestBody(payload)).build();
+        stringRequest = signed(URL).post(RequestBody.create(new String(payload), MediaType.get("application/json; charset=UTF-8"))).build();
+        queryRequest = signed("https://api.bybit.com/v5/order/realtime?category=linear&symbol=BTCUSDT&openOnly=0&limit=50").build();
+        publicRequest = new Request.Builder().url("https://api.bybit.com/v5/market/tickers?category=linear&symbol=BTCUSDT").build();
+    }
+
+    private static Request.Builder signed(String url) {
+        return new Request.Builder().url(url).header(BybitApiConstants.SIGN_TYPE_HEADER, "2");
+    }
+
+    @Benchmark
+    public Response signableBody() throws IOException {
+        return interceptor.intercept(new LocalChain(signableRequest));
+    }
+
+    @Benchmark
+    public Response otherBody() throws IOException {
+        return interceptor.intercept(new LocalChain(stringRequest));
+    }
+
+    @Benchmark
+    public Response signedQuery() throws IOException {
+        return interceptor.intercept(new LocalChain(queryRequest));
+    }
+
+    @Benchmark
+    public Response unsigned() throws IOException {
+        return interceptor.intercept(new LocalChain(publicRequest));
+    }
+
+    /**
+     * Chain ending the interceptor stack, it answers every request with an empty response.
+     */
+    private static final class LocalChain implements Interceptor.Chain {
+        private static final ResponseBody EMPTY = ResponseBody.create("{}", MediaType.get("application/json"));
+        private final Request request;
+
+        private LocalChain(Request request) {
+            this.request = request;
+        }
+
+        @NotNull
+        @Override
+        public Request request() {
+            return request;
+        }
+
+        @NotNull
+        @Override
+        public Response proceed(@NotNull Request request) {
+            return new Response.Builder().request(request).protocol(Protocol.HTTP_1_1).code(200).message("OK").body(EMPTY).build();
+        }
+
+        @Nullable
+        @Override
+        public Connection connection() {
+            return null;
+        }
+
+        @NotNull
+        @Override
+        public Call call() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public int connectTimeoutMillis() {
+            return 0;
+        }
+
+        @NotNull
+        @Override
+        public Interceptor.Chain withConnectTimeout(int timeout, @NotNull TimeUnit unit) {
+            return this;
+        }
+
+        @Override
+        public int readTimeoutMillis() {
+            return 0;
+        }
+
+        @NotNull
+        @Override
+        public Interceptor.Chain withReadTimeout(int timeout, @NotNull TimeUnit unit) {
+            return this;
+        }
+
+        @Override
+        public int writeTimeoutMillis() {
+            return 0;
+        }
+
+        @NotNull
+        @Override
+        public Interceptor.Chain withWriteTimeout(int timeout, @NotNull TimeUnit unit) {
+            return this;
+        }
+    }
+}
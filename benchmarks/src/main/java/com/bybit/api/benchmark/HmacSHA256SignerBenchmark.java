@@ -0,0 +1,66 @@
+package com.bybit.api.benchmark;
+
+import com.bybit.api.client.security.HmacSHA256Signer;
+import org.apache.commons.codec.binary.Hex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Signing of a REST order request, the cached signer against keying a new Mac for every request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HmacSHA256SignerBenchmark {
+    private static final String API_KEY = "XXXXXXXXXXXXXXXX";
+    private static final String SECRET = "XXXXXXXXXXXXXXXXXXXXXXXXXXXXXXXXXXXX";
+    private static final long TIMESTAMP = 1700000000000L;
+    private static final long RECV_WINDOW = 5000L;
+
+    private String payload;
+    private HmacSHA256Signer signer;
+
+    @Setup
+    public void setUp() {
+        payload = "{\"category\":\"linear\",\"symbol\":\"BTCUSDT\",\"side\":\"Buy\",\"orderType\":\"Limit\",\"qty\":\"0.01\","
+                + "\"price\":\"25000\",\"timeInForce\":\"GTC\",\"orderLinkId\":\"bench-0001\",\"reduceOnly\":false}";
+        signer = HmacSHA256Signer.forSecret(SECRET);
+    }
+
+    @Benchmark
+    public String cachedSigner() {
+        return signer.sign(API_KEY, TIMESTAMP, RECV_WINDOW, payload);
+    }
+
+    @Benchmark
+    public String staticSign() {
+        return HmacSHA256Signer.sign(API_KEY, SECRET, payload, String.valueOf(TIMESTAMP), String.valueOf(RECV_WINDOW));
+    }
+
+    /**
+     * Signing as done before signers were cached.
+     */
+    @Benchmark
+    public String newMacPerRequest() throws Exception {
+        String message = TIMESTAMP + API_KEY + RECV_WINDOW + payload;
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(SECRET.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+        return Hex.encodeHexString(mac.doFinal(message.getBytes(StandardCharsets.UTF_8)));
+    }
+}
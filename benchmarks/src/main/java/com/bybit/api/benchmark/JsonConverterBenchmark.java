@@ -0,0 +1,51 @@
+package com.bybit.api.benchmark;
+
+import com.bybit.api.client.domain.trade.request.BatchOrderRequest;
+import com.bybit.api.client.domain.trade.request.TradeOrderRequest;
+import com.bybit.api.client.service.BybitJsonConverter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link BybitJsonConverter} conversions of order maps, as done by the trade clients for every map based order.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonConverterBenchmark {
+    private final BybitJsonConverter converter = new BybitJsonConverter();
+    private Map<String, Object> order;
+    private Map<String, Object> batch;
+
+    @Setup
+    public void setUp() {
+        order = Payloads.orderMap(0);
+        batch = Payloads.batchOrderMap(20);
+    }
+
+    @Benchmark
+    public Object singleOrder() {
+        TradeOrderRequest request = converter.convertMapToSingleOrderRequest(order);
+        return converter.convertTradeToPlaceOrderRequest(request);
+    }
+
+    @Benchmark
+    public Object batchOrder() {
+        BatchOrderRequest request = converter.convertMapToBatchOrderRequest(batch);
+        return converter.convertToPlaceBatchOrderRequest(request);
+    }
+}
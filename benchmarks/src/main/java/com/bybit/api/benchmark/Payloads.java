@@ -0,0 +1,124 @@
+package com.bybit.api.benchmark;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Realistic payloads shared by the benchmarks: REST responses shaped like the v5 API ones
+ * and websocket frames recorded from the linear public stream.
+ */
+final class Payloads {
+    static final String API_KEY = "XXXXXXXXXXXXXXXX";
+    static final String SECRET = "XXXXXXXXXXXXXXXXXXXXXXXXXXXXXXXXXXXX";
+    static final String FRAMES = "/ws-frames.jsonl";
+
+    private Payloads() {
+    }
+
+    /**
+     * @return the recorded frames, in the order they were received
+     */
+    static List<String> frames() {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(Payloads.class.getResourceAsStream(FRAMES), StandardCharsets.UTF_8))) {
+            return reader.lines().filter(line -> !line.isEmpty()).collect(Collectors.toList());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static String orderbookResponse(int depth) {
+        StringBuilder json = new StringBuilder("{\"retCode\":0,\"retMsg\":\"OK\",\"result\":{\"s\":\"BTCUSDT\",\"b\":[");
+        appendLevels(json, depth, 37000.0, -0.5);
+        json.append("],\"a\":[");
+        appendLevels(json, depth, 37000.5, 0.5);
+        return json.append("],\"ts\":1700000000000,\"u\":18521288,\"seq\":7961638724}")
+                .append(",\"retExtInfo\":{},\"time\":1700000000010}").toString();
+    }
+
+    static String tickersResponse(int symbols) {
+        StringBuilder json = new StringBuilder("{\"retCode\":0,\"retMsg\":\"OK\",\"result\":{\"category\":\"spot\",\"list\":[");
+        for (int i = 0; i < symbols; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            double price = 10 + i * 1.25;
+            json.append("{\"symbol\":\"SYM").append(i).append("USDT\",")
+                    .append("\"bid1Price\":\"").append(format(price - 0.01)).append("\",\"bid1Size\":\"1520.13\",")
+                    .append("\"ask1Price\":\"").append(format(price)).append("\",\"ask1Size\":\"841.2\",")
+                    .append("\"lastPrice\":\"").append(format(price)).append("\",\"prevPrice24h\":\"").append(format(price * 0.98))
+                    .append("\",\"price24hPcnt\":\"0.0204\",\"highPrice24h\":\"").append(format(price * 1.03))
+                    .append("\",\"lowPrice24h\":\"").append(format(price * 0.97))
+                    .append("\",\"turnover24h\":\"1840212.3312\",\"volume24h\":\"152002.12\",\"usdIndexPrice\":\"").append(format(price)).append("\"}");
+        }
+        return json.append("]},\"retExtInfo\":{},\"time\":1700000000010}").toString();
+    }
+
+    static String klineResponse(int bars) {
+        StringBuilder json = new StringBuilder("{\"retCode\":0,\"retMsg\":\"OK\",\"result\":{\"category\":\"linear\",\"symbol\":\"BTCUSDT\",\"list\":[");
+        long start = 1700000000000L;
+        for (int i = 0; i < bars; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            double open = 37000 + (i % 17) * 3.5;
+            json.append("[\"").append(start - i * 60_000L).append("\",\"").append(format(open)).append("\",\"").append(format(open + 12))
+                    .append("\",\"").append(format(open - 9)).append("\",\"").append(format(open + 2.5))
+                    .append("\",\"12.081\",\"446666.4005\"]");
+        }
+        return json.append("]},\"retExtInfo\":{},\"time\":1700000000010}").toString();
+    }
+
+    static String orderResponse() {
+        return "{\"retCode\":0,\"retMsg\":\"OK\",\"result\":{\"orderId\":\"1321003749386327552\",\"orderLinkId\":\"bench-0001\"},"
+                + "\"retExtInfo\":{},\"time\":1700000000010}";
+    }
+
+    static Map<String, Object> orderMap(int index) {
+        Map<String, Object> order = new HashMap<>();
+        order.put("category", "linear");
+        order.put("symbol", "BTCUSDT");
+        order.put("side", index % 2 == 0 ? "Buy" : "Sell");
+        order.put("orderType", "Limit");
+        order.put("qty", "0.01");
+        order.put("price", format(37000 + index * 0.5));
+        order.put("timeInForce", "GTC");
+        order.put("orderLinkId", "bench-" + index);
+        order.put("positionIdx", 0);
+        return order;
+    }
+
+    static Map<String, Object> batchOrderMap(int legs) {
+        List<Map<String, Object>> orders = new ArrayList<>(legs);
+        for (int i = 0; i < legs; i++) {
+            Map<String, Object> order = orderMap(i);
+            order.remove("category");
+            orders.add(order);
+        }
+        Map<String, Object> batch = new HashMap<>();
+        batch.put("category", "linear");
+        batch.put("request", orders);
+        return batch;
+    }
+
+    private static void appendLevels(StringBuilder json, int depth, double first, double step) {
+        for (int i = 0; i < depth; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("[\"").append(format(first + i * step)).append("\",\"").append(format(0.5 + (i % 7) * 0.25)).append("\"]");
+        }
+    }
+
+    private static String format(double value) {
+        return String.format(Locale.ROOT, "%.2f", value);
+    }
+}
@@ -0,0 +1,99 @@
+package com.bybit.api.benchmark;
+
+import com.bybit.api.client.domain.GenericResponse;
+import com.bybit.api.client.domain.market.response.kline.MarketKlineResult;
+import com.bybit.api.client.domain.market.response.orderbook.OrderbookResult;
+import com.bybit.api.client.domain.market.response.tickers.TickersResult;
+import com.bybit.api.client.service.BybitConverterFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import okhttp3.MediaType;
+import okhttp3.ResponseBody;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import retrofit2.Converter;
+import retrofit2.Retrofit;
+
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decoding of orderbook, tickers and kline responses by the client converter, into the typed results
+ * and into the untyped maps returned by the default clients.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResponseDecodingBenchmark {
+    private static final MediaType JSON = MediaType.get("application/json");
+
+    private byte[] orderbook;
+    private byte[] tickers;
+    private byte[] kline;
+    private Converter<ResponseBody, ?> orderbookConverter;
+    private Converter<ResponseBody, ?> tickersConverter;
+    private Converter<ResponseBody, ?> klineConverter;
+    private Converter<ResponseBody, ?> untypedConverter;
+
+    @Setup
+    public void setUp() {
+        orderbook = Payloads.orderbookResponse(200).getBytes(StandardCharsets.UTF_8);
+        tickers = Payloads.tickersResponse(300).getBytes(StandardCharsets.UTF_8);
+        kline = Payloads.klineResponse(1000).getBytes(StandardCharsets.UTF_8);
+        BybitConverterFactory factory = BybitConverterFactory.create();
+        Retrofit retrofit = new Retrofit.Builder().baseUrl("https://api.bybit.com/").addConverterFactory(factory).build();
+        TypeFactory types = new ObjectMapper().getTypeFactory();
+        orderbookConverter = converter(retrofit, types.constructParametricType(GenericResponse.class, OrderbookResult.class));
+        tickersConverter = converter(retrofit, types.constructParametricType(GenericResponse.class, TickersResult.class));
+        klineConverter = converter(retrofit, types.constructParametricType(GenericResponse.class, MarketKlineResult.class));
+        untypedConverter = converter(retrofit, Object.class);
+    }
+
+    private static Converter<ResponseBody, ?> converter(Retrofit retrofit, Type type) {
+        return retrofit.responseBodyConverter(type, new Annotation[0]);
+    }
+
+    @Benchmark
+    public Object orderbookTyped() throws IOException {
+        return orderbookConverter.convert(ResponseBody.create(orderbook, JSON));
+    }
+
+    @Benchmark
+    public Object orderbookUntyped() throws IOException {
+        return untypedConverter.convert(ResponseBody.create(orderbook, JSON));
+    }
+
+    @Benchmark
+    public Object tickersTyped() throws IOException {
+        return tickersConverter.convert(ResponseBody.create(tickers, JSON));
+    }
+
+    @Benchmark
+    public Object tickersUntyped() throws IOException {
+        return untypedConverter.convert(ResponseBody.create(tickers, JSON));
+    }
+
+    @Benchmark
+    public Object klineTyped() throws IOException {
+        return klineConverter.convert(ResponseBody.create(kline, JSON));
+    }
+
+    @Benchmark
+    public Object klineUntyped() throws IOException {
+        return untypedConverter.convert(ResponseBody.create(kline, JSON));
+    }
+}
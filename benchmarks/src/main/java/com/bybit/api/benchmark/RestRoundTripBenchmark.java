@@ -0,0 +1,144 @@
+package com.bybit.api.benchmark;
+
+import com.bybit.api.client.domain.CategoryType;
+import com.bybit.api.client.domain.TradeOrderType;
+import com.bybit.api.client.domain.market.request.MarketDataRequest;
+import com.bybit.api.client.domain.trade.Side;
+import com.bybit.api.client.domain.trade.request.TradeOrderRequest;
+import com.bybit.api.client.restApi.BybitApiMarketRestClient;
+import com.bybit.api.client.restApi.BybitApiTradeRestClient;
+import com.bybit.api.client.restApi.BybitApiTypedMarketRestClient;
+import com.bybit.api.client.service.BybitApiClientFactory;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.jetbrains.annotations.NotNull;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.net.ServerSocketFactory;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Full REST calls through the client, from the request object to the decoded response, against a local MockWebServer.
+ * Measures the client overhead on top of a loopback round trip.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RestRoundTripBenchmark {
+    private MockWebServer server;
+    private BybitApiTradeRestClient tradeClient;
+    private BybitApiMarketRestClient marketClient;
+    private BybitApiTypedMarketRestClient typedMarketClient;
+    private TradeOrderRequest order;
+    private Map<String, Object> batch;
+    private MarketDataRequest orderbookRequest;
+
+    @Setup
+    public void setUp() throws IOException {
+        String orderbook = Payloads.orderbookResponse(200);
+        String created = Payloads.orderResponse();
+        server = new MockWebServer();
+        server.setServerSocketFactory(new NoDelayServerSocketFactory());
+        server.setDispatcher(new Dispatcher() {
+            @NotNull
+            @Override
+            public MockResponse dispatch(@NotNull RecordedRequest request) {
+                String path = request.getPath() == null ? "" : request.getPath();
+                String body = path.startsWith("/v5/market/orderbook") ? orderbook : created;
+                return new MockResponse().setResponseCode(200).setHeader("Content-Type", "application/json").setBody(body);
+            }
+        });
+        server.start();
+        String baseUrl = server.url("/").toString();
+        BybitApiClientFactory factory = BybitApiClientFactory.newInstance(Payloads.API_KEY, Payloads.SECRET, baseUrl);
+        tradeClient = factory.newTradeRestClient();
+        BybitApiClientFactory publicFactory = BybitApiClientFactory.newInstance(baseUrl);
+        marketClient = publicFactory.newMarketDataRestClient();
+        typedMarketClient = publicFactory.newTypedMarketDataRestClient();
+        order = TradeOrderRequest.builder().category(CategoryType.LINEAR).symbol("BTCUSDT").side(Side.BUY)
+                .orderType(TradeOrderType.LIMIT).qty("0.01").price("37000").orderLinkId("bench-0001").build();
+        batch = Payloads.batchOrderMap(20);
+        orderbookRequest = MarketDataRequest.builder().category(CategoryType.LINEAR).symbol("BTCUSDT").limit(200).build();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        server.shutdown();
+    }
+
+    /**
+     * MockWebServer writes headers and body separately, without TCP_NODELAY every response waits for a delayed ack.
+     */
+    private static final class NoDelayServerSocketFactory extends ServerSocketFactory {
+        @Override
+        public ServerSocket createServerSocket() throws IOException {
+            return new ServerSocket() {
+                @Override
+                public Socket accept() throws IOException {
+                    Socket socket = new Socket();
+                    implAccept(socket);
+                    socket.setTcpNoDelay(true);
+                    return socket;
+                }
+            };
+        }
+
+        @Override
+        public ServerSocket createServerSocket(int port) throws IOException {
+            return createServerSocket(port, 50, null);
+        }
+
+        @Override
+        public ServerSocket createServerSocket(int port, int backlog) throws IOException {
+            return createServerSocket(port, backlog, null);
+        }
+
+        @Override
+        public ServerSocket createServerSocket(int port, int backlog, InetAddress address) throws IOException {
+            ServerSocket serverSocket = createServerSocket();
+            serverSocket.bind(new InetSocketAddress(address, port), backlog);
+            return serverSocket;
+        }
+    }
+
+    @Benchmark
+    public Object createOrder() {
+        return tradeClient.createOrder(order);
+    }
+
+    @Benchmark
+    public Object createBatchOrder() {
+        return tradeClient.createBathOrder(batch);
+    }
+
+    @Benchmark
+    public Object orderbook() {
+        return marketClient.getMarketOrderBook(orderbookRequest);
+    }
+
+    @Benchmark
+    public Object orderbookTyped() {
+        return typedMarketClient.getMarketOrderBook(orderbookRequest);
+    }
+}
@@ -0,0 +1,126 @@
+package com.bybit.api.benchmark;
+
+import com.bybit.api.client.config.BybitApiConfig;
+import com.bybit.api.client.domain.websocket_message.public_channel.KlineData;
+import com.bybit.api.client.domain.websocket_message.public_channel.PublicTickerData;
+import com.bybit.api.client.domain.websocket_message.public_channel.TradeData;
+import com.bybit.api.client.log.LogOption;
+import com.bybit.api.client.websocket.callback.PublicStreamListener;
+import com.bybit.api.client.websocket.impl.StreamingMessageDecoder;
+import com.bybit.api.client.websocket.impl.WebsocketStreamClientImpl;
+import com.bybit.api.client.websocket.orderbook.OrderBookManager;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.bybit.api.client.constant.BybitApiConstants.DEFAULT_MAX_ALIVE_TIME;
+import static com.bybit.api.client.constant.BybitApiConstants.DEFAULT_PING_INTERVAL;
+
+/**
+ * {@link WebsocketStreamClientImpl#onMessage} fed with the recorded frames, with the handlers an application would set:
+ * the raw frame, a Jackson tree per frame, the streaming decoder and the orderbook manager.
+ * Scores are per frame.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WebSocketMessageBenchmark {
+    private static final int FRAMES = 200;
+
+    private String[] frames;
+    private WebsocketStreamClientImpl rawClient;
+    private WebsocketStreamClientImpl treeClient;
+    private WebsocketStreamClientImpl streamingClient;
+    private WebsocketStreamClientImpl orderBookClient;
+
+    @Setup
+    public void setUp(Blackhole blackhole) {
+        List<String> recorded = Payloads.frames();
+        if (recorded.size() != FRAMES) {
+            throw new IllegalStateException("Expected " + FRAMES + " recorded frames, got " + recorded.size());
+        }
+        frames = recorded.toArray(new String[0]);
+        ObjectMapper mapper = new ObjectMapper();
+        rawClient = client();
+        rawClient.setMessageHandler(blackhole::consume);
+        treeClient = client();
+        treeClient.setMessageHandler(message -> blackhole.consume(mapper.readTree(message)));
+        streamingClient = client();
+        streamingClient.setMessageHandler(new StreamingMessageDecoder(new PublicStreamListener() {
+            @Override
+            public void onTrade(String topic, long ts, TradeData trade) {
+                blackhole.consume(trade);
+            }
+
+            @Override
+            public void onTicker(String topic, boolean snapshot, long ts, PublicTickerData ticker) {
+                blackhole.consume(ticker);
+            }
+
+            @Override
+            public void onKline(String topic, long ts, KlineData kline) {
+                blackhole.consume(kline);
+            }
+
+            @Override
+            public void onMessage(String message) {
+                blackhole.consume(message);
+            }
+        }));
+        orderBookClient = client();
+        OrderBookManager manager = new OrderBookManager(orderBookClient, blackhole::consume);
+        manager.setListener(blackhole::consume);
+    }
+
+    private static WebsocketStreamClientImpl client() {
+        return new WebsocketStreamClientImpl(null, null, BybitApiConfig.STREAM_MAINNET_DOMAIN, DEFAULT_PING_INTERVAL, DEFAULT_MAX_ALIVE_TIME,
+                false, LogOption.SLF4J.getLogOptionType(), null);
+    }
+
+    private void replay(WebsocketStreamClientImpl client) throws JsonProcessingException {
+        for (String frame : frames) {
+            client.onMessage(frame);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(FRAMES)
+    public void rawHandler() throws JsonProcessingException {
+        replay(rawClient);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(FRAMES)
+    public void treeHandler() throws JsonProcessingException {
+        replay(treeClient);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(FRAMES)
+    public void streamingDecoder() throws JsonProcessingException {
+        replay(streamingClient);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(FRAMES)
+    public void orderBookManager() throws JsonProcessingException {
+        replay(orderBookClient);
+    }
+}
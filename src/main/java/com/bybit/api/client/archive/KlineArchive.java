@@ -0,0 +1,256 @@
+package com.bybit.api.client.archive;
+
+import com.bybit.api.client.domain.CategoryType;
+import com.bybit.api.client.domain.market.MarketInterval;
+import com.bybit.api.client.domain.market.request.MarketDataRequest;
+import com.bybit.api.client.exception.BybitApiException;
+import com.bybit.api.client.restApi.BybitApiMarketRestClient;
+import com.bybit.api.client.service.BybitApiExecutors;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.stream.Stream;
+
+/**
+ * Local archive of klines serving range queries from disk and downloading only the candles it does not hold yet.
+ * <p>
+ * Every symbol and interval is stored under {@code directory/category/symbol/interval} as memory-mapped segment files
+ * of {@value #SLOTS_PER_SEGMENT} candles laid out column by column: start times as longs, then open, high, low, close,
+ * volume and turnover as doubles. A candle is found by its position on the interval grid, so lookups need no index.
+ * Missing ranges are downloaded with {@link BybitApiMarketRestClient#backfillMarketLinesData}, slices in parallel,
+ * and slots the exchange has no candle for are remembered so they are not requested again.
+ * <p>
+ * Only closed candles are archived, the candle in progress is never returned. Monthly klines are not supported,
+ * their length varies and they do not fit the grid.
+ */
+public class KlineArchive implements AutoCloseable {
+    public static final int SLOTS_PER_SEGMENT = 1 << 14;
+    private static final int COLUMNS = 7;
+    private static final int SEGMENT_BYTES = SLOTS_PER_SEGMENT * COLUMNS * Long.BYTES;
+    private static final String SEGMENT_SUFFIX = ".klc";
+    // start time of a slot never downloaded, and of a slot the exchange has no candle for
+    private static final long MISSING = 0;
+    private static final long EMPTY = -1;
+    // weekly klines start on monday, the epoch is a thursday
+    private static final long WEEKLY_OFFSET = TimeUnit.DAYS.toMillis(4);
+
+    private final BybitApiMarketRestClient client;
+    private final Path directory;
+    private final LongSupplier clock;
+    private final ExecutorService executor = BybitApiExecutors.newVirtualThreadPerTaskExecutor();
+    private final Map<Path, Series> series = new ConcurrentHashMap<>();
+
+    public KlineArchive(BybitApiMarketRestClient client, Path directory) {
+        this(client, directory, System::currentTimeMillis);
+    }
+
+    /**
+     * @param client    client the missing klines are downloaded with
+     * @param directory directory of the archive, created if needed
+     * @param clock     current time in milliseconds, telling closed candles from the one in progress
+     */
+    public KlineArchive(BybitApiMarketRestClient client, Path directory, LongSupplier clock) {
+        this.client = client;
+        this.directory = directory;
+        this.clock = clock;
+    }
+
+    /**
+     * Get the closed klines starting in {@code [start, end)}, downloading the ones missing from the archive.
+     *
+     * @param start start of the range in milliseconds, inclusive
+     * @param end   end of the range in milliseconds, exclusive
+     */
+    public KlineSeries getKlines(CategoryType category, String symbol, MarketInterval interval, long start, long end) {
+        if (end <= start) {
+            throw new BybitApiException("[KlineArchive] end must be after start");
+        }
+        return series(category, symbol, interval).get(start, end);
+    }
+
+    /**
+     * Same as {@link #getKlines(CategoryType, String, MarketInterval, long, long)}, without blocking the caller.
+     */
+    public CompletableFuture<KlineSeries> getKlinesAsync(CategoryType category, String symbol, MarketInterval interval, long start, long end) {
+        return CompletableFuture.supplyAsync(() -> getKlines(category, symbol, interval, start, end), executor);
+    }
+
+    /**
+     * Get the klines of many symbols, the symbols are downloaded in parallel.
+     *
+     * @return the klines of every symbol, in the order of the symbols
+     */
+    public CompletableFuture<Map<String, KlineSeries>> getKlines(CategoryType category, Collection<String> symbols, MarketInterval interval, long start, long end) {
+        Map<String, CompletableFuture<KlineSeries>> futures = new LinkedHashMap<>();
+        for (String symbol : symbols) {
+            futures.put(symbol, getKlinesAsync(category, symbol, interval, start, end));
+        }
+        return CompletableFuture.allOf(futures.values().toArray(new CompletableFuture<?>[0])).thenApply(ignored -> {
+            Map<String, KlineSeries> result = new LinkedHashMap<>();
+            futures.forEach((symbol, future) -> result.put(symbol, future.join()));
+            return result;
+        });
+    }
+
+    /**
+     * Write the candles downloaded so far to disk.
+     */
+    public void flush() {
+        for (Series archived : series.values()) {
+            archived.flush();
+        }
+    }
+
+    /**
+     * Stop accepting downloads and write the candles downloaded so far to disk, downloads in progress still complete.
+     */
+    @Override
+    public void close() {
+        executor.shutdown();
+        flush();
+        series.clear();
+    }
+
+    private Series series(CategoryType category, String symbol, MarketInterval interval) {
+        if (interval == MarketInterval.MONTHLY) {
+            throw new BybitApiException("[KlineArchive] monthly klines are not supported");
+        }
+        Path path = directory.resolve(category.getCategoryTypeId()).resolve(symbol).resolve(interval.getIntervalId());
+        return series.computeIfAbsent(path, ignored -> new Series(path, category, symbol, interval));
+    }
+
+    /**
+     * Klines of one symbol and interval, one thread at a time reads or downloads them.
+     */
+    private final class Series {
+        private final Path path;
+        private final MarketDataRequest request;
+        private final long intervalMillis;
+        private final long offset;
+        private final Map<Long, MappedByteBuffer> segments = new HashMap<>();
+
+        private Series(Path path, CategoryType category, String symbol, MarketInterval interval) {
+            this.path = path;
+            this.request = MarketDataRequest.builder().category(category).symbol(symbol).marketInterval(interval).build();
+            this.intervalMillis = interval.toMillis();
+            this.offset = interval == MarketInterval.WEEKLY ? WEEKLY_OFFSET : 0;
+        }
+
+        private synchronized KlineSeries get(long start, long end) {
+            long first = Math.floorDiv(start - offset + intervalMillis - 1, intervalMillis);
+            long last = Math.floorDiv(end - offset + intervalMillis - 1, intervalMillis);
+            long closed = Math.min(last, Math.floorDiv(clock.getAsLong() - offset, intervalMillis));
+            long gap = -1;
+            for (long slot = first; slot <= closed; slot++) {
+                boolean missing = slot < closed && time(slot) == MISSING;
+                if (missing && gap < 0) {
+                    gap = slot;
+                } else if (!missing && gap >= 0) {
+                    download(gap, slot);
+                    gap = -1;
+                }
+            }
+            return read(first, closed);
+        }
+
+        private void download(long from, long to) {
+            try (Stream<List<Object>> klines = client.backfillMarketLinesData(request, startTime(from), startTime(to))) {
+                klines.forEach(kline -> {
+                    long startTime = Long.parseLong(String.valueOf(kline.get(0)));
+                    long slot = Math.floorDiv(startTime - offset, intervalMillis);
+                    if (slot < from || slot >= to || startTime(slot) != startTime) {
+                        return;
+                    }
+                    MappedByteBuffer segment = segment(slot);
+                    int index = index(slot);
+                    segment.putLong(index * Long.BYTES, startTime);
+                    for (int column = 1; column < COLUMNS; column++) {
+                        segment.putDouble(position(column, index), Double.parseDouble(String.valueOf(kline.get(column))));
+                    }
+                });
+            }
+            for (long slot = from; slot < to; slot++) {
+                if (time(slot) == MISSING) {
+                    segment(slot).putLong(index(slot) * Long.BYTES, EMPTY);
+                }
+            }
+        }
+
+        private KlineSeries read(long first, long last) {
+            int capacity = (int) Math.min(Integer.MAX_VALUE - 8, Math.max(0, last - first));
+            long[] startTimes = new long[capacity];
+            double[][] values = new double[COLUMNS - 1][capacity];
+            int size = 0;
+            for (long slot = first; slot < last; slot++) {
+                long startTime = time(slot);
+                if (startTime <= MISSING) {
+                    continue;
+                }
+                MappedByteBuffer segment = segment(slot);
+                int index = index(slot);
+                startTimes[size] = startTime;
+                for (int column = 1; column < COLUMNS; column++) {
+                    values[column - 1][size] = segment.getDouble(position(column, index));
+                }
+                size++;
+            }
+            return new KlineSeries(size, Arrays.copyOf(startTimes, size),
+                    Arrays.copyOf(values[0], size), Arrays.copyOf(values[1], size), Arrays.copyOf(values[2], size),
+                    Arrays.copyOf(values[3], size), Arrays.copyOf(values[4], size), Arrays.copyOf(values[5], size));
+        }
+
+        private long time(long slot) {
+            return segment(slot).getLong(index(slot) * Long.BYTES);
+        }
+
+        private long startTime(long slot) {
+            return offset + slot * intervalMillis;
+        }
+
+        private int index(long slot) {
+            return (int) Math.floorMod(slot, (long) SLOTS_PER_SEGMENT);
+        }
+
+        private int position(int column, int index) {
+            return (column * SLOTS_PER_SEGMENT + index) * Long.BYTES;
+        }
+
+        private MappedByteBuffer segment(long slot) {
+            return segments.computeIfAbsent(Math.floorDiv(slot, (long) SLOTS_PER_SEGMENT), this::map);
+        }
+
+        private MappedByteBuffer map(long segment) {
+            try {
+                Files.createDirectories(path);
+                try (FileChannel channel = FileChannel.open(path.resolve(segment + SEGMENT_SUFFIX),
+                        StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                    // a new file reads as zeros, every slot MISSING
+                    return channel.map(FileChannel.MapMode.READ_WRITE, 0, SEGMENT_BYTES);
+                }
+            } catch (IOException e) {
+                throw new BybitApiException("[KlineArchive] failed to map " + path.resolve(segment + SEGMENT_SUFFIX), e);
+            }
+        }
+
+        private synchronized void flush() {
+            for (MappedByteBuffer segment : segments.values()) {
+                segment.force();
+            }
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.bybit.api.client.archive;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Klines of one symbol and interval in ascending time order, held column by column.
+ * Index i of every array is the candle starting at {@code startTimes[i]}, arrays are not copied so do not modify them.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PACKAGE)
+public class KlineSeries {
+    private final int size;
+    private final long[] startTimes;
+    private final double[] openPrices;
+    private final double[] highPrices;
+    private final double[] lowPrices;
+    private final double[] closePrices;
+    private final double[] volumes;
+    private final double[] turnovers;
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+}
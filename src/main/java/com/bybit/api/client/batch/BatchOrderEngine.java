@@ -0,0 +1,207 @@
+package com.bybit.api.client.batch;
+
+import com.bybit.api.client.domain.CategoryType;
+import com.bybit.api.client.domain.trade.request.BatchOrderRequest;
+import com.bybit.api.client.domain.trade.request.TradeOrderRequest;
+import com.bybit.api.client.domain.trade.response.BatchOrderResponse;
+import com.bybit.api.client.exception.BybitApiException;
+import com.bybit.api.client.ratelimit.RateLimiter;
+import com.bybit.api.client.restApi.BybitApiTypedService;
+import com.bybit.api.client.service.BybitApiServiceGenerator;
+import com.bybit.api.client.service.BybitJsonConverter;
+import com.bybit.api.client.validation.PreTradeValidator;
+import retrofit2.Call;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Sends order lists of any size through the batch endpoints.
+ * Orders are grouped by category and split into batches of at most the legs the exchange accepts for the category.
+ * Batches are sent concurrently, at most {@code maxConcurrentBatches} at a time across every call of the engine,
+ * and go through the interceptors of the client, so an enabled {@link RateLimiter} keeps them within the budget of the api key.
+ * <p>
+ * The result list is aligned with the input: element i is the outcome of order i, whether its leg failed,
+ * its whole batch was rejected or the batch could not be sent.
+ */
+public class BatchOrderEngine {
+    public static final int DEFAULT_MAX_CONCURRENT_BATCHES = 4;
+
+    private final BybitApiTypedService service;
+    private final BybitJsonConverter converter;
+    private final Map<CategoryType, Integer> maxLegs = new EnumMap<>(CategoryType.class);
+    private final int maxConcurrentBatches;
+    private final Deque<Batch> queue = new ArrayDeque<>();
+    private int inFlight;
+
+    public BatchOrderEngine(BybitApiTypedService service) {
+        this(service, DEFAULT_MAX_CONCURRENT_BATCHES);
+    }
+
+    public BatchOrderEngine(BybitApiTypedService service, int maxConcurrentBatches) {
+        this(service, maxConcurrentBatches, null);
+    }
+
+    /**
+     * @param validator checks the orders to place and amend before they are sent, null to send them unchecked
+     */
+    public BatchOrderEngine(BybitApiTypedService service, int maxConcurrentBatches, PreTradeValidator validator) {
+        if (maxConcurrentBatches <= 0) {
+            throw new BybitApiException("[BatchOrderEngine] maxConcurrentBatches must be positive");
+        }
+        this.service = service;
+        this.converter = new BybitJsonConverter(validator);
+        this.maxConcurrentBatches = maxConcurrentBatches;
+        maxLegs.putAll(defaultMaxLegs());
+    }
+
+    /**
+     * @return legs per batch accepted by the exchange for every category
+     */
+    static Map<CategoryType, Integer> defaultMaxLegs() {
+        Map<CategoryType, Integer> legs = new EnumMap<>(CategoryType.class);
+        legs.put(CategoryType.SPOT, 10);
+        legs.put(CategoryType.LINEAR, 10);
+        legs.put(CategoryType.INVERSE, 10);
+        legs.put(CategoryType.OPTION, 20);
+        return legs;
+    }
+
+    /**
+     * Change the legs per batch of a category, e.g. when the exchange raises its limit.
+     */
+    public synchronized void setMaxLegs(CategoryType category, int legs) {
+        if (legs <= 0) {
+            throw new BybitApiException("[BatchOrderEngine] legs per batch must be positive");
+        }
+        maxLegs.put(category, legs);
+    }
+
+    public synchronized int getMaxLegs(CategoryType category) {
+        return maxLegs.get(category);
+    }
+
+    /**
+     * Place the orders through /v5/order/create-batch.
+     */
+    public CompletableFuture<List<BatchOrderLegResult>> placeOrders(List<TradeOrderRequest> orders) {
+        return submit(orders, request -> service.createBatchOrder(converter.convertToPlaceBatchOrderRequest(request)));
+    }
+
+    /**
+     * Amend the orders through /v5/order/amend-batch.
+     */
+    public CompletableFuture<List<BatchOrderLegResult>> amendOrders(List<TradeOrderRequest> orders) {
+        return submit(orders, request -> service.amendBatchOrder(converter.convertToAmendBatchOrderRequest(request)));
+    }
+
+    /**
+     * Cancel the orders through /v5/order/cancel-batch.
+     */
+    public CompletableFuture<List<BatchOrderLegResult>> cancelOrders(List<TradeOrderRequest> orders) {
+        return submit(orders, request -> service.cancelBatchOrder(converter.convertToCancelBatchOrderRequest(request)));
+    }
+
+    private CompletableFuture<List<BatchOrderLegResult>> submit(List<TradeOrderRequest> orders, Function<BatchOrderRequest, Call<BatchOrderResponse>> endpoint) {
+        if (orders.isEmpty()) {
+            return CompletableFuture.completedFuture(Collections.emptyList());
+        }
+        Map<CategoryType, List<Integer>> indicesByCategory = new EnumMap<>(CategoryType.class);
+        for (int i = 0; i < orders.size(); i++) {
+            CategoryType category = orders.get(i).getCategory();
+            if (category == null) {
+                throw new BybitApiException("Please set category for your order");
+            }
+            indicesByCategory.computeIfAbsent(category, ignored -> new ArrayList<>()).add(i);
+        }
+        // requests are converted up front, so invalid orders fail the call before anything is sent
+        Run run = new Run(orders.size());
+        List<Batch> batches = new ArrayList<>();
+        for (Map.Entry<CategoryType, List<Integer>> entry : indicesByCategory.entrySet()) {
+            List<Integer> indices = entry.getValue();
+            int legs = getMaxLegs(entry.getKey());
+            for (int from = 0; from < indices.size(); from += legs) {
+                List<Integer> chunk = indices.subList(from, Math.min(from + legs, indices.size()));
+                List<TradeOrderRequest> request = new ArrayList<>(chunk.size());
+                for (int index : chunk) {
+                    request.add(orders.get(index));
+                }
+                Call<BatchOrderResponse> call = endpoint.apply(BatchOrderRequest.builder().category(entry.getKey()).request(request).build());
+                batches.add(new Batch(run, chunk.stream().mapToInt(Integer::intValue).toArray(), call));
+            }
+        }
+        run.remaining.set(batches.size());
+        synchronized (queue) {
+            queue.addAll(batches);
+        }
+        dispatch();
+        return run.future;
+    }
+
+    private void dispatch() {
+        while (true) {
+            Batch batch;
+            synchronized (queue) {
+                if (inFlight >= maxConcurrentBatches || queue.isEmpty()) {
+                    return;
+                }
+                batch = queue.poll();
+                // batches of cancelled calls are dropped
+                if (batch.run.future.isDone()) {
+                    continue;
+                }
+                inFlight++;
+            }
+            BybitApiServiceGenerator.executeAsync(batch.call).whenComplete((response, error) -> {
+                synchronized (queue) {
+                    inFlight--;
+                }
+                batch.complete(response, error);
+                dispatch();
+            });
+        }
+    }
+
+    /**
+     * Results of one call of the engine.
+     */
+    private static final class Run {
+        private final BatchOrderLegResult[] results;
+        private final AtomicInteger remaining = new AtomicInteger();
+        private final CompletableFuture<List<BatchOrderLegResult>> future = new CompletableFuture<>();
+
+        private Run(int size) {
+            this.results = new BatchOrderLegResult[size];
+        }
+    }
+
+    private static final class Batch {
+        private final Run run;
+        private final int[] indices;
+        private final Call<BatchOrderResponse> call;
+
+        private Batch(Run run, int[] indices, Call<BatchOrderResponse> call) {
+            this.run = run;
+            this.indices = indices;
+            this.call = call;
+        }
+
+        private void complete(BatchOrderResponse response, Throwable error) {
+            for (int leg = 0; leg < indices.length; leg++) {
+                run.results[indices[leg]] = BatchOrderLegResult.of(indices[leg], leg, response, error);
+            }
+            if (run.remaining.decrementAndGet() == 0) {
+                run.future.complete(Collections.unmodifiableList(Arrays.asList(run.results)));
+            }
+        }
+    }
+}
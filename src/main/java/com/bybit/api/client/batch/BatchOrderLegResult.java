@@ -0,0 +1,72 @@
+package com.bybit.api.client.batch;
+
+import com.bybit.api.client.domain.trade.response.BatchOrderResponse;
+import com.bybit.api.client.domain.trade.response.BatchOrderStatus;
+import com.bybit.api.client.domain.trade.response.OrderResponse;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.List;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Outcome of one order sent by the {@link BatchOrderEngine} or the {@link OrderCoalescer}.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class BatchOrderLegResult {
+    /**
+     * Code of legs whose batch could not be sent or whose response could not be read.
+     */
+    public static final int TRANSPORT_ERROR = -1;
+
+    /**
+     * Index of the order in the submitted list, for the coalescer its position in the batch it was sent in
+     */
+    private final int index;
+    private final String orderId;
+    private final String orderLinkId;
+    /**
+     * 0 on success, the leg code or the code of the whole batch otherwise
+     */
+    private final int code;
+    private final String message;
+
+    public boolean isSuccess() {
+        return code == 0;
+    }
+
+    /**
+     * Outcome of a leg from the response of its batch, or from the error of the call.
+     *
+     * @param index    index reported for the order
+     * @param leg      position of the order in its batch
+     * @param response response of the batch, null on error
+     * @param error    error of the call, null on response
+     */
+    static BatchOrderLegResult of(int index, int leg, BatchOrderResponse response, Throwable error) {
+        if (error != null) {
+            Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+            return new BatchOrderLegResult(index, null, null, TRANSPORT_ERROR, cause.getMessage());
+        }
+        if (response == null) {
+            return new BatchOrderLegResult(index, null, null, TRANSPORT_ERROR, "Empty response");
+        }
+        if (response.getRetCode() != 0) {
+            return new BatchOrderLegResult(index, null, null, response.getRetCode(), response.getRetMsg());
+        }
+        OrderResponse order = response.getResult() == null ? null : elementAt(response.getResult().getList(), leg);
+        BatchOrderStatus status = response.getRetExtInfo() == null ? null : elementAt(response.getRetExtInfo().getList(), leg);
+        return new BatchOrderLegResult(index,
+                order == null ? null : order.getOrderId(),
+                order == null ? null : order.getOrderLinkId(),
+                status == null ? 0 : status.getCode(),
+                status == null ? response.getRetMsg() : status.getMsg());
+    }
+
+    private static <T> T elementAt(List<T> list, int index) {
+        return list != null && index < list.size() ? list.get(index) : null;
+    }
+}
@@ -0,0 +1,182 @@
+package com.bybit.api.client.batch;
+
+import com.bybit.api.client.domain.CategoryType;
+import com.bybit.api.client.domain.trade.request.PlaceBatchOrderRequest;
+import com.bybit.api.client.domain.trade.request.PlaceOrderRequest;
+import com.bybit.api.client.domain.trade.request.TradeOrderRequest;
+import com.bybit.api.client.exception.BybitApiException;
+import com.bybit.api.client.restApi.BybitApiTypedService;
+import com.bybit.api.client.service.BybitApiServiceGenerator;
+import com.bybit.api.client.service.BybitJsonConverter;
+import com.bybit.api.client.validation.PreTradeValidator;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Coalesces orders placed one by one into /v5/order/create-batch requests.
+ * Orders are collected per category and sent when the window of the first pending order elapses
+ * or when the batch is full, whichever comes first. Every caller gets the result of its own leg.
+ * <p>
+ * During bursts this trades a fixed delay of at most one window for far fewer requests and less rate limit consumption.
+ * An order placed alone is still sent after the window, as a batch of one leg.
+ */
+public class OrderCoalescer implements AutoCloseable {
+    public static final long DEFAULT_WINDOW_MICROS = 2000;
+    private static final String THREAD_FLUSH = "bybit-order-coalescer-";
+    private static final AtomicInteger INSTANCES = new AtomicInteger();
+
+    private final BybitApiTypedService service;
+    private final BybitJsonConverter converter;
+    private final long windowNanos;
+    private final Map<CategoryType, Integer> maxLegs = BatchOrderEngine.defaultMaxLegs();
+    private final Map<CategoryType, Pending> pending = new EnumMap<>(CategoryType.class);
+    private final ScheduledExecutorService scheduler;
+    private boolean closed;
+
+    public OrderCoalescer(BybitApiTypedService service) {
+        this(service, DEFAULT_WINDOW_MICROS, TimeUnit.MICROSECONDS);
+    }
+
+    /**
+     * @param service service the batches are sent with
+     * @param window  how long the first order of a batch waits for others
+     * @param unit    unit of the window
+     */
+    public OrderCoalescer(BybitApiTypedService service, long window, TimeUnit unit) {
+        this(service, window, unit, null);
+    }
+
+    /**
+     * @param validator checks the orders before they are queued, null to send them unchecked
+     */
+    public OrderCoalescer(BybitApiTypedService service, long window, TimeUnit unit, PreTradeValidator validator) {
+        if (window <= 0) {
+            throw new BybitApiException("[OrderCoalescer] window must be positive");
+        }
+        this.service = service;
+        this.converter = new BybitJsonConverter(validator);
+        this.windowNanos = unit.toNanos(window);
+        String name = THREAD_FLUSH + INSTANCES.incrementAndGet();
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Limit the legs of the batches of a category, a full batch is sent without waiting for the window.
+     */
+    public synchronized void setMaxLegs(CategoryType category, int legs) {
+        if (legs <= 0) {
+            throw new BybitApiException("[OrderCoalescer] legs per batch must be positive");
+        }
+        maxLegs.put(category, legs);
+    }
+
+    /**
+     * Queue an order for the next batch of its category.
+     *
+     * @param order order, converted right away so that invalid orders fail the call
+     * @return the result of the leg of the order
+     */
+    public CompletableFuture<BatchOrderLegResult> createOrder(TradeOrderRequest order) {
+        CategoryType category = order.getCategory();
+        if (category == null) {
+            throw new BybitApiException("Please set category for your order");
+        }
+        PlaceOrderRequest leg = converter.convertTradeToPlaceOrderRequest(order);
+        CompletableFuture<BatchOrderLegResult> future = new CompletableFuture<>();
+        Pending full = null;
+        synchronized (this) {
+            if (closed) {
+                throw new BybitApiException("[OrderCoalescer] closed");
+            }
+            Pending batch = pending.get(category);
+            if (batch == null) {
+                Pending created = new Pending();
+                pending.put(category, created);
+                created.flush = scheduler.schedule(() -> flush(category, created), windowNanos, TimeUnit.NANOSECONDS);
+                batch = created;
+            }
+            batch.legs.add(leg);
+            batch.futures.add(future);
+            if (batch.legs.size() >= maxLegs.get(category)) {
+                pending.remove(category);
+                batch.flush.cancel(false);
+                full = batch;
+            }
+        }
+        if (full != null) {
+            send(category, full);
+        }
+        return future;
+    }
+
+    private void flush(CategoryType category, Pending batch) {
+        synchronized (this) {
+            // the batch may have been sent full in the meantime
+            if (pending.get(category) != batch) {
+                return;
+            }
+            pending.remove(category);
+        }
+        send(category, batch);
+    }
+
+    private void send(CategoryType category, Pending batch) {
+        PlaceBatchOrderRequest request = PlaceBatchOrderRequest.builder().category(category).request(batch.legs).build();
+        BybitApiServiceGenerator.executeAsync(service.createBatchOrder(request)).whenComplete((response, error) -> {
+            for (int leg = 0; leg < batch.futures.size(); leg++) {
+                batch.futures.get(leg).complete(BatchOrderLegResult.of(leg, leg, response, error));
+            }
+        });
+    }
+
+    /**
+     * @return orders waiting for their batch to be sent
+     */
+    public synchronized int getPendingCount() {
+        int count = 0;
+        for (Pending batch : pending.values()) {
+            count += batch.legs.size();
+        }
+        return count;
+    }
+
+    /**
+     * Send the pending orders right away and stop accepting new ones.
+     */
+    @Override
+    public void close() {
+        List<Map.Entry<CategoryType, Pending>> batches;
+        synchronized (this) {
+            closed = true;
+            batches = new ArrayList<>(pending.entrySet());
+            pending.clear();
+        }
+        for (Map.Entry<CategoryType, Pending> entry : batches) {
+            entry.getValue().flush.cancel(false);
+            send(entry.getKey(), entry.getValue());
+        }
+        scheduler.shutdown();
+    }
+
+    /**
+     * Orders of one category waiting for their batch.
+     */
+    private static final class Pending {
+        private final List<PlaceOrderRequest> legs = new ArrayList<>();
+        private final List<CompletableFuture<BatchOrderLegResult>> futures = new ArrayList<>();
+        private ScheduledFuture<?> flush;
+    }
+}
@@ -49,6 +49,14 @@ public class BybitApiConstants {
      */
     public static final String BROKER_HEADER = "Referer";
 
+    /**
+     * HTTP Response Headers reporting the rate limit of the endpoint: limit per second, remaining requests
+     * and the timestamp (ms) at which the limit resets.
+     */
+    public static final String RATE_LIMIT_HEADER = "X-Bapi-Limit";
+    public static final String RATE_LIMIT_STATUS_HEADER = "X-Bapi-Limit-Status";
+    public static final String RATE_LIMIT_RESET_TIMESTAMP_HEADER = "X-Bapi-Limit-Reset-Timestamp";
+
     /**
      * Default receiving window.
      */
@@ -57,6 +65,14 @@ public class BybitApiConstants {
      * Default Ping Pong Heart Beat Request Interval
      */
     public static final int DEFAULT_PING_INTERVAL = 20;
+    /**
+     * Default delay before the first websocket reconnect attempt (ms)
+     */
+    public static final long DEFAULT_RECONNECT_INITIAL_DELAY = 500;
+    /**
+     * Default upper bound of the websocket reconnect backoff (ms)
+     */
+    public static final long DEFAULT_RECONNECT_MAX_DELAY = 30000;
     /**
      * Default Maximum Alive Time
      */
@@ -1,5 +1,6 @@
 package com.bybit.api.client.domain;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
 import lombok.Getter;
 
 @Getter
@@ -13,4 +14,17 @@ public enum TriggerBy {
     TriggerBy(String trigger) {
         this.trigger = trigger;
     }
+
+    /**
+     * Resolve the value returned by the API, or the constant name. Unknown or empty values resolve to null.
+     */
+    @JsonCreator
+    public static TriggerBy fromString(String value) {
+        for (TriggerBy item : values()) {
+            if (item.trigger.equals(value) || item.name().equals(value)) {
+                return item;
+            }
+        }
+        return null;
+    }
 }
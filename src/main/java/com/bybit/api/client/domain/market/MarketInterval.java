@@ -3,30 +3,41 @@ package com.bybit.api.client.domain.market;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import lombok.Getter;
 
+import java.util.concurrent.TimeUnit;
+
 /**
  * Kline/Candlestick intervals.
  */
 @Getter
 @JsonIgnoreProperties(ignoreUnknown = true)
 public enum MarketInterval {
-    ONE_MINUTE("1"),
-    THREE_MINUTES("3"),
-    FIVE_MINUTES("5"),
-    FIFTEEN_MINUTES("15"),
-    HALF_HOURLY("30"),
-    HOURLY("60"),
-    TWO_HOURLY("120"),
-    FOUR_HOURLY("240"),
-    SIX_HOURLY("360"),
-    TWELVE_HOURLY("720"),
-    DAILY("D"),
-    WEEKLY("W"),
-    MONTHLY("M");
+    ONE_MINUTE("1", 1),
+    THREE_MINUTES("3", 3),
+    FIVE_MINUTES("5", 5),
+    FIFTEEN_MINUTES("15", 15),
+    HALF_HOURLY("30", 30),
+    HOURLY("60", 60),
+    TWO_HOURLY("120", 120),
+    FOUR_HOURLY("240", 240),
+    SIX_HOURLY("360", 360),
+    TWELVE_HOURLY("720", 720),
+    DAILY("D", 1440),
+    WEEKLY("W", 10080),
+    MONTHLY("M", 44640);
 
     private final String intervalId;
+    private final long minutes;
 
-    MarketInterval(String intervalId) {
+    MarketInterval(String intervalId, long minutes) {
         this.intervalId = intervalId;
+        this.minutes = minutes;
+    }
+
+    /**
+     * @return length of a candle in milliseconds, a month counts as 31 days
+     */
+    public long toMillis() {
+        return TimeUnit.MINUTES.toMillis(minutes);
     }
 
 }
@@ -1,5 +1,6 @@
 package com.bybit.api.client.domain.trade;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
 import lombok.Getter;
 
 @Getter
@@ -20,4 +21,17 @@ public enum CancelType {
     CancelType(String cancelReason) {
         this.cancelReason = cancelReason;
     }
+
+    /**
+     * Resolve the value returned by the API, or the constant name. Unknown or empty values resolve to null.
+     */
+    @JsonCreator
+    public static CancelType fromString(String value) {
+        for (CancelType item : values()) {
+            if (item.cancelReason.equals(value) || item.name().equals(value)) {
+                return item;
+            }
+        }
+        return null;
+    }
 }
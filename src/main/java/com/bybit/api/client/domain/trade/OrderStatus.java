@@ -1,5 +1,6 @@
 package com.bybit.api.client.domain.trade;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
 import lombok.Getter;
 
 /**
@@ -24,4 +25,17 @@ public enum OrderStatus {
     OrderStatus(String description) {
         this.description = description;
     }
-}
\ No newline at end of file
+
+    /**
+     * Resolve the value returned by the API, or the constant name. Unknown or empty values resolve to null.
+     */
+    @JsonCreator
+    public static OrderStatus fromString(String value) {
+        for (OrderStatus item : values()) {
+            if (item.description.equals(value) || item.name().equals(value)) {
+                return item;
+            }
+        }
+        return null;
+    }
+}
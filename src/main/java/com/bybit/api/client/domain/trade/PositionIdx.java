@@ -1,5 +1,6 @@
 package com.bybit.api.client.domain.trade;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
 import lombok.Getter;
 
 /**
@@ -16,4 +17,17 @@ public enum PositionIdx {
     PositionIdx(int index) {
         this.index = index;
     }
+
+    /**
+     * Resolve the positionIdx returned by the API.
+     */
+    @JsonCreator
+    public static PositionIdx fromIndex(int index) {
+        for (PositionIdx item : values()) {
+            if (item.index == index) {
+                return item;
+            }
+        }
+        return null;
+    }
 }
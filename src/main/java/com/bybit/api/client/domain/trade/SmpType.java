@@ -1,5 +1,6 @@
 package com.bybit.api.client.domain.trade;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
 import lombok.Getter;
 
 /**
@@ -17,4 +18,17 @@ public enum SmpType {
     SmpType(String description) {
         this.description = description;
     }
+
+    /**
+     * Resolve the value returned by the API, or the constant name. Unknown or empty values resolve to null.
+     */
+    @JsonCreator
+    public static SmpType fromString(String value) {
+        for (SmpType item : values()) {
+            if (item.description.equals(value) || item.name().equals(value)) {
+                return item;
+            }
+        }
+        return null;
+    }
 }
@@ -1,5 +1,6 @@
 package com.bybit.api.client.domain.trade;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
 import lombok.Getter;
 
 @Getter
@@ -18,4 +19,17 @@ public enum StopOrderType {
     StopOrderType(String description) {
         this.description = description;
     }
+
+    /**
+     * Resolve the value returned by the API, or the constant name. Unknown or empty values resolve to null.
+     */
+    @JsonCreator
+    public static StopOrderType fromString(String value) {
+        for (StopOrderType item : values()) {
+            if (item.description.equals(value) || item.name().equals(value)) {
+                return item;
+            }
+        }
+        return null;
+    }
 }
@@ -0,0 +1,17 @@
+package com.bybit.api.client.domain.trade.response;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Per leg list of a batch response.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+@Data
+public class BatchOrderList<T> {
+    @JsonProperty("list")
+    private List<T> list;
+}
@@ -0,0 +1,26 @@
+package com.bybit.api.client.domain.trade.response;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import lombok.Data;
+
+/**
+ * Response of the create-batch, amend-batch and cancel-batch endpoints.
+ * The legs of {@code result} and the statuses of {@code retExtInfo} are in the order of the request.
+ */
+@JsonPropertyOrder()
+@JsonIgnoreProperties(ignoreUnknown = true)
+@Data
+public class BatchOrderResponse {
+    @JsonProperty("retCode")
+    private int retCode;
+    @JsonProperty("retMsg")
+    private String retMsg;
+    @JsonProperty("result")
+    private BatchOrderList<OrderResponse> result;
+    @JsonProperty("retExtInfo")
+    private BatchOrderList<BatchOrderStatus> retExtInfo;
+    @JsonProperty("time")
+    private long time;
+}
@@ -0,0 +1,17 @@
+package com.bybit.api.client.domain.trade.response;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Data;
+
+/**
+ * Status of one leg of a batch, code 0 when the leg succeeded.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+@Data
+public class BatchOrderStatus {
+    @JsonProperty("code")
+    private int code;
+    @JsonProperty("msg")
+    private String msg;
+}
@@ -1,5 +1,6 @@
 package com.bybit.api.client.domain.websocket_message.public_channel;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -16,4 +17,15 @@ public class TradeData {
     private String L; // Direction of price change
     private String i; // Trade ID
     private Boolean BT; // Whether it is a block trade order or not
+
+    // Lombok generates a single getS/setS for both "s" and "S", expose the taker side explicitly
+    @JsonIgnore
+    public String getSide() {
+        return S;
+    }
+
+    @JsonIgnore
+    public void setSide(String side) {
+        this.S = side;
+    }
 }
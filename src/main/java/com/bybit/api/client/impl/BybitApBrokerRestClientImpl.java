@@ -12,8 +12,16 @@ public class BybitApBrokerRestClientImpl implements BybitApiBrokerRestClient {
     private final BybitApiService bybitApiService;
     private final BybitJsonConverter converter = new BybitJsonConverter();
 
+    public BybitApBrokerRestClientImpl(BybitApiService bybitApiService) {
+        this.bybitApiService = bybitApiService;
+    }
+
     public BybitApBrokerRestClientImpl(String apiKey, String secret, String baseUrl, boolean debugMode, long recvWindow, String logOption) {
-        bybitApiService = createService(BybitApiService.class, apiKey, secret, baseUrl, debugMode, recvWindow, logOption, "");
+        this(apiKey, secret, baseUrl, debugMode, recvWindow, logOption, false);
+    }
+
+    public BybitApBrokerRestClientImpl(String apiKey, String secret, String baseUrl, boolean debugMode, long recvWindow, String logOption, boolean virtualThreads) {
+        this(createService(BybitApiService.class, apiKey, secret, baseUrl, debugMode, recvWindow, logOption, "", null, virtualThreads));
     }
     // Broker
     @Override
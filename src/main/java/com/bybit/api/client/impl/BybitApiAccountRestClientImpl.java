@@ -13,8 +13,16 @@ public class BybitApiAccountRestClientImpl implements BybitApiAccountRestClient
     private final BybitApiService bybitApiService;
     private final BybitJsonConverter converter = new BybitJsonConverter();
 
+    public BybitApiAccountRestClientImpl(BybitApiService bybitApiService) {
+        this.bybitApiService = bybitApiService;
+    }
+
     public BybitApiAccountRestClientImpl(String apiKey, String secret, String baseUrl, boolean debugMode, long recvWindow, String logOption) {
-        bybitApiService = createService(BybitApiService.class, apiKey, secret, baseUrl, debugMode, recvWindow, logOption, "");
+        this(apiKey, secret, baseUrl, debugMode, recvWindow, logOption, false);
+    }
+
+    public BybitApiAccountRestClientImpl(String apiKey, String secret, String baseUrl, boolean debugMode, long recvWindow, String logOption, boolean virtualThreads) {
+        this(createService(BybitApiService.class, apiKey, secret, baseUrl, debugMode, recvWindow, logOption, "", null, virtualThreads));
     }
     // Account endpoints
     @Override
@@ -22,7 +22,11 @@ public class BybitApiAssetRestClientImpl implements BybitApiAssetRestClient {
     }
 
     public BybitApiAssetRestClientImpl(String apiKey, String secret, String baseUrl, boolean debugMode, long recvWindow, String logOption) {
-        bybitApiService = createService(BybitApiService.class, apiKey, secret, baseUrl, debugMode, recvWindow, logOption, "");
+        this(apiKey, secret, baseUrl, debugMode, recvWindow, logOption, false);
+    }
+
+    public BybitApiAssetRestClientImpl(String apiKey, String secret, String baseUrl, boolean debugMode, long recvWindow, String logOption, boolean virtualThreads) {
+        bybitApiService = createService(BybitApiService.class, apiKey, secret, baseUrl, debugMode, recvWindow, logOption, "", null, virtualThreads);
     }
 
     // Asset Endpoints
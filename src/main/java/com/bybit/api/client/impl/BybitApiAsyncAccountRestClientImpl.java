@@ -7,14 +7,24 @@ import com.bybit.api.client.restApi.BybitApiService;
 import com.bybit.api.client.domain.account.request.AccountDataRequest;
 import com.bybit.api.client.service.BybitJsonConverter;
 
+import java.util.concurrent.Executor;
+
 import static com.bybit.api.client.service.BybitApiServiceGenerator.createService;
 
 public class BybitApiAsyncAccountRestClientImpl implements BybitApiAsyncAccountRestClient {
     private final BybitApiService bybitApiService;
     private final BybitJsonConverter converter = new BybitJsonConverter();
 
+    public BybitApiAsyncAccountRestClientImpl(BybitApiService bybitApiService) {
+        this.bybitApiService = bybitApiService;
+    }
+
     public BybitApiAsyncAccountRestClientImpl(String apiKey, String secret, String baseUrl, boolean debugMode, long recvWindow, String logOption) {
-        bybitApiService = createService(BybitApiService.class, apiKey, secret, baseUrl, debugMode, recvWindow, logOption, "");
+        this(apiKey, secret, baseUrl, debugMode, recvWindow, logOption, null, false);
+    }
+
+    public BybitApiAsyncAccountRestClientImpl(String apiKey, String secret, String baseUrl, boolean debugMode, long recvWindow, String logOption, Executor completionExecutor, boolean virtualThreads) {
+        this(createService(BybitApiService.class, apiKey, secret, baseUrl, debugMode, recvWindow, logOption, "", completionExecutor, virtualThreads));
     }
 
     // Account Endpoints
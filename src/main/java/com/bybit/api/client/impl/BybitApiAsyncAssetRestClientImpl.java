@@ -10,6 +10,7 @@ import com.bybit.api.client.service.BybitJsonConverter;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.Executor;
 
 import static com.bybit.api.client.service.BybitApiServiceGenerator.createService;
 
@@ -21,8 +22,16 @@ public class BybitApiAsyncAssetRestClientImpl implements BybitApiAsyncAssetRestC
     private final BybitApiService bybitApiService;
     private final BybitJsonConverter converter = new BybitJsonConverter();
 
+    public BybitApiAsyncAssetRestClientImpl(BybitApiService bybitApiService) {
+        this.bybitApiService = bybitApiService;
+    }
+
     public BybitApiAsyncAssetRestClientImpl(String apiKey, String secret, String baseUrl, boolean debugMode, long recvWindow, String logOption) {
-        bybitApiService = createService(BybitApiService.class, apiKey, secret, baseUrl, debugMode, recvWindow, logOption, "");
+        this(apiKey, secret, baseUrl, debugMode, recvWindow, logOption, null, false);
+    }
+
+    public BybitApiAsyncAssetRestClientImpl(String apiKey, String secret, String baseUrl, boolean debugMode, long recvWindow, String logOption, Executor completionExecutor, boolean virtualThreads) {
+        this(createService(BybitApiService.class, apiKey, secret, baseUrl, debugMode, recvWindow, logOption, "", completionExecutor, virtualThreads));
     }
 
     // Asset endpoints
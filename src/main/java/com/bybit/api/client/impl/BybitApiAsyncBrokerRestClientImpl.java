@@ -6,13 +6,23 @@ import com.bybit.api.client.restApi.BybitApiService;
 import com.bybit.api.client.domain.broker.request.BrokerDataRequest;
 import com.bybit.api.client.service.BybitJsonConverter;
 
+import java.util.concurrent.Executor;
+
 import static com.bybit.api.client.service.BybitApiServiceGenerator.createService;
 
 public class BybitApiAsyncBrokerRestClientImpl implements BybitApiAsyncBrokerRestClient {
     private final BybitApiService bybitApiService;
     private final BybitJsonConverter converter = new BybitJsonConverter();
+    public BybitApiAsyncBrokerRestClientImpl(BybitApiService bybitApiService) {
+        this.bybitApiService = bybitApiService;
+    }
+
     public BybitApiAsyncBrokerRestClientImpl(String apiKey, String secret, String baseUrl, boolean debugMode, long recvWindow, String logOption) {
-        bybitApiService = createService(BybitApiService.class, apiKey, secret, baseUrl, debugMode, recvWindow, logOption, "");
+        this(apiKey, secret, baseUrl, debugMode, recvWindow, logOption, null, false);
+    }
+
+    public BybitApiAsyncBrokerRestClientImpl(String apiKey, String secret, String baseUrl, boolean debugMode, long recvWindow, String logOption, Executor completionExecutor, boolean virtualThreads) {
+        this(createService(BybitApiService.class, apiKey, secret, baseUrl, debugMode, recvWindow, logOption, "", completionExecutor, virtualThreads));
     }
 
     @Override
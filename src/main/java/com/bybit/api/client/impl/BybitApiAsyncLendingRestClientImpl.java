@@ -6,14 +6,24 @@ import com.bybit.api.client.restApi.BybitApiService;
 import com.bybit.api.client.domain.institution.LendingDataRequest;
 import com.bybit.api.client.service.BybitJsonConverter;
 
+import java.util.concurrent.Executor;
+
 import static com.bybit.api.client.service.BybitApiServiceGenerator.createService;
 
 public class BybitApiAsyncLendingRestClientImpl implements BybitApiAsyncLendingRestClient {
     private final BybitApiService bybitApiService;
     private final BybitJsonConverter converter = new BybitJsonConverter();
 
+    public BybitApiAsyncLendingRestClientImpl(BybitApiService bybitApiService) {
+        this.bybitApiService = bybitApiService;
+    }
+
     public BybitApiAsyncLendingRestClientImpl(String apiKey, String apiSecret, String baseUrl, boolean debugMode, long recvWindow, String logOption) {
-        bybitApiService = createService(BybitApiService.class, apiKey, apiSecret, baseUrl, debugMode, recvWindow, logOption, "");
+        this(apiKey, apiSecret, baseUrl, debugMode, recvWindow, logOption, null, false);
+    }
+
+    public BybitApiAsyncLendingRestClientImpl(String apiKey, String apiSecret, String baseUrl, boolean debugMode, long recvWindow, String logOption, Executor completionExecutor, boolean virtualThreads) {
+        this(createService(BybitApiService.class, apiKey, apiSecret, baseUrl, debugMode, recvWindow, logOption, "", completionExecutor, virtualThreads));
     }
 
     // Institution Lending
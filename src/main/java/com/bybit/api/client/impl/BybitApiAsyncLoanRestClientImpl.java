@@ -10,6 +10,8 @@ import com.bybit.api.client.restApi.BybitApiLoanRestClient;
 import com.bybit.api.client.restApi.BybitApiService;
 import com.bybit.api.client.service.BybitJsonConverter;
 
+import java.util.concurrent.Executor;
+
 import static com.bybit.api.client.service.BybitApiServiceGenerator.createService;
 import static com.bybit.api.client.service.BybitApiServiceGenerator.executeSync;
 
@@ -17,8 +19,16 @@ public class BybitApiAsyncLoanRestClientImpl implements BybitApiAsyncLoanRestCli
     private final BybitApiService bybitApiService;
     private final BybitJsonConverter converter = new BybitJsonConverter();
 
+    public BybitApiAsyncLoanRestClientImpl(BybitApiService bybitApiService) {
+        this.bybitApiService = bybitApiService;
+    }
+
     public BybitApiAsyncLoanRestClientImpl(String apiKey, String secret, String baseUrl, boolean debugMode, long recvWindow, String logOption) {
-        bybitApiService = createService(BybitApiService.class, apiKey, secret, baseUrl, debugMode, recvWindow, logOption, "");
+        this(apiKey, secret, baseUrl, debugMode, recvWindow, logOption, null, false);
+    }
+
+    public BybitApiAsyncLoanRestClientImpl(String apiKey, String secret, String baseUrl, boolean debugMode, long recvWindow, String logOption, Executor completionExecutor, boolean virtualThreads) {
+        this(createService(BybitApiService.class, apiKey, secret, baseUrl, debugMode, recvWindow, logOption, "", completionExecutor, virtualThreads));
     }
 
     @Override
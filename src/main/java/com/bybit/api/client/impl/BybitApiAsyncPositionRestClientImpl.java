@@ -7,6 +7,8 @@ import com.bybit.api.client.restApi.BybitApiService;
 import com.bybit.api.client.domain.position.request.PositionDataRequest;
 import com.bybit.api.client.service.BybitJsonConverter;
 
+import java.util.concurrent.Executor;
+
 import static com.bybit.api.client.service.BybitApiServiceGenerator.createService;
 
 /**
@@ -17,8 +19,16 @@ public class BybitApiAsyncPositionRestClientImpl implements BybitApiAsyncPositio
     private final BybitApiService bybitApiService;
     private final BybitJsonConverter converter = new BybitJsonConverter();
 
+    public BybitApiAsyncPositionRestClientImpl(BybitApiService bybitApiService) {
+        this.bybitApiService = bybitApiService;
+    }
+
     public BybitApiAsyncPositionRestClientImpl(String apiKey, String secret, String baseUrl, boolean debugMode, long recvWindow, String logOption) {
-        bybitApiService = createService(BybitApiService.class, apiKey, secret, baseUrl, debugMode, recvWindow, logOption, "");
+        this(apiKey, secret, baseUrl, debugMode, recvWindow, logOption, null, false);
+    }
+
+    public BybitApiAsyncPositionRestClientImpl(String apiKey, String secret, String baseUrl, boolean debugMode, long recvWindow, String logOption, Executor completionExecutor, boolean virtualThreads) {
+        this(createService(BybitApiService.class, apiKey, secret, baseUrl, debugMode, recvWindow, logOption, "", completionExecutor, virtualThreads));
     }
 
     // Position Data
@@ -27,6 +27,7 @@ public class BybitApiCallbackAdapter<T> implements Callback<T> {
             if (response.code() == 504) {
                 // HTTP 504 return code is used when the API successfully sent the message but not get a response within the timeout period.
                 // It is important to NOT treat this as a failure; the execution status is UNKNOWN and could have been a success.
+                callback.onUnknownStatus();
                 return;
             }
             try {
@@ -12,8 +12,16 @@ import static com.bybit.api.client.service.BybitApiServiceGenerator.executeSync;
 public class BybitApiMarketRestClientImpl implements BybitApiMarketRestClient {
     private final BybitApiService bybitApiService;
 
+    public BybitApiMarketRestClientImpl(BybitApiService bybitApiService) {
+        this.bybitApiService = bybitApiService;
+    }
+
     public BybitApiMarketRestClientImpl(String baseUrl, boolean debugMode, long recvWindow, String logOption) {
-        bybitApiService = createService(BybitApiService.class, baseUrl, debugMode, recvWindow, logOption);
+        this(baseUrl, debugMode, recvWindow, logOption, false);
+    }
+
+    public BybitApiMarketRestClientImpl(String baseUrl, boolean debugMode, long recvWindow, String logOption, boolean virtualThreads) {
+        this(createService(BybitApiService.class, null, null, baseUrl, debugMode, recvWindow, logOption, "", null, virtualThreads));
     }
 
     // Market Data endpoints
@@ -6,18 +6,36 @@ import com.bybit.api.client.restApi.BybitApiCallback;
 import com.bybit.api.client.restApi.BybitApiService;
 import com.bybit.api.client.domain.trade.request.TradeOrderRequest;
 import com.bybit.api.client.service.BybitJsonConverter;
+import com.bybit.api.client.validation.PreTradeValidator;
 
 import java.io.IOException;
 import java.util.Map;
+import java.util.concurrent.Executor;
 
 import static com.bybit.api.client.service.BybitApiServiceGenerator.createService;
 
 public class BybitApiTradeAsyncRestClientImpl implements BybitApiAsyncTradeRestClient {
     private final BybitApiService bybitApiService;
-    private final BybitJsonConverter converter = new BybitJsonConverter();
+    private final BybitJsonConverter converter;
+
+    public BybitApiTradeAsyncRestClientImpl(BybitApiService bybitApiService) {
+        this(bybitApiService, null);
+    }
+
+    /**
+     * @param validator checks the orders to place and amend before they are sent, rejected orders throw before any callback, null to send them unchecked
+     */
+    public BybitApiTradeAsyncRestClientImpl(BybitApiService bybitApiService, PreTradeValidator validator) {
+        this.bybitApiService = bybitApiService;
+        this.converter = new BybitJsonConverter(validator);
+    }
 
     public BybitApiTradeAsyncRestClientImpl(String apiKey, String secret, String baseUrl, boolean debugMode, long recvWindow, String logOption, String referer) {
-        bybitApiService = createService(BybitApiService.class, apiKey, secret, baseUrl, debugMode, recvWindow, logOption, referer);
+        this(apiKey, secret, baseUrl, debugMode, recvWindow, logOption, referer, null, false);
+    }
+
+    public BybitApiTradeAsyncRestClientImpl(String apiKey, String secret, String baseUrl, boolean debugMode, long recvWindow, String logOption, String referer, Executor completionExecutor, boolean virtualThreads) {
+        this(createService(BybitApiService.class, apiKey, secret, baseUrl, debugMode, recvWindow, logOption, referer, completionExecutor, virtualThreads));
     }
 
     @Override
@@ -5,6 +5,7 @@ import com.bybit.api.client.domain.trade.request.TradeOrderRequest;
 import com.bybit.api.client.restApi.BybitApiService;
 import com.bybit.api.client.restApi.BybitApiTradeRestClient;
 import com.bybit.api.client.service.BybitJsonConverter;
+import com.bybit.api.client.validation.PreTradeValidator;
 
 import java.io.IOException;
 import java.util.Map;
@@ -14,10 +15,26 @@ import static com.bybit.api.client.service.BybitApiServiceGenerator.executeSync;
 
 public class BybitApiTradeRestClientImpl implements BybitApiTradeRestClient {
     private final BybitApiService bybitApiService;
-    private final BybitJsonConverter converter = new BybitJsonConverter();
+    private final BybitJsonConverter converter;
+
+    public BybitApiTradeRestClientImpl(BybitApiService bybitApiService) {
+        this(bybitApiService, null);
+    }
+
+    /**
+     * @param validator checks the orders to place and amend before they are sent, null to send them unchecked
+     */
+    public BybitApiTradeRestClientImpl(BybitApiService bybitApiService, PreTradeValidator validator) {
+        this.bybitApiService = bybitApiService;
+        this.converter = new BybitJsonConverter(validator);
+    }
 
     public BybitApiTradeRestClientImpl(String apiKey, String secret, String baseUrl, boolean debugMode, long recvWindow, String logOption, String referer) {
-        bybitApiService = createService(BybitApiService.class, apiKey, secret, baseUrl, debugMode, recvWindow, logOption, referer);
+        this(apiKey, secret, baseUrl, debugMode, recvWindow, logOption, referer, false);
+    }
+
+    public BybitApiTradeRestClientImpl(String apiKey, String secret, String baseUrl, boolean debugMode, long recvWindow, String logOption, String referer, boolean virtualThreads) {
+        this(createService(BybitApiService.class, apiKey, secret, baseUrl, debugMode, recvWindow, logOption, referer, null, virtualThreads));
     }
 
     // Trade Data endpoints
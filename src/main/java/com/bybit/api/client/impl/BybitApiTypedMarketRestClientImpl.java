@@ -0,0 +1,119 @@
+package com.bybit.api.client.impl;
+
+import com.bybit.api.client.domain.GenericResponse;
+import com.bybit.api.client.domain.market.request.MarketDataRequest;
+import com.bybit.api.client.domain.market.response.fundingRate.FundingRateResult;
+import com.bybit.api.client.domain.market.response.instrumentInfo.InstrumentInfoResult;
+import com.bybit.api.client.domain.market.response.kline.MarketKlineResult;
+import com.bybit.api.client.domain.market.response.openInterests.OpenInterestResult;
+import com.bybit.api.client.domain.market.response.orderbook.OrderbookResult;
+import com.bybit.api.client.domain.market.response.recentTrade.RecentTradeResult;
+import com.bybit.api.client.domain.market.response.serverTime.ServerTimeResult;
+import com.bybit.api.client.domain.market.response.tickers.TickersResult;
+import com.bybit.api.client.restApi.BybitApiTypedMarketRestClient;
+import com.bybit.api.client.restApi.BybitApiTypedService;
+import lombok.Getter;
+
+import static com.bybit.api.client.service.BybitApiServiceGenerator.createService;
+import static com.bybit.api.client.service.BybitApiServiceGenerator.executeSync;
+
+@Getter
+public class BybitApiTypedMarketRestClientImpl implements BybitApiTypedMarketRestClient {
+    private final BybitApiTypedService bybitApiService;
+
+    public BybitApiTypedMarketRestClientImpl(BybitApiTypedService bybitApiService) {
+        this.bybitApiService = bybitApiService;
+    }
+
+    public BybitApiTypedMarketRestClientImpl(String baseUrl, boolean debugMode, long recvWindow, String logOption) {
+        this(baseUrl, debugMode, recvWindow, logOption, false);
+    }
+
+    public BybitApiTypedMarketRestClientImpl(String baseUrl, boolean debugMode, long recvWindow, String logOption, boolean virtualThreads) {
+        this(createService(BybitApiTypedService.class, null, null, baseUrl, debugMode, recvWindow, logOption, "", null, virtualThreads));
+    }
+
+    // Market Data endpoints
+    @Override
+    public GenericResponse<ServerTimeResult> getServerTime() {
+        return executeSync(bybitApiService.getServerTime());
+    }
+
+    @Override
+    public GenericResponse<MarketKlineResult> getMarketLinesData(MarketDataRequest marketKlineRequest) {
+        return executeSync(bybitApiService.getMarketLinesData(
+                marketKlineRequest.getCategory().getCategoryTypeId(),
+                marketKlineRequest.getSymbol(),
+                marketKlineRequest.getMarketInterval() == null ? null : marketKlineRequest.getMarketInterval().getIntervalId(),
+                marketKlineRequest.getStart(),
+                marketKlineRequest.getEnd(),
+                marketKlineRequest.getLimit()
+        ));
+    }
+
+    @Override
+    public GenericResponse<InstrumentInfoResult> getInstrumentsInfo(MarketDataRequest instrumentInfoRequest) {
+        return executeSync(bybitApiService.getInstrumentsInfo(
+                instrumentInfoRequest.getCategory().getCategoryTypeId(),
+                instrumentInfoRequest.getSymbol(),
+                instrumentInfoRequest.getInstrumentStatus() == null ? null : instrumentInfoRequest.getInstrumentStatus().getStatus(),
+                instrumentInfoRequest.getBaseCoin(),
+                instrumentInfoRequest.getLimit(),
+                instrumentInfoRequest.getCursor()
+        ));
+    }
+
+    @Override
+    public GenericResponse<OrderbookResult> getMarketOrderBook(MarketDataRequest marketOrderBookRequest) {
+        return executeSync(bybitApiService.getMarketOrderBook(
+                marketOrderBookRequest.getCategory().getCategoryTypeId(),
+                marketOrderBookRequest.getSymbol(),
+                marketOrderBookRequest.getLimit()
+        ));
+    }
+
+    @Override
+    public GenericResponse<TickersResult> getMarketTickers(MarketDataRequest marketDataTickerRequest) {
+        return executeSync(bybitApiService.getMarketTickers(
+                marketDataTickerRequest.getCategory().getCategoryTypeId(),
+                marketDataTickerRequest.getSymbol(),
+                marketDataTickerRequest.getBaseCoin(),
+                marketDataTickerRequest.getExpDate()
+        ));
+    }
+
+    @Override
+    public GenericResponse<FundingRateResult> getFundingHistory(MarketDataRequest fundingHistoryRequest) {
+        return executeSync(bybitApiService.getFundingHistory(
+                fundingHistoryRequest.getCategory().getCategoryTypeId(),
+                fundingHistoryRequest.getSymbol(),
+                fundingHistoryRequest.getStartTime(),
+                fundingHistoryRequest.getEndTime(),
+                fundingHistoryRequest.getLimit()
+        ));
+    }
+
+    @Override
+    public GenericResponse<RecentTradeResult> getRecentTradeData(MarketDataRequest recentTradeRequest) {
+        return executeSync(bybitApiService.getRecentTradeData(
+                recentTradeRequest.getCategory().getCategoryTypeId(),
+                recentTradeRequest.getSymbol(),
+                recentTradeRequest.getBaseCoin(),
+                recentTradeRequest.getOptionType() == null ? null : recentTradeRequest.getOptionType().getOpType(),
+                recentTradeRequest.getLimit()
+        ));
+    }
+
+    @Override
+    public GenericResponse<OpenInterestResult> getOpenInterest(MarketDataRequest openInterestRequest) {
+        return executeSync(bybitApiService.getOpenInterest(
+                openInterestRequest.getCategory().getCategoryTypeId(),
+                openInterestRequest.getSymbol(),
+                openInterestRequest.getMarketIntervalTime() == null ? null : openInterestRequest.getMarketIntervalTime().getInterval(),
+                openInterestRequest.getStartTime(),
+                openInterestRequest.getEndTime(),
+                openInterestRequest.getLimit(),
+                openInterestRequest.getCursor()
+        ));
+    }
+}
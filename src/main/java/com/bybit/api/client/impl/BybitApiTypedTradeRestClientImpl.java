@@ -0,0 +1,62 @@
+package com.bybit.api.client.impl;
+
+import com.bybit.api.client.domain.GenericResponse;
+import com.bybit.api.client.domain.trade.request.TradeOrderRequest;
+import com.bybit.api.client.domain.trade.response.OrderResult;
+import com.bybit.api.client.restApi.BybitApiTypedService;
+import com.bybit.api.client.restApi.BybitApiTypedTradeRestClient;
+import lombok.Getter;
+
+import static com.bybit.api.client.service.BybitApiServiceGenerator.createService;
+import static com.bybit.api.client.service.BybitApiServiceGenerator.executeSync;
+
+@Getter
+public class BybitApiTypedTradeRestClientImpl implements BybitApiTypedTradeRestClient {
+    private final BybitApiTypedService bybitApiService;
+
+    public BybitApiTypedTradeRestClientImpl(BybitApiTypedService bybitApiService) {
+        this.bybitApiService = bybitApiService;
+    }
+
+    public BybitApiTypedTradeRestClientImpl(String apiKey, String secret, String baseUrl, boolean debugMode, long recvWindow, String logOption, String referer) {
+        this(apiKey, secret, baseUrl, debugMode, recvWindow, logOption, referer, false);
+    }
+
+    public BybitApiTypedTradeRestClientImpl(String apiKey, String secret, String baseUrl, boolean debugMode, long recvWindow, String logOption, String referer, boolean virtualThreads) {
+        this(createService(BybitApiTypedService.class, apiKey, secret, baseUrl, debugMode, recvWindow, logOption, referer, null, virtualThreads));
+    }
+
+    // Trade Data endpoints
+    @Override
+    public GenericResponse<OrderResult> getOpenOrders(TradeOrderRequest order) {
+        return executeSync(bybitApiService.getOpenOrders(
+                order.getCategory().getCategoryTypeId(),
+                order.getSymbol(),
+                order.getBaseCoin(),
+                order.getSettleCoin(),
+                order.getOrderId(),
+                order.getOrderLinkId(),
+                order.getOpenOnly(),
+                order.getOrderFilter() == null ? null : order.getOrderFilter().getOrderFilterType(),
+                order.getLimit(),
+                order.getCursor()
+        ));
+    }
+
+    @Override
+    public GenericResponse<OrderResult> getOrderHistory(TradeOrderRequest orderHistoryRequest) {
+        return executeSync(bybitApiService.getOrderHistory(
+                orderHistoryRequest.getCategory().getCategoryTypeId(),
+                orderHistoryRequest.getSymbol(),
+                orderHistoryRequest.getBaseCoin(),
+                orderHistoryRequest.getSettleCoin(),
+                orderHistoryRequest.getOrderId(),
+                orderHistoryRequest.getOrderLinkId(),
+                orderHistoryRequest.getOrderFilter() == null ? null : orderHistoryRequest.getOrderFilter().getOrderFilterType(),
+                orderHistoryRequest.getOrderStatus(),
+                orderHistoryRequest.getStartTime(),
+                orderHistoryRequest.getEndTime(),
+                orderHistoryRequest.getLimit(),
+                orderHistoryRequest.getCursor()));
+    }
+}
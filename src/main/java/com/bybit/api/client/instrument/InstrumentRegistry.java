@@ -0,0 +1,240 @@
+package com.bybit.api.client.instrument;
+
+import com.bybit.api.client.domain.CategoryType;
+import com.bybit.api.client.domain.market.request.MarketDataRequest;
+import com.bybit.api.client.domain.market.response.instrumentInfo.InstrumentEntry;
+import com.bybit.api.client.domain.market.response.instrumentInfo.InstrumentInfoResult;
+import com.bybit.api.client.exception.BybitApiException;
+import com.bybit.api.client.pagination.CursorPaginator;
+import com.bybit.api.client.restApi.BybitApiTypedMarketRestClient;
+import com.bybit.api.client.service.BybitApiExecutors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.math.RoundingMode;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+/**
+ * Local cache of the trading rules of every instrument, so that order paths round and check prices and quantities
+ * without a REST round trip.
+ * <p>
+ * {@link #load()} pages through /v5/market/instruments-info for every category, the categories in parallel.
+ * A refresh, on demand or on a schedule, swaps in the instruments of a category at once and keeps the
+ * {@link InstrumentSpec} instances that did not change, readers never lock and never see a partial category.
+ * Without a base coin the exchange only lists BTC options, see {@link #setOptionBaseCoins(String...)}.
+ */
+public class InstrumentRegistry implements AutoCloseable {
+    private static final Logger LOGGER = LoggerFactory.getLogger(InstrumentRegistry.class);
+    private static final String THREAD_REFRESH = "bybit-instrument-refresh-";
+    private static final AtomicInteger INSTANCES = new AtomicInteger();
+    private static final int PAGE_LIMIT = 1000;
+
+    private final BybitApiTypedMarketRestClient client;
+    private final Set<CategoryType> categories;
+    private final ExecutorService executor = BybitApiExecutors.newVirtualThreadPerTaskExecutor();
+    private final Map<CategoryType, Map<String, InstrumentSpec>> instruments = new ConcurrentHashMap<>();
+    private List<String> optionBaseCoins = Collections.singletonList(null);
+    private ScheduledExecutorService scheduler;
+    private ScheduledFuture<?> refresh;
+
+    public InstrumentRegistry(BybitApiTypedMarketRestClient client) {
+        this(client, EnumSet.allOf(CategoryType.class));
+    }
+
+    /**
+     * @param client     client the instruments are loaded with
+     * @param categories categories to load
+     */
+    public InstrumentRegistry(BybitApiTypedMarketRestClient client, Collection<CategoryType> categories) {
+        if (categories.isEmpty()) {
+            throw new BybitApiException("[InstrumentRegistry] no category to load");
+        }
+        this.client = client;
+        this.categories = EnumSet.copyOf(categories);
+    }
+
+    /**
+     * Base coins whose options are loaded, e.g. BTC, ETH and SOL. Takes effect on the next refresh.
+     */
+    public synchronized InstrumentRegistry setOptionBaseCoins(String... baseCoins) {
+        this.optionBaseCoins = Arrays.asList(baseCoins);
+        return this;
+    }
+
+    /**
+     * Load every category, blocking until done.
+     *
+     * @return this registry
+     * @throws BybitApiException when a category fails to load
+     */
+    public InstrumentRegistry load() {
+        try {
+            refreshAsync().join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new BybitApiException(e.getCause());
+        }
+        return this;
+    }
+
+    /**
+     * Refresh every category, the categories in parallel.
+     *
+     * @return completes with the number of instruments added, changed or removed
+     */
+    public CompletableFuture<Integer> refreshAsync() {
+        CompletableFuture<Integer> total = CompletableFuture.completedFuture(0);
+        for (CategoryType category : categories) {
+            CompletableFuture<Integer> changes = CompletableFuture.supplyAsync(() -> refresh(category), executor);
+            total = total.thenCombine(changes, Integer::sum);
+        }
+        return total;
+    }
+
+    /**
+     * Refresh one category, blocking until done.
+     *
+     * @return the number of instruments added, changed or removed
+     */
+    public int refresh(CategoryType category) {
+        Map<String, InstrumentSpec> previous = instruments.getOrDefault(category, Collections.emptyMap());
+        Map<String, InstrumentSpec> current = new HashMap<>();
+        int changes = 0;
+        for (String baseCoin : baseCoins(category)) {
+            MarketDataRequest request = MarketDataRequest.builder().category(category).baseCoin(baseCoin).limit(PAGE_LIMIT).build();
+            try (Stream<InstrumentEntry> entries = CursorPaginator.stream(cursor -> {
+                request.setCursor(cursor);
+                return CursorPaginator.result(client.getInstrumentsInfo(request));
+            }, InstrumentInfoResult::getInstrumentEntries, InstrumentInfoResult::getNextPageCursor)) {
+                for (InstrumentEntry entry : (Iterable<InstrumentEntry>) entries::iterator) {
+                    InstrumentSpec spec = new InstrumentSpec(category, entry);
+                    InstrumentSpec known = previous.get(spec.getSymbol());
+                    if (spec.equals(known)) {
+                        spec = known;
+                    } else {
+                        changes++;
+                    }
+                    current.put(spec.getSymbol(), spec);
+                }
+            }
+        }
+        for (String symbol : previous.keySet()) {
+            if (!current.containsKey(symbol)) {
+                changes++;
+            }
+        }
+        instruments.put(category, Collections.unmodifiableMap(current));
+        return changes;
+    }
+
+    private synchronized List<String> baseCoins(CategoryType category) {
+        return category == CategoryType.OPTION ? optionBaseCoins : Collections.singletonList(null);
+    }
+
+    /**
+     * Refresh every category in the background at a fixed period, the first refresh runs after one period.
+     * A failed refresh is logged and keeps the instruments already loaded.
+     */
+    public synchronized void startRefresh(long period, TimeUnit unit) {
+        if (period <= 0) {
+            throw new BybitApiException("[InstrumentRegistry] period must be positive");
+        }
+        stopRefresh();
+        if (scheduler == null) {
+            String name = THREAD_REFRESH + INSTANCES.incrementAndGet();
+            scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, name);
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        refresh = scheduler.scheduleAtFixedRate(() -> {
+            try {
+                int changes = refreshAsync().join();
+                LOGGER.debug("Refreshed instruments, {} changes", changes);
+            } catch (RuntimeException e) {
+                LOGGER.warn("Error refreshing instruments: ", e);
+            }
+        }, period, period, unit);
+    }
+
+    public synchronized void stopRefresh() {
+        if (refresh != null) {
+            refresh.cancel(false);
+            refresh = null;
+        }
+    }
+
+    /**
+     * @return the instrument, or null when it is not listed or its category is not loaded
+     */
+    public InstrumentSpec get(CategoryType category, String symbol) {
+        Map<String, InstrumentSpec> specs = instruments.get(category);
+        return specs == null ? null : specs.get(symbol);
+    }
+
+    /**
+     * @return the instrument
+     * @throws BybitApiException when the instrument is unknown
+     */
+    public InstrumentSpec require(CategoryType category, String symbol) {
+        InstrumentSpec spec = get(category, symbol);
+        if (spec == null) {
+            throw new BybitApiException(String.format("[InstrumentRegistry] unknown instrument %s %s", category.getCategoryTypeId(), symbol));
+        }
+        return spec;
+    }
+
+    /**
+     * @return the instruments of a category, empty before it is loaded
+     */
+    public Collection<InstrumentSpec> getInstruments(CategoryType category) {
+        return instruments.getOrDefault(category, Collections.emptyMap()).values();
+    }
+
+    /**
+     * @see InstrumentSpec#roundPrice(double, RoundingMode)
+     */
+    public String roundPrice(CategoryType category, String symbol, double price, RoundingMode mode) {
+        return require(category, symbol).roundPrice(price, mode);
+    }
+
+    /**
+     * @see InstrumentSpec#roundQty(double)
+     */
+    public String roundQty(CategoryType category, String symbol, double qty) {
+        return require(category, symbol).roundQty(qty);
+    }
+
+    /**
+     * Stop the background refresh and the threads loading the categories, the instruments loaded stay available.
+     */
+    @Override
+    public synchronized void close() {
+        stopRefresh();
+        executor.shutdown();
+        if (scheduler != null) {
+            scheduler.shutdown();
+            scheduler = null;
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package com.bybit.api.client.instrument;
+
+import com.bybit.api.client.domain.CategoryType;
+import com.bybit.api.client.domain.market.response.instrumentInfo.InstrumentEntry;
+import com.bybit.api.client.domain.market.response.instrumentInfo.LeverageFilter;
+import com.bybit.api.client.domain.market.response.instrumentInfo.LotSizeFilter;
+import com.bybit.api.client.domain.market.response.instrumentInfo.PriceFilter;
+import com.bybit.api.client.exception.BybitApiException;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import org.apache.commons.lang3.StringUtils;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Trading rules of one instrument, parsed once from its {@link InstrumentEntry} into primitives.
+ * Missing minimums read as 0 and missing maximums as infinity, e.g. spot instruments have no price bounds.
+ * <p>
+ * Prices are rounded to the tick size and quantities to the quantity step, spot instruments use the base precision as step.
+ * Rounded values are formatted with the decimals of the tick or step, as the order endpoints expect them,
+ * and values already on the grid are returned as given, so normalizing a valid order allocates nothing.
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+public final class InstrumentSpec {
+    // tolerance on a value divided by its tick, absorbs the binary representation of decimal values
+    private static final double EPSILON = 1e-9;
+
+    private final CategoryType category;
+    private final String symbol;
+    private final String status;
+    private final String baseCoin;
+    private final String quoteCoin;
+    private final double tickSize;
+    private final double minPrice;
+    private final double maxPrice;
+    private final double qtyStep;
+    private final double minOrderQty;
+    private final double maxOrderQty;
+    private final double minOrderAmt;
+    private final double maxOrderAmt;
+    private final double minLeverage;
+    private final double maxLeverage;
+    private final int priceScale;
+    private final int qtyScale;
+    @Getter(AccessLevel.NONE)
+    private final long tickUnits;
+    @Getter(AccessLevel.NONE)
+    private final long stepUnits;
+
+    public InstrumentSpec(CategoryType category, InstrumentEntry entry) {
+        PriceFilter price = entry.getPriceFilter();
+        LotSizeFilter lot = entry.getLotSizeFilter();
+        LeverageFilter leverage = entry.getLeverageFilter();
+        this.category = category;
+        this.symbol = entry.getSymbol();
+        this.status = entry.getStatus();
+        this.baseCoin = entry.getBaseCoin();
+        this.quoteCoin = entry.getQuoteCoin();
+        BigDecimal tick = decimal(price == null ? null : price.getTickSize(), entry.getSymbol(), "tickSize");
+        BigDecimal step = decimal(lot == null ? null : StringUtils.defaultIfEmpty(lot.getQtyStep(), lot.getBasePrecision()), entry.getSymbol(), "qtyStep");
+        this.tickSize = tick.doubleValue();
+        this.priceScale = tick.scale();
+        this.tickUnits = tick.unscaledValue().longValueExact();
+        this.qtyStep = step.doubleValue();
+        this.qtyScale = step.scale();
+        this.stepUnits = step.unscaledValue().longValueExact();
+        this.minPrice = parse(price == null ? null : price.getMinPrice(), 0);
+        this.maxPrice = parse(price == null ? null : price.getMaxPrice(), Double.POSITIVE_INFINITY);
+        this.minOrderQty = parse(lot == null ? null : lot.getMinOrderQty(), 0);
+        this.maxOrderQty = parse(lot == null ? null : lot.getMaxOrderQty(), Double.POSITIVE_INFINITY);
+        this.minOrderAmt = parse(lot == null ? null : lot.getMinOrderAmt(), 0);
+        this.maxOrderAmt = parse(lot == null ? null : lot.getMaxOrderAmt(), Double.POSITIVE_INFINITY);
+        this.minLeverage = parse(leverage == null ? null : leverage.getMinLeverage(), 0);
+        this.maxLeverage = parse(leverage == null ? null : leverage.getMaxLeverage(), Double.POSITIVE_INFINITY);
+    }
+
+    /**
+     * Round a price to the nearest tick.
+     */
+    public String roundPrice(double price) {
+        return roundPrice(price, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * Round a price to a tick, e.g. {@link RoundingMode#FLOOR} for the bid side and {@link RoundingMode#CEILING} for the ask side.
+     */
+    public String roundPrice(double price, RoundingMode mode) {
+        return format(round(price / tickSize, mode) * tickUnits, priceScale);
+    }
+
+    /**
+     * Round a quantity down to the quantity step, so the order never exceeds the quantity asked for.
+     */
+    public String roundQty(double qty) {
+        return format(round(qty / qtyStep, RoundingMode.FLOOR) * stepUnits, qtyScale);
+    }
+
+    /**
+     * Round a price to a tick unless it is on one already.
+     *
+     * @param price decimal price
+     * @return the price itself when it is on a tick, else the rounded price
+     * @throws NumberFormatException when the price is not a number
+     */
+    public String normalizePrice(String price, RoundingMode mode) {
+        double value = Double.parseDouble(price);
+        return isMultiple(value / tickSize) ? price : roundPrice(value, mode);
+    }
+
+    /**
+     * Round a quantity down to the quantity step unless it is on one already.
+     *
+     * @param qty decimal quantity
+     * @return the quantity itself when it is on a step, else the rounded quantity
+     * @throws NumberFormatException when the quantity is not a number
+     */
+    public String normalizeQty(String qty) {
+        double value = Double.parseDouble(qty);
+        return isMultiple(value / qtyStep) ? qty : roundQty(value);
+    }
+
+    /**
+     * @return true when the price is within the price bounds and a multiple of the tick size
+     */
+    public boolean isPriceValid(double price) {
+        return price >= minPrice && price <= maxPrice && isMultiple(price / tickSize);
+    }
+
+    /**
+     * @return true when the quantity is within the order quantity bounds and a multiple of the quantity step
+     */
+    public boolean isQtyValid(double qty) {
+        return qty >= minOrderQty && qty <= maxOrderQty && isMultiple(qty / qtyStep);
+    }
+
+    public boolean isTrading() {
+        return "Trading".equals(status);
+    }
+
+    private static long round(double ticks, RoundingMode mode) {
+        double nearest = Math.rint(ticks);
+        if (Math.abs(ticks - nearest) < EPSILON * Math.max(1, Math.abs(ticks))) {
+            return (long) nearest;
+        }
+        switch (mode) {
+            case FLOOR:
+            case DOWN:
+                return (long) Math.floor(ticks);
+            case CEILING:
+            case UP:
+                return (long) Math.ceil(ticks);
+            default:
+                return Math.round(ticks);
+        }
+    }
+
+    private static boolean isMultiple(double ticks) {
+        return Math.abs(ticks - Math.rint(ticks)) < EPSILON * Math.max(1, Math.abs(ticks));
+    }
+
+    private static String format(long units, int scale) {
+        if (scale == 0) {
+            return Long.toString(units);
+        }
+        long remaining = Math.abs(units);
+        char[] chars = new char[21 + scale];
+        int position = chars.length;
+        for (int digit = 0; digit < scale; digit++) {
+            chars[--position] = (char) ('0' + remaining % 10);
+            remaining /= 10;
+        }
+        chars[--position] = '.';
+        do {
+            chars[--position] = (char) ('0' + remaining % 10);
+            remaining /= 10;
+        } while (remaining != 0);
+        if (units < 0) {
+            chars[--position] = '-';
+        }
+        return new String(chars, position, chars.length - position);
+    }
+
+    private static BigDecimal decimal(String value, String symbol, String field) {
+        if (StringUtils.isEmpty(value)) {
+            throw new BybitApiException(String.format("[InstrumentSpec] %s has no %s", symbol, field));
+        }
+        BigDecimal decimal = new BigDecimal(value).stripTrailingZeros();
+        if (decimal.signum() <= 0) {
+            throw new BybitApiException(String.format("[InstrumentSpec] %s has a %s of %s", symbol, field, value));
+        }
+        return decimal.scale() < 0 ? decimal.setScale(0) : decimal;
+    }
+
+    private static double parse(String value, double missing) {
+        return StringUtils.isEmpty(value) ? missing : Double.parseDouble(value);
+    }
+}
@@ -0,0 +1,215 @@
+package com.bybit.api.client.pagination;
+
+import com.bybit.api.client.domain.GenericResponse;
+import com.bybit.api.client.exception.BybitApiException;
+import com.bybit.api.client.ratelimit.RateLimiter;
+import com.bybit.api.client.service.BybitApiExecutors;
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Lazily iterates over the items of a cursor based endpoint, following {@code nextPageCursor} page after page.
+ * While the items of a page are consumed the next page is already being fetched in the background,
+ * one page ahead at most, so the consumer waits only when it is faster than the endpoint.
+ * <p>
+ * Pages are fetched through the client, so an enabled {@link RateLimiter} applies to them as to any other request.
+ * The iteration ends on the first empty page or page without cursor, an error response fails it with a {@link BybitApiException}.
+ * Close the stream, or the iterator, when it is not consumed to the end.
+ *
+ * @param <R> page response
+ * @param <T> item
+ */
+public final class CursorPaginator<R, T> implements Iterator<T>, AutoCloseable {
+    private static final Executor PREFETCH_EXECUTOR = BybitApiExecutors.newVirtualThreadPerTaskExecutor();
+
+    private final Function<String, R> fetchPage;
+    private final Function<R, List<T>> items;
+    private final Function<R, String> nextCursor;
+    private final Executor executor;
+    private Iterator<T> page = Collections.emptyIterator();
+    private CompletableFuture<R> next;
+    private String cursor;
+
+    /**
+     * @param fetchPage  fetches the page of a cursor, null for the first page
+     * @param items      items of a page
+     * @param nextCursor cursor of the page after a page
+     * @param executor   executor the pages are fetched on
+     */
+    public CursorPaginator(Function<String, R> fetchPage, Function<R, List<T>> items, Function<R, String> nextCursor, Executor executor) {
+        this.fetchPage = fetchPage;
+        this.items = items;
+        this.nextCursor = nextCursor;
+        this.executor = executor;
+        this.next = fetch(null);
+    }
+
+    /**
+     * Stream the items of an endpoint returning typed pages.
+     */
+    public static <R, T> Stream<T> stream(Function<String, R> fetchPage, Function<R, List<T>> items, Function<R, String> nextCursor) {
+        return stream(new CursorPaginator<>(fetchPage, items, nextCursor, PREFETCH_EXECUTOR));
+    }
+
+    /**
+     * Stream the items of an endpoint of the default clients, which return the response as a map.
+     * Items are read from {@code result.list}, or {@code result.rows} for the asset records.
+     *
+     * @param fetchPage calls the endpoint with the cursor set on its request
+     */
+    public static Stream<Map<String, Object>> stream(Function<String, Object> fetchPage) {
+        return stream(fetchPage, CursorPaginator::resultItems, CursorPaginator::resultCursor);
+    }
+
+    /**
+     * Stream the items of an endpoint of the default clients whose request carries the cursor, a cursor already set on the request is the first page.
+     *
+     * @param setCursor sets the cursor of a page on the request
+     * @param fetchPage calls the endpoint with the request
+     */
+    public static Stream<Map<String, Object>> stream(Consumer<String> setCursor, Supplier<Object> fetchPage) {
+        return stream(requestCursor(setCursor, fetchPage));
+    }
+
+    /**
+     * Stream the items of an endpoint of the typed clients whose request carries the cursor, a cursor already set on the request is the first page.
+     *
+     * @param setCursor sets the cursor of a page on the request
+     * @param fetchPage calls the endpoint with the request
+     */
+    public static <R, T> Stream<T> stream(Consumer<String> setCursor, Supplier<GenericResponse<R>> fetchPage, Function<R, List<T>> items, Function<R, String> nextCursor) {
+        return stream(requestCursor(setCursor, () -> result(fetchPage.get())), items, nextCursor);
+    }
+
+    private static <R> Function<String, R> requestCursor(Consumer<String> setCursor, Supplier<R> fetchPage) {
+        return pageCursor -> {
+            if (pageCursor != null) {
+                setCursor.accept(pageCursor);
+            }
+            return fetchPage.get();
+        };
+    }
+
+    private static <T> Stream<T> stream(CursorPaginator<?, T> paginator) {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(paginator, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(paginator::close);
+    }
+
+    private CompletableFuture<R> fetch(String pageCursor) {
+        return CompletableFuture.supplyAsync(() -> fetchPage.apply(pageCursor), executor);
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!page.hasNext()) {
+            if (next == null) {
+                return false;
+            }
+            R response = await(next);
+            List<T> pageItems = items.apply(response);
+            String pageCursor = nextCursor.apply(response);
+            // an empty page, a missing cursor or a cursor pointing to itself ends the iteration
+            if (pageItems == null || pageItems.isEmpty() || StringUtils.isEmpty(pageCursor) || pageCursor.equals(cursor)) {
+                next = null;
+            } else {
+                cursor = pageCursor;
+                next = fetch(pageCursor);
+            }
+            page = pageItems == null ? Collections.emptyIterator() : pageItems.iterator();
+        }
+        return true;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return page.next();
+    }
+
+    /**
+     * Stop following the cursor, the page being prefetched is discarded.
+     */
+    @Override
+    public void close() {
+        if (next != null) {
+            next.cancel(false);
+            next = null;
+        }
+        page = Collections.emptyIterator();
+    }
+
+    private R await(CompletableFuture<R> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            next = null;
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new BybitApiException(e.getCause());
+        }
+    }
+
+    /**
+     * Result of a page of the typed clients.
+     *
+     * @throws BybitApiException when the response is an error
+     */
+    public static <R> R result(GenericResponse<R> response) {
+        if (response.getRetCode() != 0) {
+            throw new BybitApiException(String.format("Page request failed, retCode: %s, retMsg: %s", response.getRetCode(), response.getRetMsg()));
+        }
+        return response.getResult();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> mapResult(Object response) {
+        if (!(response instanceof Map)) {
+            throw new BybitApiException("Unexpected page response: " + response);
+        }
+        Map<String, Object> map = (Map<String, Object>) response;
+        Object retCode = map.get("retCode");
+        if (retCode instanceof Number && ((Number) retCode).intValue() != 0) {
+            throw new BybitApiException(String.format("Page request failed, retCode: %s, retMsg: %s", retCode, map.get("retMsg")));
+        }
+        Object result = map.get("result");
+        return result instanceof Map ? (Map<String, Object>) result : Collections.emptyMap();
+    }
+
+    /**
+     * Items of a response of the default clients, read from {@code result.list} or {@code result.rows}.
+     *
+     * @throws BybitApiException when the response is an error
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> List<T> resultItems(Object response) {
+        Map<String, Object> result = mapResult(response);
+        Object list = result.containsKey("list") ? result.get("list") : result.get("rows");
+        return list instanceof List ? (List<T>) list : Collections.emptyList();
+    }
+
+    /**
+     * Cursor of the next page of a response of the default clients, null on the last page.
+     */
+    public static String resultCursor(Object response) {
+        Object cursor = mapResult(response).get("nextPageCursor");
+        return cursor == null ? null : cursor.toString();
+    }
+}
@@ -0,0 +1,225 @@
+package com.bybit.api.client.pagination;
+
+import com.bybit.api.client.exception.BybitApiException;
+import com.bybit.api.client.ratelimit.RateLimiter;
+import com.bybit.api.client.service.BybitApiExecutors;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Backfills a time range of a history endpoint limited to a maximum window per query, e.g. 7 days for executions.
+ * The range is split into window sized slices fetched concurrently, each following its own cursor,
+ * and the items are emitted slice after slice in ascending time order.
+ * <p>
+ * At most {@code maxConcurrentSlices} slices are fetched at a time, ahead of the slice being consumed.
+ * Slices go through the interceptors of the client, so an enabled {@link RateLimiter} keeps them within the budget of the api key.
+ * Items outside their slice and items already emitted by the previous slice, as identified by their key, are dropped,
+ * so boundaries shared by two slices do not produce duplicates.
+ *
+ * @param <T> item
+ */
+public class HistoryBackfill<T> {
+    public static final int DEFAULT_MAX_CONCURRENT_SLICES = 4;
+    public static final long DEFAULT_WINDOW_MILLIS = TimeUnit.DAYS.toMillis(7);
+    private static final Executor SLICE_EXECUTOR = BybitApiExecutors.newVirtualThreadPerTaskExecutor();
+
+    private final SliceFetcher<T> fetcher;
+    private final ToLongFunction<T> timeOf;
+    private final Function<T, ?> keyOf;
+    private long windowMillis = DEFAULT_WINDOW_MILLIS;
+    private int maxConcurrentSlices = DEFAULT_MAX_CONCURRENT_SLICES;
+
+    /**
+     * @param fetcher fetches every item of a slice
+     * @param timeOf  time of an item in milliseconds
+     * @param keyOf   unique key of an item, e.g. the execution id
+     */
+    public HistoryBackfill(SliceFetcher<T> fetcher, ToLongFunction<T> timeOf, Function<T, ?> keyOf) {
+        this.fetcher = fetcher;
+        this.timeOf = timeOf;
+        this.keyOf = keyOf;
+    }
+
+    /**
+     * Backfill an endpoint of the default clients, whose items are maps holding their time and key as fields.
+     *
+     * @param pages     fetches a page of a slice
+     * @param timeField field holding the time of an item in milliseconds
+     * @param keyField  field holding the unique key of an item
+     */
+    public static HistoryBackfill<Map<String, Object>> ofPages(SlicePageFetcher pages, String timeField, String keyField) {
+        return new HistoryBackfill<>(
+                (startTime, endTime) -> CursorPaginator.stream(cursor -> pages.fetch(startTime, endTime, cursor)),
+                item -> Long.parseLong(String.valueOf(item.get(timeField))),
+                item -> item.get(keyField));
+    }
+
+    /**
+     * Maximum time range of a query to the endpoint, {@link #DEFAULT_WINDOW_MILLIS} by default.
+     */
+    public HistoryBackfill<T> setWindow(long window, TimeUnit unit) {
+        if (window <= 0) {
+            throw new BybitApiException("[HistoryBackfill] window must be positive");
+        }
+        this.windowMillis = unit.toMillis(window);
+        return this;
+    }
+
+    /**
+     * Slices fetched at a time, {@link #DEFAULT_MAX_CONCURRENT_SLICES} by default.
+     */
+    public HistoryBackfill<T> setMaxConcurrentSlices(int maxConcurrentSlices) {
+        if (maxConcurrentSlices <= 0) {
+            throw new BybitApiException("[HistoryBackfill] maxConcurrentSlices must be positive");
+        }
+        this.maxConcurrentSlices = maxConcurrentSlices;
+        return this;
+    }
+
+    /**
+     * Stream the items of {@code [start, end)} in ascending time order. Close the stream when it is not consumed to the end.
+     *
+     * @param start start of the range in milliseconds, inclusive
+     * @param end   end of the range in milliseconds, exclusive
+     */
+    public Stream<T> stream(long start, long end) {
+        if (end <= start) {
+            throw new BybitApiException("[HistoryBackfill] end must be after start");
+        }
+        Slices slices = new Slices(start, end);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(slices, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(slices::close);
+    }
+
+    /**
+     * Fetches every item of a slice.
+     */
+    @FunctionalInterface
+    public interface SliceFetcher<T> {
+        /**
+         * @param startTime start of the slice in milliseconds, inclusive
+         * @param endTime   end of the slice in milliseconds, inclusive as the endpoints expect it
+         */
+        Stream<T> fetch(long startTime, long endTime);
+    }
+
+    /**
+     * Fetches one page of a slice of a cursor based endpoint.
+     */
+    @FunctionalInterface
+    public interface SlicePageFetcher {
+        /**
+         * @param startTime start of the slice in milliseconds, inclusive
+         * @param endTime   end of the slice in milliseconds, inclusive as the endpoints expect it
+         * @param cursor    cursor of the page, null for the first page
+         * @return the response of the endpoint
+         */
+        Object fetch(long startTime, long endTime, String cursor);
+    }
+
+    /**
+     * Iterates over the slices in order, keeping the next ones in flight.
+     */
+    private final class Slices implements Iterator<T> {
+        private final long end;
+        private final Deque<CompletableFuture<List<T>>> inFlight = new ArrayDeque<>();
+        private long nextStart;
+        private Iterator<T> slice = Collections.emptyIterator();
+        private Set<Object> previousKeys = Collections.emptySet();
+        private boolean closed;
+
+        private Slices(long start, long end) {
+            this.end = end;
+            this.nextStart = start;
+            fill();
+        }
+
+        private void fill() {
+            while (!closed && inFlight.size() < maxConcurrentSlices && nextStart < end) {
+                long sliceStart = nextStart;
+                long sliceEnd = Math.min(end, sliceStart + windowMillis);
+                nextStart = sliceEnd;
+                inFlight.add(CompletableFuture.supplyAsync(() -> fetch(sliceStart, sliceEnd), SLICE_EXECUTOR));
+            }
+        }
+
+        private List<T> fetch(long sliceStart, long sliceEnd) {
+            try (Stream<T> items = fetcher.fetch(sliceStart, sliceEnd - 1)) {
+                return items.filter(item -> {
+                            long time = timeOf.applyAsLong(item);
+                            return time >= sliceStart && time < sliceEnd;
+                        })
+                        .sorted(Comparator.comparingLong(timeOf))
+                        .collect(Collectors.toList());
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (!slice.hasNext()) {
+                if (inFlight.isEmpty()) {
+                    return false;
+                }
+                List<T> items = await(inFlight.poll());
+                fill();
+                Set<Object> keys = new HashSet<>();
+                for (T item : items) {
+                    keys.add(keyOf.apply(item));
+                }
+                Set<Object> seen = previousKeys;
+                previousKeys = keys;
+                slice = seen.isEmpty() ? items.iterator() : items.stream().filter(item -> !seen.contains(keyOf.apply(item))).iterator();
+            }
+            return true;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return slice.next();
+        }
+
+        private List<T> await(CompletableFuture<List<T>> future) {
+            try {
+                return future.join();
+            } catch (CompletionException e) {
+                close();
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw new BybitApiException(e.getCause());
+            }
+        }
+
+        private void close() {
+            closed = true;
+            for (CompletableFuture<List<T>> future : inFlight) {
+                future.cancel(false);
+            }
+            inFlight.clear();
+            slice = Collections.emptyIterator();
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.bybit.api.client.ratelimit;
+
+import lombok.Getter;
+
+/**
+ * Endpoint groups sharing a default rate limit. Bybit enforces the limit of every endpoint per UID and per second,
+ * the defaults are the limits of a regular account and are replaced by the X-Bapi-Limit header of the first response.
+ */
+@Getter
+public enum EndpointGroup {
+    ORDER_CREATE(10, "/v5/order/create"),
+    ORDER_AMEND(10, "/v5/order/amend"),
+    ORDER_CANCEL(10, "/v5/order/cancel"),
+    ORDER_QUERY(10, "/v5/order/"),
+    POSITION(10, "/v5/position/"),
+    ACCOUNT(10, "/v5/account/"),
+    ASSET(5, "/v5/asset/"),
+    /**
+     * Any other endpoint, only limited once a response reported its limit.
+     */
+    OTHER(0, "/");
+
+    private final int defaultLimit;
+    private final String pathPrefix;
+
+    EndpointGroup(int defaultLimit, String pathPrefix) {
+        this.defaultLimit = defaultLimit;
+        this.pathPrefix = pathPrefix;
+    }
+
+    /**
+     * @param path encoded path of the request, e.g. /v5/order/create-batch
+     * @return the first group whose prefix matches
+     */
+    public static EndpointGroup of(String path) {
+        for (EndpointGroup group : values()) {
+            if (path.startsWith(group.pathPrefix)) {
+                return group;
+            }
+        }
+        return OTHER;
+    }
+}
@@ -0,0 +1,28 @@
+package com.bybit.api.client.ratelimit;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Snapshot of the budget of one endpoint.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class RateLimitBudget {
+    private final String path;
+    private final EndpointGroup group;
+    /**
+     * Requests per second, 0 when the endpoint is not limited.
+     */
+    private final int limit;
+    /**
+     * Requests that can be sent now without waiting, -1 when the endpoint is not limited.
+     */
+    private final int remaining;
+    /**
+     * True once the limit was reported by a response, false while the group default applies.
+     */
+    private final boolean calibrated;
+}
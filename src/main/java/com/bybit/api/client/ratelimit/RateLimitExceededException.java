@@ -0,0 +1,15 @@
+package com.bybit.api.client.ratelimit;
+
+import java.io.IOException;
+
+/**
+ * Thrown by {@link RateLimitInterceptor} when a request is rejected locally instead of being sent over its rate limit.
+ * It is an IOException so that OkHttp reports it like a transport failure, the client surfaces it wrapped in a BybitApiException.
+ */
+public class RateLimitExceededException extends IOException {
+    private static final long serialVersionUID = -3052431412862317590L;
+
+    public RateLimitExceededException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,38 @@
+package com.bybit.api.client.ratelimit;
+
+import com.bybit.api.client.constant.BybitApiConstants;
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.Response;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+
+/**
+ * A request interceptor applying the {@link RateLimiter} registered for an API key, requests pass through while none is registered.
+ */
+public class RateLimitInterceptor implements Interceptor {
+    private final String apiKey;
+
+    public RateLimitInterceptor(String apiKey) {
+        this.apiKey = apiKey;
+    }
+
+    @NotNull
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        RateLimiter limiter = RateLimiter.forApiKey(apiKey);
+        if (limiter == null) {
+            return chain.proceed(chain.request());
+        }
+        Request request = chain.request();
+        String path = request.url().encodedPath();
+        limiter.acquire(path);
+        Response response = chain.proceed(request);
+        limiter.onResponse(path,
+                response.header(BybitApiConstants.RATE_LIMIT_HEADER),
+                response.header(BybitApiConstants.RATE_LIMIT_STATUS_HEADER),
+                response.header(BybitApiConstants.RATE_LIMIT_RESET_TIMESTAMP_HEADER));
+        return response;
+    }
+}
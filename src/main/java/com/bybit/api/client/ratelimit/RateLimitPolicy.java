@@ -0,0 +1,15 @@
+package com.bybit.api.client.ratelimit;
+
+/**
+ * What happens to a request when the budget of its endpoint is exhausted.
+ */
+public enum RateLimitPolicy {
+    /**
+     * Wait until the budget allows the request, up to the maximum wait of the limiter.
+     */
+    QUEUE,
+    /**
+     * Fail the request immediately with a {@link RateLimitExceededException}.
+     */
+    REJECT
+}
@@ -0,0 +1,164 @@
+package com.bybit.api.client.ratelimit;
+
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Client side rate limiter of one API key. Bybit limits every endpoint per UID and per second, so one limiter is
+ * registered per API key and shared by all the REST clients using that key, see {@link #register(String, RateLimiter)}.
+ * <p>
+ * Every endpoint has its own token bucket, sized with the default of its {@link EndpointGroup} and calibrated from the
+ * X-Bapi-Limit, X-Bapi-Limit-Status and X-Bapi-Limit-Reset-Timestamp headers of each response.
+ * Requests over budget wait or are rejected locally according to the {@link RateLimitPolicy}, instead of being rejected by the server with 10006.
+ */
+public class RateLimiter {
+    private static final Map<String, RateLimiter> limiters = new ConcurrentHashMap<>();
+    public static final long DEFAULT_MAX_WAIT_MILLIS = 5_000;
+
+    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final RateLimitPolicy policy;
+    private final long maxWaitMillis;
+    private final LongSupplier clock;
+    private final LongAdder queued = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    /**
+     * Queue requests over budget for up to {@link #DEFAULT_MAX_WAIT_MILLIS}.
+     */
+    public RateLimiter() {
+        this(RateLimitPolicy.QUEUE, DEFAULT_MAX_WAIT_MILLIS);
+    }
+
+    /**
+     * @param policy        what happens to requests over budget
+     * @param maxWaitMillis longest wait of a queued request, longer waits are rejected
+     */
+    public RateLimiter(RateLimitPolicy policy, long maxWaitMillis) {
+        this(policy, maxWaitMillis, System::currentTimeMillis);
+    }
+
+    /**
+     * @param clock current time in milliseconds since the epoch, the reset timestamps of the server are compared to it
+     */
+    public RateLimiter(RateLimitPolicy policy, long maxWaitMillis, LongSupplier clock) {
+        this.policy = policy;
+        this.maxWaitMillis = maxWaitMillis;
+        this.clock = clock;
+    }
+
+    /**
+     * Limit the requests of every REST client signing with the API key, including clients created before.
+     */
+    public static void register(String apiKey, RateLimiter limiter) {
+        limiters.put(apiKey, limiter);
+    }
+
+    public static void unregister(String apiKey) {
+        limiters.remove(apiKey);
+    }
+
+    /**
+     * @return the limiter of the API key, or null when its requests are not limited
+     */
+    public static RateLimiter forApiKey(String apiKey) {
+        return apiKey == null ? null : limiters.get(apiKey);
+    }
+
+    /**
+     * Wait for the budget of the endpoint, or reject the request.
+     *
+     * @param path encoded path of the request
+     * @throws RateLimitExceededException when the request is rejected
+     * @throws InterruptedIOException     when the thread is interrupted while waiting
+     */
+    public void acquire(String path) throws RateLimitExceededException, InterruptedIOException {
+        TokenBucket bucket = bucket(path);
+        long now = clock.getAsLong();
+        if (policy == RateLimitPolicy.REJECT) {
+            if (!bucket.tryAcquire(now)) {
+                rejected.increment();
+                throw new RateLimitExceededException("Rate limit of " + path + " exhausted, request rejected.");
+            }
+            return;
+        }
+        long wait = bucket.reserve(now);
+        if (wait <= 0) {
+            return;
+        }
+        if (wait > maxWaitMillis) {
+            bucket.release();
+            rejected.increment();
+            throw new RateLimitExceededException("Rate limit of " + path + " exhausted for " + wait + " ms, request rejected.");
+        }
+        queued.increment();
+        try {
+            Thread.sleep(wait);
+        } catch (InterruptedException e) {
+            bucket.release();
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the rate limit of " + path);
+        }
+    }
+
+    /**
+     * Calibrate the bucket of the endpoint from the rate limit headers of its response, missing headers are ignored.
+     */
+    public void onResponse(String path, String limit, String status, String resetTimestamp) {
+        if (limit == null) {
+            return;
+        }
+        try {
+            int remaining = status == null ? -1 : Integer.parseInt(status.trim());
+            long reset = resetTimestamp == null ? 0 : Long.parseLong(resetTimestamp.trim());
+            bucket(path).calibrate(Integer.parseInt(limit.trim()), remaining, reset, clock.getAsLong());
+        } catch (NumberFormatException ignored) {
+            // keep the current calibration
+        }
+    }
+
+    private TokenBucket bucket(String path) {
+        TokenBucket bucket = buckets.get(path);
+        if (bucket == null) {
+            bucket = buckets.computeIfAbsent(path, key -> new TokenBucket(key, EndpointGroup.of(key), clock.getAsLong()));
+        }
+        return bucket;
+    }
+
+    /**
+     * @return the budget of the endpoint, the group default when no request was sent to it yet
+     */
+    public RateLimitBudget getBudget(String path) {
+        return bucket(path).snapshot(clock.getAsLong());
+    }
+
+    /**
+     * @return the budgets of every endpoint requested so far
+     */
+    public List<RateLimitBudget> getBudgets() {
+        long now = clock.getAsLong();
+        List<RateLimitBudget> budgets = new ArrayList<>(buckets.size());
+        for (TokenBucket bucket : buckets.values()) {
+            budgets.add(bucket.snapshot(now));
+        }
+        return budgets;
+    }
+
+    /**
+     * @return requests that had to wait for their budget
+     */
+    public long getQueuedCount() {
+        return queued.sum();
+    }
+
+    /**
+     * @return requests rejected locally
+     */
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+}
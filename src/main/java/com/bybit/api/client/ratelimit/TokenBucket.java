@@ -0,0 +1,102 @@
+package com.bybit.api.client.ratelimit;
+
+/**
+ * Token bucket of one endpoint, refilled continuously at its limit per second.
+ * Reservations may take the balance below zero so that queued requests are released one after the other.
+ */
+final class TokenBucket {
+    private final String path;
+    private final EndpointGroup group;
+    // requests per second, 0 when unlimited
+    private int limit;
+    private double tokens;
+    private long lastRefillMillis;
+    private long blockedUntilMillis;
+    private boolean calibrated;
+
+    TokenBucket(String path, EndpointGroup group, long now) {
+        this.path = path;
+        this.group = group;
+        this.limit = group.getDefaultLimit();
+        this.tokens = limit;
+        this.lastRefillMillis = now;
+    }
+
+    private void refill(long now) {
+        if (now > lastRefillMillis) {
+            tokens = Math.min(limit, tokens + (now - lastRefillMillis) * limit / 1000.0);
+            lastRefillMillis = now;
+        }
+    }
+
+    /**
+     * Take a token, possibly ahead of time.
+     *
+     * @return milliseconds to wait before the request may be sent, 0 to send it now
+     */
+    synchronized long reserve(long now) {
+        if (limit <= 0) {
+            return 0;
+        }
+        refill(now);
+        tokens -= 1;
+        long wait = tokens >= 0 ? 0 : (long) Math.ceil(-tokens * 1000.0 / limit);
+        return Math.max(wait, blockedUntilMillis - now);
+    }
+
+    /**
+     * Take a token only when one is available now.
+     */
+    synchronized boolean tryAcquire(long now) {
+        if (limit <= 0) {
+            return true;
+        }
+        refill(now);
+        if (now < blockedUntilMillis || tokens < 1) {
+            return false;
+        }
+        tokens -= 1;
+        return true;
+    }
+
+    /**
+     * Give back a reserved token the request did not use.
+     */
+    synchronized void release() {
+        if (limit > 0) {
+            tokens = Math.min(limit, tokens + 1);
+        }
+    }
+
+    /**
+     * Align the bucket on the limit reported by the server.
+     *
+     * @param limit     requests per second of the endpoint
+     * @param remaining requests left in the current window, negative when unknown
+     * @param resetMillis timestamp (ms) at which the window resets, 0 when unknown
+     */
+    synchronized void calibrate(int limit, int remaining, long resetMillis, long now) {
+        refill(now);
+        if (this.limit <= 0) {
+            tokens = limit;
+        } else if (limit > this.limit) {
+            // e.g. a higher VIP limit than the default
+            tokens += limit - this.limit;
+        }
+        this.limit = limit;
+        this.calibrated = true;
+        tokens = Math.min(tokens, limit);
+        if (remaining >= 0) {
+            tokens = Math.min(tokens, remaining);
+        }
+        if (remaining == 0 && resetMillis > now) {
+            blockedUntilMillis = resetMillis;
+        }
+    }
+
+    synchronized RateLimitBudget snapshot(long now) {
+        refill(now);
+        int remaining = limit <= 0 ? -1 : now < blockedUntilMillis ? 0 : (int) Math.max(0, Math.floor(tokens));
+        return new RateLimitBudget(path, group, limit, remaining, calibrated);
+    }
+}
@@ -2,6 +2,11 @@ package com.bybit.api.client.restApi;
 
 import com.bybit.api.client.domain.account.request.AccountDataRequest;
 import com.bybit.api.client.domain.account.request.BatchSetCollateralCoinRequest;
+import com.bybit.api.client.pagination.CursorPaginator;
+import com.bybit.api.client.pagination.HistoryBackfill;
+
+import java.util.Map;
+import java.util.stream.Stream;
 
 public interface BybitApiAccountRestClient {
     // Account endpoints
@@ -21,4 +26,19 @@ public interface BybitApiAccountRestClient {
     Object resetAccountMMP(AccountDataRequest request);
     Object getAccountMMPState(AccountDataRequest request);
     Object getAccountSMPGroup();
+
+    default Stream<Map<String, Object>> streamTransactionLog(AccountDataRequest getTransactionLogRequest) {
+        return CursorPaginator.stream(getTransactionLogRequest::setCursor, () -> getTransactionLog(getTransactionLogRequest));
+    }
+
+    /**
+     * Backfill the transaction log of {@code [start, end)} in ascending time order, fetching 7 day slices concurrently.
+     * The request holds the other filters, its time range and cursor are left untouched.
+     *
+     * @see HistoryBackfill
+     */
+    default Stream<Map<String, Object>> backfillTransactionLog(AccountDataRequest getTransactionLogRequest, long start, long end) {
+        return HistoryBackfill.ofPages((startTime, endTime, cursor) -> getTransactionLog(getTransactionLogRequest.toBuilder()
+                .startTime(startTime).endTime(endTime).cursor(cursor).build()), "transactionTime", "id").stream(start, end);
+    }
 }
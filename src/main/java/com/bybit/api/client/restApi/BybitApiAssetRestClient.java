@@ -1,6 +1,10 @@
 package com.bybit.api.client.restApi;
 
 import com.bybit.api.client.domain.asset.request.AssetDataRequest;
+import com.bybit.api.client.pagination.CursorPaginator;
+
+import java.util.Map;
+import java.util.stream.Stream;
 
 public interface BybitApiAssetRestClient {
     // Asset Endpoints
@@ -35,4 +39,8 @@ public interface BybitApiAssetRestClient {
     Object getConvertCoinList(AssetDataRequest request);
     Object getConvertCoinStatus(AssetDataRequest request);
     Object getConvertCoinHistory(AssetDataRequest request);
+
+    default Stream<Map<String, Object>> streamAssetDepositRecords(AssetDataRequest assetDepositRecordsRequest) {
+        return CursorPaginator.stream(assetDepositRecordsRequest::setCursor, () -> getAssetDepositRecords(assetDepositRecordsRequest));
+    }
 }
@@ -3,6 +3,8 @@ package com.bybit.api.client.restApi;
 import com.bybit.api.client.domain.account.request.AccountDataRequest;
 import com.bybit.api.client.domain.account.request.BatchSetCollateralCoinRequest;
 
+import java.util.concurrent.CompletableFuture;
+
 public interface BybitApiAsyncAccountRestClient {
     // Account endpoints
     void getWalletBalance(AccountDataRequest walletBalanceRequest, BybitApiCallback<Object> callback);
@@ -21,4 +23,69 @@ public interface BybitApiAsyncAccountRestClient {
     void getAccountMMPState(AccountDataRequest request, BybitApiCallback<Object> callback);
     void getAccountSMPGroup(BybitApiCallback<Object> callback);
     void setAccountSpotHedging(AccountDataRequest request, BybitApiCallback<Object> callback);
+
+    // CompletableFuture variants, completed on the completion executor of the client
+    default CompletableFuture<Object> getWalletBalance(AccountDataRequest walletBalanceRequest) {
+        return BybitApiFutureCallback.future(callback -> getWalletBalance(walletBalanceRequest, callback));
+    }
+
+    default CompletableFuture<Object> upgradeAccountToUTA() {
+        return BybitApiFutureCallback.future(callback -> upgradeAccountToUTA(callback));
+    }
+
+    default CompletableFuture<Object> getAccountBorrowHistory(AccountDataRequest borrowHistoryRequest) {
+        return BybitApiFutureCallback.future(callback -> getAccountBorrowHistory(borrowHistoryRequest, callback));
+    }
+
+    default CompletableFuture<Object> setAccountCollateralCoin(AccountDataRequest setCollateralCoinRequest) {
+        return BybitApiFutureCallback.future(callback -> setAccountCollateralCoin(setCollateralCoinRequest, callback));
+    }
+
+    default CompletableFuture<Object> batchSetAccountCollateralCoin(BatchSetCollateralCoinRequest batchSetCollateralCoinRequest) {
+        return BybitApiFutureCallback.future(callback -> batchSetAccountCollateralCoin(batchSetCollateralCoinRequest, callback));
+    }
+
+    default CompletableFuture<Object> getAccountCollateralInfo(AccountDataRequest request) {
+        return BybitApiFutureCallback.future(callback -> getAccountCollateralInfo(request, callback));
+    }
+
+    default CompletableFuture<Object> getAccountCoinGeeks(AccountDataRequest request) {
+        return BybitApiFutureCallback.future(callback -> getAccountCoinGeeks(request, callback));
+    }
+
+    default CompletableFuture<Object> getAccountFreeRate(AccountDataRequest getFeeRateRequest) {
+        return BybitApiFutureCallback.future(callback -> getAccountFreeRate(getFeeRateRequest, callback));
+    }
+
+    default CompletableFuture<Object> getAccountInfo() {
+        return BybitApiFutureCallback.future(callback -> getAccountInfo(callback));
+    }
+
+    default CompletableFuture<Object> getTransactionLog(AccountDataRequest getTransactionLogRequest) {
+        return BybitApiFutureCallback.future(callback -> getTransactionLog(getTransactionLogRequest, callback));
+    }
+
+    default CompletableFuture<Object> setAccountMarginMode(AccountDataRequest request) {
+        return BybitApiFutureCallback.future(callback -> setAccountMarginMode(request, callback));
+    }
+
+    default CompletableFuture<Object> modifyAccountMMP(AccountDataRequest setMMPRequest) {
+        return BybitApiFutureCallback.future(callback -> modifyAccountMMP(setMMPRequest, callback));
+    }
+
+    default CompletableFuture<Object> resetAccountMMP(AccountDataRequest request) {
+        return BybitApiFutureCallback.future(callback -> resetAccountMMP(request, callback));
+    }
+
+    default CompletableFuture<Object> getAccountMMPState(AccountDataRequest request) {
+        return BybitApiFutureCallback.future(callback -> getAccountMMPState(request, callback));
+    }
+
+    default CompletableFuture<Object> getAccountSMPGroup() {
+        return BybitApiFutureCallback.future(callback -> getAccountSMPGroup(callback));
+    }
+
+    default CompletableFuture<Object> setAccountSpotHedging(AccountDataRequest request) {
+        return BybitApiFutureCallback.future(callback -> setAccountSpotHedging(request, callback));
+    }
 }
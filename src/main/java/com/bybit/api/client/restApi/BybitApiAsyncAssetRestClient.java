@@ -2,6 +2,8 @@ package com.bybit.api.client.restApi;
 
 import com.bybit.api.client.domain.asset.request.AssetDataRequest;
 
+import java.util.concurrent.CompletableFuture;
+
 public interface BybitApiAsyncAssetRestClient {
     // Asset Endpoints
     void getAssetCoinExchangeRecords(AssetDataRequest assetDataRequest, BybitApiCallback<Object> callback);
@@ -37,4 +39,125 @@ public interface BybitApiAsyncAssetRestClient {
     void getConvertCoinList(AssetDataRequest request, BybitApiCallback<Object> callback);
     void getConvertCoinStatus(AssetDataRequest request, BybitApiCallback<Object> callback);
     void getConvertCoinHistory(AssetDataRequest request, BybitApiCallback<Object> callback);
+
+    // CompletableFuture variants, completed on the completion executor of the client
+    default CompletableFuture<Object> getAssetCoinExchangeRecords(AssetDataRequest assetDataRequest) {
+        return BybitApiFutureCallback.future(callback -> getAssetCoinExchangeRecords(assetDataRequest, callback));
+    }
+
+    default CompletableFuture<Object> getAssetDeliveryRecords(AssetDataRequest deliveryReco) {
+        return BybitApiFutureCallback.future(callback -> getAssetDeliveryRecords(deliveryReco, callback));
+    }
+
+    default CompletableFuture<Object> getAssetUSDCSettlementRecords(AssetDataRequest usdcSettlementRequest) {
+        return BybitApiFutureCallback.future(callback -> getAssetUSDCSettlementRecords(usdcSettlementRequest, callback));
+    }
+
+    default CompletableFuture<Object> getAssetInfo(AssetDataRequest assetInfoRequest) {
+        return BybitApiFutureCallback.future(callback -> getAssetInfo(assetInfoRequest, callback));
+    }
+
+    default CompletableFuture<Object> getAssetAllCoinsBalance(AssetDataRequest allCoinsBalanceRequest) {
+        return BybitApiFutureCallback.future(callback -> getAssetAllCoinsBalance(allCoinsBalanceRequest, callback));
+    }
+
+    default CompletableFuture<Object> getAssetTransferableCoins(AssetDataRequest request) {
+        return BybitApiFutureCallback.future(callback -> getAssetTransferableCoins(request, callback));
+    }
+
+    default CompletableFuture<Object> getAssetSingleCoinBalance(AssetDataRequest singleCoinBalanceRequest) {
+        return BybitApiFutureCallback.future(callback -> getAssetSingleCoinBalance(singleCoinBalanceRequest, callback));
+    }
+
+    default CompletableFuture<Object> createAssetInternalTransfer(AssetDataRequest assetInternalTransferRequest) {
+        return BybitApiFutureCallback.future(callback -> createAssetInternalTransfer(assetInternalTransferRequest, callback));
+    }
+
+    default CompletableFuture<Object> getAssetTransferSubUidList() {
+        return BybitApiFutureCallback.future(callback -> getAssetTransferSubUidList(callback));
+    }
+
+    default CompletableFuture<Object> createAssetUniversalTransfer(AssetDataRequest assetUniversalTransferRequest) {
+        return BybitApiFutureCallback.future(callback -> createAssetUniversalTransfer(assetUniversalTransferRequest, callback));
+    }
+
+    default CompletableFuture<Object> getAssetInternalTransferRecords(AssetDataRequest internalTransferRequest) {
+        return BybitApiFutureCallback.future(callback -> getAssetInternalTransferRecords(internalTransferRequest, callback));
+    }
+
+    default CompletableFuture<Object> getAssetUniversalTransferRecords(AssetDataRequest universalTransferRequest) {
+        return BybitApiFutureCallback.future(callback -> getAssetUniversalTransferRecords(universalTransferRequest, callback));
+    }
+
+    default CompletableFuture<Object> getAssetAllowedDepositCoinInfo(AssetDataRequest allowedDepositCoinRequest) {
+        return BybitApiFutureCallback.future(callback -> getAssetAllowedDepositCoinInfo(allowedDepositCoinRequest, callback));
+    }
+
+    default CompletableFuture<Object> setAssetDepositAccount(AssetDataRequest request) {
+        return BybitApiFutureCallback.future(callback -> setAssetDepositAccount(request, callback));
+    }
+
+    default CompletableFuture<Object> getAssetDepositRecords(AssetDataRequest assetDepositRecordsRequest) {
+        return BybitApiFutureCallback.future(callback -> getAssetDepositRecords(assetDepositRecordsRequest, callback));
+    }
+
+    default CompletableFuture<Object> getAssetSubMembersDepositRecords(AssetDataRequest assetDepositRecordsRequest) {
+        return BybitApiFutureCallback.future(callback -> getAssetSubMembersDepositRecords(assetDepositRecordsRequest, callback));
+    }
+
+    default CompletableFuture<Object> getAssetInternalDepositRecords(AssetDataRequest assetDepositRecordsRequest) {
+        return BybitApiFutureCallback.future(callback -> getAssetInternalDepositRecords(assetDepositRecordsRequest, callback));
+    }
+
+    default CompletableFuture<Object> getAssetMasterDepositAddress(AssetDataRequest masterDepositRequest) {
+        return BybitApiFutureCallback.future(callback -> getAssetMasterDepositAddress(masterDepositRequest, callback));
+    }
+
+    default CompletableFuture<Object> getAssetSubMemberDepositAddress(AssetDataRequest subDepositRequest) {
+        return BybitApiFutureCallback.future(callback -> getAssetSubMemberDepositAddress(subDepositRequest, callback));
+    }
+
+    default CompletableFuture<Object> getAssetCoinInfo(AssetDataRequest request) {
+        return BybitApiFutureCallback.future(callback -> getAssetCoinInfo(request, callback));
+    }
+
+    default CompletableFuture<Object> getAssetWithdrawalAmount(AssetDataRequest request) {
+        return BybitApiFutureCallback.future(callback -> getAssetWithdrawalAmount(request, callback));
+    }
+
+    default CompletableFuture<Object> getAssetWithdrawalRecords(AssetDataRequest assetWithdrawRecordsRequest) {
+        return BybitApiFutureCallback.future(callback -> getAssetWithdrawalRecords(assetWithdrawRecordsRequest, callback));
+    }
+
+    default CompletableFuture<Object> cancelAssetWithdraw(AssetDataRequest request) {
+        return BybitApiFutureCallback.future(callback -> cancelAssetWithdraw(request, callback));
+    }
+
+    default CompletableFuture<Object> createAssetWithdraw(AssetDataRequest assetWithdrawRequest) {
+        return BybitApiFutureCallback.future(callback -> createAssetWithdraw(assetWithdrawRequest, callback));
+    }
+
+    default CompletableFuture<Object> requestQuote(AssetDataRequest assetQuoteRequest) {
+        return BybitApiFutureCallback.future(callback -> requestQuote(assetQuoteRequest, callback));
+    }
+
+    default CompletableFuture<Object> confirmQuote(String quoteTxId) {
+        return BybitApiFutureCallback.future(callback -> confirmQuote(quoteTxId, callback));
+    }
+
+    default CompletableFuture<Object> confirmQuote(AssetDataRequest assetQuoteRequest) {
+        return BybitApiFutureCallback.future(callback -> confirmQuote(assetQuoteRequest, callback));
+    }
+
+    default CompletableFuture<Object> getConvertCoinList(AssetDataRequest request) {
+        return BybitApiFutureCallback.future(callback -> getConvertCoinList(request, callback));
+    }
+
+    default CompletableFuture<Object> getConvertCoinStatus(AssetDataRequest request) {
+        return BybitApiFutureCallback.future(callback -> getConvertCoinStatus(request, callback));
+    }
+
+    default CompletableFuture<Object> getConvertCoinHistory(AssetDataRequest request) {
+        return BybitApiFutureCallback.future(callback -> getConvertCoinHistory(request, callback));
+    }
 }
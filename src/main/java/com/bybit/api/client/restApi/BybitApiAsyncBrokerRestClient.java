@@ -2,6 +2,8 @@ package com.bybit.api.client.restApi;
 
 import com.bybit.api.client.domain.broker.request.BrokerDataRequest;
 
+import java.util.concurrent.CompletableFuture;
+
 public interface BybitApiAsyncBrokerRestClient {
     // Broker endpoints
     void getBrokerEarningData(BrokerDataRequest brokerDataRequest, BybitApiCallback<Object> callback);
@@ -11,4 +13,33 @@ public interface BybitApiAsyncBrokerRestClient {
     void getVoucherSpec(BrokerDataRequest brokerDataRequest, BybitApiCallback<Object> callback);
     void issueVoucher(BrokerDataRequest brokerDataRequest, BybitApiCallback<Object> callback);
     void getIssuedVoucher(BrokerDataRequest brokerDataRequest, BybitApiCallback<Object> callback);
+
+    // CompletableFuture variants, completed on the completion executor of the client
+    default CompletableFuture<Object> getBrokerEarningData(BrokerDataRequest brokerDataRequest) {
+        return BybitApiFutureCallback.future(callback -> getBrokerEarningData(brokerDataRequest, callback));
+    }
+
+    default CompletableFuture<Object> getBrokerAccountInfo() {
+        return BybitApiFutureCallback.future(callback -> getBrokerAccountInfo(callback));
+    }
+
+    default CompletableFuture<Object> getSubAccountsDeposits(BrokerDataRequest brokerDataRequest) {
+        return BybitApiFutureCallback.future(callback -> getSubAccountsDeposits(brokerDataRequest, callback));
+    }
+
+    default CompletableFuture<Object> getSubAccountsDeposits() {
+        return BybitApiFutureCallback.future(callback -> getSubAccountsDeposits(callback));
+    }
+
+    default CompletableFuture<Object> getVoucherSpec(BrokerDataRequest brokerDataRequest) {
+        return BybitApiFutureCallback.future(callback -> getVoucherSpec(brokerDataRequest, callback));
+    }
+
+    default CompletableFuture<Object> issueVoucher(BrokerDataRequest brokerDataRequest) {
+        return BybitApiFutureCallback.future(callback -> issueVoucher(brokerDataRequest, callback));
+    }
+
+    default CompletableFuture<Object> getIssuedVoucher(BrokerDataRequest brokerDataRequest) {
+        return BybitApiFutureCallback.future(callback -> getIssuedVoucher(brokerDataRequest, callback));
+    }
 }
@@ -2,6 +2,8 @@ package com.bybit.api.client.restApi;
 
 import com.bybit.api.client.domain.institution.LendingDataRequest;
 
+import java.util.concurrent.CompletableFuture;
+
 public interface BybitApiAsyncLendingRestClient {
     // Institution Endpoints
     void getInsProductInfo(LendingDataRequest lendingDataRequest, BybitApiCallback<Object> callback);
@@ -18,4 +20,29 @@ public interface BybitApiAsyncLendingRestClient {
     void C2cLendingRedeemCancel(LendingDataRequest lendingDataRequest, BybitApiCallback<Object> callback);
     void getC2cOrdersRecords(LendingDataRequest lendingDataRequest, BybitApiCallback<Object> callback);
     void getC2CLendingAccountInfo(LendingDataRequest lendingDataRequest, BybitApiCallback<Object> callback);*/
+
+    // CompletableFuture variants, completed on the completion executor of the client
+    default CompletableFuture<Object> getInsProductInfo(LendingDataRequest lendingDataRequest) {
+        return BybitApiFutureCallback.future(callback -> getInsProductInfo(lendingDataRequest, callback));
+    }
+
+    default CompletableFuture<Object> getInsMarginCoinInfo(LendingDataRequest lendingDataRequest) {
+        return BybitApiFutureCallback.future(callback -> getInsMarginCoinInfo(lendingDataRequest, callback));
+    }
+
+    default CompletableFuture<Object> getInsLoanOrders(LendingDataRequest institutionLoanOrdersRequest) {
+        return BybitApiFutureCallback.future(callback -> getInsLoanOrders(institutionLoanOrdersRequest, callback));
+    }
+
+    default CompletableFuture<Object> getInsRepayOrders(LendingDataRequest institutionRepayOrdersRequest) {
+        return BybitApiFutureCallback.future(callback -> getInsRepayOrders(institutionRepayOrdersRequest, callback));
+    }
+
+    default CompletableFuture<Object> getInsLoanToValue() {
+        return BybitApiFutureCallback.future(callback -> getInsLoanToValue(callback));
+    }
+
+    default CompletableFuture<Object> updateInstitutionLoanUid(LendingDataRequest lendingDataRequest) {
+        return BybitApiFutureCallback.future(callback -> updateInstitutionLoanUid(lendingDataRequest, callback));
+    }
 }
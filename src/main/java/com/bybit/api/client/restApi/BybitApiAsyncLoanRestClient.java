@@ -5,6 +5,8 @@ import com.bybit.api.client.domain.loan.request.CryptoLoanBorrowRequest;
 import com.bybit.api.client.domain.loan.request.CryptoLoanDataRequest;
 import com.bybit.api.client.domain.loan.request.CryptoLoanRepayRequest;
 
+import java.util.concurrent.CompletableFuture;
+
 public interface BybitApiAsyncLoanRestClient {
     void getCollateralCoins(CryptoLoanDataRequest request, BybitApiCallback<Object> callback);
     void getBorrowableCoins(CryptoLoanDataRequest request, BybitApiCallback<Object> callback);
@@ -17,4 +19,49 @@ public interface BybitApiAsyncLoanRestClient {
     void getRepayTransactions(CryptoLoanDataRequest request, BybitApiCallback<Object> callback);
     void getLtvAdjustmentHistory(CryptoLoanDataRequest request, BybitApiCallback<Object> callback);
     void getMaxReduceAmount(CryptoLoanDataRequest request, BybitApiCallback<Object> callback);
+
+    // CompletableFuture variants, completed on the completion executor of the client
+    default CompletableFuture<Object> getCollateralCoins(CryptoLoanDataRequest request) {
+        return BybitApiFutureCallback.future(callback -> getCollateralCoins(request, callback));
+    }
+
+    default CompletableFuture<Object> getBorrowableCoins(CryptoLoanDataRequest request) {
+        return BybitApiFutureCallback.future(callback -> getBorrowableCoins(request, callback));
+    }
+
+    default CompletableFuture<Object> getAcctMortgageLoanLimit(CryptoLoanDataRequest request) {
+        return BybitApiFutureCallback.future(callback -> getAcctMortgageLoanLimit(request, callback));
+    }
+
+    default CompletableFuture<Object> borrow(CryptoLoanBorrowRequest request) {
+        return BybitApiFutureCallback.future(callback -> borrow(request, callback));
+    }
+
+    default CompletableFuture<Object> repay(CryptoLoanRepayRequest request) {
+        return BybitApiFutureCallback.future(callback -> repay(request, callback));
+    }
+
+    default CompletableFuture<Object> adjustCollateralAmount(CryptoLoanAdjustLtvRequest request) {
+        return BybitApiFutureCallback.future(callback -> adjustCollateralAmount(request, callback));
+    }
+
+    default CompletableFuture<Object> getUnpaidOrders(CryptoLoanDataRequest request) {
+        return BybitApiFutureCallback.future(callback -> getUnpaidOrders(request, callback));
+    }
+
+    default CompletableFuture<Object> getCompletedOrders(CryptoLoanDataRequest request) {
+        return BybitApiFutureCallback.future(callback -> getCompletedOrders(request, callback));
+    }
+
+    default CompletableFuture<Object> getRepayTransactions(CryptoLoanDataRequest request) {
+        return BybitApiFutureCallback.future(callback -> getRepayTransactions(request, callback));
+    }
+
+    default CompletableFuture<Object> getLtvAdjustmentHistory(CryptoLoanDataRequest request) {
+        return BybitApiFutureCallback.future(callback -> getLtvAdjustmentHistory(request, callback));
+    }
+
+    default CompletableFuture<Object> getMaxReduceAmount(CryptoLoanDataRequest request) {
+        return BybitApiFutureCallback.future(callback -> getMaxReduceAmount(request, callback));
+    }
 }
@@ -3,6 +3,8 @@ package com.bybit.api.client.restApi;
 import com.bybit.api.client.domain.announcement.request.AnnouncementInfoRequest;
 import com.bybit.api.client.domain.market.request.MarketDataRequest;
 
+import java.util.concurrent.CompletableFuture;
+
 public interface BybitApiAsyncMarketDataRestClient {
     // Market endpoints
     void getServerTime(BybitApiCallback<Object> callback);
@@ -23,4 +25,77 @@ public interface BybitApiAsyncMarketDataRestClient {
     void getDeliveryPrice(MarketDataRequest deliveryPriceRequest, BybitApiCallback<Object> callback);
     void getMarketAccountRatio(MarketDataRequest marketAccountRatioRequest, BybitApiCallback<Object> callback);
     void getAnnouncementInfo(MarketDataRequest announcementInfoRequest, BybitApiCallback<Object> callback);
+
+    // CompletableFuture variants, completed on the completion executor of the client
+    default CompletableFuture<Object> getServerTime() {
+        return BybitApiFutureCallback.future(callback -> getServerTime(callback));
+    }
+
+    default CompletableFuture<Object> getMarketLinesData(MarketDataRequest marketKlineRequest) {
+        return BybitApiFutureCallback.future(callback -> getMarketLinesData(marketKlineRequest, callback));
+    }
+
+    default CompletableFuture<Object> getMarketPriceLinesData(MarketDataRequest marketKlineRequest) {
+        return BybitApiFutureCallback.future(callback -> getMarketPriceLinesData(marketKlineRequest, callback));
+    }
+
+    default CompletableFuture<Object> getIndexPriceLinesData(MarketDataRequest marketKlineRequest) {
+        return BybitApiFutureCallback.future(callback -> getIndexPriceLinesData(marketKlineRequest, callback));
+    }
+
+    default CompletableFuture<Object> getPremiumIndexPriceLinesData(MarketDataRequest marketKlineRequest) {
+        return BybitApiFutureCallback.future(callback -> getPremiumIndexPriceLinesData(marketKlineRequest, callback));
+    }
+
+    default CompletableFuture<Object> getInstrumentsInfo(MarketDataRequest instrumentInfoRequest) {
+        return BybitApiFutureCallback.future(callback -> getInstrumentsInfo(instrumentInfoRequest, callback));
+    }
+
+    default CompletableFuture<Object> getMarketOrderBook(MarketDataRequest marketOrderBookRequest) {
+        return BybitApiFutureCallback.future(callback -> getMarketOrderBook(marketOrderBookRequest, callback));
+    }
+
+    default CompletableFuture<Object> getMarketTickers(MarketDataRequest marketDataTickerRequest) {
+        return BybitApiFutureCallback.future(callback -> getMarketTickers(marketDataTickerRequest, callback));
+    }
+
+    default CompletableFuture<Object> getFundingHistory(MarketDataRequest fundingHistoryRequest) {
+        return BybitApiFutureCallback.future(callback -> getFundingHistory(fundingHistoryRequest, callback));
+    }
+
+    default CompletableFuture<Object> getRecentTradeData(MarketDataRequest recentTradeRequest) {
+        return BybitApiFutureCallback.future(callback -> getRecentTradeData(recentTradeRequest, callback));
+    }
+
+    default CompletableFuture<Object> getOpenInterest(MarketDataRequest openInterestRequest) {
+        return BybitApiFutureCallback.future(callback -> getOpenInterest(openInterestRequest, callback));
+    }
+
+    default CompletableFuture<Object> getHistoricalVolatility(MarketDataRequest historicalVolatilityRequest) {
+        return BybitApiFutureCallback.future(callback -> getHistoricalVolatility(historicalVolatilityRequest, callback));
+    }
+
+    default CompletableFuture<Object> getInsurance(MarketDataRequest marketDataRequest) {
+        return BybitApiFutureCallback.future(callback -> getInsurance(marketDataRequest, callback));
+    }
+
+    default CompletableFuture<Object> getInsurance() {
+        return BybitApiFutureCallback.future(callback -> getInsurance(callback));
+    }
+
+    default CompletableFuture<Object> getRiskLimit(MarketDataRequest marketRiskLimitRequest) {
+        return BybitApiFutureCallback.future(callback -> getRiskLimit(marketRiskLimitRequest, callback));
+    }
+
+    default CompletableFuture<Object> getDeliveryPrice(MarketDataRequest deliveryPriceRequest) {
+        return BybitApiFutureCallback.future(callback -> getDeliveryPrice(deliveryPriceRequest, callback));
+    }
+
+    default CompletableFuture<Object> getMarketAccountRatio(MarketDataRequest marketAccountRatioRequest) {
+        return BybitApiFutureCallback.future(callback -> getMarketAccountRatio(marketAccountRatioRequest, callback));
+    }
+
+    default CompletableFuture<Object> getAnnouncementInfo(MarketDataRequest announcementInfoRequest) {
+        return BybitApiFutureCallback.future(callback -> getAnnouncementInfo(announcementInfoRequest, callback));
+    }
 }
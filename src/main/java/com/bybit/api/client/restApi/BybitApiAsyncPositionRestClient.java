@@ -3,6 +3,8 @@ package com.bybit.api.client.restApi;
 import com.bybit.api.client.domain.position.request.BatchMovePositionRequest;
 import com.bybit.api.client.domain.position.request.PositionDataRequest;
 
+import java.util.concurrent.CompletableFuture;
+
 public interface BybitApiAsyncPositionRestClient {
     // Position endpoints
     void getPositionInfo(PositionDataRequest positionListRequest, BybitApiCallback<Object> callback);
@@ -20,4 +22,57 @@ public interface BybitApiAsyncPositionRestClient {
     void getMovePositionHistory(PositionDataRequest movePositionHistoryRequest, BybitApiCallback<Object> callback);
     void batchMovePositions(BatchMovePositionRequest batchMovePositionRequest, BybitApiCallback<Object> callback);
     void confirmPositionRiskLimit(PositionDataRequest confirmNewRiskLimitRequest, BybitApiCallback<Object> callback);
+
+    // CompletableFuture variants, completed on the completion executor of the client
+    default CompletableFuture<Object> getPositionInfo(PositionDataRequest positionListRequest) {
+        return BybitApiFutureCallback.future(callback -> getPositionInfo(positionListRequest, callback));
+    }
+
+    default CompletableFuture<Object> setPositionLeverage(PositionDataRequest setLeverageRequest) {
+        return BybitApiFutureCallback.future(callback -> setPositionLeverage(setLeverageRequest, callback));
+    }
+
+    default CompletableFuture<Object> swithMarginRequest(PositionDataRequest switchMarginRequest) {
+        return BybitApiFutureCallback.future(callback -> swithMarginRequest(switchMarginRequest, callback));
+    }
+
+    default CompletableFuture<Object> switchPositionMode(PositionDataRequest switchPositionModeRequest) {
+        return BybitApiFutureCallback.future(callback -> switchPositionMode(switchPositionModeRequest, callback));
+    }
+
+    default CompletableFuture<Object> setTpslMode(PositionDataRequest setTpSlModeRequest) {
+        return BybitApiFutureCallback.future(callback -> setTpslMode(setTpSlModeRequest, callback));
+    }
+
+    default CompletableFuture<Object> setRiskLimit(PositionDataRequest setRiskLimitRequest) {
+        return BybitApiFutureCallback.future(callback -> setRiskLimit(setRiskLimitRequest, callback));
+    }
+
+    default CompletableFuture<Object> setTradingStop(PositionDataRequest tradingStopRequest) {
+        return BybitApiFutureCallback.future(callback -> setTradingStop(tradingStopRequest, callback));
+    }
+
+    default CompletableFuture<Object> setAutoAddMargin(PositionDataRequest setAutoAddMarginRequest) {
+        return BybitApiFutureCallback.future(callback -> setAutoAddMargin(setAutoAddMarginRequest, callback));
+    }
+
+    default CompletableFuture<Object> modifyPositionMargin(PositionDataRequest modifyMarginRequest) {
+        return BybitApiFutureCallback.future(callback -> modifyPositionMargin(modifyMarginRequest, callback));
+    }
+
+    default CompletableFuture<Object> getClosePnlList(PositionDataRequest closePnlHistoryRequest) {
+        return BybitApiFutureCallback.future(callback -> getClosePnlList(closePnlHistoryRequest, callback));
+    }
+
+    default CompletableFuture<Object> getMovePositionHistory(PositionDataRequest movePositionHistoryRequest) {
+        return BybitApiFutureCallback.future(callback -> getMovePositionHistory(movePositionHistoryRequest, callback));
+    }
+
+    default CompletableFuture<Object> batchMovePositions(BatchMovePositionRequest batchMovePositionRequest) {
+        return BybitApiFutureCallback.future(callback -> batchMovePositions(batchMovePositionRequest, callback));
+    }
+
+    default CompletableFuture<Object> confirmPositionRiskLimit(PositionDataRequest confirmNewRiskLimitRequest) {
+        return BybitApiFutureCallback.future(callback -> confirmPositionRiskLimit(confirmNewRiskLimitRequest, callback));
+    }
 }
@@ -2,6 +2,8 @@ package com.bybit.api.client.restApi;
 
 import com.bybit.api.client.domain.spot.SpotMarginDataRequest;
 
+import java.util.concurrent.CompletableFuture;
+
 public interface BybitApiAsyncSpotMarginRestClient {
     // Spot Endpoints
     // Spot Leverage Token
@@ -44,4 +46,81 @@ public interface BybitApiAsyncSpotMarginRestClient {
     void getNormalSpotMarginTradeBorrowOrders(SpotMarginDataRequest spotMarginDataRequest, BybitApiCallback<Object> callback);
 
     void getNormalSpotMarginTradeRepayOrders(SpotMarginDataRequest spotMarginDataRequest, BybitApiCallback<Object> callback);
+
+    // CompletableFuture variants, completed on the completion executor of the client
+    default CompletableFuture<Object> getSpotLeverageTokenInfo(SpotMarginDataRequest spotMarginDataRequest) {
+        return BybitApiFutureCallback.future(callback -> getSpotLeverageTokenInfo(spotMarginDataRequest, callback));
+    }
+
+    default CompletableFuture<Object> getSpotLeverageTokenMarket(SpotMarginDataRequest spotMarginDataRequest) {
+        return BybitApiFutureCallback.future(callback -> getSpotLeverageTokenMarket(spotMarginDataRequest, callback));
+    }
+
+    default CompletableFuture<Object> purchaseSpotLeverageToken(SpotMarginDataRequest spotMarginDataRequest) {
+        return BybitApiFutureCallback.future(callback -> purchaseSpotLeverageToken(spotMarginDataRequest, callback));
+    }
+
+    default CompletableFuture<Object> redeemSpotLeverageToken(SpotMarginDataRequest spotMarginDataRequest) {
+        return BybitApiFutureCallback.future(callback -> redeemSpotLeverageToken(spotMarginDataRequest, callback));
+    }
+
+    default CompletableFuture<Object> getSpotLeverageRecords(SpotMarginDataRequest spotMarginDataRequest) {
+        return BybitApiFutureCallback.future(callback -> getSpotLeverageRecords(spotMarginDataRequest, callback));
+    }
+
+    default CompletableFuture<Object> getUtaVipSpotMarginTradeData(SpotMarginDataRequest spotMarginDataRequest) {
+        return BybitApiFutureCallback.future(callback -> getUtaVipSpotMarginTradeData(spotMarginDataRequest, callback));
+    }
+
+    default CompletableFuture<Object> setUTASpotMarginTrade(String mode) {
+        return BybitApiFutureCallback.future(callback -> setUTASpotMarginTrade(mode, callback));
+    }
+
+    default CompletableFuture<Object> setUTASpotMarginTradeLeverage(String leverage) {
+        return BybitApiFutureCallback.future(callback -> setUTASpotMarginTradeLeverage(leverage, callback));
+    }
+
+    default CompletableFuture<Object> getUTASpotMarginTradeLeverageState() {
+        return BybitApiFutureCallback.future(callback -> getUTASpotMarginTradeLeverageState(callback));
+    }
+
+    default CompletableFuture<Object> getNormalVipSpotMarginTradeData(SpotMarginDataRequest spotMarginDataRequest) {
+        return BybitApiFutureCallback.future(callback -> getNormalVipSpotMarginTradeData(spotMarginDataRequest, callback));
+    }
+
+    default CompletableFuture<Object> getNormalSpotMarginTradeCoinInfo(SpotMarginDataRequest spotMarginDataRequest) {
+        return BybitApiFutureCallback.future(callback -> getNormalSpotMarginTradeCoinInfo(spotMarginDataRequest, callback));
+    }
+
+    default CompletableFuture<Object> getNormalSpotMarginTradeBorrowCoinInfo(SpotMarginDataRequest spotMarginDataRequest) {
+        return BybitApiFutureCallback.future(callback -> getNormalSpotMarginTradeBorrowCoinInfo(spotMarginDataRequest, callback));
+    }
+
+    default CompletableFuture<Object> getNormalSpotMarginTradeInterestQuota(SpotMarginDataRequest spotMarginDataRequest) {
+        return BybitApiFutureCallback.future(callback -> getNormalSpotMarginTradeInterestQuota(spotMarginDataRequest, callback));
+    }
+
+    default CompletableFuture<Object> getNormalSpotMarginTradeAccountInfo() {
+        return BybitApiFutureCallback.future(callback -> getNormalSpotMarginTradeAccountInfo(callback));
+    }
+
+    default CompletableFuture<Object> setNormalSpotToggleMarginTrade(SpotMarginDataRequest spotMarginDataRequest) {
+        return BybitApiFutureCallback.future(callback -> setNormalSpotToggleMarginTrade(spotMarginDataRequest, callback));
+    }
+
+    default CompletableFuture<Object> loanNormalSpotMarginTrade(SpotMarginDataRequest spotMarginDataRequest) {
+        return BybitApiFutureCallback.future(callback -> loanNormalSpotMarginTrade(spotMarginDataRequest, callback));
+    }
+
+    default CompletableFuture<Object> repayNormalSpotMarginTrade(SpotMarginDataRequest spotMarginDataRequest) {
+        return BybitApiFutureCallback.future(callback -> repayNormalSpotMarginTrade(spotMarginDataRequest, callback));
+    }
+
+    default CompletableFuture<Object> getNormalSpotMarginTradeBorrowOrders(SpotMarginDataRequest spotMarginDataRequest) {
+        return BybitApiFutureCallback.future(callback -> getNormalSpotMarginTradeBorrowOrders(spotMarginDataRequest, callback));
+    }
+
+    default CompletableFuture<Object> getNormalSpotMarginTradeRepayOrders(SpotMarginDataRequest spotMarginDataRequest) {
+        return BybitApiFutureCallback.future(callback -> getNormalSpotMarginTradeRepayOrders(spotMarginDataRequest, callback));
+    }
 }
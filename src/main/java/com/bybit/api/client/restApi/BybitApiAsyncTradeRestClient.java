@@ -7,6 +7,7 @@ import com.bybit.api.client.domain.trade.request.TradeOrderRequest;
 
 import java.io.IOException;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 public interface BybitApiAsyncTradeRestClient {
     // Trade
@@ -30,4 +31,85 @@ public interface BybitApiAsyncTradeRestClient {
     void cancelOrder(TradeOrderRequest order, BybitApiCallback<Object> callback);
     void cancelAllOrder(TradeOrderRequest order, BybitApiCallback<Object> callback);
     void amendOrder(TradeOrderRequest order, BybitApiCallback<Object> callback);
+
+    // CompletableFuture variants, completed on the completion executor of the client
+    default CompletableFuture<Object> getOrderHistory(TradeOrderRequest orderHistoryRequest) {
+        return BybitApiFutureCallback.future(callback -> getOrderHistory(orderHistoryRequest, callback));
+    }
+
+    default CompletableFuture<Object> setDisconnectCancelAllTime(TradeOrderRequest tradeOrderRequest) {
+        return BybitApiFutureCallback.future(callback -> setDisconnectCancelAllTime(tradeOrderRequest, callback));
+    }
+
+    default CompletableFuture<Object> getBorrowQuota(TradeOrderRequest borrowQuotaRequest) {
+        return BybitApiFutureCallback.future(callback -> getBorrowQuota(borrowQuotaRequest, callback));
+    }
+
+    default CompletableFuture<Object> getOpenOrders(TradeOrderRequest order) {
+        return BybitApiFutureCallback.future(callback -> getOpenOrders(order, callback));
+    }
+
+    default CompletableFuture<Object> getTradeHistory(TradeOrderRequest order) {
+        return BybitApiFutureCallback.future(callback -> getTradeHistory(order, callback));
+    }
+
+    default CompletableFuture<Object> createOrder(TradeOrderRequest order) {
+        return BybitApiFutureCallback.future(callback -> createOrder(order, callback));
+    }
+
+    default CompletableFuture<Object> createOrder(Map<String, Object> order) {
+        return BybitApiFutureCallback.future(callback -> createOrder(order, callback));
+    }
+
+    default CompletableFuture<Object> createOrder(String order) {
+        return BybitApiFutureCallback.future(callback -> createOrder(order, callback));
+    }
+
+    default CompletableFuture<Object> createBatchOrder(BatchOrderRequest batchOrderRequest) {
+        return BybitApiFutureCallback.future(callback -> createBatchOrder(batchOrderRequest, callback));
+    }
+
+    default CompletableFuture<Object> createBathOrder(Map<String, Object> payload) {
+        return BybitApiFutureCallback.future(callback -> createBathOrder(payload, callback));
+    }
+
+    default CompletableFuture<Object> createBathOrder(String json) {
+        return BybitApiFutureCallback.future(callback -> createBathOrder(json, callback));
+    }
+
+    default CompletableFuture<Object> amendBatchOrder(BatchOrderRequest batchOrderRequest) {
+        return BybitApiFutureCallback.future(callback -> amendBatchOrder(batchOrderRequest, callback));
+    }
+
+    default CompletableFuture<Object> amendBatchOrder(Map<String, Object> payload) {
+        return BybitApiFutureCallback.future(callback -> amendBatchOrder(payload, callback));
+    }
+
+    default CompletableFuture<Object> amendBatchOrder(String json) {
+        return BybitApiFutureCallback.future(callback -> amendBatchOrder(json, callback));
+    }
+
+    default CompletableFuture<Object> cancelBatchOrder(BatchOrderRequest batchOrderRequest) {
+        return BybitApiFutureCallback.future(callback -> cancelBatchOrder(batchOrderRequest, callback));
+    }
+
+    default CompletableFuture<Object> cancelBatchOrder(Map<String, Object> payload) {
+        return BybitApiFutureCallback.future(callback -> cancelBatchOrder(payload, callback));
+    }
+
+    default CompletableFuture<Object> cancelBatchOrder(String json) {
+        return BybitApiFutureCallback.future(callback -> cancelBatchOrder(json, callback));
+    }
+
+    default CompletableFuture<Object> cancelOrder(TradeOrderRequest order) {
+        return BybitApiFutureCallback.future(callback -> cancelOrder(order, callback));
+    }
+
+    default CompletableFuture<Object> cancelAllOrder(TradeOrderRequest order) {
+        return BybitApiFutureCallback.future(callback -> cancelAllOrder(order, callback));
+    }
+
+    default CompletableFuture<Object> amendOrder(TradeOrderRequest order) {
+        return BybitApiFutureCallback.future(callback -> amendOrder(order, callback));
+    }
 }
@@ -3,6 +3,8 @@ package com.bybit.api.client.restApi;
 import com.bybit.api.client.domain.preupgrade.PreUpgradeDataRequest;
 import com.bybit.api.client.domain.user.UserDataRequest;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Bybit API facade, supporting asynchronous/non-blocking access Bybit's REST API.
  */
@@ -31,4 +33,85 @@ public interface BybitApiAsyncUserRestClient {
     void getSubUIDListUnlimited(UserDataRequest subUserRequest, BybitApiCallback<Object> callback);
     void getSubUIDListUnlimited(BybitApiCallback<Object> callback);
     void getSubAccAllAPIKeyInfo(UserDataRequest subUserRequest, BybitApiCallback<Object> callback);
+
+    // CompletableFuture variants, completed on the completion executor of the client
+    default CompletableFuture<Object> getPreUpgradeOrderHistory(PreUpgradeDataRequest preupgradeOderHistoryRequest) {
+        return BybitApiFutureCallback.future(callback -> getPreUpgradeOrderHistory(preupgradeOderHistoryRequest, callback));
+    }
+
+    default CompletableFuture<Object> getPreUpgradeTradeHistory(PreUpgradeDataRequest preUpgradeTradeHistoryRequest) {
+        return BybitApiFutureCallback.future(callback -> getPreUpgradeTradeHistory(preUpgradeTradeHistoryRequest, callback));
+    }
+
+    default CompletableFuture<Object> getPreUpgradeClosePnl(PreUpgradeDataRequest preUpgradeClosePnlRequest) {
+        return BybitApiFutureCallback.future(callback -> getPreUpgradeClosePnl(preUpgradeClosePnlRequest, callback));
+    }
+
+    default CompletableFuture<Object> getPreUpgradeTransaction(PreUpgradeDataRequest preUpgradeTransactionRequest) {
+        return BybitApiFutureCallback.future(callback -> getPreUpgradeTransaction(preUpgradeTransactionRequest, callback));
+    }
+
+    default CompletableFuture<Object> getPreUpgradeOptionDelivery(PreUpgradeDataRequest preUpgradeOptionDeliveryRequest) {
+        return BybitApiFutureCallback.future(callback -> getPreUpgradeOptionDelivery(preUpgradeOptionDeliveryRequest, callback));
+    }
+
+    default CompletableFuture<Object> getPreUpgradeUsdcSettlement(PreUpgradeDataRequest preUpgradeUsdcSettlementRequest) {
+        return BybitApiFutureCallback.future(callback -> getPreUpgradeUsdcSettlement(preUpgradeUsdcSettlementRequest, callback));
+    }
+
+    default CompletableFuture<Object> createSubMember(UserDataRequest subUserRequest) {
+        return BybitApiFutureCallback.future(callback -> createSubMember(subUserRequest, callback));
+    }
+
+    default CompletableFuture<Object> createSubAPI(UserDataRequest createApiKeyRequest) {
+        return BybitApiFutureCallback.future(callback -> createSubAPI(createApiKeyRequest, callback));
+    }
+
+    default CompletableFuture<Object> getSubUIDList() {
+        return BybitApiFutureCallback.future(callback -> getSubUIDList(callback));
+    }
+
+    default CompletableFuture<Object> freezeSubMember(UserDataRequest freezeSubUIDRequest) {
+        return BybitApiFutureCallback.future(callback -> freezeSubMember(freezeSubUIDRequest, callback));
+    }
+
+    default CompletableFuture<Object> getCurrentAPIKeyInfo() {
+        return BybitApiFutureCallback.future(callback -> getCurrentAPIKeyInfo(callback));
+    }
+
+    default CompletableFuture<Object> getUIDWalletType(UserDataRequest userDataRequest) {
+        return BybitApiFutureCallback.future(callback -> getUIDWalletType(userDataRequest, callback));
+    }
+
+    default CompletableFuture<Object> modifyMasterApiKey(UserDataRequest userDataRequest) {
+        return BybitApiFutureCallback.future(callback -> modifyMasterApiKey(userDataRequest, callback));
+    }
+
+    default CompletableFuture<Object> modifySubApiKey(UserDataRequest userDataRequest) {
+        return BybitApiFutureCallback.future(callback -> modifySubApiKey(userDataRequest, callback));
+    }
+
+    default CompletableFuture<Object> deleteMasterApiKey() {
+        return BybitApiFutureCallback.future(callback -> deleteMasterApiKey(callback));
+    }
+
+    default CompletableFuture<Object> deleteSubApiKey(UserDataRequest userDataRequest) {
+        return BybitApiFutureCallback.future(callback -> deleteSubApiKey(userDataRequest, callback));
+    }
+
+    default CompletableFuture<Object> getAffiliateUserInfo(UserDataRequest userDataRequest) {
+        return BybitApiFutureCallback.future(callback -> getAffiliateUserInfo(userDataRequest, callback));
+    }
+
+    default CompletableFuture<Object> getSubUIDListUnlimited(UserDataRequest subUserRequest) {
+        return BybitApiFutureCallback.future(callback -> getSubUIDListUnlimited(subUserRequest, callback));
+    }
+
+    default CompletableFuture<Object> getSubUIDListUnlimited() {
+        return BybitApiFutureCallback.future(callback -> getSubUIDListUnlimited(callback));
+    }
+
+    default CompletableFuture<Object> getSubAccAllAPIKeyInfo(UserDataRequest subUserRequest) {
+        return BybitApiFutureCallback.future(callback -> getSubAccAllAPIKeyInfo(subUserRequest, callback));
+    }
 }
@@ -20,4 +20,10 @@ public interface BybitApiCallback<T> {
      * @param cause the cause of the failure
      */
     default void onFailure(Throwable cause) {}
+
+    /**
+     * Called when the API accepted the request but did not answer within the timeout period (HTTP 504).
+     * This is not a failure, the execution status is unknown and could have been a success.
+     */
+    default void onUnknownStatus() {}
 }
@@ -0,0 +1,60 @@
+package com.bybit.api.client.restApi;
+
+import com.bybit.api.client.exception.BybitApiException;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * BybitApiFutureCallback completes a {@link CompletableFuture} from the callback of an asynchronous client,
+ * so that requests can be composed with {@link CompletableFuture#allOf} or chained without blocking a thread.
+ * The future is completed on the thread running the callbacks, the completion executor of the client when one is configured.
+ *
+ * @param <T> the return type from the callback
+ */
+public class BybitApiFutureCallback<T> implements BybitApiCallback<T> {
+    private final CompletableFuture<T> future = new CompletableFuture<>();
+
+    /**
+     * Start an asynchronous request and return its result as a future.
+     *
+     * @param call request started with the callback
+     * @return future completed with the response, or exceptionally with a {@link BybitApiException}
+     */
+    public static <T> CompletableFuture<T> future(AsyncCall<T> call) {
+        BybitApiFutureCallback<T> callback = new BybitApiFutureCallback<>();
+        try {
+            call.enqueue(callback);
+        } catch (IOException | RuntimeException e) {
+            callback.onFailure(e);
+        }
+        return callback.getFuture();
+    }
+
+    public CompletableFuture<T> getFuture() {
+        return future;
+    }
+
+    @Override
+    public void onResponse(T response) {
+        future.complete(response);
+    }
+
+    @Override
+    public void onFailure(Throwable cause) {
+        future.completeExceptionally(cause instanceof BybitApiException ? cause : new BybitApiException(cause));
+    }
+
+    @Override
+    public void onUnknownStatus() {
+        future.completeExceptionally(new BybitApiException("Request timed out on the gateway (HTTP 504), the execution status is unknown."));
+    }
+
+    /**
+     * An asynchronous request started with a callback.
+     */
+    @FunctionalInterface
+    public interface AsyncCall<T> {
+        void enqueue(BybitApiCallback<T> callback) throws IOException;
+    }
+}
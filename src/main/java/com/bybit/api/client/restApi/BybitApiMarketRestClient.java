@@ -2,6 +2,13 @@ package com.bybit.api.client.restApi;
 
 import com.bybit.api.client.domain.announcement.request.AnnouncementInfoRequest;
 import com.bybit.api.client.domain.market.request.MarketDataRequest;
+import com.bybit.api.client.exception.BybitApiException;
+import com.bybit.api.client.pagination.CursorPaginator;
+import com.bybit.api.client.pagination.HistoryBackfill;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
 
 public interface BybitApiMarketRestClient {
     // Market Data
@@ -23,4 +30,24 @@ public interface BybitApiMarketRestClient {
     Object getDeliveryPrice(MarketDataRequest deliveryPriceRequest);
     Object getMarketAccountRatio(MarketDataRequest marketAccountRatioRequest);
     Object getAnnouncementInfo(MarketDataRequest announcementInfoRequest);
+
+    /**
+     * Backfill the klines of {@code [start, end)} in ascending time order, fetching slices of 1000 candles concurrently.
+     * The request holds the category, symbol and interval, its range and limit are left untouched.
+     * A kline is the list [startTime, open, high, low, close, volume, turnover].
+     *
+     * @see HistoryBackfill
+     */
+    default Stream<List<Object>> backfillMarketLinesData(MarketDataRequest marketKlineRequest, long start, long end) {
+        if (marketKlineRequest.getMarketInterval() == null) {
+            throw new BybitApiException("Please set marketInterval for your kline request");
+        }
+        int limit = 1000;
+        HistoryBackfill<List<Object>> backfill = new HistoryBackfill<>(
+                (startTime, endTime) -> CursorPaginator.<List<Object>>resultItems(getMarketLinesData(marketKlineRequest.toBuilder()
+                        .start(startTime).end(endTime).limit(limit).build())).stream(),
+                kline -> Long.parseLong(String.valueOf(kline.get(0))),
+                kline -> kline.get(0));
+        return backfill.setWindow(marketKlineRequest.getMarketInterval().toMillis() * limit, TimeUnit.MILLISECONDS).stream(start, end);
+    }
 }
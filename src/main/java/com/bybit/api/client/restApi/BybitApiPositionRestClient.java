@@ -2,6 +2,10 @@ package com.bybit.api.client.restApi;
 
 import com.bybit.api.client.domain.position.request.BatchMovePositionRequest;
 import com.bybit.api.client.domain.position.request.PositionDataRequest;
+import com.bybit.api.client.pagination.CursorPaginator;
+
+import java.util.Map;
+import java.util.stream.Stream;
 
 public interface BybitApiPositionRestClient {
     // Position Data
@@ -20,4 +24,8 @@ public interface BybitApiPositionRestClient {
     Object getMovePositionHistory(PositionDataRequest movePositionHistoryRequest);
     Object batchMovePositions(BatchMovePositionRequest batchMovePositionRequest);
     Object confirmPositionRiskLimit(PositionDataRequest confirmNewRiskLimitRequest);
+
+    default Stream<Map<String, Object>> streamClosePnlList(PositionDataRequest closePnlHistoryRequest) {
+        return CursorPaginator.stream(closePnlHistoryRequest::setCursor, () -> getClosePnlList(closePnlHistoryRequest));
+    }
 }
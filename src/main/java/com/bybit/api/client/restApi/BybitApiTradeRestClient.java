@@ -3,9 +3,12 @@ package com.bybit.api.client.restApi;
 import com.bybit.api.client.domain.position.request.PositionDataRequest;
 import com.bybit.api.client.domain.trade.request.BatchOrderRequest;
 import com.bybit.api.client.domain.trade.request.TradeOrderRequest;
+import com.bybit.api.client.pagination.CursorPaginator;
+import com.bybit.api.client.pagination.HistoryBackfill;
 
 import java.io.IOException;
 import java.util.Map;
+import java.util.stream.Stream;
 
 public interface BybitApiTradeRestClient {
 
@@ -30,4 +33,34 @@ public interface BybitApiTradeRestClient {
     Object cancelOrder(TradeOrderRequest order);
     Object cancelAllOrder(TradeOrderRequest order);
     Object amendOrder(TradeOrderRequest order);
+
+    default Stream<Map<String, Object>> streamOrderHistory(TradeOrderRequest orderHistoryRequest) {
+        return CursorPaginator.stream(orderHistoryRequest::setCursor, () -> getOrderHistory(orderHistoryRequest));
+    }
+
+    default Stream<Map<String, Object>> streamTradeHistory(TradeOrderRequest order) {
+        return CursorPaginator.stream(order::setCursor, () -> getTradeHistory(order));
+    }
+
+    /**
+     * Backfill the orders of {@code [start, end)} in ascending time order, fetching 7 day slices concurrently.
+     * The request holds the other filters, its time range and cursor are left untouched.
+     *
+     * @see HistoryBackfill
+     */
+    default Stream<Map<String, Object>> backfillOrderHistory(TradeOrderRequest orderHistoryRequest, long start, long end) {
+        return HistoryBackfill.ofPages((startTime, endTime, cursor) -> getOrderHistory(orderHistoryRequest.toBuilder()
+                .startTime(startTime).endTime(endTime).cursor(cursor).build()), "createdTime", "orderId").stream(start, end);
+    }
+
+    /**
+     * Backfill the executions of {@code [start, end)} in ascending time order, fetching 7 day slices concurrently.
+     * The request holds the other filters, its time range and cursor are left untouched.
+     *
+     * @see HistoryBackfill
+     */
+    default Stream<Map<String, Object>> backfillTradeHistory(TradeOrderRequest order, long start, long end) {
+        return HistoryBackfill.ofPages((startTime, endTime, cursor) -> getTradeHistory(order.toBuilder()
+                .startTime(startTime).endTime(endTime).cursor(cursor).build()), "execTime", "execId").stream(start, end);
+    }
 }
@@ -0,0 +1,27 @@
+package com.bybit.api.client.restApi;
+
+import com.bybit.api.client.domain.GenericResponse;
+import com.bybit.api.client.domain.market.request.MarketDataRequest;
+import com.bybit.api.client.domain.market.response.fundingRate.FundingRateResult;
+import com.bybit.api.client.domain.market.response.instrumentInfo.InstrumentInfoResult;
+import com.bybit.api.client.domain.market.response.kline.MarketKlineResult;
+import com.bybit.api.client.domain.market.response.openInterests.OpenInterestResult;
+import com.bybit.api.client.domain.market.response.orderbook.OrderbookResult;
+import com.bybit.api.client.domain.market.response.recentTrade.RecentTradeResult;
+import com.bybit.api.client.domain.market.response.serverTime.ServerTimeResult;
+import com.bybit.api.client.domain.market.response.tickers.TickersResult;
+
+/**
+ * Market data client returning typed responses, see {@link BybitApiMarketRestClient} for the untyped variant.
+ */
+public interface BybitApiTypedMarketRestClient {
+    // Market Data
+    GenericResponse<ServerTimeResult> getServerTime();
+    GenericResponse<MarketKlineResult> getMarketLinesData(MarketDataRequest marketKlineRequest);
+    GenericResponse<InstrumentInfoResult> getInstrumentsInfo(MarketDataRequest instrumentInfoRequest);
+    GenericResponse<OrderbookResult> getMarketOrderBook(MarketDataRequest marketOrderBookRequest);
+    GenericResponse<TickersResult> getMarketTickers(MarketDataRequest marketDataTickerRequest);
+    GenericResponse<FundingRateResult> getFundingHistory(MarketDataRequest fundingHistoryRequest);
+    GenericResponse<RecentTradeResult> getRecentTradeData(MarketDataRequest recentTradeRequest);
+    GenericResponse<OpenInterestResult> getOpenInterest(MarketDataRequest openInterestRequest);
+}
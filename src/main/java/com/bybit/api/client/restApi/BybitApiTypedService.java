@@ -0,0 +1,128 @@
+package com.bybit.api.client.restApi;
+
+import com.bybit.api.client.constant.BybitApiConstants;
+import com.bybit.api.client.domain.GenericResponse;
+import com.bybit.api.client.domain.market.response.fundingRate.FundingRateResult;
+import com.bybit.api.client.domain.market.response.instrumentInfo.InstrumentInfoResult;
+import com.bybit.api.client.domain.market.response.kline.MarketKlineResult;
+import com.bybit.api.client.domain.market.response.openInterests.OpenInterestResult;
+import com.bybit.api.client.domain.market.response.orderbook.OrderbookResult;
+import com.bybit.api.client.domain.market.response.recentTrade.RecentTradeResult;
+import com.bybit.api.client.domain.market.response.serverTime.ServerTimeResult;
+import com.bybit.api.client.domain.market.response.tickers.TickersResult;
+import com.bybit.api.client.domain.trade.OrderStatus;
+import com.bybit.api.client.domain.trade.request.AmendBatchOrderRequest;
+import com.bybit.api.client.domain.trade.request.CancelBatchOrderRequest;
+import com.bybit.api.client.domain.trade.request.PlaceBatchOrderRequest;
+import com.bybit.api.client.domain.trade.response.BatchOrderResponse;
+import com.bybit.api.client.domain.trade.response.OrderResult;
+import retrofit2.Call;
+import retrofit2.http.Body;
+import retrofit2.http.GET;
+import retrofit2.http.Headers;
+import retrofit2.http.POST;
+import retrofit2.http.Query;
+
+/**
+ * Typed variant of the hot {@link BybitApiService} endpoints.
+ * Responses are bound straight into the result classes instead of a tree of maps and lists,
+ * see {@link BybitApiService} for the documentation of every parameter.
+ */
+public interface BybitApiTypedService {
+    // Market data endpoints
+
+    @GET("/v5/market/time")
+    Call<GenericResponse<ServerTimeResult>> getServerTime();
+
+    @GET("/v5/market/kline")
+    Call<GenericResponse<MarketKlineResult>> getMarketLinesData(@Query("category") String category,
+                                                                @Query("symbol") String symbol,
+                                                                @Query("interval") String interval,
+                                                                @Query("start") Long start,
+                                                                @Query("end") Long end,
+                                                                @Query("limit") Integer limit);
+
+    @GET("/v5/market/instruments-info")
+    Call<GenericResponse<InstrumentInfoResult>> getInstrumentsInfo(@Query("category") String category,
+                                                                   @Query("symbol") String symbol,
+                                                                   @Query("status") String status,
+                                                                   @Query("baseCoin") String baseCoin,
+                                                                   @Query("limit") Integer limit,
+                                                                   @Query("cursor") String cursor);
+
+    @GET("/v5/market/orderbook")
+    Call<GenericResponse<OrderbookResult>> getMarketOrderBook(@Query("category") String category,
+                                                              @Query("symbol") String symbol,
+                                                              @Query("limit") Integer limit);
+
+    @GET("/v5/market/tickers")
+    Call<GenericResponse<TickersResult>> getMarketTickers(@Query("category") String category,
+                                                          @Query("symbol") String symbol,
+                                                          @Query("baseCoin") String baseCoin,
+                                                          @Query("expDate") String expDate);
+
+    @GET("/v5/market/funding/history")
+    Call<GenericResponse<FundingRateResult>> getFundingHistory(@Query("category") String category,
+                                                               @Query("symbol") String symbol,
+                                                               @Query("startTime") Long startTime,
+                                                               @Query("endTime") Long endTime,
+                                                               @Query("limit") Integer limit);
+
+    @GET("/v5/market/recent-trade")
+    Call<GenericResponse<RecentTradeResult>> getRecentTradeData(@Query("category") String category,
+                                                                @Query("symbol") String symbol,
+                                                                @Query("baseCoin") String baseCoin,
+                                                                @Query("optionType") String optionType,
+                                                                @Query("limit") Integer limit);
+
+    @GET("/v5/market/open-interest")
+    Call<GenericResponse<OpenInterestResult>> getOpenInterest(@Query("category") String category,
+                                                              @Query("symbol") String symbol,
+                                                              @Query("intervalTime") String intervalTime,
+                                                              @Query("startTime") Long startTime,
+                                                              @Query("endTime") Long endTime,
+                                                              @Query("limit") Integer limit,
+                                                              @Query("cursor") String cursor);
+
+    // Trade endpoints
+
+    @Headers(BybitApiConstants.ENDPOINT_SECURITY_TYPE_SIGNED_HEADER)
+    @GET("/v5/order/realtime")
+    Call<GenericResponse<OrderResult>> getOpenOrders(@Query("category") String category,
+                                                     @Query("symbol") String symbol,
+                                                     @Query("baseCoin") String baseCoin,
+                                                     @Query("settleCoin") String settleCoin,
+                                                     @Query("orderId") String orderId,
+                                                     @Query("orderLinkId") String orderLinkId,
+                                                     @Query("openOnly") Integer openOnly,
+                                                     @Query("orderFilter") String orderFilter,
+                                                     @Query("limit") Integer limit,
+                                                     @Query("cursor") String cursor);
+
+    @Headers(BybitApiConstants.ENDPOINT_SECURITY_TYPE_SIGNED_HEADER)
+    @GET("/v5/order/history")
+    Call<GenericResponse<OrderResult>> getOrderHistory(@Query("category") String category,
+                                                       @Query("symbol") String symbol,
+                                                       @Query("baseCoin") String baseCoin,
+                                                       @Query("settleCoin") String settleCoin,
+                                                       @Query("orderId") String orderId,
+                                                       @Query("orderLinkId") String orderLinkId,
+                                                       @Query("orderFilter") String orderFilter,
+                                                       @Query("orderStatus") OrderStatus orderStatus,
+                                                       @Query("startTime") Long startTime,
+                                                       @Query("endTime") Long endTime,
+                                                       @Query("limit") Integer limit,
+                                                       @Query("cursor") String cursor);
+
+    @Headers(BybitApiConstants.ENDPOINT_SECURITY_TYPE_SIGNED_HEADER)
+    @POST("/v5/order/create-batch")
+    Call<BatchOrderResponse> createBatchOrder(@Body PlaceBatchOrderRequest placeBatchOrderRequest);
+
+    @Headers(BybitApiConstants.ENDPOINT_SECURITY_TYPE_SIGNED_HEADER)
+    @POST("/v5/order/amend-batch")
+    Call<BatchOrderResponse> amendBatchOrder(@Body AmendBatchOrderRequest amendBatchOrderRequest);
+
+    @Headers(BybitApiConstants.ENDPOINT_SECURITY_TYPE_SIGNED_HEADER)
+    @POST("/v5/order/cancel-batch")
+    Call<BatchOrderResponse> cancelBatchOrder(@Body CancelBatchOrderRequest cancelBatchOrderRequest);
+}
@@ -0,0 +1,22 @@
+package com.bybit.api.client.restApi;
+
+import com.bybit.api.client.domain.GenericResponse;
+import com.bybit.api.client.domain.trade.request.TradeOrderRequest;
+import com.bybit.api.client.domain.trade.response.OrderEntry;
+import com.bybit.api.client.domain.trade.response.OrderResult;
+import com.bybit.api.client.pagination.CursorPaginator;
+
+import java.util.stream.Stream;
+
+/**
+ * Trade client returning typed responses, see {@link BybitApiTradeRestClient} for the untyped variant.
+ */
+public interface BybitApiTypedTradeRestClient {
+    // Trade
+    GenericResponse<OrderResult> getOpenOrders(TradeOrderRequest order);
+    GenericResponse<OrderResult> getOrderHistory(TradeOrderRequest orderHistoryRequest);
+
+    default Stream<OrderEntry> streamOrderHistory(TradeOrderRequest orderHistoryRequest) {
+        return CursorPaginator.stream(orderHistoryRequest::setCursor, () -> getOrderHistory(orderHistoryRequest), OrderResult::getOrderEntries, OrderResult::getNextPageCursor);
+    }
+}
@@ -2,6 +2,10 @@ package com.bybit.api.client.restApi;
 
 import com.bybit.api.client.domain.preupgrade.PreUpgradeDataRequest;
 import com.bybit.api.client.domain.user.UserDataRequest;
+import com.bybit.api.client.pagination.CursorPaginator;
+
+import java.util.Map;
+import java.util.stream.Stream;
 
 public interface BybitApiUserRestClient {
     // User Data
@@ -28,4 +32,28 @@ public interface BybitApiUserRestClient {
     Object getSubUIDListUnlimited(UserDataRequest subUserRequest);
     Object getSubUIDListUnlimited();
     Object getSubAccAllAPIKeyInfo(UserDataRequest subUserRequest);
+
+    default Stream<Map<String, Object>> streamPreUpgradeOrderHistory(PreUpgradeDataRequest preUpgradeOrderHistoryRequest) {
+        return CursorPaginator.stream(preUpgradeOrderHistoryRequest::setCursor, () -> getPreUpgradeOrderHistory(preUpgradeOrderHistoryRequest));
+    }
+
+    default Stream<Map<String, Object>> streamPreUpgradeTradeHistory(PreUpgradeDataRequest preUpgradeTradeHistoryRequest) {
+        return CursorPaginator.stream(preUpgradeTradeHistoryRequest::setCursor, () -> getPreUpgradeTradeHistory(preUpgradeTradeHistoryRequest));
+    }
+
+    default Stream<Map<String, Object>> streamPreUpgradeClosePnl(PreUpgradeDataRequest preUpgradeClosePnlRequest) {
+        return CursorPaginator.stream(preUpgradeClosePnlRequest::setCursor, () -> getPreUpgradeClosePnl(preUpgradeClosePnlRequest));
+    }
+
+    default Stream<Map<String, Object>> streamPreUpgradeTransaction(PreUpgradeDataRequest preUpgradeTransactionRequest) {
+        return CursorPaginator.stream(preUpgradeTransactionRequest::setCursor, () -> getPreUpgradeTransaction(preUpgradeTransactionRequest));
+    }
+
+    default Stream<Map<String, Object>> streamPreUpgradeOptionDelivery(PreUpgradeDataRequest preUpgradeOptionDeliveryRequest) {
+        return CursorPaginator.stream(preUpgradeOptionDeliveryRequest::setCursor, () -> getPreUpgradeOptionDelivery(preUpgradeOptionDeliveryRequest));
+    }
+
+    default Stream<Map<String, Object>> streamPreUpgradeUsdcSettlement(PreUpgradeDataRequest preUpgradeUsdcSettlementRequest) {
+        return CursorPaginator.stream(preUpgradeUsdcSettlementRequest::setCursor, () -> getPreUpgradeUsdcSettlement(preUpgradeUsdcSettlementRequest));
+    }
 }
@@ -8,11 +8,8 @@ import org.apache.commons.lang3.StringUtils;
 import org.jetbrains.annotations.NotNull;
 
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
 import java.util.*;
 
-import static com.bybit.api.client.security.HmacSHA256Signer.sign;
-
 /**
  * A request interceptor that injects the API Key Header into requests, and signs messages, whenever required.
  */
@@ -26,47 +23,55 @@ public class AuthenticationInterceptor implements Interceptor {
 
     private final String referer;
 
+    private final HmacSHA256Signer signer;
+
     public AuthenticationInterceptor(String apiKey, String secret, Long recvWindow, String referer) {
         this.apiKey = apiKey;
         this.secret = secret;
         this.recvWindow = recvWindow;
         this.referer = referer;
+        this.signer = secret == null ? null : HmacSHA256Signer.forSecret(secret);
     }
 
     @NotNull
     @Override
     public Response intercept(Chain chain) throws IOException {
         Request original = chain.request();
-        Request.Builder newRequestBuilder = original.newBuilder();
-
         boolean isSignatureRequired = original.header(BybitApiConstants.SIGN_TYPE_HEADER) != null;
-
-        // Endpoint requires signing the payload
-        String payload = "";
-        if ("GET".equals(original.method())) {
-            payload = original.url().encodedQuery(); // extract query params
-            newRequestBuilder.get();
-        }else if ("POST".equals(original.method()) && original.body() != null) {
-            Buffer buffer = new Buffer();
-            original.body().writeTo(buffer);
-            payload = buffer.readString(StandardCharsets.UTF_8);
-            MediaType mediaType = MediaType.parse("application/json; charset=utf-8");
-            RequestBody body = RequestBody.create(payload, mediaType);
-            newRequestBuilder.post(body);
+        // unsigned requests are sent as built by retrofit
+        if (!isSignatureRequired) {
+            return chain.proceed(original);
         }
+        Request.Builder newRequestBuilder = original.newBuilder();
 
-        if (isSignatureRequired) {
-            long timestamp = Helper.generateTimestamp();
-            String signature = sign(apiKey, secret, StringUtils.isEmpty(payload) ? ""  : payload, String.valueOf(timestamp), String.valueOf(recvWindow));
-            newRequestBuilder.addHeader(BybitApiConstants.API_KEY_HEADER, apiKey);
-            newRequestBuilder.addHeader(BybitApiConstants.SIGN_HEADER, signature);
-            newRequestBuilder.addHeader(BybitApiConstants.TIMESTAMP_HEADER, String.valueOf(timestamp));
-            newRequestBuilder.addHeader(BybitApiConstants.RECV_WINDOW_HEADER, String.valueOf(recvWindow));
-            newRequestBuilder.addHeader(BybitApiConstants.API_CONTENT_TYPE, BybitApiConstants.DEFAULT_CONTENT_TYPE);
-            newRequestBuilder.addHeader(BybitApiConstants.USER_AGENT_HEADER, BybitApiConstants.AGENT_NAME + "/" + BybitApiConstants.VERSION);
-            newRequestBuilder.addHeader(BybitApiConstants.CONNECTION_HEADER, BybitApiConstants.KEEP_ALIVE);
-            if(StringUtils.isNotEmpty(referer))newRequestBuilder.addHeader(BybitApiConstants.BROKER_HEADER, referer);
+        // Endpoint requires signing the payload
+        long timestamp = Helper.generateTimestamp();
+        String signature;
+        RequestBody body = original.body();
+        if ("POST".equals(original.method()) && body != null) {
+            // bodies from the converter are signed as is, others are buffered once and sent from the same bytes
+            byte[] payload;
+            if (body instanceof SignableRequestBody) {
+                payload = ((SignableRequestBody) body).getPayload();
+            } else {
+                Buffer buffer = new Buffer();
+                body.writeTo(buffer);
+                payload = buffer.readByteArray();
+                newRequestBuilder.post(new SignableRequestBody(payload));
+            }
+            signature = signer.sign(apiKey, timestamp, recvWindow, payload);
+        } else {
+            String payload = "GET".equals(original.method()) ? original.url().encodedQuery() : null; // extract query params
+            signature = signer.sign(apiKey, timestamp, recvWindow, StringUtils.isEmpty(payload) ? "" : payload);
         }
+        newRequestBuilder.addHeader(BybitApiConstants.API_KEY_HEADER, apiKey);
+        newRequestBuilder.addHeader(BybitApiConstants.SIGN_HEADER, signature);
+        newRequestBuilder.addHeader(BybitApiConstants.TIMESTAMP_HEADER, String.valueOf(timestamp));
+        newRequestBuilder.addHeader(BybitApiConstants.RECV_WINDOW_HEADER, String.valueOf(recvWindow));
+        newRequestBuilder.addHeader(BybitApiConstants.API_CONTENT_TYPE, BybitApiConstants.DEFAULT_CONTENT_TYPE);
+        newRequestBuilder.addHeader(BybitApiConstants.USER_AGENT_HEADER, BybitApiConstants.AGENT_NAME + "/" + BybitApiConstants.VERSION);
+        newRequestBuilder.addHeader(BybitApiConstants.CONNECTION_HEADER, BybitApiConstants.KEEP_ALIVE);
+        if(StringUtils.isNotEmpty(referer))newRequestBuilder.addHeader(BybitApiConstants.BROKER_HEADER, referer);
         Request newRequest = newRequestBuilder.build();
         return chain.proceed(newRequest);
     }
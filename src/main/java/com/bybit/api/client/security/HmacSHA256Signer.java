@@ -1,25 +1,67 @@
 package com.bybit.api.client.security;
 
-import org.apache.commons.codec.binary.Hex;
-
 import javax.crypto.Mac;
 import javax.crypto.spec.SecretKeySpec;
 import java.nio.charset.StandardCharsets;
-import java.security.InvalidKeyException;
-import java.security.NoSuchAlgorithmException;
+import java.security.GeneralSecurityException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import com.bybit.api.client.util.ParameterChecker;
-import org.jetbrains.annotations.NotNull;
 
 /**
  * Utility class to sign messages using HMAC-SHA256.
+ * <p>
+ * A signer keeps a pool of initialized {@link Mac}s, cloned from a prototype keyed once with the secret,
+ * along with the buffers the message is encoded into, so that signing does not look up providers, derive keys
+ * or build intermediate strings. The pool is shared by every thread rather than kept per thread, so requests
+ * running on a new virtual thread each reuse them as well. The signers of the most recently used secrets are cached, see {@link #forSecret(String)}.
  */
 public class HmacSHA256Signer implements SignatureGenerator {
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+    // a few credential sets are in use at a time, secrets rotated out are dropped with their Mac
+    private static final int MAX_CACHED_SIGNERS = 16;
+    // enough for the requests signed at the same time, more are created on demand and dropped after use
+    private static final int MAX_POOLED_STATES = 64;
+    private static final Map<String, HmacSHA256Signer> signers = Collections.synchronizedMap(
+            new LinkedHashMap<String, HmacSHA256Signer>(MAX_CACHED_SIGNERS, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, HmacSHA256Signer> eldest) {
+                    return size() > MAX_CACHED_SIGNERS;
+                }
+            });
 
     private final String apiSecret;
+    private final Mac prototype;
+    private final ConcurrentLinkedDeque<State> states = new ConcurrentLinkedDeque<>();
+    private final AtomicInteger pooledStates = new AtomicInteger();
 
     public HmacSHA256Signer(String apiSecret) {
         ParameterChecker.checkParameterType(apiSecret, String.class, "apiSecret");
         this.apiSecret = apiSecret;
+        try {
+            this.prototype = Mac.getInstance(ALGORITHM);
+            prototype.init(new SecretKeySpec(apiSecret.getBytes(StandardCharsets.UTF_8), ALGORITHM));
+        } catch (GeneralSecurityException e) {
+            throw new RuntimeException("Failed to initialize hmac-sha256", e);
+        }
+    }
+
+    /**
+     * Returns the signer of a secret, created on first use and shared while it is among the most recently used.
+     * Clients keep the signer they were created with, so an evicted signer stays valid.
+     *
+     * @param apiSecret api secret
+     * @return the signer
+     */
+    public static HmacSHA256Signer forSecret(String apiSecret) {
+        ParameterChecker.checkParameterType(apiSecret, String.class, "apiSecret");
+        return signers.computeIfAbsent(apiSecret, HmacSHA256Signer::new);
     }
 
     /**
@@ -33,38 +75,160 @@ public class HmacSHA256Signer implements SignatureGenerator {
      * @return a signed message
      */
     public static String sign(String apiKey, String apiSecret, String payload, String timestamp, String recvWindow) {
-        try {
-            String message = timestamp + apiKey + recvWindow + payload;
-            Mac sha256_HMAC = Mac.getInstance("HmacSHA256");
-            SecretKeySpec secretKeySpec = new SecretKeySpec(apiSecret.getBytes(StandardCharsets.UTF_8), "HmacSHA256");
-            sha256_HMAC.init(secretKeySpec);
-            byte[] hash = sha256_HMAC.doFinal(message.getBytes(StandardCharsets.UTF_8));
-            return Hex.encodeHexString(hash);
-        } catch (NoSuchAlgorithmException | InvalidKeyException e) {
-            throw new RuntimeException(e);
-        }
+        HmacSHA256Signer signer = forSecret(apiSecret);
+        State current = signer.acquire();
+        current.append(timestamp).append(apiKey).append(recvWindow).append(payload);
+        return signer.release(current, current.doFinal());
+    }
+
+    /**
+     * Sign a REST request, the message is timestamp + api key + recv window + payload.
+     *
+     * @param apiKey     api key
+     * @param timestamp  current time in milliseconds
+     * @param recvWindow server receives window
+     * @param payload    query string or body of the request
+     * @return the hex encoded signature
+     */
+    public String sign(String apiKey, long timestamp, long recvWindow, String payload) {
+        State current = acquire();
+        current.append(timestamp).append(apiKey).append(recvWindow).append(payload);
+        return release(current, current.doFinal());
     }
 
 
+    /**
+     * Sign a REST request whose body is already serialized, the body bytes are fed to the Mac without being decoded.
+     *
+     * @param apiKey     api key
+     * @param timestamp  current time in milliseconds
+     * @param recvWindow server receives window
+     * @param payload    UTF-8 body of the request
+     * @return the hex encoded signature
+     */
+    public String sign(String apiKey, long timestamp, long recvWindow, byte[] payload) {
+        State current = acquire();
+        current.append(timestamp).append(apiKey).append(recvWindow);
+        current.mac.update(current.buffer, 0, current.length);
+        current.length = 0;
+        current.mac.update(payload);
+        return release(current, current.doFinal());
+    }
+
     public String auth(String data) {
-        return getSignatureString(data, apiSecret);
+        State current = acquire();
+        current.append(data);
+        return release(current, current.doFinal());
     }
 
-    @NotNull
-    private static String getSignatureString(String data, String apiSecret) {
-        byte[] hmacSha256;
-        try {
-            SecretKeySpec secretKeySpec = new SecretKeySpec(apiSecret.getBytes(), "HmacSHA256");
-            Mac mac = Mac.getInstance("HmacSHA256");
-            mac.init(secretKeySpec);
-            hmacSha256 = mac.doFinal(data.getBytes());
-        } catch (Exception e) {
-            throw new RuntimeException("Failed to calculate hmac-sha256", e);
+    public static String getSignature(String data, String secret) {
+        return forSecret(secret).auth(data);
+    }
+
+    private State acquire() {
+        State current = states.pollFirst();
+        if (current == null) {
+            return new State(newMac());
         }
-        return Hex.encodeHexString(hmacSha256);
+        pooledStates.decrementAndGet();
+        current.length = 0;
+        return current;
     }
 
-    public static String getSignature(String data, String secret) {
-        return getSignatureString(data, secret);
+    /**
+     * Return a state to the pool once its signature is complete, a state whose signing failed is dropped with its Mac.
+     */
+    private String release(State current, String signature) {
+        if (pooledStates.incrementAndGet() <= MAX_POOLED_STATES) {
+            states.offerFirst(current);
+        } else {
+            pooledStates.decrementAndGet();
+        }
+        return signature;
+    }
+
+    private Mac newMac() {
+        synchronized (prototype) {
+            try {
+                return (Mac) prototype.clone();
+            } catch (CloneNotSupportedException e) {
+                // providers without clone support are keyed once per pooled state instead
+                try {
+                    Mac mac = Mac.getInstance(ALGORITHM);
+                    mac.init(new SecretKeySpec(apiSecret.getBytes(StandardCharsets.UTF_8), ALGORITHM));
+                    return mac;
+                } catch (GeneralSecurityException ex) {
+                    throw new RuntimeException("Failed to initialize hmac-sha256", ex);
+                }
+            }
+        }
+    }
+
+    /**
+     * Mac and buffers of one signature at a time, pooled between signatures.
+     */
+    private static final class State {
+        private final Mac mac;
+        private final char[] hex = new char[64];
+        private final char[] digits = new char[20];
+        private byte[] buffer = new byte[512];
+        private int length;
+
+        private State(Mac mac) {
+            this.mac = mac;
+        }
+
+        private State append(String value) {
+            if (value == null) {
+                return this;
+            }
+            int size = value.length();
+            ensureCapacity(size);
+            for (int i = 0; i < size; i++) {
+                char c = value.charAt(i);
+                if (c >= 0x80) {
+                    // not ascii, fall back to the charset encoder for the rest of the value
+                    byte[] encoded = value.substring(i).getBytes(StandardCharsets.UTF_8);
+                    ensureCapacity(encoded.length);
+                    System.arraycopy(encoded, 0, buffer, length, encoded.length);
+                    length += encoded.length;
+                    return this;
+                }
+                buffer[length++] = (byte) c;
+            }
+            return this;
+        }
+
+        private State append(long value) {
+            if (value < 0) {
+                return append(String.valueOf(value));
+            }
+            int position = digits.length;
+            do {
+                digits[--position] = (char) ('0' + value % 10);
+                value /= 10;
+            } while (value != 0);
+            ensureCapacity(digits.length - position);
+            while (position < digits.length) {
+                buffer[length++] = (byte) digits[position++];
+            }
+            return this;
+        }
+
+        private void ensureCapacity(int extra) {
+            if (length + extra > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length << 1, length + extra));
+            }
+        }
+
+        private String doFinal() {
+            mac.update(buffer, 0, length);
+            byte[] hash = mac.doFinal();
+            for (int i = 0; i < hash.length; i++) {
+                hex[i << 1] = HEX[(hash[i] >> 4) & 0x0f];
+                hex[(i << 1) + 1] = HEX[hash[i] & 0x0f];
+            }
+            return new String(hex);
+        }
     }
-}
\ No newline at end of file
+}
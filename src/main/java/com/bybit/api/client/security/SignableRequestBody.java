@@ -0,0 +1,50 @@
+package com.bybit.api.client.security;
+
+import okhttp3.MediaType;
+import okhttp3.RequestBody;
+import okio.BufferedSink;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+
+/**
+ * Request body backed by the serialized payload, so that {@link AuthenticationInterceptor} signs the exact bytes
+ * that are sent without writing the body to a buffer and creating a new one.
+ */
+public final class SignableRequestBody extends RequestBody {
+    public static final MediaType JSON_MEDIA_TYPE = MediaType.get("application/json; charset=utf-8");
+
+    private final byte[] payload;
+    private final MediaType contentType;
+
+    public SignableRequestBody(byte[] payload) {
+        this(payload, JSON_MEDIA_TYPE);
+    }
+
+    public SignableRequestBody(byte[] payload, MediaType contentType) {
+        this.payload = payload;
+        this.contentType = contentType;
+    }
+
+    /**
+     * @return the payload, not copied, callers must not modify it
+     */
+    public byte[] getPayload() {
+        return payload;
+    }
+
+    @Override
+    public MediaType contentType() {
+        return contentType;
+    }
+
+    @Override
+    public long contentLength() {
+        return payload.length;
+    }
+
+    @Override
+    public void writeTo(@NotNull BufferedSink sink) throws IOException {
+        sink.write(payload);
+    }
+}
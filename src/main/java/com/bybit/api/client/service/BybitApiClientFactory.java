@@ -1,12 +1,34 @@
 package com.bybit.api.client.service;
 
 
+import com.bybit.api.client.archive.KlineArchive;
+import com.bybit.api.client.batch.BatchOrderEngine;
+import com.bybit.api.client.batch.OrderCoalescer;
+import com.bybit.api.client.exception.BybitApiException;
+import com.bybit.api.client.instrument.InstrumentRegistry;
 import com.bybit.api.client.impl.*;
 import com.bybit.api.client.log.LogOption;
+import com.bybit.api.client.ratelimit.RateLimitPolicy;
+import com.bybit.api.client.ratelimit.RateLimiter;
 import com.bybit.api.client.restApi.*;
+import com.bybit.api.client.validation.PreTradeValidator;
+import com.bybit.api.client.websocket.callback.PublicStreamListener;
 import com.bybit.api.client.websocket.httpclient.WebsocketStreamClient;
+import com.bybit.api.client.websocket.impl.StreamingMessageDecoder;
+import com.bybit.api.client.websocket.impl.WebSocketStreamPool;
 import com.bybit.api.client.websocket.impl.WebsocketStreamClientImpl;
 import com.bybit.api.client.websocket.callback.WebSocketMessageCallback;
+import org.apache.commons.lang3.StringUtils;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 
 import static com.bybit.api.client.config.BybitApiConfig.MAINNET_DOMAIN;
 import static com.bybit.api.client.constant.BybitApiConstants.*;
@@ -51,6 +73,52 @@ public class BybitApiClientFactory {
      */
     private final String referer;
 
+    /**
+     * Executor running the callbacks and completing the futures of asynchronous clients, null for the OkHttp dispatcher threads
+     */
+    private final Executor completionExecutor;
+
+    /**
+     * Virtual thread mode of the REST clients
+     */
+    private final boolean virtualThreads;
+
+    /**
+     * Idle connections kept in the connection pool of the REST clients, 0 for the shared pool
+     */
+    private final int maxIdleConnections;
+
+    /**
+     * How long idle connections of the REST clients are kept alive
+     */
+    private final long keepAliveMillis;
+
+    /**
+     * Validator of the orders of the trade clients, null to send orders unchecked
+     */
+    private final PreTradeValidator validator;
+
+    /**
+     * REST services signing with the credentials of this factory by options, shared with the copies of this factory
+     * and dropped with them, so processes with many api keys keep every service of a key in use and none of a key given up
+     */
+    private final Map<List<Object>, Object> signedServices;
+
+    /**
+     * Most public REST services cached, the least recently used are dropped first
+     */
+    private static final int MAX_CACHED_PUBLIC_SERVICES = 64;
+
+    /**
+     * Public REST services by options, shared by every factory and client whatever their credentials
+     */
+    private static final Map<List<Object>, Object> publicServices = Collections.synchronizedMap(new LinkedHashMap<List<Object>, Object>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<List<Object>, Object> eldest) {
+            return size() > MAX_CACHED_PUBLIC_SERVICES;
+        }
+    });
+
     /**
      * Instantiates a new Bybit api client factory.
      *
@@ -60,6 +128,10 @@ public class BybitApiClientFactory {
      * @param debugMode debugMode
      */
     private BybitApiClientFactory(String apiKey, String secret, String baseUrl, boolean debugMode, long recvWindow, String logOption, String referer) {
+        this(apiKey, secret, baseUrl, debugMode, recvWindow, logOption, referer, null, false, 0, 0, null, new ConcurrentHashMap<>());
+    }
+
+    private BybitApiClientFactory(String apiKey, String secret, String baseUrl, boolean debugMode, long recvWindow, String logOption, String referer, Executor completionExecutor, boolean virtualThreads, int maxIdleConnections, long keepAliveMillis, PreTradeValidator validator, Map<List<Object>, Object> signedServices) {
         this.apiKey = apiKey;
         this.secret = secret;
         this.baseUrl = baseUrl;
@@ -67,6 +139,95 @@ public class BybitApiClientFactory {
         this.recvWindow = recvWindow;
         this.logOption = logOption;
         this.referer = referer;
+        this.completionExecutor = completionExecutor;
+        this.virtualThreads = virtualThreads;
+        this.maxIdleConnections = maxIdleConnections;
+        this.keepAliveMillis = keepAliveMillis;
+        this.validator = validator;
+        this.signedServices = signedServices;
+    }
+
+    /**
+     * Copy of this factory whose asynchronous clients run their callbacks and complete their futures on the given executor.
+     *
+     * @param completionExecutor executor, e.g. the event loop of the application
+     * @return the Bybit api client factory
+     */
+    public BybitApiClientFactory withCompletionExecutor(Executor completionExecutor) {
+        return new BybitApiClientFactory(apiKey, secret, baseUrl, debugMode, recvWindow, logOption, referer, completionExecutor, virtualThreads, maxIdleConnections, keepAliveMillis, validator, signedServices);
+    }
+
+    /**
+     * Limit the requests of every REST client signing with the API key of this factory, see {@link RateLimiter}.
+     *
+     * @param policy what happens to requests over budget
+     * @return the limiter, e.g. to read the remaining budgets
+     */
+    public RateLimiter enableRateLimiter(RateLimitPolicy policy) {
+        if (StringUtils.isEmpty(apiKey)) {
+            throw new BybitApiException("Rate limits apply per API key, the factory has none.");
+        }
+        RateLimiter limiter = new RateLimiter(policy, RateLimiter.DEFAULT_MAX_WAIT_MILLIS);
+        RateLimiter.register(apiKey, limiter);
+        return limiter;
+    }
+
+    /**
+     * Copy of this factory whose REST clients run in virtual thread mode: asynchronous calls run on a virtual thread each,
+     * on a dispatcher and connection pool sized for thousands of requests in flight. Synchronous calls still block the calling thread,
+     * call them from virtual threads, see {@link BybitApiExecutors}, or in bulk with {@link BybitApiServiceGenerator#executeAll}.
+     * Before JDK 21 platform threads are used instead.
+     *
+     * @return the Bybit api client factory
+     */
+    public BybitApiClientFactory withVirtualThreads() {
+        return new BybitApiClientFactory(apiKey, secret, baseUrl, debugMode, recvWindow, logOption, referer, completionExecutor, true, maxIdleConnections, keepAliveMillis, validator, signedServices);
+    }
+
+    /**
+     * Copy of this factory whose REST clients share a connection pool of the given size instead of the default one,
+     * e.g. to keep more connections warm for bursts of requests.
+     *
+     * @param maxIdleConnections idle connections kept in the pool
+     * @param keepAliveDuration  how long idle connections are kept alive
+     * @param timeUnit           unit of the keep alive duration
+     * @return the Bybit api client factory
+     */
+    public BybitApiClientFactory withConnectionPool(int maxIdleConnections, long keepAliveDuration, TimeUnit timeUnit) {
+        if (maxIdleConnections <= 0 || keepAliveDuration <= 0) {
+            throw new BybitApiException("Connection pool size and keep alive duration must be positive.");
+        }
+        return new BybitApiClientFactory(apiKey, secret, baseUrl, debugMode, recvWindow, logOption, referer, completionExecutor, virtualThreads, maxIdleConnections, timeUnit.toMillis(keepAliveDuration), validator, signedServices);
+    }
+
+    /**
+     * Copy of this factory whose trade clients, batch order engines and order coalescers check every order to place or amend
+     * with the validator before sending it, rejected orders throw a {@link com.bybit.api.client.validation.PreTradeValidationException}.
+     *
+     * @param validator validator backed by a loaded {@link com.bybit.api.client.instrument.InstrumentRegistry}
+     * @return the Bybit api client factory
+     */
+    public BybitApiClientFactory withPreTradeValidator(PreTradeValidator validator) {
+        return new BybitApiClientFactory(apiKey, secret, baseUrl, debugMode, recvWindow, logOption, referer, completionExecutor, virtualThreads, maxIdleConnections, keepAliveMillis, validator, signedServices);
+    }
+
+    /**
+     * Returns the service of this configuration, created once and reused by every client of the same configuration,
+     * so that clients share one OkHttpClient and one Retrofit instance.
+     *
+     * @param authenticated false for public endpoints, the service is then shared by every api key
+     * @param referer       broker referer code
+     * @param executor      callback executor of asynchronous clients, null for synchronous clients
+     */
+    @SuppressWarnings("unchecked")
+    private <S> S service(Class<S> serviceClass, boolean authenticated, String referer, Executor executor) {
+        String key = authenticated ? apiKey : null;
+        String keySecret = authenticated ? secret : null;
+        List<Object> serviceKey = Arrays.asList(serviceClass, baseUrl, debugMode, recvWindow, logOption, referer,
+                executor, virtualThreads, maxIdleConnections, keepAliveMillis);
+        Map<List<Object>, Object> services = authenticated ? signedServices : publicServices;
+        return (S) services.computeIfAbsent(serviceKey, ignored -> BybitApiServiceGenerator.createService(serviceClass, key, keySecret, baseUrl, debugMode, recvWindow, logOption, referer, executor,
+                BybitApiServiceGenerator.getBaseClient(virtualThreads, maxIdleConnections, keepAliveMillis)));
     }
 
     /**
@@ -236,138 +397,194 @@ public class BybitApiClientFactory {
      * Creates a new synchronous/blocking REST client to spot leverage token and spot margin endpoints.
      */
     public BybitApiSpotMarginRestClient newSpotMarginRestClient() {
-        return new BybitApiSpotMarginRestClientImpl(apiKey, secret, baseUrl, debugMode, recvWindow, logOption);
+        return new BybitApiSpotMarginRestClientImpl(service(BybitApiService.class, true, "", null));
     }
 
 
     public BybitApiAsyncSpotMarginRestClient newSpotMarginAsyncRestClient() {
-        return new BybitApiAsyncSpotMarginRestClientImpl(apiKey, secret, baseUrl, debugMode, recvWindow, logOption);
+        return new BybitApiAsyncSpotMarginRestClientImpl(service(BybitApiService.class, true, "", completionExecutor));
     }
 
     /**
      * Creates a new synchronous/blocking REST client.
      */
     public BybitApiUserRestClient newUserRestClient() {
-        return new BybitApiUserRestClientImpl(apiKey, secret, baseUrl, debugMode, recvWindow, logOption);
+        return new BybitApiUserRestClientImpl(service(BybitApiService.class, true, "", null));
     }
 
     /**
      * Creates a new asynchronous/non-blocking REST client to User and upgrade endpoints.
      */
     public BybitApiAsyncUserRestClient newAsyncUserRestClient() {
-        return new BybitApiAsyncUserRestClientImpl(apiKey, secret, baseUrl, debugMode, recvWindow, logOption);
+        return new BybitApiAsyncUserRestClientImpl(service(BybitApiService.class, true, "", completionExecutor));
     }
 
     /**
      * Creates a new synchronous/blocking REST client to Market Data Endpoints
      */
     public BybitApiMarketRestClient newMarketDataRestClient() {
-        return new BybitApiMarketRestClientImpl(baseUrl, debugMode, recvWindow, logOption);
+        return new BybitApiMarketRestClientImpl(service(BybitApiService.class, false, "", null));
+    }
+
+    /**
+     * Creates a kline archive stored under the directory, downloading missing klines with the market data client
+     */
+    public KlineArchive newKlineArchive(Path directory) {
+        return new KlineArchive(newMarketDataRestClient(), directory);
     }
 
     /**
      * Creates a new asynchronous/non-blocking client to Market Data Endpoints
      */
     public BybitApiAsyncMarketDataRestClient newAsyncMarketDataRestClient() {
-        return new BybitApiMarketAsyncRestClientImpl(baseUrl, debugMode, recvWindow, logOption);
+        return new BybitApiMarketAsyncRestClientImpl(service(BybitApiService.class, false, "", completionExecutor));
+    }
+
+    /**
+     * Creates a new synchronous/blocking REST client to Market Data Endpoints decoding typed responses
+     */
+    public BybitApiTypedMarketRestClient newTypedMarketDataRestClient() {
+        return new BybitApiTypedMarketRestClientImpl(service(BybitApiTypedService.class, false, "", null));
+    }
+
+    /**
+     * Creates an instrument registry loading the instruments of every category with the typed market data client, call {@link InstrumentRegistry#load()} before use
+     */
+    public InstrumentRegistry newInstrumentRegistry() {
+        return new InstrumentRegistry(newTypedMarketDataRestClient());
     }
 
     /**
      * Creates a new synchronous/blocking REST client to Institution and Broker Endpoints
      */
     public BybitApiLendingRestClient newLendingRestClient() {
-        return new BybitApiLendingRestClientImpl(apiKey, secret, baseUrl, debugMode, recvWindow, logOption);
+        return new BybitApiLendingRestClientImpl(service(BybitApiService.class, true, "", null));
     }
 
     /**
      * Creates a new asynchronous/non-blocking REST client to Institution Lending Endpoints
      */
     public BybitApiAsyncLendingRestClient newAsyncLendingRestClient() {
-        return new BybitApiAsyncLendingRestClientImpl(apiKey, secret, baseUrl, debugMode, recvWindow, logOption);
+        return new BybitApiAsyncLendingRestClientImpl(service(BybitApiService.class, true, "", completionExecutor));
     }
 
     /**
      * Creates a new synchronous/blocking REST client to trading
      */
     public BybitApiTradeRestClient newTradeRestClient() {
-        return new BybitApiTradeRestClientImpl(apiKey, secret, baseUrl, debugMode, recvWindow, logOption, referer);
+        return new BybitApiTradeRestClientImpl(service(BybitApiService.class, true, referer, null), validator);
+    }
+
+    /**
+     * Creates a new synchronous/blocking REST client to trading decoding typed responses
+     */
+    public BybitApiTypedTradeRestClient newTypedTradeRestClient() {
+        return new BybitApiTypedTradeRestClientImpl(service(BybitApiTypedService.class, true, referer, null));
+    }
+
+    /**
+     * Creates a batch order engine sending order lists of any size through the batch endpoints
+     */
+    public BatchOrderEngine newBatchOrderEngine() {
+        return new BatchOrderEngine(service(BybitApiTypedService.class, true, referer, null), BatchOrderEngine.DEFAULT_MAX_CONCURRENT_BATCHES, validator);
+    }
+
+    /**
+     * Creates a batch order engine sending at most {@code maxConcurrentBatches} batches at a time
+     */
+    public BatchOrderEngine newBatchOrderEngine(int maxConcurrentBatches) {
+        return new BatchOrderEngine(service(BybitApiTypedService.class, true, referer, null), maxConcurrentBatches, validator);
+    }
+
+    /**
+     * Creates an order coalescer sending the orders placed within {@link OrderCoalescer#DEFAULT_WINDOW_MICROS} as one batch
+     */
+    public OrderCoalescer newOrderCoalescer() {
+        return new OrderCoalescer(service(BybitApiTypedService.class, true, referer, null), OrderCoalescer.DEFAULT_WINDOW_MICROS, TimeUnit.MICROSECONDS, validator);
+    }
+
+    /**
+     * Creates an order coalescer sending the orders placed within the window as one batch
+     */
+    public OrderCoalescer newOrderCoalescer(long window, TimeUnit unit) {
+        return new OrderCoalescer(service(BybitApiTypedService.class, true, referer, null), window, unit, validator);
     }
 
     /**
      * Creates a new asynchronous/non-blocking REST client to trading
      */
     public BybitApiAsyncTradeRestClient newAsyncTradeRestClient() {
-        return new BybitApiTradeAsyncRestClientImpl(apiKey, secret, baseUrl, debugMode, recvWindow, logOption, referer);
+        return new BybitApiTradeAsyncRestClientImpl(service(BybitApiService.class, true, referer, completionExecutor), validator);
     }
 
     /**
      * Creates a new synchronous/blocking REST client to position data
      */
     public BybitApiPositionRestClient newPositionRestClient() {
-        return new BybitApiPositionRestClientImpl(apiKey, secret, baseUrl, debugMode, recvWindow, logOption);
+        return new BybitApiPositionRestClientImpl(service(BybitApiService.class, true, "", null));
     }
 
     /**
      * Creates a new asynchronous/non-blocking client to position data
      */
     public BybitApiAsyncPositionRestClient newAsyncPositionRestClient() {
-        return new BybitApiAsyncPositionRestClientImpl(apiKey, secret, baseUrl, debugMode, recvWindow, logOption);
+        return new BybitApiAsyncPositionRestClientImpl(service(BybitApiService.class, true, "", completionExecutor));
     }
 
     /**
      * Creates a new synchronous/blocking REST client to Account data
      */
     public BybitApiAccountRestClient newAccountRestClient() {
-        return new BybitApiAccountRestClientImpl(apiKey, secret, baseUrl, debugMode, recvWindow, logOption);
+        return new BybitApiAccountRestClientImpl(service(BybitApiService.class, true, "", null));
     }
 
     /**
      * Creates a new asynchronous/non-blocking client to Account data
      */
     public BybitApiAsyncAccountRestClient newAsyncAccountRestClient() {
-        return new BybitApiAsyncAccountRestClientImpl(apiKey, secret, baseUrl, debugMode, recvWindow, logOption);
+        return new BybitApiAsyncAccountRestClientImpl(service(BybitApiService.class, true, "", completionExecutor));
     }
 
     /**
      * Creates a new synchronous/blocking REST client to Asset data
      */
     public BybitApiAssetRestClient newAssetRestClient() {
-        return new BybitApiAssetRestClientImpl(apiKey, secret, baseUrl, debugMode, recvWindow, logOption);
+        return new BybitApiAssetRestClientImpl(service(BybitApiService.class, true, "", null));
     }
 
     /**
      * Creates a new asynchronous/non-blocking client to Asset data
      */
     public BybitApiAsyncAssetRestClient newAsyncAssetRestClient() {
-        return new BybitApiAsyncAssetRestClientImpl(apiKey, secret, baseUrl, debugMode, recvWindow, logOption);
+        return new BybitApiAsyncAssetRestClientImpl(service(BybitApiService.class, true, "", completionExecutor));
     }
 
     /**
      * Creates a new synchronous/blocking REST client to Broker earning data
      */
     public BybitApiBrokerRestClient newBrokerRestClient() {
-        return new BybitApBrokerRestClientImpl(apiKey, secret, baseUrl, debugMode, recvWindow, logOption);
+        return new BybitApBrokerRestClientImpl(service(BybitApiService.class, true, "", null));
     }
 
     /**
      * Creates a new asynchronous/non-blocking client to Broker earning data
      */
     public BybitApiAsyncBrokerRestClient newAsyncBrokerRestClient() {
-        return new BybitApiAsyncBrokerRestClientImpl(apiKey, secret, baseUrl, debugMode, recvWindow, logOption);
+        return new BybitApiAsyncBrokerRestClientImpl(service(BybitApiService.class, true, "", completionExecutor));
     }
 
     /**
      * Creates a new synchronous/blocking REST client to Crypto Loan data
      */
     public BybitApiLoanRestClient newCryptoLoanRestClient() {
-        return new BybitApiLoanRestClientImpl(apiKey, secret, baseUrl, debugMode, recvWindow, logOption);
+        return new BybitApiLoanRestClientImpl(service(BybitApiService.class, true, "", null));
     }
 
     /**
      * Creates a new asynchronous/non-blocking client to Crypto Loan data
      */
     public BybitApiAsyncLoanRestClient newAsyncCryptoLoanRestClient() {
-        return new BybitApiAsyncLoanRestClientImpl(apiKey, secret, baseUrl, debugMode, recvWindow, logOption);
+        return new BybitApiAsyncLoanRestClientImpl(service(BybitApiService.class, true, "", completionExecutor));
     }
 
     /**
@@ -403,4 +620,18 @@ public class BybitApiClientFactory {
     public WebsocketStreamClient newWebsocketClient(int pingInterval, String maxAliveTime, WebSocketMessageCallback messageHandler) {
         return new WebsocketStreamClientImpl(apiKey, secret, baseUrl, pingInterval, maxAliveTime, debugMode, logOption, messageHandler);
     }
+
+    /**
+     * Access to public websocket in streaming decode mode, publicTrade, tickers and kline frames are decoded into pooled typed events
+     */
+    public WebsocketStreamClient newStreamingWebsocketClient(PublicStreamListener listener) {
+        return new WebsocketStreamClientImpl(apiKey, secret, baseUrl, DEFAULT_PING_INTERVAL, DEFAULT_MAX_ALIVE_TIME, debugMode, logOption, new StreamingMessageDecoder(listener));
+    }
+
+    /**
+     * Pool of public websocket connections sharding topics by a per connection budget, all connections share the message handler
+     */
+    public WebSocketStreamPool newWebSocketStreamPool(int topicsPerConnection, WebSocketMessageCallback messageHandler) {
+        return new WebSocketStreamPool(() -> newWebsocketClient(messageHandler), topicsPerConnection);
+    }
 }
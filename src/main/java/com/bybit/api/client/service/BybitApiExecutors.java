@@ -0,0 +1,53 @@
+package com.bybit.api.client.service;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Executors running blocking REST calls.
+ * On JDK 21+ every task gets its own virtual thread, so thousands of calls can wait on the network without a thread pool to tune.
+ * The library targets Java 11, the virtual thread executor is looked up reflectively and older JDKs fall back to a cached pool of daemon threads.
+ */
+public final class BybitApiExecutors {
+    private static final String THREAD_REQUEST = "bybit-rest-";
+    private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+    private static final Method VIRTUAL_THREAD_PER_TASK = findVirtualThreadPerTask();
+
+    private BybitApiExecutors() {
+    }
+
+    /**
+     * @return true when the running JDK supports virtual threads
+     */
+    public static boolean isVirtualThreadsSupported() {
+        return VIRTUAL_THREAD_PER_TASK != null;
+    }
+
+    /**
+     * @return an executor starting a virtual thread per task, or a cached pool of daemon threads before JDK 21
+     */
+    public static ExecutorService newVirtualThreadPerTaskExecutor() {
+        if (VIRTUAL_THREAD_PER_TASK != null) {
+            try {
+                return (ExecutorService) VIRTUAL_THREAD_PER_TASK.invoke(null);
+            } catch (ReflectiveOperationException ignored) {
+                // fall back to platform threads
+            }
+        }
+        return Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, THREAD_REQUEST + THREAD_COUNT.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    private static Method findVirtualThreadPerTask() {
+        try {
+            return Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+}
@@ -1,10 +1,14 @@
 package com.bybit.api.client.service;
 
+import com.bybit.api.client.impl.BybitApiCallbackAdapter;
+import com.bybit.api.client.restApi.BybitApiFutureCallback;
 import com.bybit.api.client.restApi.BybitApiService;
 import com.bybit.api.client.exception.BybitApiError;
 import com.bybit.api.client.exception.BybitApiException;
+import com.bybit.api.client.ratelimit.RateLimitInterceptor;
 import com.bybit.api.client.security.AuthenticationInterceptor;
 import lombok.Getter;
+import okhttp3.ConnectionPool;
 import okhttp3.Dispatcher;
 import okhttp3.OkHttpClient;
 import okhttp3.ResponseBody;
@@ -14,10 +18,17 @@ import retrofit2.Call;
 import retrofit2.Converter;
 import retrofit2.Response;
 import retrofit2.Retrofit;
-import retrofit2.converter.jackson.JacksonConverterFactory;
 
 import java.io.IOException;
 import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
 
 import static com.bybit.api.client.log.Slf4jLoggingInterceptor.HandleLoggingInterceptor;
@@ -32,7 +43,8 @@ public class BybitApiServiceGenerator {
      */
     @Getter
     private static final OkHttpClient sharedClient;
-    private static final Converter.Factory converterFactory = JacksonConverterFactory.create();
+    private static final Converter.Factory converterFactory = BybitConverterFactory.create();
+    private static final Map<String, OkHttpClient> pooledClients = new ConcurrentHashMap<>();
 
     static {
         Dispatcher dispatcher = new Dispatcher();
@@ -44,6 +56,28 @@ public class BybitApiServiceGenerator {
                 .build();
     }
 
+    /**
+     * Client of the virtual thread mode, created on first use.
+     * Its dispatcher runs calls on virtual threads with limits sized for thousands of requests in flight,
+     * and its connection pool keeps enough idle connections for them to be reused.
+     */
+    private static final class VirtualThreadClientHolder {
+        private static final int MAX_REQUESTS = 10_000;
+        private static final int MAX_IDLE_CONNECTIONS = 256;
+        private static final ExecutorService executor = BybitApiExecutors.newVirtualThreadPerTaskExecutor();
+        private static final OkHttpClient client;
+
+        static {
+            Dispatcher dispatcher = new Dispatcher(executor);
+            dispatcher.setMaxRequestsPerHost(MAX_REQUESTS);
+            dispatcher.setMaxRequests(MAX_REQUESTS);
+            client = sharedClient.newBuilder()
+                    .dispatcher(dispatcher)
+                    .connectionPool(new ConnectionPool(MAX_IDLE_CONNECTIONS, 5, TimeUnit.MINUTES))
+                    .build();
+        }
+    }
+
 
     @SuppressWarnings("unchecked")
     @Nullable
@@ -68,11 +102,42 @@ public class BybitApiServiceGenerator {
      * @return a new implementation of the API endpoints for the Bybit API service.
      */
     public static <S> S createService(Class<S> serviceClass, String apiKey, String secret, String baseUrl, boolean debugMode, long recvWindow, String logOption, String referer) {
+        return createService(serviceClass, apiKey, secret, baseUrl, debugMode, recvWindow, logOption, referer, null);
+    }
+
+    /**
+     * Create a Bybit API service whose asynchronous callbacks run on the given executor.
+     *
+     * @param callbackExecutor executor running the callbacks of enqueued calls, null to run them on the OkHttp dispatcher threads.
+     */
+    public static <S> S createService(Class<S> serviceClass, String apiKey, String secret, String baseUrl, boolean debugMode, long recvWindow, String logOption, String referer, Executor callbackExecutor) {
+        return createService(serviceClass, apiKey, secret, baseUrl, debugMode, recvWindow, logOption, referer, callbackExecutor, false);
+    }
+
+    /**
+     * Create a Bybit API service, optionally in virtual thread mode.
+     *
+     * @param virtualThreads true to run enqueued calls on virtual threads, see {@link BybitApiExecutors}.
+     */
+    public static <S> S createService(Class<S> serviceClass, String apiKey, String secret, String baseUrl, boolean debugMode, long recvWindow, String logOption, String referer, Executor callbackExecutor, boolean virtualThreads) {
+        return createService(serviceClass, apiKey, secret, baseUrl, debugMode, recvWindow, logOption, referer, callbackExecutor, getBaseClient(virtualThreads, 0, 0));
+    }
+
+    /**
+     * Create a Bybit API service on top of a base client, whose dispatcher and connection pool it shares.
+     *
+     * @param baseClient client to derive the client of the service from, see {@link #getBaseClient(boolean, int, long)}.
+     */
+    public static <S> S createService(Class<S> serviceClass, String apiKey, String secret, String baseUrl, boolean debugMode, long recvWindow, String logOption, String referer, Executor callbackExecutor, OkHttpClient baseClient) {
         Retrofit.Builder retrofitBuilder = new Retrofit.Builder()
                 .baseUrl(baseUrl)
                 .addConverterFactory(converterFactory);
-        OkHttpClient.Builder clientBuilder = sharedClient.newBuilder();
+        if (callbackExecutor != null) {
+            retrofitBuilder.callbackExecutor(callbackExecutor);
+        }
+        OkHttpClient.Builder clientBuilder = baseClient.newBuilder();
         if (!StringUtils.isEmpty(apiKey) && !StringUtils.isEmpty(secret)) {
+            clientBuilder.addInterceptor(new RateLimitInterceptor(apiKey));
             AuthenticationInterceptor interceptor = new AuthenticationInterceptor(apiKey, secret, recvWindow, referer);
             clientBuilder.addInterceptor(interceptor);
         }
@@ -85,10 +150,29 @@ public class BybitApiServiceGenerator {
     }
 
 
+    /**
+     * Returns the client services are derived from.
+     *
+     * @param virtualThreads     true for the client of the virtual thread mode
+     * @param maxIdleConnections idle connections kept in the pool, 0 for the default pool
+     * @param keepAliveMillis    how long idle connections are kept
+     * @return the shared client, or a client with its own pool shared by every caller using the same settings
+     */
+    public static OkHttpClient getBaseClient(boolean virtualThreads, int maxIdleConnections, long keepAliveMillis) {
+        OkHttpClient client = virtualThreads ? VirtualThreadClientHolder.client : sharedClient;
+        if (maxIdleConnections <= 0) {
+            return client;
+        }
+        String key = virtualThreads + ":" + maxIdleConnections + ":" + keepAliveMillis;
+        return pooledClients.computeIfAbsent(key, ignored -> client.newBuilder()
+                .connectionPool(new ConnectionPool(maxIdleConnections, keepAliveMillis, TimeUnit.MILLISECONDS))
+                .build());
+    }
+
     /**
      * Execute a REST call and block until the response is received.
      */
-    public static <T> Object executeSync(Call<T> call) {
+    public static <T> T executeSync(Call<T> call) {
         try {
             var response = call.execute();
             if (response.isSuccessful()) {
@@ -102,6 +186,71 @@ public class BybitApiServiceGenerator {
         }
     }
 
+    /**
+     * Execute a REST call without blocking.
+     * The future completes on the callback executor of the service and cancelling it cancels the call.
+     */
+    public static <T> CompletableFuture<T> executeAsync(Call<T> call) {
+        BybitApiFutureCallback<T> callback = new BybitApiFutureCallback<>();
+        CompletableFuture<T> future = callback.getFuture();
+        future.whenComplete((result, cause) -> {
+            if (future.isCancelled()) {
+                call.cancel();
+            }
+        });
+        call.enqueue(new BybitApiCallbackAdapter<>(callback));
+        return future;
+    }
+
+    /**
+     * Execute REST calls concurrently, one virtual thread per call, and block until all of them completed.
+     * Before JDK 21 the calls run on a cached pool of daemon threads.
+     *
+     * @return the responses, in the order of the calls
+     * @throws BybitApiException the first failure, failures of later calls are added as suppressed exceptions
+     */
+    public static <T> List<T> executeAll(List<? extends Call<T>> calls) {
+        return executeAll(calls, VirtualThreadClientHolder.executor);
+    }
+
+    /**
+     * Execute REST calls concurrently on the given executor and block until all of them completed.
+     *
+     * @return the responses, in the order of the calls
+     * @throws BybitApiException the first failure, failures of later calls are added as suppressed exceptions
+     */
+    public static <T> List<T> executeAll(List<? extends Call<T>> calls, Executor executor) {
+        List<CompletableFuture<T>> futures = new ArrayList<>(calls.size());
+        for (Call<T> call : calls) {
+            futures.add(CompletableFuture.supplyAsync(() -> executeSync(call), executor));
+        }
+        List<T> results = new ArrayList<>(calls.size());
+        BybitApiException failure = null;
+        for (CompletableFuture<T> future : futures) {
+            try {
+                results.add(future.get());
+            } catch (ExecutionException e) {
+                BybitApiException cause = e.getCause() instanceof BybitApiException ? (BybitApiException) e.getCause() : new BybitApiException(e.getCause());
+                if (failure == null) {
+                    failure = cause;
+                } else {
+                    failure.addSuppressed(cause);
+                }
+                results.add(null);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                for (Call<T> call : calls) {
+                    call.cancel();
+                }
+                throw new BybitApiException(e);
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+        return results;
+    }
+
     /**
      * Extracts and converts the response error body into an object.
      */
@@ -0,0 +1,84 @@
+package com.bybit.api.client.service;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.bybit.api.client.security.SignableRequestBody;
+import okhttp3.RequestBody;
+import okhttp3.ResponseBody;
+import org.jetbrains.annotations.NotNull;
+import retrofit2.Converter;
+import retrofit2.Retrofit;
+
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+
+/**
+ * Jackson converter decoding responses straight from the body byte stream.
+ * Jackson's UTF-8 parser reads the bytes directly instead of going through a decoded character stream,
+ * and typed responses such as {@code GenericResponse<TickersResult>} are bound without an intermediate map tree.
+ * Request bodies are serialized once into a {@link SignableRequestBody}, which is signed and sent as is.
+ * <p>
+ * The exchange adds fields to its responses over time, so unknown properties are ignored rather than failing the call.
+ */
+public final class BybitConverterFactory extends Converter.Factory {
+    private final ObjectMapper mapper;
+
+    private BybitConverterFactory(ObjectMapper mapper) {
+        this.mapper = mapper;
+    }
+
+    public static BybitConverterFactory create() {
+        return create(new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false));
+    }
+
+    public static BybitConverterFactory create(ObjectMapper mapper) {
+        return new BybitConverterFactory(mapper);
+    }
+
+    @Override
+    public Converter<ResponseBody, ?> responseBodyConverter(@NotNull Type type, @NotNull Annotation[] annotations, @NotNull Retrofit retrofit) {
+        JavaType javaType = mapper.getTypeFactory().constructType(type);
+        ObjectReader reader = mapper.readerFor(javaType);
+        return new ByteStreamResponseConverter<>(reader);
+    }
+
+    @Override
+    public Converter<?, RequestBody> requestBodyConverter(@NotNull Type type, @NotNull Annotation[] parameterAnnotations,
+                                                          @NotNull Annotation[] methodAnnotations, @NotNull Retrofit retrofit) {
+        JavaType javaType = mapper.getTypeFactory().constructType(type);
+        ObjectWriter writer = mapper.writerFor(javaType);
+        return new ByteArrayRequestConverter<>(writer);
+    }
+
+    private static final class ByteArrayRequestConverter<T> implements Converter<T, RequestBody> {
+        private final ObjectWriter writer;
+
+        private ByteArrayRequestConverter(ObjectWriter writer) {
+            this.writer = writer;
+        }
+
+        @Override
+        public RequestBody convert(@NotNull T value) throws IOException {
+            return new SignableRequestBody(writer.writeValueAsBytes(value));
+        }
+    }
+
+    private static final class ByteStreamResponseConverter<T> implements Converter<ResponseBody, T> {
+        private final ObjectReader reader;
+
+        private ByteStreamResponseConverter(ObjectReader reader) {
+            this.reader = reader;
+        }
+
+        @Override
+        public T convert(@NotNull ResponseBody value) throws IOException {
+            try (value) {
+                return reader.readValue(value.byteStream());
+            }
+        }
+    }
+}
@@ -41,6 +41,7 @@ import com.bybit.api.client.domain.user.request.ModifyApiKeyRequest;
 import com.bybit.api.client.domain.user.request.UserSubMemberRequest;
 import com.bybit.api.client.exception.BybitApiException;
 import com.bybit.api.client.restApi.BybitApiService;
+import com.bybit.api.client.validation.PreTradeValidator;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.apache.commons.lang3.StringUtils;
@@ -57,6 +58,18 @@ import static com.bybit.api.client.constant.Helper.listToString;
 
 public class BybitJsonConverter {
     private final ObjectMapper mapper = new ObjectMapper();
+    private final PreTradeValidator validator;
+
+    public BybitJsonConverter() {
+        this(null);
+    }
+
+    /**
+     * @param validator validator of the orders to place and amend, null to send them unchecked
+     */
+    public BybitJsonConverter(PreTradeValidator validator) {
+        this.validator = validator;
+    }
 
     // Private Methods
     private TradeOrderRequest getTradeOrderRequest(Map<String, Object> orderMap) {
@@ -215,7 +228,7 @@ public class BybitJsonConverter {
     public PlaceBatchOrderRequest convertToPlaceBatchOrderRequest(BatchOrderRequest batchOrderRequest) {
         List<PlaceOrderRequest> list = new ArrayList<>();
         for (TradeOrderRequest tradeOrderRequest : batchOrderRequest.getRequest()) {
-            list.add(convertTradeToPlaceOrderRequest(tradeOrderRequest));
+            list.add(convertTradeToPlaceOrderRequest(tradeOrderRequest, batchOrderRequest.getCategory()));
         }
         return PlaceBatchOrderRequest.builder()
                 .category(batchOrderRequest.getCategory())
@@ -226,7 +239,7 @@ public class BybitJsonConverter {
     public AmendBatchOrderRequest convertToAmendBatchOrderRequest(BatchOrderRequest batchOrderRequest) {
         List<AmendOrderRequest> list = new ArrayList<>();
         for (TradeOrderRequest tradeOrderRequest : batchOrderRequest.getRequest()) {
-            list.add(convertTradeToAmendOrderRequest(tradeOrderRequest));
+            list.add(convertTradeToAmendOrderRequest(tradeOrderRequest, batchOrderRequest.getCategory()));
         }
         return AmendBatchOrderRequest.builder()
                 .category(batchOrderRequest.getCategory())
@@ -267,6 +280,13 @@ public class BybitJsonConverter {
     }
 
     public AmendOrderRequest convertTradeToAmendOrderRequest(TradeOrderRequest tradeOrderRequest) {
+        return convertTradeToAmendOrderRequest(tradeOrderRequest, tradeOrderRequest.getCategory());
+    }
+
+    private AmendOrderRequest convertTradeToAmendOrderRequest(TradeOrderRequest tradeOrderRequest, CategoryType category) {
+        if (validator != null) {
+            tradeOrderRequest = validator.validateAmend(tradeOrderRequest, category);
+        }
         return AmendOrderRequest.builder()
                 .category(tradeOrderRequest.getCategory() == null ? null : tradeOrderRequest.getCategory().getCategoryTypeId())
                 .symbol(tradeOrderRequest.getSymbol())
@@ -288,6 +308,13 @@ public class BybitJsonConverter {
     }
 
     public PlaceOrderRequest convertTradeToPlaceOrderRequest(TradeOrderRequest tradeOrderRequest) {
+        return convertTradeToPlaceOrderRequest(tradeOrderRequest, tradeOrderRequest.getCategory());
+    }
+
+    private PlaceOrderRequest convertTradeToPlaceOrderRequest(TradeOrderRequest tradeOrderRequest, CategoryType category) {
+        if (validator != null) {
+            tradeOrderRequest = validator.validateOrder(tradeOrderRequest, category);
+        }
         return PlaceOrderRequest.builder()
                 .category(tradeOrderRequest.getCategory() == null ? null : tradeOrderRequest.getCategory().getCategoryTypeId())
                 .symbol(tradeOrderRequest.getSymbol())
@@ -0,0 +1,65 @@
+package com.bybit.api.client.util;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+
+import java.io.IOException;
+
+/**
+ * Helpers to read values from a Jackson streaming parser without materializing Strings.
+ */
+public final class JsonStreamUtils {
+    /**
+     * Shared factory, field names are canonicalized so repeated keys do not allocate.
+     */
+    public static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private JsonStreamUtils() {
+    }
+
+    /**
+     * @return true if the current token text equals the expected value
+     */
+    public static boolean textEquals(JsonParser parser, String expected) throws IOException {
+        int length = parser.getTextLength();
+        if (length != expected.length()) {
+            return false;
+        }
+        char[] chars = parser.getTextCharacters();
+        int offset = parser.getTextOffset();
+        for (int i = 0; i < length; i++) {
+            if (chars[offset + i] != expected.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Read the current token text, returning {@code cached} instead of a new String when the text is identical.
+     * Useful for low cardinality values such as symbols and sides.
+     */
+    public static String readText(JsonParser parser, String cached) throws IOException {
+        if (cached != null && textEquals(parser, cached)) {
+            return cached;
+        }
+        return parser.getText();
+    }
+
+    /**
+     * Read the current string or number token as a long scaled by 10^scale.
+     */
+    public static long readScaled(JsonParser parser, int scale) throws IOException {
+        return ScaledDecimal.parse(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength(), scale);
+    }
+
+    /**
+     * Read the current string or number token as a long, numbers sent as strings are accepted.
+     */
+    public static long readLong(JsonParser parser) throws IOException {
+        if (parser.getCurrentToken().isNumeric()) {
+            return parser.getLongValue();
+        }
+        return ScaledDecimal.parse(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength(), 0);
+    }
+}
@@ -0,0 +1,110 @@
+package com.bybit.api.client.util;
+
+/**
+ * Fixed point helpers for exchange decimals.
+ * Prices and sizes are kept as longs scaled by 10^scale so hot paths never create BigDecimal or String instances.
+ */
+public final class ScaledDecimal {
+    private static final long[] POWERS_OF_TEN = new long[19];
+
+    static {
+        long value = 1;
+        for (int i = 0; i < POWERS_OF_TEN.length; i++) {
+            POWERS_OF_TEN[i] = value;
+            value *= 10;
+        }
+    }
+
+    private ScaledDecimal() {
+    }
+
+    /**
+     * @param scale number of decimals, between 0 and 18
+     * @return 10^scale
+     */
+    public static long pow10(int scale) {
+        if (scale < 0 || scale >= POWERS_OF_TEN.length) {
+            throw new IllegalArgumentException("Scale must be between 0 and " + (POWERS_OF_TEN.length - 1) + ": " + scale);
+        }
+        return POWERS_OF_TEN[scale];
+    }
+
+    /**
+     * Parse a plain decimal such as "37202.8" into a long scaled by 10^scale.
+     * Values with non zero digits beyond the scale, or too large for a long once scaled, are rejected
+     * rather than rounded or wrapped around, so distinct values never map to the same long.
+     *
+     * @param chars  character buffer
+     * @param offset first character
+     * @param length number of characters
+     * @param scale  number of decimals to keep
+     * @return scaled value
+     * @throws NumberFormatException when the value is not a plain decimal or does not fit the scale
+     */
+    public static long parse(char[] chars, int offset, int length, int scale) {
+        if (length <= 0) {
+            throw new NumberFormatException("Empty decimal");
+        }
+        int end = offset + length;
+        int i = offset;
+        boolean negative = false;
+        if (chars[i] == '-' || chars[i] == '+') {
+            negative = chars[i] == '-';
+            i++;
+        }
+        long value = 0;
+        int decimals = -1;
+        boolean digits = false;
+        try {
+            for (; i < end; i++) {
+                char c = chars[i];
+                if (c == '.') {
+                    if (decimals >= 0) {
+                        throw new NumberFormatException("Invalid decimal: " + new String(chars, offset, length));
+                    }
+                    decimals = 0;
+                } else if (c >= '0' && c <= '9') {
+                    digits = true;
+                    if (decimals >= 0) {
+                        if (decimals == scale) {
+                            if (c != '0') {
+                                throw new NumberFormatException("More than " + scale + " decimals: " + new String(chars, offset, length));
+                            }
+                            continue;
+                        }
+                        decimals++;
+                    }
+                    value = Math.addExact(Math.multiplyExact(value, 10), c - '0');
+                } else {
+                    throw new NumberFormatException("Invalid decimal: " + new String(chars, offset, length));
+                }
+            }
+            if (!digits) {
+                throw new NumberFormatException("Invalid decimal: " + new String(chars, offset, length));
+            }
+            value = Math.multiplyExact(value, pow10(scale - Math.max(decimals, 0)));
+        } catch (ArithmeticException e) {
+            throw new NumberFormatException("Decimal out of range at scale " + scale + ": " + new String(chars, offset, length));
+        }
+        return negative ? -value : value;
+    }
+
+    /**
+     * Parse a plain decimal string into a long scaled by 10^scale.
+     */
+    public static long parse(CharSequence text, int scale) {
+        int length = text.length();
+        char[] chars = new char[length];
+        for (int i = 0; i < length; i++) {
+            chars[i] = text.charAt(i);
+        }
+        return parse(chars, 0, length, scale);
+    }
+
+    /**
+     * Convert a scaled value back to a double.
+     */
+    public static double toDouble(long value, int scale) {
+        return (double) value / pow10(scale);
+    }
+}
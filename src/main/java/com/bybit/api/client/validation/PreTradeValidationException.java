@@ -0,0 +1,14 @@
+package com.bybit.api.client.validation;
+
+import com.bybit.api.client.exception.BybitApiException;
+
+/**
+ * Thrown by {@link PreTradeValidator} when an order is rejected locally instead of being sent to the exchange.
+ */
+public class PreTradeValidationException extends BybitApiException {
+    private static final long serialVersionUID = 4137326427383036127L;
+
+    public PreTradeValidationException(String message) {
+        super(message);
+    }
+}
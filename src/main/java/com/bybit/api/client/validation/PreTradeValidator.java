@@ -0,0 +1,251 @@
+package com.bybit.api.client.validation;
+
+import com.bybit.api.client.domain.CategoryType;
+import com.bybit.api.client.domain.TradeOrderType;
+import com.bybit.api.client.domain.trade.PositionIdx;
+import com.bybit.api.client.domain.trade.Side;
+import com.bybit.api.client.domain.trade.request.TradeOrderRequest;
+import com.bybit.api.client.instrument.InstrumentRegistry;
+import com.bybit.api.client.instrument.InstrumentSpec;
+import org.apache.commons.lang3.StringUtils;
+
+import java.math.RoundingMode;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Checks orders against the cached trading rules of their instrument before they are sent,
+ * so that orders the exchange would reject fail locally without a round trip or rate limit consumption.
+ * <p>
+ * Quantities are rounded down to the quantity step, limit prices to a tick on the passive side (down for buys, up for sells)
+ * and trigger, take profit and stop loss prices to the nearest tick. Orders needing no rounding are returned as given,
+ * others as a normalized copy, the request of the caller is never modified.
+ * The position index must match the position mode of the account, one-way unless set otherwise.
+ * <p>
+ * Plug it into the trade clients with {@code BybitApiClientFactory#withPreTradeValidator}.
+ */
+public class PreTradeValidator {
+    private static final String MARKET_UNIT_BASE = "baseCoin";
+    private static final String MARKET_UNIT_QUOTE = "quoteCoin";
+
+    private final InstrumentRegistry registry;
+    private final Map<String, Boolean> hedgeModes = new ConcurrentHashMap<>();
+    private volatile boolean hedgeMode;
+
+    /**
+     * @param registry loaded instrument registry
+     */
+    public PreTradeValidator(InstrumentRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * Position mode of the derivatives of the account, one-way by default.
+     *
+     * @param hedgeMode true for hedge mode, where orders must set a hedge mode position index
+     */
+    public PreTradeValidator setHedgeMode(boolean hedgeMode) {
+        this.hedgeMode = hedgeMode;
+        return this;
+    }
+
+    /**
+     * Position mode of one symbol, overriding the mode of the account.
+     */
+    public PreTradeValidator setHedgeMode(String symbol, boolean hedgeMode) {
+        hedgeModes.put(symbol, hedgeMode);
+        return this;
+    }
+
+    /**
+     * Validate and normalize an order to place.
+     *
+     * @param order    order
+     * @param category category of the order, e.g. the one of its batch
+     * @return the order itself, or a normalized copy
+     * @throws PreTradeValidationException when the exchange would reject the order
+     */
+    public TradeOrderRequest validateOrder(TradeOrderRequest order, CategoryType category) {
+        InstrumentSpec spec = instrument(order, category);
+        if (order.getSide() == null || order.getOrderType() == null) {
+            throw reject(order, "side and orderType are required");
+        }
+        checkPositionIdx(order, category);
+        TradeOrderRequest normalized = order;
+        boolean limit = order.getOrderType() == TradeOrderType.LIMIT;
+        double price = Double.NaN;
+        if (limit) {
+            if (StringUtils.isEmpty(order.getPrice())) {
+                throw reject(order, "price is required for limit orders");
+            }
+            String rounded = normalizePrice(order, spec, order.getPrice(), order.getSide() == Side.BUY ? RoundingMode.FLOOR : RoundingMode.CEILING);
+            price = Double.parseDouble(rounded);
+            if (price < spec.getMinPrice() || price > spec.getMaxPrice()) {
+                throw reject(order, String.format("price %s out of [%s, %s]", rounded, spec.getMinPrice(), spec.getMaxPrice()));
+            }
+            normalized = withPrice(normalized, order, rounded);
+        }
+        if (StringUtils.isEmpty(order.getQty())) {
+            throw reject(order, "qty is required");
+        }
+        if (isQuoteQty(order, category)) {
+            // spot market order sized in quote coin, there is no step to round to
+            double amount = parse(order, order.getQty(), "qty");
+            if (amount < spec.getMinOrderAmt() || amount > spec.getMaxOrderAmt()) {
+                throw reject(order, String.format("order value %s out of [%s, %s]", order.getQty(), spec.getMinOrderAmt(), spec.getMaxOrderAmt()));
+            }
+        } else {
+            String rounded = normalizeQty(order, spec, order.getQty());
+            double qty = Double.parseDouble(rounded);
+            if (qty < spec.getMinOrderQty() || qty > spec.getMaxOrderQty()) {
+                throw reject(order, String.format("qty %s out of [%s, %s]", rounded, spec.getMinOrderQty(), spec.getMaxOrderQty()));
+            }
+            if (category == CategoryType.SPOT && limit && (qty * price < spec.getMinOrderAmt() || qty * price > spec.getMaxOrderAmt())) {
+                throw reject(order, String.format("order value %s out of [%s, %s]", qty * price, spec.getMinOrderAmt(), spec.getMaxOrderAmt()));
+            }
+            if (!rounded.equals(order.getQty())) {
+                normalized = copy(normalized, order);
+                normalized.setQty(rounded);
+            }
+        }
+        return normalizeTriggers(normalized, order, spec);
+    }
+
+    /**
+     * Validate and normalize an order amendment, only the values it changes are checked.
+     *
+     * @param order    amendment
+     * @param category category of the order, e.g. the one of its batch
+     * @return the amendment itself, or a normalized copy
+     * @throws PreTradeValidationException when the exchange would reject the amendment
+     */
+    public TradeOrderRequest validateAmend(TradeOrderRequest order, CategoryType category) {
+        InstrumentSpec spec = instrument(order, category);
+        if (StringUtils.isEmpty(order.getOrderId()) && StringUtils.isEmpty(order.getOrderLinkId())) {
+            throw reject(order, "orderId or orderLinkId is required");
+        }
+        TradeOrderRequest normalized = order;
+        if (StringUtils.isNotEmpty(order.getPrice())) {
+            String rounded = normalizePrice(order, spec, order.getPrice(), RoundingMode.HALF_UP);
+            double price = Double.parseDouble(rounded);
+            if (price < spec.getMinPrice() || price > spec.getMaxPrice()) {
+                throw reject(order, String.format("price %s out of [%s, %s]", rounded, spec.getMinPrice(), spec.getMaxPrice()));
+            }
+            normalized = withPrice(normalized, order, rounded);
+        }
+        if (StringUtils.isNotEmpty(order.getQty())) {
+            String rounded = normalizeQty(order, spec, order.getQty());
+            double qty = Double.parseDouble(rounded);
+            if (qty < spec.getMinOrderQty() || qty > spec.getMaxOrderQty()) {
+                throw reject(order, String.format("qty %s out of [%s, %s]", rounded, spec.getMinOrderQty(), spec.getMaxOrderQty()));
+            }
+            if (!rounded.equals(order.getQty())) {
+                normalized = copy(normalized, order);
+                normalized.setQty(rounded);
+            }
+        }
+        return normalizeTriggers(normalized, order, spec);
+    }
+
+    private InstrumentSpec instrument(TradeOrderRequest order, CategoryType category) {
+        if (category == null || StringUtils.isEmpty(order.getSymbol())) {
+            throw reject(order, "category and symbol are required");
+        }
+        InstrumentSpec spec = registry.get(category, order.getSymbol());
+        if (spec == null) {
+            throw reject(order, "unknown instrument");
+        }
+        if (!spec.isTrading()) {
+            throw reject(order, "instrument is " + spec.getStatus());
+        }
+        return spec;
+    }
+
+    private void checkPositionIdx(TradeOrderRequest order, CategoryType category) {
+        PositionIdx positionIdx = order.getPositionIdx();
+        boolean derivative = category == CategoryType.LINEAR || category == CategoryType.INVERSE;
+        if (derivative && hedgeModes.getOrDefault(order.getSymbol(), hedgeMode)) {
+            if (positionIdx == null || positionIdx == PositionIdx.ONE_WAY_MODE) {
+                throw reject(order, "positionIdx must be 1 or 2 in hedge mode");
+            }
+        } else if (positionIdx != null && positionIdx != PositionIdx.ONE_WAY_MODE) {
+            throw reject(order, "positionIdx must be 0 in one-way mode");
+        }
+    }
+
+    private static boolean isQuoteQty(TradeOrderRequest order, CategoryType category) {
+        if (category != CategoryType.SPOT || order.getOrderType() != TradeOrderType.MARKET) {
+            return false;
+        }
+        // spot market buys are sized in quote coin unless told otherwise
+        return MARKET_UNIT_QUOTE.equals(order.getMarketUnit()) || (order.getSide() == Side.BUY && !MARKET_UNIT_BASE.equals(order.getMarketUnit()));
+    }
+
+    private TradeOrderRequest normalizeTriggers(TradeOrderRequest normalized, TradeOrderRequest order, InstrumentSpec spec) {
+        String triggerPrice = normalizeTrigger(order, spec, order.getTriggerPrice());
+        String takeProfit = normalizeTrigger(order, spec, order.getTakeProfit());
+        String stopLoss = normalizeTrigger(order, spec, order.getStopLoss());
+        String tpLimitPrice = normalizeTrigger(order, spec, order.getTpLimitPrice());
+        String slLimitPrice = normalizeTrigger(order, spec, order.getSlLimitPrice());
+        if (triggerPrice != order.getTriggerPrice() || takeProfit != order.getTakeProfit() || stopLoss != order.getStopLoss()
+                || tpLimitPrice != order.getTpLimitPrice() || slLimitPrice != order.getSlLimitPrice()) {
+            normalized = copy(normalized, order);
+            normalized.setTriggerPrice(triggerPrice);
+            normalized.setTakeProfit(takeProfit);
+            normalized.setStopLoss(stopLoss);
+            normalized.setTpLimitPrice(tpLimitPrice);
+            normalized.setSlLimitPrice(slLimitPrice);
+        }
+        return normalized;
+    }
+
+    private String normalizeTrigger(TradeOrderRequest order, InstrumentSpec spec, String price) {
+        return StringUtils.isEmpty(price) ? price : normalizePrice(order, spec, price, RoundingMode.HALF_UP);
+    }
+
+    private String normalizePrice(TradeOrderRequest order, InstrumentSpec spec, String price, RoundingMode mode) {
+        try {
+            return spec.normalizePrice(price, mode);
+        } catch (NumberFormatException e) {
+            throw reject(order, "invalid price " + price);
+        }
+    }
+
+    private String normalizeQty(TradeOrderRequest order, InstrumentSpec spec, String qty) {
+        try {
+            return spec.normalizeQty(qty);
+        } catch (NumberFormatException e) {
+            throw reject(order, "invalid qty " + qty);
+        }
+    }
+
+    private static double parse(TradeOrderRequest order, String value, String field) {
+        try {
+            return Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            throw reject(order, "invalid " + field + " " + value);
+        }
+    }
+
+    private static TradeOrderRequest withPrice(TradeOrderRequest normalized, TradeOrderRequest order, String price) {
+        if (price.equals(order.getPrice())) {
+            return normalized;
+        }
+        TradeOrderRequest copy = copy(normalized, order);
+        copy.setPrice(price);
+        return copy;
+    }
+
+    /**
+     * @return the copy being normalized, created on the first change
+     */
+    private static TradeOrderRequest copy(TradeOrderRequest normalized, TradeOrderRequest order) {
+        return normalized == order ? order.toBuilder().build() : normalized;
+    }
+
+    private static PreTradeValidationException reject(TradeOrderRequest order, String reason) {
+        String id = StringUtils.defaultIfEmpty(order.getOrderLinkId(), order.getOrderId());
+        return new PreTradeValidationException(String.format("[PreTradeValidator] order %s rejected: %s",
+                id == null ? order.getSymbol() : order.getSymbol() + " " + id, reason));
+    }
+}
@@ -0,0 +1,46 @@
+package com.bybit.api.client.websocket.callback;
+
+import com.bybit.api.client.domain.websocket_message.public_channel.KlineData;
+import com.bybit.api.client.domain.websocket_message.public_channel.PublicTickerData;
+import com.bybit.api.client.domain.websocket_message.public_channel.TradeData;
+
+/**
+ * Typed callbacks for the streaming decoder.
+ * Event objects are pooled and reused for the next message, copy any value which must outlive the callback.
+ */
+public interface PublicStreamListener {
+    /**
+     * Called once per trade of a publicTrade.{symbol} message.
+     *
+     * @param topic The message topic.
+     * @param ts    The timestamp (ms) that the system generates the data.
+     * @param trade The pooled trade.
+     */
+    default void onTrade(String topic, long ts, TradeData trade) {}
+
+    /**
+     * Called for every tickers.{symbol} message. On delta messages fields which did not change are null.
+     *
+     * @param topic    The message topic.
+     * @param snapshot true for snapshot messages, false for delta.
+     * @param ts       The timestamp (ms) that the system generates the data.
+     * @param ticker   The pooled ticker.
+     */
+    default void onTicker(String topic, boolean snapshot, long ts, PublicTickerData ticker) {}
+
+    /**
+     * Called once per candle of a kline.{interval}.{symbol} message.
+     *
+     * @param topic The message topic.
+     * @param ts    The timestamp (ms) that the system generates the data.
+     * @param kline The pooled candle.
+     */
+    default void onKline(String topic, long ts, KlineData kline) {}
+
+    /**
+     * Called with the raw frame for every other topic and for operation responses.
+     *
+     * @param message The raw message.
+     */
+    default void onMessage(String message) {}
+}
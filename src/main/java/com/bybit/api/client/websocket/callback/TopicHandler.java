@@ -0,0 +1,15 @@
+package com.bybit.api.client.websocket.callback;
+
+/**
+ * Handler registered on a {@link com.bybit.api.client.websocket.impl.TopicRouter} topic pattern.
+ *
+ * @param <T> The message class the frame is deserialized into, String for the raw frame.
+ */
+@FunctionalInterface
+public interface TopicHandler<T> {
+    /**
+     * @param topic   The topic of the message.
+     * @param message The deserialized message, shared with other handlers registered for the same class.
+     */
+    void onMessage(String topic, T message);
+}
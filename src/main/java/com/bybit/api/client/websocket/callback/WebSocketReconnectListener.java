@@ -0,0 +1,18 @@
+package com.bybit.api.client.websocket.callback;
+
+public interface WebSocketReconnectListener {
+    /**
+     * onDisconnected will be called when the connection was lost unexpectedly and a reconnect has been scheduled.
+     *
+     * @param reason The close reason or failure message.
+     */
+    default void onDisconnected(String reason) {}
+
+    /**
+     * onReconnected will be called once the connection is open again and subscriptions are being replayed.
+     *
+     * @param attempts       Number of attempts needed to reconnect.
+     * @param recoveryMillis Time from the disconnect until the connection was open again.
+     */
+    default void onReconnected(int attempts, long recoveryMillis) {}
+}
@@ -0,0 +1,19 @@
+package com.bybit.api.client.websocket.handoff;
+
+/**
+ * What the reader thread does when the ring of a consumer is full.
+ */
+public enum OverflowPolicy {
+    /**
+     * Wait for a free slot, lossless but a slow handler back-pressures the socket again.
+     */
+    BLOCK,
+    /**
+     * Drop the incoming message.
+     */
+    DROP,
+    /**
+     * Keep only the latest message per topic until the consumer catches up, frames without a topic are all kept.
+     */
+    CONFLATE
+}
@@ -0,0 +1,304 @@
+package com.bybit.api.client.websocket.handoff;
+
+import com.bybit.api.client.exception.BybitApiException;
+import com.bybit.api.client.websocket.callback.WebSocketMessageCallback;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Hands messages off the socket reader thread to consumer threads through preallocated ring buffers.
+ * Set it as the message handler of one stream client: the reader thread only stores the frame in a slot and returns,
+ * the wrapped handler runs on the consumer threads. With several consumers, frames are partitioned by topic hash
+ * so that the messages of one topic keep their order and are always handled by the same thread.
+ * <p>
+ * Every ring has a single producer, the reader thread of the connection, and a single consumer,
+ * so an instance must not be shared by several connections.
+ */
+public class RingBufferHandoff implements WebSocketMessageCallback {
+    private static final Logger LOGGER = LoggerFactory.getLogger(RingBufferHandoff.class);
+    private static final String TOPIC_KEY = "\"topic\":\"";
+    private static final String THREAD_CONSUMER = "bybit-ws-handoff-";
+    private static final AtomicInteger INSTANCES = new AtomicInteger();
+    public static final int DEFAULT_CAPACITY = 4096;
+    // upper bound of a park, so a missed signal only delays a message and never stalls it
+    private static final long PARK_NANOS = 1_000_000L;
+
+    private final WebSocketMessageCallback handler;
+    private final WaitStrategy waitStrategy;
+    private final OverflowPolicy overflowPolicy;
+    private final Partition[] partitions;
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder conflated = new LongAdder();
+    private volatile boolean running = true;
+
+    /**
+     * One consumer, parking when idle and blocking the reader when full.
+     */
+    public RingBufferHandoff(WebSocketMessageCallback handler) {
+        this(handler, DEFAULT_CAPACITY, 1, WaitStrategy.PARK, OverflowPolicy.BLOCK);
+    }
+
+    /**
+     * @param handler        handler called on the consumer threads
+     * @param capacity       slots per consumer, rounded up to a power of two
+     * @param consumers      number of consumer threads
+     * @param waitStrategy   how idle consumers wait for messages
+     * @param overflowPolicy what happens when the ring of a consumer is full
+     */
+    public RingBufferHandoff(WebSocketMessageCallback handler, int capacity, int consumers, WaitStrategy waitStrategy, OverflowPolicy overflowPolicy) {
+        if (capacity <= 0 || consumers <= 0) {
+            throw new BybitApiException("[RingBufferHandoff] capacity and consumers must be positive");
+        }
+        this.handler = handler;
+        this.waitStrategy = waitStrategy;
+        this.overflowPolicy = overflowPolicy;
+        int size = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        int instance = INSTANCES.incrementAndGet();
+        this.partitions = new Partition[consumers];
+        for (int i = 0; i < consumers; i++) {
+            partitions[i] = new Partition(size);
+            Partition partition = partitions[i];
+            Thread thread = new Thread(() -> consume(partition), THREAD_CONSUMER + instance + "-" + i);
+            thread.setDaemon(true);
+            partition.consumer = thread;
+        }
+        for (Partition partition : partitions) {
+            partition.consumer.start();
+        }
+    }
+
+    /**
+     * Called by the reader thread, publishes the frame to the ring of its topic.
+     */
+    @Override
+    public void onMessage(String message) {
+        if (!running) {
+            dropped.increment();
+            return;
+        }
+        String topic = partitions.length > 1 || overflowPolicy == OverflowPolicy.CONFLATE ? topicOf(message) : null;
+        Partition partition = partitions.length == 1 || topic == null ? partitions[0]
+                : partitions[(topic.hashCode() & Integer.MAX_VALUE) % partitions.length];
+        // while conflated messages are pending, newer ones queue behind them to keep the order
+        if (partition.pendingCount > 0 && partition.offerPending(topic, message, false)) {
+            conflated(partition);
+            return;
+        }
+        long next = partition.head;
+        if (next - partition.cachedTail >= partition.slots.length) {
+            partition.cachedTail = partition.tail;
+            if (next - partition.cachedTail >= partition.slots.length && !awaitSlot(partition, topic, message)) {
+                return;
+            }
+        }
+        partition.slots[(int) next & partition.mask] = message;
+        partition.head = next + 1;
+        signal(partition);
+    }
+
+    /**
+     * The ring is full, apply the overflow policy.
+     *
+     * @return true when a slot is free for the message
+     */
+    private boolean awaitSlot(Partition partition, String topic, String message) {
+        switch (overflowPolicy) {
+            case DROP:
+                dropped.increment();
+                return false;
+            case CONFLATE:
+                partition.offerPending(topic, message, true);
+                conflated(partition);
+                return false;
+            default:
+                long next = partition.head;
+                while (next - (partition.cachedTail = partition.tail) >= partition.slots.length) {
+                    if (!running) {
+                        dropped.increment();
+                        return false;
+                    }
+                    awaitConsumer();
+                }
+                return true;
+        }
+    }
+
+    private void conflated(Partition partition) {
+        if (partition.lastReplaced) {
+            conflated.increment();
+        }
+        signal(partition);
+    }
+
+    private void consume(Partition partition) {
+        while (running) {
+            long tail = partition.tail;
+            if (tail < partition.head) {
+                int index = (int) tail & partition.mask;
+                String message = partition.slots[index];
+                partition.slots[index] = null;
+                partition.tail = tail + 1;
+                deliver(message);
+            } else if (partition.pendingCount > 0) {
+                // the ring is empty, so the conflated messages are the oldest ones
+                for (String message : partition.drainPending()) {
+                    deliver(message);
+                }
+            } else {
+                idle(partition);
+            }
+        }
+    }
+
+    private void deliver(String message) {
+        try {
+            handler.onMessage(message);
+        } catch (Exception e) {
+            LOGGER.error("Error handling message: ", e);
+        }
+    }
+
+    private void idle(Partition partition) {
+        switch (waitStrategy) {
+            case BUSY_SPIN:
+                Thread.onSpinWait();
+                break;
+            case YIELD:
+                Thread.yield();
+                break;
+            default:
+                partition.sleeping = true;
+                if (running && partition.tail == partition.head && partition.pendingCount == 0) {
+                    LockSupport.parkNanos(this, PARK_NANOS);
+                }
+                partition.sleeping = false;
+        }
+    }
+
+    /**
+     * The reader waits for a free slot, consumers do not signal it so parking is short.
+     */
+    private void awaitConsumer() {
+        switch (waitStrategy) {
+            case BUSY_SPIN:
+                Thread.onSpinWait();
+                break;
+            case YIELD:
+                Thread.yield();
+                break;
+            default:
+                LockSupport.parkNanos(this, PARK_NANOS / 100);
+        }
+    }
+
+    private void signal(Partition partition) {
+        if (waitStrategy == WaitStrategy.PARK && partition.sleeping) {
+            LockSupport.unpark(partition.consumer);
+        }
+    }
+
+    /**
+     * Stop the consumer threads, messages still in the rings are discarded.
+     */
+    public void close() {
+        running = false;
+        for (Partition partition : partitions) {
+            LockSupport.unpark(partition.consumer);
+        }
+    }
+
+    /**
+     * @return messages dropped because a ring was full or the handoff was closed
+     */
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    /**
+     * @return messages replaced by a newer message of the same topic before being handled
+     */
+    public long getConflatedCount() {
+        return conflated.sum();
+    }
+
+    /**
+     * @return messages published but not handled yet
+     */
+    public long getBacklog() {
+        long backlog = 0;
+        for (Partition partition : partitions) {
+            backlog += partition.head - partition.tail + partition.pendingCount;
+        }
+        return backlog;
+    }
+
+    private static String topicOf(String message) {
+        int index = message.indexOf(TOPIC_KEY);
+        if (index < 0) {
+            return null;
+        }
+        int start = index + TOPIC_KEY.length();
+        int end = message.indexOf('"', start);
+        return end < 0 ? null : message.substring(start, end);
+    }
+
+    /**
+     * Single producer single consumer ring. The cursors are padded so that the reader and the consumer
+     * do not invalidate each other's cache line on every message.
+     */
+    private static final class Partition {
+        private final String[] slots;
+        private final int mask;
+        // producer side
+        long p01, p02, p03, p04, p05, p06, p07;
+        private volatile long head;
+        private long cachedTail;
+        long p11, p12, p13, p14, p15, p16, p17;
+        // consumer side
+        private volatile long tail;
+        private volatile boolean sleeping;
+        long p21, p22, p23, p24, p25, p26, p27;
+        private Thread consumer;
+        // conflated messages by topic, frames without topic get their own key
+        private final Map<Object, String> pending = new LinkedHashMap<>();
+        private volatile int pendingCount;
+        private boolean lastReplaced;
+
+        private Partition(int size) {
+            this.slots = new String[size];
+            this.mask = size - 1;
+        }
+
+        /**
+         * @param force add even when nothing is pending
+         * @return true when the message was added to the pending messages
+         */
+        private boolean offerPending(String topic, String message, boolean force) {
+            synchronized (pending) {
+                if (pending.isEmpty() && !force) {
+                    return false;
+                }
+                lastReplaced = pending.put(topic == null ? new Object() : topic, message) != null;
+                pendingCount = pending.size();
+                return true;
+            }
+        }
+
+        private List<String> drainPending() {
+            synchronized (pending) {
+                List<String> messages = new ArrayList<>(pending.values());
+                pending.clear();
+                pendingCount = 0;
+                return messages;
+            }
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.bybit.api.client.websocket.handoff;
+
+/**
+ * How a consumer thread waits for the next message, and how the reader thread waits for free slots with {@link OverflowPolicy#BLOCK}.
+ */
+public enum WaitStrategy {
+    /**
+     * Spin on the cursor, lowest latency, keeps one core busy per consumer.
+     */
+    BUSY_SPIN,
+    /**
+     * Spin and yield the core to other threads between checks.
+     */
+    YIELD,
+    /**
+     * Park the thread until it is signalled, no cpu used while idle at the cost of a wake up latency.
+     */
+    PARK
+}
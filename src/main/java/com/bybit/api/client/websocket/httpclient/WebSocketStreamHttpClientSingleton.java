@@ -1,15 +1,47 @@
 package com.bybit.api.client.websocket.httpclient;
 
 import lombok.Getter;
+import okhttp3.Dispatcher;
 import okhttp3.OkHttpClient;
 import okhttp3.Request;
 import okhttp3.WebSocket;
 import okhttp3.WebSocketListener;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
 import static com.bybit.api.client.log.Slf4jLoggingInterceptor.HandleLoggingInterceptor;
 
+/**
+ * Transport shared by every stream client: one OkHttpClient (dispatcher, connection pool and thread pools)
+ * and one scheduler driving heartbeats and connection tasks for all sockets.
+ */
 @Getter
 public final class WebSocketStreamHttpClientSingleton {
+    private static final String THREAD_SCHEDULER = "bybit-ws-scheduler";
+    // Every open websocket keeps one dispatcher call running for its reader loop
+    private static final int MAX_CONNECTIONS = 1000;
+    private static final OkHttpClient sharedClient;
+    private static final Map<String, OkHttpClient> debugClients = new ConcurrentHashMap<>();
+    private static final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, THREAD_SCHEDULER);
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    static {
+        Dispatcher dispatcher = new Dispatcher();
+        dispatcher.setMaxRequestsPerHost(MAX_CONNECTIONS);
+        dispatcher.setMaxRequests(MAX_CONNECTIONS);
+        sharedClient = new OkHttpClient.Builder()
+                .dispatcher(dispatcher)
+                .build();
+    }
+
     private final boolean debugMode;
     private final String logOption;
 
@@ -22,12 +54,18 @@ public final class WebSocketStreamHttpClientSingleton {
         return new WebSocketStreamHttpClientSingleton(debugMode, logOption);
     }
 
+    /**
+     * Returns the shared client, debug clients add a logging interceptor but share its dispatcher and connection pool.
+     */
     public OkHttpClient createOkHttpClient(boolean debugMode, String logOption) {
-        OkHttpClient.Builder clientBuilder = new OkHttpClient.Builder();
-        if (debugMode) {
-            HandleLoggingInterceptor(clientBuilder, logOption);
+        if (!debugMode) {
+            return sharedClient;
         }
-        return clientBuilder.build();
+        return debugClients.computeIfAbsent(String.valueOf(logOption), option -> {
+            OkHttpClient.Builder clientBuilder = sharedClient.newBuilder();
+            HandleLoggingInterceptor(clientBuilder, option);
+            return clientBuilder.build();
+        });
     }
 
     public WebSocket createWebSocket(String url, WebSocketListener listener) {
@@ -35,4 +73,25 @@ public final class WebSocketStreamHttpClientSingleton {
         OkHttpClient okHttpClient = createOkHttpClient(debugMode, logOption);
         return okHttpClient.newWebSocket(request, listener);
     }
+
+    /**
+     * Run a heartbeat task every {@code intervalSeconds} on the shared scheduler, starting immediately.
+     */
+    public ScheduledFuture<?> schedulePing(Runnable ping, int intervalSeconds) {
+        return scheduler.scheduleAtFixedRate(ping, 0, intervalSeconds, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Run a short connection task, e.g. authentication, on the shared scheduler.
+     */
+    public void execute(Runnable task) {
+        scheduler.execute(task);
+    }
+
+    /**
+     * Run a connection task after a delay on the shared scheduler, e.g. a reconnect.
+     */
+    public ScheduledFuture<?> schedule(Runnable task, long delay, TimeUnit unit) {
+        return scheduler.schedule(task, delay, unit);
+    }
 }
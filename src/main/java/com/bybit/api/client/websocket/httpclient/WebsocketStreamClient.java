@@ -1,16 +1,24 @@
 package com.bybit.api.client.websocket.httpclient;
 
 import com.bybit.api.client.websocket.callback.WebSocketMessageCallback;
+import com.bybit.api.client.websocket.callback.WebSocketReconnectListener;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import okhttp3.WebSocket;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 public interface WebsocketStreamClient {
     void onMessage(String msg) throws JsonProcessingException;
     void onError(Throwable t);
     void onClose(WebSocket ws, int code, String reason);
+
+    /**
+     * Close the connection for good, a scheduled reconnect is cancelled.
+     * Closing the returned websocket with code 1000 does the same.
+     */
+    void close();
     void onOpen(WebSocket ws);
     WebSocket connect();
 
@@ -76,6 +84,58 @@ public interface WebsocketStreamClient {
 
     void sendSubscribeMessage(WebSocket ws, List<String> args);
 
+    void sendUnsubscribeMessage(WebSocket ws, List<String> args);
+
+    /**
+     * Add topics to the live connection, topics already subscribed are ignored.
+     * Topics are batched into as few frames as the exchange allows and kept in the registry which is replayed on reconnect.
+     * A topic rejected by the exchange is removed from the registry again.
+     * @param topics topics
+     */
+    void subscribe(List<String> topics);
+
+    /**
+     * Remove topics from the live connection and from the registry
+     * @param topics topics
+     */
+    void unsubscribe(List<String> topics);
+
+    /**
+     * @return topics currently in the subscription registry
+     */
+    Set<String> getSubscriptions();
+
+    /**
+     * Current websocket, null when not connected. Closing it with code 1000 closes the client, see {@link #close()}
+     * @return websocket
+     */
+    WebSocket getWebSocket();
+
+    /**
+     * Reconnect with exponential backoff when the connection is lost, enabled by default
+     * @param autoReconnect autoReconnect
+     */
+    void setAutoReconnect(boolean autoReconnect);
+
+    /**
+     * Backoff of the reconnect attempts, each attempt doubles the delay up to the maximum, with jitter
+     * @param initialDelayMillis delay before the first attempt
+     * @param maxDelayMillis maximum delay between attempts
+     */
+    void setReconnectBackoff(long initialDelayMillis, long maxDelayMillis);
+
+    void addReconnectListener(WebSocketReconnectListener listener);
+
+    /**
+     * @return number of successful reconnects
+     */
+    long getReconnectCount();
+
+    /**
+     * @return time from the last disconnect until the connection was open again (ms)
+     */
+    long getLastRecoveryMillis();
+
     /**
      * Trade
      * Subscribe to the recent trades stream.
@@ -0,0 +1,360 @@
+package com.bybit.api.client.websocket.impl;
+
+import com.bybit.api.client.domain.websocket_message.public_channel.KlineData;
+import com.bybit.api.client.domain.websocket_message.public_channel.PublicTickerData;
+import com.bybit.api.client.domain.websocket_message.public_channel.TradeData;
+import com.bybit.api.client.util.JsonStreamUtils;
+import com.bybit.api.client.websocket.callback.PublicStreamListener;
+import com.bybit.api.client.websocket.callback.WebSocketMessageCallback;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+import static com.bybit.api.client.util.JsonStreamUtils.readText;
+import static com.bybit.api.client.util.JsonStreamUtils.textEquals;
+
+/**
+ * Streaming decode mode for public topics.
+ * publicTrade, tickers and kline frames are read with a Jackson streaming parser into pooled {@link TradeData},
+ * {@link PublicTickerData} and {@link KlineData} instances and dispatched to a {@link PublicStreamListener},
+ * without building a tree model or message wrapper. Every other frame is passed through as a String.
+ */
+public class StreamingMessageDecoder implements WebSocketMessageCallback {
+    private static final Logger LOGGER = LoggerFactory.getLogger(StreamingMessageDecoder.class);
+    private static final String TOPIC_KEY = "\"topic\":\"";
+    private static final String TRADE_PREFIX = "publicTrade.";
+    private static final String TICKER_PREFIX = "tickers.";
+    private static final String KLINE_PREFIX = "kline.";
+    private static final String BUY = "Buy";
+    private static final String SELL = "Sell";
+    private static final Map<String, BiConsumer<PublicTickerData, String>> TICKER_SETTERS = new HashMap<>();
+    private static final List<BiConsumer<PublicTickerData, String>> TICKER_CLEARERS;
+
+    static {
+        TICKER_SETTERS.put("symbol", PublicTickerData::setSymbol);
+        TICKER_SETTERS.put("tickDirection", PublicTickerData::setTickDirection);
+        TICKER_SETTERS.put("bidPrice", PublicTickerData::setBidPrice);
+        TICKER_SETTERS.put("bidSize", PublicTickerData::setBidSize);
+        TICKER_SETTERS.put("bidIv", PublicTickerData::setBidIv);
+        TICKER_SETTERS.put("askPrice", PublicTickerData::setAskPrice);
+        TICKER_SETTERS.put("askSize", PublicTickerData::setAskSize);
+        TICKER_SETTERS.put("askIv", PublicTickerData::setAskIv);
+        TICKER_SETTERS.put("lastPrice", PublicTickerData::setLastPrice);
+        TICKER_SETTERS.put("highPrice24h", PublicTickerData::setHighPrice24h);
+        TICKER_SETTERS.put("lowPrice24h", PublicTickerData::setLowPrice24h);
+        TICKER_SETTERS.put("prevPrice24h", PublicTickerData::setPrevPrice24h);
+        TICKER_SETTERS.put("volume24h", PublicTickerData::setVolume24h);
+        TICKER_SETTERS.put("turnover24h", PublicTickerData::setTurnover24h);
+        TICKER_SETTERS.put("price24hPcnt", PublicTickerData::setPrice24hPcnt);
+        TICKER_SETTERS.put("usdIndexPrice", PublicTickerData::setUsdIndexPrice);
+        TICKER_SETTERS.put("underlyingPrice", PublicTickerData::setUnderlyingPrice);
+        TICKER_SETTERS.put("markPrice", PublicTickerData::setMarkPrice);
+        TICKER_SETTERS.put("indexPrice", PublicTickerData::setIndexPrice);
+        TICKER_SETTERS.put("markPriceIv", PublicTickerData::setMarkPriceIv);
+        TICKER_SETTERS.put("openInterest", PublicTickerData::setOpenInterest);
+        TICKER_SETTERS.put("openInterestValue", PublicTickerData::setOpenInterestValue);
+        TICKER_SETTERS.put("totalVolume", PublicTickerData::setTotalVolume);
+        TICKER_SETTERS.put("totalTurnover", PublicTickerData::setTotalTurnover);
+        TICKER_SETTERS.put("nextFundingTime", PublicTickerData::setNextFundingTime);
+        TICKER_SETTERS.put("fundingRate", PublicTickerData::setFundingRate);
+        TICKER_SETTERS.put("bid1Price", PublicTickerData::setBid1Price);
+        TICKER_SETTERS.put("bid1Size", PublicTickerData::setBid1Size);
+        TICKER_SETTERS.put("ask1Price", PublicTickerData::setAsk1Price);
+        TICKER_SETTERS.put("ask1Size", PublicTickerData::setAsk1Size);
+        TICKER_SETTERS.put("delta", PublicTickerData::setDelta);
+        TICKER_SETTERS.put("gamma", PublicTickerData::setGamma);
+        TICKER_SETTERS.put("vega", PublicTickerData::setVega);
+        TICKER_SETTERS.put("theta", PublicTickerData::setTheta);
+        TICKER_SETTERS.put("deliveryTime", PublicTickerData::setDeliveryTime);
+        TICKER_SETTERS.put("basisRate", PublicTickerData::setBasisRate);
+        TICKER_SETTERS.put("deliveryFeeRate", PublicTickerData::setDeliveryFeeRate);
+        TICKER_SETTERS.put("predictedDeliveryPrice", PublicTickerData::setPredictedDeliveryPrice);
+        TICKER_SETTERS.put("change24h", PublicTickerData::setChange24h);
+        TICKER_CLEARERS = new ArrayList<>(TICKER_SETTERS.values());
+    }
+
+    private enum Kind { TRADE, TICKER, KLINE }
+
+    private final PublicStreamListener listener;
+    private final ThreadLocal<Events> events = ThreadLocal.withInitial(Events::new);
+
+    public StreamingMessageDecoder(PublicStreamListener listener) {
+        this.listener = listener;
+    }
+
+    @Override
+    public void onMessage(String message) throws JsonProcessingException {
+        Kind kind = classify(message);
+        if (kind == null) {
+            listener.onMessage(message);
+            return;
+        }
+        try (JsonParser parser = JsonStreamUtils.JSON_FACTORY.createParser(message)) {
+            decode(parser, kind, events.get());
+        } catch (JsonProcessingException e) {
+            throw e;
+        } catch (IOException e) {
+            LOGGER.error("Error decoding stream message: ", e);
+        }
+    }
+
+    private static Kind classify(String message) {
+        int index = message.indexOf(TOPIC_KEY);
+        if (index < 0) {
+            return null;
+        }
+        int start = index + TOPIC_KEY.length();
+        if (message.startsWith(TRADE_PREFIX, start)) {
+            return Kind.TRADE;
+        }
+        if (message.startsWith(TICKER_PREFIX, start)) {
+            return Kind.TICKER;
+        }
+        if (message.startsWith(KLINE_PREFIX, start)) {
+            return Kind.KLINE;
+        }
+        return null;
+    }
+
+    private void decode(JsonParser parser, Kind kind, Events events) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            return;
+        }
+        events.reset();
+        String topic = null;
+        boolean snapshot = false;
+        long ts = 0;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "topic":
+                    topic = readText(parser, events.topic);
+                    events.topic = topic;
+                    break;
+                case "type":
+                    snapshot = textEquals(parser, "snapshot");
+                    break;
+                case "ts":
+                    ts = parser.getLongValue();
+                    break;
+                case "data":
+                    readData(parser, kind, events);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        switch (kind) {
+            case TRADE:
+                for (int i = 0; i < events.tradeCount; i++) {
+                    listener.onTrade(topic, ts, events.trades[i]);
+                }
+                break;
+            case TICKER:
+                if (events.tickerRead) {
+                    listener.onTicker(topic, snapshot, ts, events.ticker);
+                }
+                break;
+            case KLINE:
+                for (int i = 0; i < events.klineCount; i++) {
+                    listener.onKline(topic, ts, events.klines[i]);
+                }
+                break;
+        }
+    }
+
+    private void readData(JsonParser parser, Kind kind, Events events) throws IOException {
+        JsonToken token = parser.getCurrentToken();
+        if (kind == Kind.TICKER && token == JsonToken.START_OBJECT) {
+            readTicker(parser, events);
+        } else if (token == JsonToken.START_ARRAY) {
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                if (kind == Kind.TRADE) {
+                    readTrade(parser, events, events.nextTrade());
+                } else if (kind == Kind.KLINE) {
+                    readKline(parser, events.nextKline());
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        } else {
+            parser.skipChildren();
+        }
+    }
+
+    private static void readTrade(JsonParser parser, Events events, TradeData trade) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "T":
+                    trade.setT(parser.getLongValue());
+                    break;
+                case "s":
+                    events.symbol = readText(parser, events.symbol);
+                    trade.setS(events.symbol);
+                    break;
+                case "S":
+                    trade.setSide(textEquals(parser, BUY) ? BUY : textEquals(parser, SELL) ? SELL : parser.getText());
+                    break;
+                case "v":
+                    trade.setV(parser.getText());
+                    break;
+                case "p":
+                    trade.setP(parser.getText());
+                    break;
+                case "L":
+                    events.tickDirection = readText(parser, events.tickDirection);
+                    trade.setL(events.tickDirection);
+                    break;
+                case "i":
+                    trade.setI(parser.getText());
+                    break;
+                case "BT":
+                    trade.setBT(parser.getBooleanValue());
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+    }
+
+    private static void readTicker(JsonParser parser, Events events) throws IOException {
+        PublicTickerData ticker = events.ticker;
+        for (BiConsumer<PublicTickerData, String> setter : TICKER_CLEARERS) {
+            setter.accept(ticker, null);
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            BiConsumer<PublicTickerData, String> setter = TICKER_SETTERS.get(field);
+            parser.nextToken();
+            if (setter == null) {
+                parser.skipChildren();
+            } else if ("symbol".equals(field)) {
+                events.symbol = readText(parser, events.symbol);
+                setter.accept(ticker, events.symbol);
+            } else {
+                setter.accept(ticker, parser.getText());
+            }
+        }
+        events.tickerRead = true;
+    }
+
+    private static void readKline(JsonParser parser, KlineData kline) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "start":
+                    kline.setStart(parser.getLongValue());
+                    break;
+                case "end":
+                    kline.setEnd(parser.getLongValue());
+                    break;
+                case "interval":
+                    kline.setInterval(parser.getText());
+                    break;
+                case "open":
+                    kline.setOpen(parser.getText());
+                    break;
+                case "close":
+                    kline.setClose(parser.getText());
+                    break;
+                case "high":
+                    kline.setHigh(parser.getText());
+                    break;
+                case "low":
+                    kline.setLow(parser.getText());
+                    break;
+                case "volume":
+                    kline.setVolume(parser.getText());
+                    break;
+                case "turnover":
+                    kline.setTurnover(parser.getText());
+                    break;
+                case "confirm":
+                    kline.setConfirm(parser.getBooleanValue());
+                    break;
+                case "timestamp":
+                    kline.setTimestamp(parser.getLongValue());
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+    }
+
+    /**
+     * Pooled event objects, one set per decoding thread.
+     */
+    private static final class Events {
+        TradeData[] trades = new TradeData[0];
+        KlineData[] klines = new KlineData[0];
+        final PublicTickerData ticker = new PublicTickerData();
+        int tradeCount;
+        int klineCount;
+        boolean tickerRead;
+        String topic;
+        String symbol;
+        String tickDirection;
+
+        void reset() {
+            tradeCount = 0;
+            klineCount = 0;
+            tickerRead = false;
+        }
+
+        TradeData nextTrade() {
+            if (tradeCount == trades.length) {
+                trades = Arrays.copyOf(trades, Math.max(8, tradeCount << 1));
+                for (int i = tradeCount; i < trades.length; i++) {
+                    trades[i] = new TradeData();
+                }
+            }
+            // fields missing from a frame, e.g. L on spot trades, must not keep the value of an earlier message
+            TradeData trade = trades[tradeCount++];
+            trade.setT(null);
+            trade.setS(null);
+            trade.setSide(null);
+            trade.setV(null);
+            trade.setP(null);
+            trade.setL(null);
+            trade.setI(null);
+            trade.setBT(null);
+            return trade;
+        }
+
+        KlineData nextKline() {
+            if (klineCount == klines.length) {
+                klines = Arrays.copyOf(klines, Math.max(2, klineCount << 1));
+                for (int i = klineCount; i < klines.length; i++) {
+                    klines[i] = new KlineData();
+                }
+            }
+            KlineData kline = klines[klineCount++];
+            kline.setStart(null);
+            kline.setEnd(null);
+            kline.setInterval(null);
+            kline.setOpen(null);
+            kline.setClose(null);
+            kline.setHigh(null);
+            kline.setLow(null);
+            kline.setVolume(null);
+            kline.setTurnover(null);
+            kline.setConfirm(null);
+            kline.setTimestamp(null);
+            return kline;
+        }
+    }
+}
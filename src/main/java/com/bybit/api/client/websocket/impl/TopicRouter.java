@@ -0,0 +1,201 @@
+package com.bybit.api.client.websocket.impl;
+
+import com.bybit.api.client.exception.BybitApiException;
+import com.bybit.api.client.websocket.callback.TopicHandler;
+import com.bybit.api.client.websocket.callback.WebSocketMessageCallback;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Routes stream messages to handlers registered per topic pattern.
+ * A pattern is a dot separated topic where {@code *} matches exactly one segment,
+ * e.g. {@code orderbook.*.BTCUSDT}, {@code publicTrade.*}, {@code order} or {@code execution}.
+ * <p>
+ * The topic is found with a plain string scan, the handlers of a topic are resolved once through a trie of the patterns
+ * and cached, and a frame is deserialized only when handlers are registered for its topic, once per requested class.
+ * Registration rebuilds the trie copy-on-write, so dispatch never takes a lock.
+ * Frames without a topic or without a matching handler go to the fallback callback.
+ */
+public class TopicRouter implements WebSocketMessageCallback {
+    private static final Logger LOGGER = LoggerFactory.getLogger(TopicRouter.class);
+    private static final String TOPIC_KEY = "\"topic\":\"";
+    private static final String WILDCARD = "*";
+    private static final ObjectMapper objectMapper = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    private static final Route EMPTY_ROUTE = new Route(new ArrayList<>());
+
+    private final List<Binding> bindings = new ArrayList<>();
+    private int nextOrder;
+    private final WebSocketMessageCallback fallback;
+    private volatile Node trie = new Node();
+    private volatile Map<String, Route> routes = new ConcurrentHashMap<>();
+
+    /**
+     * @param fallback callback for frames which are not routed to any handler, e.g. operation responses, may be null
+     */
+    public TopicRouter(WebSocketMessageCallback fallback) {
+        this.fallback = fallback;
+    }
+
+    /**
+     * Register a handler for a topic pattern.
+     *
+     * @param pattern topic pattern, {@code *} matches one segment
+     * @param type    class the frame is deserialized into, e.g. WebsocketOrderbookMessage, or String for the raw frame
+     * @param handler handler
+     * @return this router
+     */
+    public synchronized <T> TopicRouter register(String pattern, Class<T> type, TopicHandler<? super T> handler) {
+        if (pattern == null || pattern.isEmpty()) {
+            throw new BybitApiException("[TopicRouter] Topic pattern must not be empty");
+        }
+        bindings.add(new Binding(nextOrder++, pattern, type, handler));
+        rebuild();
+        return this;
+    }
+
+    /**
+     * Remove every registration of a handler.
+     */
+    public synchronized void unregister(TopicHandler<?> handler) {
+        if (bindings.removeIf(binding -> binding.handler == handler)) {
+            rebuild();
+        }
+    }
+
+    @Override
+    public void onMessage(String message) throws JsonProcessingException {
+        String topic = topicOf(message);
+        Route route = topic == null ? EMPTY_ROUTE : routeOf(topic);
+        if (route.bindings.length == 0) {
+            if (fallback != null) {
+                fallback.onMessage(message);
+            }
+            return;
+        }
+        Object[] decoded = new Object[route.types.length];
+        for (int i = 0; i < route.bindings.length; i++) {
+            int typeIndex = route.typeIndexes[i];
+            if (decoded[typeIndex] == null) {
+                Class<?> type = route.types[typeIndex];
+                decoded[typeIndex] = type == String.class ? message : objectMapper.readValue(message, type);
+            }
+            dispatch(route.bindings[i], topic, decoded[typeIndex]);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void dispatch(Binding binding, String topic, Object message) {
+        try {
+            ((TopicHandler<Object>) binding.handler).onMessage(topic, message);
+        } catch (RuntimeException e) {
+            // one failing handler must not starve the other handlers of the topic
+            LOGGER.error("Handler of {} failed on {}: ", binding.pattern, topic, e);
+        }
+    }
+
+    private Route routeOf(String topic) {
+        Map<String, Route> cache = routes;
+        Route route = cache.get(topic);
+        if (route == null) {
+            List<Binding> matched = new ArrayList<>();
+            trie.match(topic.split("\\."), 0, matched);
+            // handlers are called in registration order
+            matched.sort(Comparator.comparingInt(binding -> binding.order));
+            route = matched.isEmpty() ? EMPTY_ROUTE : new Route(matched);
+            cache.put(topic, route);
+        }
+        return route;
+    }
+
+    private static String topicOf(String message) {
+        int index = message.indexOf(TOPIC_KEY);
+        if (index < 0) {
+            return null;
+        }
+        int start = index + TOPIC_KEY.length();
+        int end = message.indexOf('"', start);
+        return end < 0 ? null : message.substring(start, end);
+    }
+
+    private void rebuild() {
+        Node root = new Node();
+        for (Binding binding : bindings) {
+            Node node = root;
+            for (String segment : binding.pattern.split("\\.")) {
+                node = node.children.computeIfAbsent(segment, s -> new Node());
+            }
+            node.bindings.add(binding);
+        }
+        trie = root;
+        routes = new ConcurrentHashMap<>();
+    }
+
+    private static final class Node {
+        private final Map<String, Node> children = new HashMap<>();
+        private final List<Binding> bindings = new ArrayList<>();
+
+        private void match(String[] segments, int depth, List<Binding> matched) {
+            if (depth == segments.length) {
+                matched.addAll(bindings);
+                return;
+            }
+            Node exact = children.get(segments[depth]);
+            if (exact != null) {
+                exact.match(segments, depth + 1, matched);
+            }
+            Node wildcard = children.get(WILDCARD);
+            if (wildcard != null) {
+                wildcard.match(segments, depth + 1, matched);
+            }
+        }
+    }
+
+    private static final class Binding {
+        private final int order;
+        private final String pattern;
+        private final Class<?> type;
+        private final TopicHandler<?> handler;
+
+        private Binding(int order, String pattern, Class<?> type, TopicHandler<?> handler) {
+            this.order = order;
+            this.pattern = pattern;
+            this.type = type;
+            this.handler = handler;
+        }
+    }
+
+    /**
+     * Resolved handlers of one topic, with the distinct classes to deserialize into.
+     */
+    private static final class Route {
+        private final Binding[] bindings;
+        private final Class<?>[] types;
+        private final int[] typeIndexes;
+
+        private Route(List<Binding> matched) {
+            this.bindings = matched.toArray(new Binding[0]);
+            this.typeIndexes = new int[bindings.length];
+            List<Class<?>> distinct = new ArrayList<>();
+            for (int i = 0; i < bindings.length; i++) {
+                int index = distinct.indexOf(bindings[i].type);
+                if (index < 0) {
+                    index = distinct.size();
+                    distinct.add(bindings[i].type);
+                }
+                typeIndexes[i] = index;
+            }
+            this.types = distinct.toArray(new Class<?>[0]);
+        }
+    }
+}
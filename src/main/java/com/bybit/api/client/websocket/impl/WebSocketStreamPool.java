@@ -0,0 +1,178 @@
+package com.bybit.api.client.websocket.impl;
+
+import com.bybit.api.client.config.BybitApiConfig;
+import com.bybit.api.client.exception.BybitApiException;
+import com.bybit.api.client.websocket.httpclient.WebsocketStreamClient;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.*;
+import java.util.function.Supplier;
+
+/**
+ * Shards public topics across several stream connections.
+ * Each public path gets as many connections as needed so that no connection carries more than {@code topicsPerConnection} topics.
+ * Topics are placed on the least loaded connection, and connections are merged back when topics are removed.
+ * Every connection shares the same message handler, which is therefore called from several reader threads.
+ */
+public class WebSocketStreamPool {
+    private static final Logger LOGGER = LoggerFactory.getLogger(WebSocketStreamPool.class);
+    public static final int DEFAULT_TOPICS_PER_CONNECTION = 50;
+    private static final Set<String> PUBLIC_PATHS = Set.of(
+            BybitApiConfig.V5_PUBLIC_SPOT,
+            BybitApiConfig.V5_PUBLIC_LINEAR,
+            BybitApiConfig.V5_PUBLIC_INVERSE,
+            BybitApiConfig.V5_PUBLIC_OPTION);
+
+    private final Supplier<WebsocketStreamClient> clientSupplier;
+    private final int topicsPerConnection;
+    private final Map<String, List<Shard>> shardsByPath = new HashMap<>();
+    private final Map<String, Map<String, Shard>> ownersByPath = new HashMap<>();
+
+    /**
+     * @param clientSupplier      creates a new, not yet connected, stream client sharing the pool message handler
+     * @param topicsPerConnection maximum number of topics subscribed on a single connection
+     */
+    public WebSocketStreamPool(Supplier<WebsocketStreamClient> clientSupplier, int topicsPerConnection) {
+        if (topicsPerConnection <= 0) {
+            throw new BybitApiException("[WebSocketStreamPool] topicsPerConnection must be positive");
+        }
+        this.clientSupplier = clientSupplier;
+        this.topicsPerConnection = topicsPerConnection;
+    }
+
+    /**
+     * Subscribe topics on a public path, topics already subscribed are ignored.
+     */
+    public synchronized void subscribe(String path, Collection<String> topics) {
+        checkPath(path);
+        List<Shard> shards = shardsByPath.computeIfAbsent(path, p -> new ArrayList<>());
+        Map<String, Shard> owners = ownersByPath.computeIfAbsent(path, p -> new HashMap<>());
+        Map<Shard, List<String>> added = new LinkedHashMap<>();
+        for (String topic : topics) {
+            if (owners.containsKey(topic)) {
+                continue;
+            }
+            Shard shard = leastLoaded(shards);
+            if (shard == null) {
+                shard = new Shard();
+                shards.add(shard);
+            }
+            shard.topics.add(topic);
+            owners.put(topic, shard);
+            added.computeIfAbsent(shard, s -> new ArrayList<>()).add(topic);
+        }
+        added.forEach((shard, newTopics) -> subscribeOn(path, shard, newTopics));
+    }
+
+    /**
+     * Unsubscribe topics from a public path and merge under-used connections.
+     */
+    public synchronized void unsubscribe(String path, Collection<String> topics) {
+        checkPath(path);
+        List<Shard> shards = shardsByPath.getOrDefault(path, Collections.emptyList());
+        Map<String, Shard> owners = ownersByPath.getOrDefault(path, Collections.emptyMap());
+        Map<Shard, List<String>> removed = new LinkedHashMap<>();
+        for (String topic : topics) {
+            Shard shard = owners.remove(topic);
+            if (shard != null) {
+                shard.topics.remove(topic);
+                removed.computeIfAbsent(shard, s -> new ArrayList<>()).add(topic);
+            }
+        }
+        removed.forEach((shard, oldTopics) -> {
+            if (shard.topics.isEmpty()) {
+                close(shard);
+                shards.remove(shard);
+            } else {
+                shard.client.unsubscribe(oldTopics);
+            }
+        });
+        rebalance(path, shards, owners);
+    }
+
+    /**
+     * Close every connection of every path.
+     */
+    public synchronized void close() {
+        shardsByPath.values().forEach(shards -> shards.forEach(this::close));
+        shardsByPath.clear();
+        ownersByPath.clear();
+    }
+
+    /**
+     * @return number of open connections for a path
+     */
+    public synchronized int getConnectionCount(String path) {
+        return shardsByPath.getOrDefault(path, Collections.emptyList()).size();
+    }
+
+    /**
+     * @return topics subscribed on a path, one set per connection
+     */
+    public synchronized List<Set<String>> getTopicsPerConnection(String path) {
+        List<Set<String>> result = new ArrayList<>();
+        for (Shard shard : shardsByPath.getOrDefault(path, Collections.emptyList())) {
+            result.add(Collections.unmodifiableSet(new LinkedHashSet<>(shard.topics)));
+        }
+        return result;
+    }
+
+    private void rebalance(String path, List<Shard> shards, Map<String, Shard> owners) {
+        int total = owners.size();
+        int needed = (total + topicsPerConnection - 1) / topicsPerConnection;
+        while (shards.size() > needed) {
+            Shard victim = Collections.min(shards, Comparator.comparingInt(s -> s.topics.size()));
+            shards.remove(victim);
+            Map<Shard, List<String>> moved = new LinkedHashMap<>();
+            for (String topic : victim.topics) {
+                Shard target = leastLoaded(shards);
+                target.topics.add(topic);
+                owners.put(topic, target);
+                moved.computeIfAbsent(target, s -> new ArrayList<>()).add(topic);
+            }
+            // subscribe on the new owners before dropping the old connection so no update is missed
+            moved.forEach((shard, topics) -> subscribeOn(path, shard, topics));
+            close(victim);
+            LOGGER.info("Merged {} topics of {} into remaining {} connections", victim.topics.size(), path, shards.size());
+        }
+    }
+
+    private Shard leastLoaded(List<Shard> shards) {
+        Shard best = null;
+        for (Shard shard : shards) {
+            if (shard.topics.size() < topicsPerConnection && (best == null || shard.topics.size() < best.topics.size())) {
+                best = shard;
+            }
+        }
+        return best;
+    }
+
+    private void subscribeOn(String path, Shard shard, List<String> topics) {
+        if (shard.client == null) {
+            shard.client = clientSupplier.get();
+            shard.client.getPublicChannelStream(topics, path);
+            return;
+        }
+        // the client keeps the topics in its registry, so they are also replayed when it reconnects
+        shard.client.subscribe(topics);
+    }
+
+    private void close(Shard shard) {
+        if (shard.client != null) {
+            // also cancels a reconnect scheduled while the connection is down
+            shard.client.close();
+        }
+    }
+
+    private static void checkPath(String path) {
+        if (!PUBLIC_PATHS.contains(path)) {
+            throw new BybitApiException("[WebSocketStreamPool] Only public paths can be pooled: " + path);
+        }
+    }
+
+    private static final class Shard {
+        private final Set<String> topics = new LinkedHashSet<>();
+        private WebsocketStreamClient client;
+    }
+}
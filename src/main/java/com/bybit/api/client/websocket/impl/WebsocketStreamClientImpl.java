@@ -1,15 +1,20 @@
 package com.bybit.api.client.websocket.impl;
 
 import com.bybit.api.client.constant.BybitApiConstants;
+import com.bybit.api.client.exception.BybitApiException;
 import com.bybit.api.client.websocket.callback.WebSocketMessageCallback;
+import com.bybit.api.client.websocket.callback.WebSocketReconnectListener;
 import com.bybit.api.client.websocket.httpclient.WebSocketStreamHttpClientSingleton;
 import com.bybit.api.client.websocket.httpclient.WebsocketStreamClient;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.bybit.api.client.config.BybitApiConfig;
 import com.bybit.api.client.security.HmacSHA256Signer;
+import lombok.AccessLevel;
 import lombok.Getter;
 import okhttp3.*;
+import okio.ByteString;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
@@ -17,6 +22,10 @@ import org.slf4j.LoggerFactory;
 
 import java.time.Instant;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -26,17 +35,51 @@ import static com.bybit.api.client.constant.Helper.generateTransferID;
 
 @Getter
 public class WebsocketStreamClientImpl implements WebsocketStreamClient {
-    private static final String THREAD_PING = "thread-ping";
-    private static final String THREAD_PRIVATE_AUTH = "thread-private-auth";
     private static final String PING_DATA = "{\"op\":\"ping\"}";
+    private static final String OP_SUBSCRIBE = "subscribe";
+    private static final String OP_UNSUBSCRIBE = "unsubscribe";
+    private static final int NORMAL_CLOSURE = 1000;
+    // Spot accepts at most 10 args per request, the other paths limit the args of a request to 21000 characters
+    private static final int SPOT_MAX_ARGS_PER_REQUEST = 10;
+    private static final int MAX_ARGS_LENGTH_PER_REQUEST = 21000;
     private static final Logger LOGGER = LoggerFactory.getLogger(WebsocketStreamClientImpl.class);
     private static final ObjectMapper objectMapper = new ObjectMapper();
 
     private WebSocketMessageCallback webSocketMessageCallback;
     private final WebSocketStreamHttpClientSingleton webSocketHttpClientSingleton;
-    private WebSocket webSocket;
-    private boolean isAuthenticated = false;
+    @Getter(AccessLevel.NONE)
+    private volatile WebSocket webSocket;
+    @Getter(AccessLevel.NONE)
+    private volatile ClientWebSocket clientWebSocket; // webSocket as handed to the user
+    @Getter(AccessLevel.NONE)
+    private ScheduledFuture<?> pingTask;
+    private volatile boolean isAuthenticated = false;
+    @Getter(AccessLevel.NONE)
+    private final List<WebSocketReconnectListener> reconnectListeners = new CopyOnWriteArrayList<>();
+    private volatile boolean autoReconnect = true;
+    @Getter(AccessLevel.NONE)
+    private volatile boolean closeRequested;
+    @Getter(AccessLevel.NONE)
+    private boolean reconnectScheduled;
+    @Getter(AccessLevel.NONE)
+    private ScheduledFuture<?> reconnectTask;
+    @Getter(AccessLevel.NONE)
+    private int reconnectAttempts;
+    @Getter(AccessLevel.NONE)
+    private long disconnectedAtNanos;
+    private long reconnectInitialDelay = BybitApiConstants.DEFAULT_RECONNECT_INITIAL_DELAY;
+    private long reconnectMaxDelay = BybitApiConstants.DEFAULT_RECONNECT_MAX_DELAY;
+    private volatile long reconnectCount;
+    private volatile long lastRecoveryMillis;
+    @Getter(AccessLevel.NONE)
+    private boolean tradeRequestSent;
+    @Getter(AccessLevel.NONE)
     private final List<Map<String, Object>> messageQueue = new ArrayList<>(); // Queue to hold messages before authentication
+    private final Set<String> subscriptions = new LinkedHashSet<>(); // Registry replayed on every (re)connect
+    @Getter(AccessLevel.NONE)
+    private final Map<String, PendingRequest> pendingRequests = new ConcurrentHashMap<>(); // Subscribe and unsubscribe requests by req_id
+    @Getter(AccessLevel.NONE)
+    private WebSocket subscriptionSocket; // guarded by subscriptions, set once the registry has been replayed on the open socket
 
     private final String apikey;
     private final String secret;
@@ -64,11 +107,15 @@ public class WebsocketStreamClientImpl implements WebsocketStreamClient {
     private void setupChannelStream(List<String> argNames, String path) {
         this.argNames = new ArrayList<>(argNames);
         this.path = path;
+        synchronized (subscriptions) {
+            subscriptions.addAll(argNames);
+        }
     }
 
     private void setupChannelStream(Map<String,Object> params, String path) {
         this.params = new HashMap<>(params);
         this.path = path;
+        this.tradeRequestSent = false;
     }
 
     private void sendJsonMessage(WebSocket ws, Object messageObject, String messageType) {
@@ -102,6 +149,114 @@ public class WebsocketStreamClientImpl implements WebsocketStreamClient {
         sendJsonMessage(ws, subscribeMsg, messageType);
     }
 
+    public void sendUnsubscribeMessage(WebSocket ws, List<String> args) {
+        String messageType = "Unsubscribe";
+        Map<String, Object> unsubscribeMsg = createUnsubscribeMessage(args);
+        sendJsonMessage(ws, unsubscribeMsg, messageType);
+    }
+
+    public void subscribe(List<String> topics) {
+        checkSubscriptionPath();
+        synchronized (subscriptions) {
+            List<String> added = new ArrayList<>();
+            for (String topic : topics) {
+                if (subscriptions.add(topic)) {
+                    added.add(topic);
+                }
+            }
+            // Before the socket is open the registry is replayed by onOpen
+            if (subscriptionSocket != null && !added.isEmpty()) {
+                sendBatched(subscriptionSocket, OP_SUBSCRIBE, added);
+            }
+        }
+    }
+
+    public void unsubscribe(List<String> topics) {
+        checkSubscriptionPath();
+        synchronized (subscriptions) {
+            List<String> removed = new ArrayList<>();
+            for (String topic : topics) {
+                if (subscriptions.remove(topic)) {
+                    removed.add(topic);
+                }
+            }
+            if (subscriptionSocket != null && !removed.isEmpty()) {
+                sendBatched(subscriptionSocket, OP_UNSUBSCRIBE, removed);
+            }
+        }
+    }
+
+    public Set<String> getSubscriptions() {
+        synchronized (subscriptions) {
+            return Collections.unmodifiableSet(new LinkedHashSet<>(subscriptions));
+        }
+    }
+
+    private void checkSubscriptionPath() {
+        if (BybitApiConfig.V5_TRADE.equals(path)) {
+            throw new BybitApiException("[WebsocketStreamClient] Topics can not be subscribed on the trade path");
+        }
+    }
+
+    /**
+     * Replay the registry on a freshly opened socket, from then on subscribe and unsubscribe go straight to the socket.
+     */
+    private void replaySubscriptions(WebSocket ws) {
+        synchronized (subscriptions) {
+            subscriptionSocket = ws;
+            if (!subscriptions.isEmpty()) {
+                sendBatched(ws, OP_SUBSCRIBE, new ArrayList<>(subscriptions));
+            }
+        }
+    }
+
+    /**
+     * Send topics in as few requests as the exchange accepts, each request is tracked by its req_id until acknowledged.
+     */
+    private void sendBatched(WebSocket ws, String op, List<String> topics) {
+        int maxArgs = BybitApiConfig.V5_PUBLIC_SPOT.equals(path) ? SPOT_MAX_ARGS_PER_REQUEST : Integer.MAX_VALUE;
+        int from = 0;
+        while (from < topics.size()) {
+            int to = from;
+            int length = 0;
+            while (to < topics.size() && to - from < maxArgs) {
+                // quotes and separator
+                int topicLength = topics.get(to).length() + 3;
+                if (to > from && length + topicLength > MAX_ARGS_LENGTH_PER_REQUEST) {
+                    break;
+                }
+                length += topicLength;
+                to++;
+            }
+            List<String> batch = new ArrayList<>(topics.subList(from, to));
+            Map<String, Object> message = OP_SUBSCRIBE.equals(op) ? createSubscribeMessage(batch) : createUnsubscribeMessage(batch);
+            pendingRequests.put((String) message.get("req_id"), new PendingRequest(op, batch));
+            sendJsonMessage(ws, message, OP_SUBSCRIBE.equals(op) ? "Subscribe" : "Unsubscribe");
+            from = to;
+        }
+    }
+
+    /**
+     * Match a subscribe or unsubscribe response with its request, topics rejected by the exchange leave the registry.
+     */
+    private void onSubscriptionResponse(String msg) throws JsonProcessingException {
+        JsonNode response = objectMapper.readTree(msg);
+        PendingRequest request = pendingRequests.remove(response.path("req_id").asText());
+        if (request == null) {
+            return;
+        }
+        if (response.path("success").asBoolean()) {
+            LOGGER.debug("{} acknowledged: {}", request.op, request.topics);
+            return;
+        }
+        LOGGER.error("{} failed for {}: {}", request.op, request.topics, response.path("ret_msg").asText());
+        if (OP_SUBSCRIBE.equals(request.op)) {
+            synchronized (subscriptions) {
+                request.topics.forEach(subscriptions::remove);
+            }
+        }
+    }
+
     @NotNull
     private Map<String, Object> createSubscribeMessage(List<String> args) {
         Map<String, Object> wsPostMsg = new LinkedHashMap<>();
@@ -111,6 +266,15 @@ public class WebsocketStreamClientImpl implements WebsocketStreamClient {
         return wsPostMsg;
     }
 
+    @NotNull
+    private Map<String, Object> createUnsubscribeMessage(List<String> args) {
+        Map<String, Object> wsPostMsg = new LinkedHashMap<>();
+        wsPostMsg.put("req_id", generateTransferID());
+        wsPostMsg.put("op", "unsubscribe");
+        wsPostMsg.put("args", args);
+        return wsPostMsg;
+    }
+
     @NotNull
     private Map<String, Object> createApiMessage(Map<String, Object> params) {
         Map<String, Object> wsPostMsg = new LinkedHashMap<>();
@@ -149,28 +313,35 @@ public class WebsocketStreamClientImpl implements WebsocketStreamClient {
                 BybitApiConfig.V3_SPOT_PRIVATE.equals(path);*/
     }
 
-    @NotNull
-    private Thread createPingThread() {
-        return new Thread(() -> {
-            try {
-                // check if the WebSocket is still valid
-                while (this.webSocket != null) {
-                        webSocket.send(PING_DATA);
-                        LOGGER.info(PING_DATA);
-                        TimeUnit.SECONDS.sleep(pingInterval); // waits for 10 seconds before the next iteration
-                }
-            } catch (InterruptedException e) {
-                LOGGER.error("Ping thread was interrupted", e);
-                Thread.currentThread().interrupt();
-            }
-        });
+    private synchronized void startPing() {
+        stopPing();
+        // Heartbeats of every stream client run on the shared scheduler
+        pingTask = webSocketHttpClientSingleton.schedulePing(this::sendPing, pingInterval);
+    }
+
+    private synchronized void stopPing() {
+        if (pingTask != null) {
+            pingTask.cancel(false);
+            pingTask = null;
+        }
+    }
+
+    private void sendPing() {
+        WebSocket ws = this.webSocket;
+        // check if the WebSocket is still valid
+        if (ws == null) {
+            stopPing();
+            return;
+        }
+        ws.send(PING_DATA);
+        LOGGER.info(PING_DATA);
     }
 
     @NotNull
     private Map<String, Object> createAuthMessage() {
         long expires = Instant.now().toEpochMilli() + 10000;
         String val = "GET/realtime" + expires;
-        String signature = HmacSHA256Signer.getSignature(val, secret);
+        String signature = HmacSHA256Signer.forSecret(secret).auth(val);
 
         var args = List.of(apikey, expires, signature);
         return Map.of("req_id", generateTransferID(), "op", "auth", "args", args);
@@ -181,18 +352,15 @@ public class WebsocketStreamClientImpl implements WebsocketStreamClient {
         sendJsonMessage(ws, authMessage, "Auth");
     }
 
-    @NotNull
-    private Thread createAuthThread(WebSocket ws, Runnable afterAuth) {
-        return new Thread(() -> {
-            try {
-                sendAuthMessage(ws);
-                if (afterAuth != null) {
-                    afterAuth.run();
-                }
-            } catch (Exception e) {
-                LOGGER.error("Error during authentication: ", e);
+    private void authenticate(WebSocket ws, Runnable afterAuth) {
+        try {
+            sendAuthMessage(ws);
+            if (afterAuth != null) {
+                afterAuth.run();
             }
-        });
+        } catch (Exception e) {
+            LOGGER.error("Error during authentication: ", e);
+        }
     }
 
     @NotNull
@@ -221,14 +389,22 @@ public class WebsocketStreamClientImpl implements WebsocketStreamClient {
     @NotNull
     private WebSocketListener createWebSocketListener() {
         return new WebSocketListener() {
+            @Override
+            public void onClosing(@NotNull WebSocket webSocket, int code, @NotNull String reason) {
+                // Complete the close handshake started by the server
+                webSocket.close(code, reason);
+            }
+
             @Override
             public void onClosed(@NotNull WebSocket webSocket, int code, @NotNull String reason) {
-                WebsocketStreamClientImpl.this.onClose(webSocket, code, reason);
+                LOGGER.info("WebSocket closed. Code: {}, Reason: {}", code, reason);
+                WebsocketStreamClientImpl.this.onDisconnected(webSocket, "closed " + code + " " + reason);
             }
 
             @Override
             public void onFailure(@NotNull WebSocket webSocket, @NotNull Throwable t, @Nullable Response response) {
                 WebsocketStreamClientImpl.this.onError(t);
+                WebsocketStreamClientImpl.this.onDisconnected(webSocket, String.valueOf(t.getMessage()));
             }
 
             @Override
@@ -247,6 +423,69 @@ public class WebsocketStreamClientImpl implements WebsocketStreamClient {
         };
     }
 
+    public void setAutoReconnect(boolean autoReconnect) {
+        this.autoReconnect = autoReconnect;
+    }
+
+    public synchronized void setReconnectBackoff(long initialDelayMillis, long maxDelayMillis) {
+        this.reconnectInitialDelay = Math.max(1, initialDelayMillis);
+        this.reconnectMaxDelay = Math.max(this.reconnectInitialDelay, maxDelayMillis);
+    }
+
+    public void addReconnectListener(WebSocketReconnectListener listener) {
+        reconnectListeners.add(listener);
+    }
+
+    /**
+     * The connection was lost without being closed by the user, schedule a reconnect with exponential backoff and jitter.
+     */
+    private void onDisconnected(WebSocket ws, String reason) {
+        synchronized (this) {
+            // Ignore late events of a socket which has already been replaced
+            if (this.webSocket != null && this.webSocket != ws) {
+                return;
+            }
+            this.webSocket = null;
+            this.isAuthenticated = false;
+            stopPing();
+            synchronized (subscriptions) {
+                subscriptionSocket = null;
+            }
+            // Outstanding subscribes stay in the registry and are replayed with it
+            pendingRequests.clear();
+            if (closeRequested || !autoReconnect || reconnectScheduled) {
+                return;
+            }
+            if (disconnectedAtNanos == 0) {
+                disconnectedAtNanos = System.nanoTime();
+            }
+            long delay = nextReconnectDelay(reconnectAttempts++);
+            reconnectScheduled = true;
+            LOGGER.warn("WebSocket disconnected ({}), reconnect attempt {} in {} ms", reason, reconnectAttempts, delay);
+            reconnectTask = webSocketHttpClientSingleton.schedule(this::reconnect, delay, TimeUnit.MILLISECONDS);
+        }
+        for (WebSocketReconnectListener listener : reconnectListeners) {
+            listener.onDisconnected(reason);
+        }
+    }
+
+    private long nextReconnectDelay(int attempt) {
+        long delay = reconnectInitialDelay << Math.min(attempt, 20);
+        delay = Math.min(delay, reconnectMaxDelay);
+        // equal jitter: half fixed, half random, so reconnects of many clients do not line up
+        return delay / 2 + ThreadLocalRandom.current().nextLong(delay / 2 + 1);
+    }
+
+    private synchronized void reconnect() {
+        reconnectScheduled = false;
+        reconnectTask = null;
+        // Closed, or reconnect turned off, while the attempt was waiting
+        if (closeRequested || !autoReconnect) {
+            return;
+        }
+        open();
+    }
+
     public void setMessageHandler(WebSocketMessageCallback webSocketMessageCallback) {
         this.webSocketMessageCallback = webSocketMessageCallback;
     }
@@ -262,7 +501,8 @@ public class WebsocketStreamClientImpl implements WebsocketStreamClient {
 
     @Override
     public void onMessage(String msg) throws JsonProcessingException {
-        if (requiresAuthentication(path) && msg.contains("\"op\":\"auth\"")) {
+        // Only scan for the auth response until the session is authenticated
+        if (!isAuthenticated && requiresAuthentication(path) && msg.contains("\"op\":\"auth\"")) {
             // Check if authentication was successful
             isAuthenticated = msg.contains("\"retCode\":0");
             if (isAuthenticated) {
@@ -273,6 +513,10 @@ public class WebsocketStreamClientImpl implements WebsocketStreamClient {
             }
         }
         
+        if (!pendingRequests.isEmpty() && msg.contains("\"req_id\"") && msg.contains("subscribe\"")) {
+            onSubscriptionResponse(msg);
+        }
+
         if (webSocketMessageCallback != null) {
             webSocketMessageCallback.onMessage(msg);
         } else {
@@ -288,42 +532,113 @@ public class WebsocketStreamClientImpl implements WebsocketStreamClient {
     @Override
     public void onClose(WebSocket ws, int code, String reason) {
         LOGGER.info("WebSocket closed. Code: {}, Reason: {}", code, reason);
+        // Closed by the user, do not reconnect
+        shutdown();
         ws.close(code, reason);
-        this.webSocket = null;
+    }
+
+    @Override
+    public void close() {
+        WebSocket ws = shutdown();
+        if (ws != null) {
+            ws.close(NORMAL_CLOSURE, "close normal");
+        }
+    }
+
+    /**
+     * Stop the client for good: no reconnect, a scheduled attempt is cancelled. The subscription registry is kept for the next connect.
+     *
+     * @return the socket which was open, null if none
+     */
+    private WebSocket shutdown() {
+        WebSocket ws;
+        synchronized (this) {
+            closeRequested = true;
+            reconnectScheduled = false;
+            if (reconnectTask != null) {
+                reconnectTask.cancel(false);
+                reconnectTask = null;
+            }
+            ws = this.webSocket;
+            this.webSocket = null;
+            this.clientWebSocket = null;
+            this.isAuthenticated = false;
+            stopPing();
+        }
+        synchronized (subscriptions) {
+            subscriptionSocket = null;
+        }
+        pendingRequests.clear();
+        return ws;
     }
 
     @Override
     public void onOpen(WebSocket ws) {
+        recordReconnect();
         // If it requires authentication, authenticate first, then subscribe.
         if (requiresAuthentication(path)) {
-            Thread authThread = createAuthThread(ws, () -> {
-                // After auth, trade api
+            webSocketHttpClientSingleton.execute(() -> authenticate(ws, () -> {
+                // After auth, trade api. The order request is sent once and never replayed after a reconnect.
                 if(path.equals(BybitApiConfig.V5_TRADE)){
-                    sendSubscribeMessage(ws, params);
+                    if (!tradeRequestSent) {
+                        tradeRequestSent = true;
+                        sendSubscribeMessage(ws, params);
+                    }
                 }
-                // After auth, send a subscribed message
+                // After auth, replay the subscription registry
                 else{
-                    sendSubscribeMessage(ws, argNames);
+                    replaySubscriptions(ws);
                 }
-            });
-            authThread.start();
+            }));
         } else {
-            // If no authentication is needed, just send the subscribed message.
-            sendSubscribeMessage(ws, argNames);
+            // If no authentication is needed, just replay the subscription registry.
+            replaySubscriptions(ws);
+        }
+    }
+
+    private void recordReconnect() {
+        int attempts;
+        long recoveryMillis;
+        synchronized (this) {
+            if (disconnectedAtNanos == 0) {
+                return;
+            }
+            attempts = reconnectAttempts;
+            recoveryMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - disconnectedAtNanos);
+            disconnectedAtNanos = 0;
+            reconnectAttempts = 0;
+            lastRecoveryMillis = recoveryMillis;
+            reconnectCount++;
+        }
+        LOGGER.info("WebSocket reconnected after {} attempts in {} ms, replaying subscriptions", attempts, recoveryMillis);
+        for (WebSocketReconnectListener listener : reconnectListeners) {
+            listener.onReconnected(attempts, recoveryMillis);
         }
     }
 
     @Override
-    public WebSocket connect() {
+    public synchronized WebSocket connect() {
+        closeRequested = false;
+        return open();
+    }
+
+    /**
+     * Open a new socket, listener events wait for the lock until the socket is in place.
+     */
+    private synchronized WebSocket open() {
         String wssUrl = getWssUrl();
         LOGGER.info(wssUrl);
         this.webSocket = webSocketHttpClientSingleton.createWebSocket(wssUrl, createWebSocketListener());
+        this.clientWebSocket = new ClientWebSocket(this.webSocket);
 
-        // Start the ping thread immediately.
-        Thread pingThread = createPingThread();
-        pingThread.setName(THREAD_PING); // Default to public ping name
-        pingThread.start();
-        return this.webSocket;
+        // Start the heartbeat immediately.
+        startPing();
+        return this.clientWebSocket;
+    }
+
+    @Override
+    public WebSocket getWebSocket() {
+        return clientWebSocket;
     }
 
     @Override
@@ -343,4 +658,61 @@ public class WebsocketStreamClientImpl implements WebsocketStreamClient {
         setupChannelStream(params, path);
         return connect();
     }
+
+    /**
+     * The socket as returned to the user. Closing it with a normal closure (1000) closes the client like {@link #close()},
+     * any other code only drops the connection, which is then reconnected.
+     */
+    private final class ClientWebSocket implements WebSocket {
+        private final WebSocket delegate;
+
+        private ClientWebSocket(WebSocket delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public boolean close(int code, @Nullable String reason) {
+            if (code == NORMAL_CLOSURE) {
+                shutdown();
+            }
+            return delegate.close(code, reason);
+        }
+
+        @Override
+        public void cancel() {
+            shutdown();
+            delegate.cancel();
+        }
+
+        @NotNull
+        @Override
+        public Request request() {
+            return delegate.request();
+        }
+
+        @Override
+        public long queueSize() {
+            return delegate.queueSize();
+        }
+
+        @Override
+        public boolean send(@NotNull String text) {
+            return delegate.send(text);
+        }
+
+        @Override
+        public boolean send(@NotNull ByteString bytes) {
+            return delegate.send(bytes);
+        }
+    }
+
+    private static final class PendingRequest {
+        private final String op;
+        private final List<String> topics;
+
+        private PendingRequest(String op, List<String> topics) {
+            this.op = op;
+            this.topics = topics;
+        }
+    }
 }
@@ -0,0 +1,134 @@
+package com.bybit.api.client.websocket.metrics;
+
+import com.bybit.api.client.websocket.callback.WebSocketMessageCallback;
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+/**
+ * Instruments the stream pipeline: wraps the message handler of a stream client and records per topic metrics.
+ * The header values are located with plain string scans, the message is not parsed:
+ * {@code ts} and {@code cts} give the exchange latencies, {@code u} the orderbook update id and {@code seq}, or {@code cs}
+ * for tickers, the sequence. Messages without a topic, e.g. operation responses, are passed through without being recorded.
+ */
+public class InstrumentedMessageCallback implements WebSocketMessageCallback, StreamMetrics {
+    private static final String TOPIC_KEY = "\"topic\":\"";
+    private static final String TS_KEY = "\"ts\":";
+    private static final String CTS_KEY = "\"cts\":";
+    private static final String UPDATE_ID_KEY = "\"u\":";
+    private static final String SEQ_KEY = "\"seq\":";
+    private static final String CROSS_SEQ_KEY = "\"cs\":";
+    private static final String SNAPSHOT = "\"type\":\"snapshot\"";
+
+    private final WebSocketMessageCallback downstream;
+    private final LongSupplier clock;
+    private final Map<String, TopicMetrics> topics = new ConcurrentHashMap<>();
+    private final List<Consumer<TopicMetrics>> topicListeners = new CopyOnWriteArrayList<>();
+
+    public InstrumentedMessageCallback(WebSocketMessageCallback downstream) {
+        this(downstream, System::currentTimeMillis);
+    }
+
+    /**
+     * @param downstream handler whose processing time is measured
+     * @param clock      wall clock in milliseconds compared with the exchange timestamps
+     */
+    public InstrumentedMessageCallback(WebSocketMessageCallback downstream, LongSupplier clock) {
+        this.downstream = downstream;
+        this.clock = clock;
+    }
+
+    @Override
+    public void onMessage(String message) throws JsonProcessingException {
+        long now = clock.getAsLong();
+        TopicMetrics metrics = metricsOf(message);
+        if (metrics != null) {
+            metrics.recordReceive(now, scanLong(message, TS_KEY), scanLong(message, CTS_KEY), scanLong(message, UPDATE_ID_KEY),
+                    message.contains(SNAPSHOT), sequenceOf(message));
+        }
+        long start = System.nanoTime();
+        try {
+            downstream.onMessage(message);
+        } finally {
+            if (metrics != null) {
+                metrics.getHandlerTime().record(System.nanoTime() - start);
+            }
+        }
+    }
+
+    @Override
+    public Collection<TopicMetrics> getTopicMetrics() {
+        return Collections.unmodifiableCollection(topics.values());
+    }
+
+    @Override
+    public TopicMetrics getTopicMetrics(String topic) {
+        return topics.get(topic);
+    }
+
+    @Override
+    public void addTopicListener(Consumer<TopicMetrics> listener) {
+        topicListeners.add(listener);
+    }
+
+    private TopicMetrics metricsOf(String message) {
+        int index = message.indexOf(TOPIC_KEY);
+        if (index < 0) {
+            return null;
+        }
+        int start = index + TOPIC_KEY.length();
+        int end = message.indexOf('"', start);
+        if (end < 0) {
+            return null;
+        }
+        String topic = message.substring(start, end);
+        TopicMetrics metrics = topics.get(topic);
+        if (metrics == null) {
+            TopicMetrics created = new TopicMetrics(topic, clock);
+            metrics = topics.putIfAbsent(topic, created);
+            if (metrics == null) {
+                metrics = created;
+                for (Consumer<TopicMetrics> listener : topicListeners) {
+                    listener.accept(created);
+                }
+            }
+        }
+        return metrics;
+    }
+
+    private static long sequenceOf(String message) {
+        long sequence = scanLong(message, SEQ_KEY);
+        return sequence > 0 ? sequence : scanLong(message, CROSS_SEQ_KEY);
+    }
+
+    /**
+     * @return the first numeric value of the key, -1 when absent
+     */
+    static long scanLong(String message, String key) {
+        int index = message.indexOf(key);
+        if (index < 0) {
+            return -1;
+        }
+        int i = index + key.length();
+        if (i < message.length() && message.charAt(i) == '"') {
+            i++;
+        }
+        long value = 0;
+        int digits = 0;
+        for (; i < message.length(); i++, digits++) {
+            char c = message.charAt(i);
+            if (c < '0' || c > '9') {
+                break;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return digits == 0 ? -1 : value;
+    }
+}
@@ -0,0 +1,49 @@
+package com.bybit.api.client.websocket.metrics;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Publishes {@link StreamMetrics} to a Micrometer registry, tagged by topic. Topics received after binding are added as they appear.
+ * Requires micrometer-core on the classpath, which is an optional dependency of this library.
+ */
+public class MicrometerStreamMetricsBinder implements MeterBinder {
+    private static final String PREFIX = "bybit.stream.";
+    private static final double[] PERCENTILES = {50, 99, 99.9};
+
+    private final StreamMetrics metrics;
+
+    public MicrometerStreamMetricsBinder(StreamMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        metrics.addTopicListener(topic -> bind(registry, topic));
+        metrics.getTopicMetrics().forEach(topic -> bind(registry, topic));
+    }
+
+    private static void bind(MeterRegistry registry, TopicMetrics topic) {
+        Tags tags = Tags.of("topic", topic.getTopic());
+        FunctionCounter.builder(PREFIX + "messages", topic, TopicMetrics::getMessageCount).tags(tags).register(registry);
+        FunctionCounter.builder(PREFIX + "gaps", topic, TopicMetrics::getGapCount).tags(tags).register(registry);
+        FunctionCounter.builder(PREFIX + "out.of.order", topic, TopicMetrics::getOutOfOrderCount).tags(tags).register(registry);
+        Gauge.builder(PREFIX + "rate", topic, TopicMetrics::getMessageRate).tags(tags).baseUnit("messages/s").register(registry);
+        bindLatency(registry, PREFIX + "push.latency", tags, topic.getPushLatency());
+        bindLatency(registry, PREFIX + "engine.latency", tags, topic.getEngineLatency());
+        bindLatency(registry, PREFIX + "handler.time", tags, topic.getHandlerTime());
+    }
+
+    private static void bindLatency(MeterRegistry registry, String name, Tags tags, LatencyRecorder recorder) {
+        for (double percentile : PERCENTILES) {
+            Gauge.builder(name, recorder, r -> r.getValueAtPercentile(percentile))
+                    .tags(tags.and("percentile", String.valueOf(percentile)))
+                    .baseUnit("nanoseconds")
+                    .register(registry);
+        }
+        Gauge.builder(name + ".max", recorder, LatencyRecorder::getMax).tags(tags).baseUnit("nanoseconds").register(registry);
+    }
+}
@@ -0,0 +1,26 @@
+package com.bybit.api.client.websocket.metrics;
+
+import java.util.Collection;
+import java.util.function.Consumer;
+
+/**
+ * Read side of the stream instrumentation, one {@link TopicMetrics} per topic seen.
+ */
+public interface StreamMetrics {
+    /**
+     * @return metrics of every topic received so far
+     */
+    Collection<TopicMetrics> getTopicMetrics();
+
+    /**
+     * @param topic topic, e.g. orderbook.50.BTCUSDT
+     * @return metrics of the topic, or null if it was never received
+     */
+    TopicMetrics getTopicMetrics(String topic);
+
+    /**
+     * Called once for every new topic, e.g. to register meters.
+     * @param listener listener
+     */
+    void addTopicListener(Consumer<TopicMetrics> listener);
+}
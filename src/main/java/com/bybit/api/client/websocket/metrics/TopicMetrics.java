@@ -0,0 +1,123 @@
+package com.bybit.api.client.websocket.metrics;
+
+import lombok.Getter;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Metrics of one stream topic.
+ * Latencies are recorded in nanoseconds. Exchange latencies compare the exchange timestamps, which have millisecond resolution,
+ * with the local wall clock, so they include the clock offset to the exchange.
+ */
+public class TopicMetrics {
+    @Getter
+    private final String topic;
+    /** Local receive time minus the {@code ts} push time of the message. */
+    @Getter
+    private final LatencyRecorder pushLatency = new LatencyRecorder();
+    /** Local receive time minus the {@code cts} matching engine time, for messages carrying it. */
+    @Getter
+    private final LatencyRecorder engineLatency = new LatencyRecorder();
+    /** Time spent in the message handler. */
+    @Getter
+    private final LatencyRecorder handlerTime = new LatencyRecorder();
+    private final LongAdder messages = new LongAdder();
+    private final LongAdder gaps = new LongAdder();
+    private final LongAdder outOfOrder = new LongAdder();
+    private final LongSupplier clock;
+    private long lastUpdateId;
+    private long lastSequence;
+    private long window;
+    private long windowCount;
+    private long previousWindowCount;
+
+    public TopicMetrics(String topic) {
+        this(topic, System::currentTimeMillis);
+    }
+
+    /**
+     * @param clock wall clock in milliseconds the receive times are taken from
+     */
+    public TopicMetrics(String topic, LongSupplier clock) {
+        this.topic = topic;
+        this.clock = clock;
+    }
+
+    public long getMessageCount() {
+        return messages.sum();
+    }
+
+    /**
+     * @return messages received during the last complete second, 0 once the topic went quiet for a second
+     */
+    public long getMessageRate() {
+        long second = clock.getAsLong() / 1000;
+        synchronized (this) {
+            if (second == window + 1) {
+                return windowCount;
+            }
+            return second == window ? previousWindowCount : 0;
+        }
+    }
+
+    /**
+     * @return deltas whose update id skipped one or more updates
+     */
+    public long getGapCount() {
+        return gaps.sum();
+    }
+
+    /**
+     * @return messages whose update id or sequence went backwards or repeated
+     */
+    public long getOutOfOrderCount() {
+        return outOfOrder.sum();
+    }
+
+    /**
+     * Record a received message. The update id of orderbook messages must be contiguous between snapshots,
+     * other messages are checked on their sequence, which must not go backwards.
+     */
+    void recordReceive(long nowMillis, long ts, long cts, long updateId, boolean snapshot, long sequence) {
+        messages.increment();
+        if (ts > 0) {
+            pushLatency.record(TimeUnit.MILLISECONDS.toNanos(nowMillis - ts));
+        }
+        if (cts > 0) {
+            engineLatency.record(TimeUnit.MILLISECONDS.toNanos(nowMillis - cts));
+        }
+        long second = nowMillis / 1000;
+        synchronized (this) {
+            if (second != window) {
+                previousWindowCount = second == window + 1 ? windowCount : 0;
+                window = second;
+                windowCount = 0;
+            }
+            windowCount++;
+            if (updateId > 0) {
+                checkUpdateId(updateId, snapshot);
+            } else if (sequence > 0) {
+                if (sequence < lastSequence) {
+                    outOfOrder.increment();
+                } else {
+                    lastSequence = sequence;
+                }
+            }
+        }
+    }
+
+    private void checkUpdateId(long updateId, boolean snapshot) {
+        if (snapshot || lastUpdateId == 0) {
+            lastUpdateId = updateId;
+        } else if (updateId <= lastUpdateId) {
+            outOfOrder.increment();
+        } else {
+            if (updateId != lastUpdateId + 1) {
+                gaps.increment();
+            }
+            lastUpdateId = updateId;
+        }
+    }
+}
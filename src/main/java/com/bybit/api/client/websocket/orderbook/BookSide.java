@@ -0,0 +1,98 @@
+package com.bybit.api.client.websocket.orderbook;
+
+import java.util.Arrays;
+
+/**
+ * One side of a local order book, stored as parallel primitive arrays sorted from best to worst price.
+ * Not thread safe, {@link LocalOrderBook} guards access.
+ */
+final class BookSide {
+    private final boolean descending;
+    private long[] prices;
+    private long[] sizes;
+    private int count;
+
+    BookSide(boolean descending, int initialCapacity) {
+        this.descending = descending;
+        this.prices = new long[initialCapacity];
+        this.sizes = new long[initialCapacity];
+    }
+
+    int count() {
+        return count;
+    }
+
+    long price(int level) {
+        return prices[level];
+    }
+
+    long size(int level) {
+        return sizes[level];
+    }
+
+    void clear() {
+        count = 0;
+    }
+
+    /**
+     * Insert, update or remove (size 0) a price level.
+     */
+    void update(long price, long size) {
+        int index = search(price);
+        if (index >= 0) {
+            if (size == 0) {
+                System.arraycopy(prices, index + 1, prices, index, count - index - 1);
+                System.arraycopy(sizes, index + 1, sizes, index, count - index - 1);
+                count--;
+            } else {
+                sizes[index] = size;
+            }
+            return;
+        }
+        if (size == 0) {
+            return;
+        }
+        int insertAt = -index - 1;
+        if (count == prices.length) {
+            int capacity = Math.max(8, prices.length << 1);
+            prices = Arrays.copyOf(prices, capacity);
+            sizes = Arrays.copyOf(sizes, capacity);
+        }
+        System.arraycopy(prices, insertAt, prices, insertAt + 1, count - insertAt);
+        System.arraycopy(sizes, insertAt, sizes, insertAt + 1, count - insertAt);
+        prices[insertAt] = price;
+        sizes[insertAt] = size;
+        count++;
+    }
+
+    /**
+     * Copy up to {@code levels} levels into the caller's arrays.
+     *
+     * @return number of levels copied
+     */
+    int copy(long[] outPrices, long[] outSizes, int levels) {
+        int n = Math.min(Math.min(levels, count), Math.min(outPrices.length, outSizes.length));
+        System.arraycopy(prices, 0, outPrices, 0, n);
+        System.arraycopy(sizes, 0, outSizes, 0, n);
+        return n;
+    }
+
+    private int search(long price) {
+        int low = 0;
+        int high = count - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            long midPrice = prices[mid];
+            if (midPrice == price) {
+                return mid;
+            }
+            boolean before = descending ? midPrice > price : midPrice < price;
+            if (before) {
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return -(low + 1);
+    }
+}
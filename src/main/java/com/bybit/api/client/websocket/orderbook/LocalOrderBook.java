@@ -0,0 +1,239 @@
+package com.bybit.api.client.websocket.orderbook;
+
+import com.bybit.api.client.util.ScaledDecimal;
+import lombok.Getter;
+
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Level 2 order book for one orderbook.{depth}.{symbol} topic.
+ * Prices and sizes are longs scaled by 10^priceScale and 10^sizeScale, bids are sorted descending and asks ascending.
+ * Updates come from a single stream thread, queries may be issued from any thread and never allocate.
+ * A price of 0 means the side is empty.
+ */
+public class LocalOrderBook {
+    /**
+     * Outcome of applying one orderbook message.
+     */
+    public enum ApplyResult {
+        APPLIED,
+        /** Duplicate or stale delta, or delta received while waiting for a snapshot. */
+        IGNORED,
+        /** Update id was not contiguous, the book is out of sync until the next snapshot. */
+        GAP
+    }
+
+    private static final int INITIAL_DEPTH = 64;
+
+    @Getter
+    private final String topic;
+    @Getter
+    private final String symbol;
+    @Getter
+    private final int priceScale;
+    @Getter
+    private final int sizeScale;
+    private final BookSide bids = new BookSide(true, INITIAL_DEPTH);
+    private final BookSide asks = new BookSide(false, INITIAL_DEPTH);
+    private final StampedLock lock = new StampedLock();
+
+    @Getter
+    private volatile boolean synced;
+    @Getter
+    private volatile long updateId;
+    @Getter
+    private volatile long sequence;
+    @Getter
+    private volatile long timestamp;
+    @Getter
+    private volatile long gapCount;
+
+    public LocalOrderBook(String topic, int priceScale, int sizeScale) {
+        this.topic = topic;
+        this.symbol = topic.substring(topic.lastIndexOf('.') + 1);
+        this.priceScale = priceScale;
+        this.sizeScale = sizeScale;
+    }
+
+    /**
+     * Apply a snapshot or delta. Levels with size 0 are removed.
+     * Deltas must carry update id {@code updateId + 1}, anything else marks the book out of sync.
+     */
+    public ApplyResult apply(boolean snapshot, long updateId, long sequence, long timestamp,
+                             long[] bidPrices, long[] bidSizes, int bidCount,
+                             long[] askPrices, long[] askSizes, int askCount) {
+        long stamp = lock.writeLock();
+        try {
+            if (snapshot) {
+                bids.clear();
+                asks.clear();
+            } else if (!synced || updateId <= this.updateId) {
+                return ApplyResult.IGNORED;
+            } else if (updateId != this.updateId + 1) {
+                synced = false;
+                gapCount++;
+                return ApplyResult.GAP;
+            }
+            for (int i = 0; i < bidCount; i++) {
+                bids.update(bidPrices[i], bidSizes[i]);
+            }
+            for (int i = 0; i < askCount; i++) {
+                asks.update(askPrices[i], askSizes[i]);
+            }
+            this.updateId = updateId;
+            this.sequence = sequence;
+            this.timestamp = timestamp;
+            this.synced = true;
+            return ApplyResult.APPLIED;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Mark the book out of sync, deltas are dropped until a new snapshot arrives.
+     */
+    public void invalidate() {
+        long stamp = lock.writeLock();
+        try {
+            synced = false;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public long bestBidPrice() {
+        return top(bids, true);
+    }
+
+    public long bestBidSize() {
+        return top(bids, false);
+    }
+
+    public long bestAskPrice() {
+        return top(asks, true);
+    }
+
+    public long bestAskSize() {
+        return top(asks, false);
+    }
+
+    /**
+     * @return mid price as a double, NaN when either side is empty
+     */
+    public double midPrice() {
+        long bid = bestBidPrice();
+        long ask = bestAskPrice();
+        if (bid == 0 || ask == 0) {
+            return Double.NaN;
+        }
+        return (ScaledDecimal.toDouble(bid, priceScale) + ScaledDecimal.toDouble(ask, priceScale)) / 2;
+    }
+
+    public int bidDepth() {
+        long stamp = lock.readLock();
+        try {
+            return bids.count();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    public int askDepth() {
+        long stamp = lock.readLock();
+        try {
+            return asks.count();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Copy the best {@code levels} bid levels into the given arrays.
+     *
+     * @return number of levels copied
+     */
+    public int copyBids(long[] prices, long[] sizes, int levels) {
+        long stamp = lock.readLock();
+        try {
+            return bids.copy(prices, sizes, levels);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Copy the best {@code levels} ask levels into the given arrays.
+     *
+     * @return number of levels copied
+     */
+    public int copyAsks(long[] prices, long[] sizes, int levels) {
+        long stamp = lock.readLock();
+        try {
+            return asks.copy(prices, sizes, levels);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Average price paid when buying {@code quantity} (scaled by sizeScale) against the asks.
+     *
+     * @return volume weighted average price, NaN when the book cannot fill the quantity
+     */
+    public double vwapBuy(long quantity) {
+        return vwap(asks, quantity);
+    }
+
+    /**
+     * Average price received when selling {@code quantity} (scaled by sizeScale) against the bids.
+     *
+     * @return volume weighted average price, NaN when the book cannot fill the quantity
+     */
+    public double vwapSell(long quantity) {
+        return vwap(bids, quantity);
+    }
+
+    private double vwap(BookSide side, long quantity) {
+        if (quantity <= 0) {
+            return Double.NaN;
+        }
+        long stamp = lock.readLock();
+        try {
+            long remaining = quantity;
+            double notional = 0;
+            for (int i = 0, n = side.count(); i < n && remaining > 0; i++) {
+                long take = Math.min(remaining, side.size(i));
+                notional += (double) side.price(i) * take;
+                remaining -= take;
+            }
+            if (remaining > 0) {
+                return Double.NaN;
+            }
+            return notional / quantity / ScaledDecimal.pow10(priceScale);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    private long top(BookSide side, boolean price) {
+        long stamp = lock.tryOptimisticRead();
+        long value = readTop(side, price);
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                value = readTop(side, price);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return value;
+    }
+
+    private static long readTop(BookSide side, boolean price) {
+        if (side.count() == 0) {
+            return 0;
+        }
+        return price ? side.price(0) : side.size(0);
+    }
+}
@@ -0,0 +1,11 @@
+package com.bybit.api.client.websocket.orderbook;
+
+@FunctionalInterface
+public interface OrderBookListener {
+    /**
+     * onOrderBook will be called on the stream thread after a snapshot or delta has been applied.
+     *
+     * @param book The updated order book.
+     */
+    void onOrderBook(LocalOrderBook book);
+}
@@ -0,0 +1,288 @@
+package com.bybit.api.client.websocket.orderbook;
+
+import com.bybit.api.client.util.JsonStreamUtils;
+import com.bybit.api.client.websocket.callback.WebSocketMessageCallback;
+import com.bybit.api.client.websocket.callback.WebSocketReconnectListener;
+import com.bybit.api.client.websocket.httpclient.WebsocketStreamClient;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import okhttp3.WebSocket;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.bybit.api.client.util.JsonStreamUtils.readLong;
+import static com.bybit.api.client.util.JsonStreamUtils.readScaled;
+import static com.bybit.api.client.util.JsonStreamUtils.textEquals;
+
+/**
+ * Maintains {@link LocalOrderBook}s from orderbook.{depth}.{symbol} snapshot and delta messages.
+ * Messages are decoded with a streaming parser straight into scaled longs, other topics are forwarded to the downstream callback.
+ * When a gap in the update ids is detected the book is flagged out of sync and the {@link OrderBookResyncHandler} is asked for a new snapshot,
+ * the same happens for a price or size with more decimals than its scale, or too large for it, which is never rounded into another level.
+ * The default scales of 8 decimals hold sizes up to about 9.2e10, instruments with larger sizes need a smaller size scale.
+ */
+public class OrderBookManager implements WebSocketMessageCallback {
+    private static final Logger LOGGER = LoggerFactory.getLogger(OrderBookManager.class);
+    private static final String ORDERBOOK_TOPIC = "\"topic\":\"orderbook.";
+    public static final int DEFAULT_PRICE_SCALE = 8;
+    public static final int DEFAULT_SIZE_SCALE = 8;
+
+    private final Map<String, LocalOrderBook> books = new ConcurrentHashMap<>();
+    private final ThreadLocal<Levels> scratch = ThreadLocal.withInitial(Levels::new);
+    private final int priceScale;
+    private final int sizeScale;
+    private final WebSocketMessageCallback downstream;
+    private volatile OrderBookListener listener;
+    private volatile OrderBookResyncHandler resyncHandler;
+
+    public OrderBookManager(int priceScale, int sizeScale, WebSocketMessageCallback downstream) {
+        this.priceScale = priceScale;
+        this.sizeScale = sizeScale;
+        this.downstream = downstream;
+    }
+
+    /**
+     * Attach to a stream client: the manager becomes its message handler, re-subscribes topics on gaps
+     * and invalidates every book when the connection drops until the replayed snapshots arrive.
+     *
+     * @param client     stream client
+     * @param downstream callback for every non orderbook message, may be null
+     */
+    public OrderBookManager(WebsocketStreamClient client, WebSocketMessageCallback downstream) {
+        this(DEFAULT_PRICE_SCALE, DEFAULT_SIZE_SCALE, downstream);
+        this.resyncHandler = topic -> resubscribe(client, topic);
+        client.setMessageHandler(this);
+        client.addReconnectListener(new WebSocketReconnectListener() {
+            @Override
+            public void onDisconnected(String reason) {
+                invalidateAll();
+            }
+        });
+    }
+
+    public void setListener(OrderBookListener listener) {
+        this.listener = listener;
+    }
+
+    public void setResyncHandler(OrderBookResyncHandler resyncHandler) {
+        this.resyncHandler = resyncHandler;
+    }
+
+    /**
+     * @return the book for an orderbook topic, e.g. orderbook.50.BTCUSDT, or null before its first snapshot
+     */
+    public LocalOrderBook getBook(String topic) {
+        return books.get(topic);
+    }
+
+    public Collection<LocalOrderBook> getBooks() {
+        return Collections.unmodifiableCollection(books.values());
+    }
+
+    /**
+     * Flag every book out of sync, e.g. after the connection dropped.
+     */
+    public void invalidateAll() {
+        for (LocalOrderBook book : books.values()) {
+            book.invalidate();
+        }
+    }
+
+    @Override
+    public void onMessage(String message) throws JsonProcessingException {
+        if (message.indexOf(ORDERBOOK_TOPIC) < 0) {
+            if (downstream != null) {
+                downstream.onMessage(message);
+            }
+            return;
+        }
+        try (JsonParser parser = JsonStreamUtils.JSON_FACTORY.createParser(message)) {
+            apply(parser);
+        } catch (JsonProcessingException e) {
+            throw e;
+        } catch (IOException e) {
+            LOGGER.error("Error reading orderbook message: ", e);
+        }
+    }
+
+    private void apply(JsonParser parser) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            return;
+        }
+        Levels levels = scratch.get();
+        levels.reset();
+        String topic = null;
+        boolean snapshot = false;
+        long ts = 0;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "topic":
+                    topic = parser.getText();
+                    break;
+                case "type":
+                    snapshot = textEquals(parser, "snapshot");
+                    break;
+                case "ts":
+                    ts = parser.getLongValue();
+                    break;
+                case "data":
+                    readData(parser, levels);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        if (topic == null) {
+            return;
+        }
+        LocalOrderBook book = books.get(topic);
+        if (levels.unreadable != null) {
+            // applying the other levels would leave the book wrong, start over from a snapshot
+            LOGGER.error("Unreadable level on {}, check the price and size scales, requesting snapshot: {}", topic, levels.unreadable);
+            if (book != null) {
+                book.invalidate();
+            }
+            resync(topic);
+            return;
+        }
+        if (book == null) {
+            if (!snapshot) {
+                return;
+            }
+            book = new LocalOrderBook(topic, priceScale, sizeScale);
+            LocalOrderBook existing = books.putIfAbsent(topic, book);
+            if (existing != null) {
+                book = existing;
+            }
+        }
+        LocalOrderBook.ApplyResult result = book.apply(snapshot, levels.updateId, levels.sequence, ts,
+                levels.bidPrices, levels.bidSizes, levels.bidCount,
+                levels.askPrices, levels.askSizes, levels.askCount);
+        if (result == LocalOrderBook.ApplyResult.APPLIED) {
+            OrderBookListener currentListener = listener;
+            if (currentListener != null) {
+                currentListener.onOrderBook(book);
+            }
+        } else if (result == LocalOrderBook.ApplyResult.GAP) {
+            LOGGER.warn("Orderbook gap detected on {} at update id {}, requesting snapshot.", topic, levels.updateId);
+            resync(topic);
+        }
+    }
+
+    private void resync(String topic) {
+        OrderBookResyncHandler handler = resyncHandler;
+        if (handler != null) {
+            handler.resync(topic);
+        }
+    }
+
+    private void readData(JsonParser parser, Levels levels) throws IOException {
+        if (parser.getCurrentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return;
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "b":
+                    readLevels(parser, levels, true);
+                    break;
+                case "a":
+                    readLevels(parser, levels, false);
+                    break;
+                case "u":
+                    levels.updateId = readLong(parser);
+                    break;
+                case "seq":
+                    levels.sequence = readLong(parser);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+    }
+
+    private void readLevels(JsonParser parser, Levels levels, boolean bid) throws IOException {
+        if (parser.getCurrentToken() != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return;
+        }
+        while (parser.nextToken() == JsonToken.START_ARRAY) {
+            try {
+                parser.nextToken();
+                long price = readScaled(parser, priceScale);
+                parser.nextToken();
+                long size = readScaled(parser, sizeScale);
+                levels.add(bid, price, size);
+            } catch (NumberFormatException e) {
+                levels.unreadable = e.getMessage();
+            }
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                parser.skipChildren();
+            }
+        }
+    }
+
+    private static void resubscribe(WebsocketStreamClient client, String topic) {
+        WebSocket ws = client.getWebSocket();
+        if (ws == null) {
+            return;
+        }
+        List<String> args = List.of(topic);
+        client.sendUnsubscribeMessage(ws, args);
+        client.sendSubscribeMessage(ws, args);
+    }
+
+    /**
+     * Per thread scratch buffers reused for every message.
+     */
+    private static final class Levels {
+        long[] bidPrices = new long[64];
+        long[] bidSizes = new long[64];
+        long[] askPrices = new long[64];
+        long[] askSizes = new long[64];
+        int bidCount;
+        int askCount;
+        long updateId;
+        long sequence;
+        String unreadable;
+
+        void reset() {
+            unreadable = null;
+            bidCount = 0;
+            askCount = 0;
+            updateId = 0;
+            sequence = 0;
+        }
+
+        void add(boolean bid, long price, long size) {
+            if (bid) {
+                if (bidCount == bidPrices.length) {
+                    bidPrices = Arrays.copyOf(bidPrices, bidCount << 1);
+                    bidSizes = Arrays.copyOf(bidSizes, bidCount << 1);
+                }
+                bidPrices[bidCount] = price;
+                bidSizes[bidCount++] = size;
+            } else {
+                if (askCount == askPrices.length) {
+                    askPrices = Arrays.copyOf(askPrices, askCount << 1);
+                    askSizes = Arrays.copyOf(askSizes, askCount << 1);
+                }
+                askPrices[askCount] = price;
+                askSizes[askCount++] = size;
+            }
+        }
+    }
+}
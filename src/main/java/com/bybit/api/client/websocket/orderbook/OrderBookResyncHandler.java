@@ -0,0 +1,12 @@
+package com.bybit.api.client.websocket.orderbook;
+
+@FunctionalInterface
+public interface OrderBookResyncHandler {
+    /**
+     * resync will be called when a gap is detected in the update ids of an orderbook topic.
+     * Implementations should request a fresh snapshot, e.g. by re-subscribing the topic.
+     *
+     * @param topic The orderbook topic which is out of sync.
+     */
+    void resync(String topic);
+}
@@ -0,0 +1,209 @@
+package com.bybit.api.client.websocket.ticker;
+
+import com.bybit.api.client.util.JsonStreamUtils;
+import com.bybit.api.client.websocket.callback.WebSocketMessageCallback;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.bybit.api.client.util.JsonStreamUtils.textEquals;
+
+/**
+ * Conflating cache of the latest ticker and top of book per symbol.
+ * tickers.{symbol} snapshots and deltas are merged into a {@link TickerRecord}, where a field missing from a delta keeps its value,
+ * and orderbook.1.{symbol} messages update its best bid and ask. Readers poll the records at their own pace
+ * instead of handling every push. Other messages are forwarded to the downstream callback.
+ */
+public class TickerCache implements WebSocketMessageCallback {
+    private static final Logger LOGGER = LoggerFactory.getLogger(TickerCache.class);
+    private static final String TOPIC_KEY = "\"topic\":\"";
+    private static final String TICKER_PREFIX = "tickers.";
+    private static final String BOOK_TOP_PREFIX = "orderbook.1.";
+
+    private final Map<String, TickerRecord> records = new ConcurrentHashMap<>();
+    private final ThreadLocal<Update> scratch = ThreadLocal.withInitial(Update::new);
+    private final WebSocketMessageCallback downstream;
+
+    /**
+     * @param downstream callback for every other message, may be null
+     */
+    public TickerCache(WebSocketMessageCallback downstream) {
+        this.downstream = downstream;
+    }
+
+    /**
+     * @return the record of a symbol, or null before its first message
+     */
+    public TickerRecord getRecord(String symbol) {
+        return records.get(symbol);
+    }
+
+    public Collection<TickerRecord> getRecords() {
+        return Collections.unmodifiableCollection(records.values());
+    }
+
+    @Override
+    public void onMessage(String message) throws JsonProcessingException {
+        int index = message.indexOf(TOPIC_KEY);
+        int start = index + TOPIC_KEY.length();
+        boolean ticker = index >= 0 && message.startsWith(TICKER_PREFIX, start);
+        if (!ticker && (index < 0 || !message.startsWith(BOOK_TOP_PREFIX, start))) {
+            if (downstream != null) {
+                downstream.onMessage(message);
+            }
+            return;
+        }
+        try (JsonParser parser = JsonStreamUtils.JSON_FACTORY.createParser(message)) {
+            merge(parser, ticker);
+        } catch (JsonProcessingException e) {
+            throw e;
+        } catch (IOException e) {
+            LOGGER.error("Error reading ticker message: ", e);
+        }
+    }
+
+    private void merge(JsonParser parser, boolean ticker) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            return;
+        }
+        Update update = scratch.get();
+        update.reset();
+        String topic = null;
+        boolean snapshot = false;
+        long ts = 0;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "topic":
+                    topic = parser.getText();
+                    break;
+                case "type":
+                    snapshot = textEquals(parser, "snapshot");
+                    break;
+                case "ts":
+                    ts = parser.getLongValue();
+                    break;
+                case "data":
+                    if (ticker) {
+                        readTicker(parser, update);
+                    } else {
+                        readBookTop(parser, update);
+                    }
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        if (topic == null) {
+            return;
+        }
+        String symbol = topic.substring(topic.lastIndexOf('.') + 1);
+        TickerRecord record = records.computeIfAbsent(symbol, TickerRecord::new);
+        if (ticker) {
+            record.mergeTicker(update.values, update.present, snapshot, ts);
+        } else {
+            // a snapshot with an empty side means the side is empty, a delta without a level leaves it unchanged
+            record.mergeBook(update.bidPrice, update.bidSize, update.askPrice, update.askSize,
+                    snapshot || update.bidPresent, snapshot || update.askPresent, ts);
+        }
+    }
+
+    private static void readTicker(JsonParser parser, Update update) throws IOException {
+        if (parser.getCurrentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return;
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            TickerField field = TickerField.ofJsonName(parser.getCurrentName());
+            parser.nextToken();
+            if (field == null) {
+                parser.skipChildren();
+                continue;
+            }
+            update.values[field.ordinal()] = parser.getValueAsDouble(Double.NaN);
+            update.present |= 1L << field.ordinal();
+        }
+    }
+
+    private static void readBookTop(JsonParser parser, Update update) throws IOException {
+        if (parser.getCurrentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return;
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            if ("b".equals(field)) {
+                update.bidPresent = readLevel(parser, update, true);
+            } else if ("a".equals(field)) {
+                update.askPresent = readLevel(parser, update, false);
+            } else {
+                parser.skipChildren();
+            }
+        }
+    }
+
+    /**
+     * Read the first level of a side with a size, a side with only deletions (size 0) is cleared.
+     * A delta may delete the old best level before listing the new one.
+     *
+     * @return true if the side carried a level
+     */
+    private static boolean readLevel(JsonParser parser, Update update, boolean bid) throws IOException {
+        double price = Double.NaN;
+        double size = Double.NaN;
+        boolean any = false;
+        while (parser.nextToken() == JsonToken.START_ARRAY) {
+            parser.nextToken();
+            double levelPrice = parser.getValueAsDouble(Double.NaN);
+            parser.nextToken();
+            double levelSize = parser.getValueAsDouble(Double.NaN);
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                parser.skipChildren();
+            }
+            if (Double.isNaN(price) && levelSize > 0) {
+                price = levelPrice;
+                size = levelSize;
+            }
+            any = true;
+        }
+        if (bid) {
+            update.bidPrice = price;
+            update.bidSize = size;
+        } else {
+            update.askPrice = price;
+            update.askSize = size;
+        }
+        return any;
+    }
+
+    /**
+     * Per thread scratch values of the message being read.
+     */
+    private static final class Update {
+        private final double[] values = new double[TickerField.values().length];
+        private long present;
+        private double bidPrice;
+        private double bidSize;
+        private double askPrice;
+        private double askSize;
+        private boolean bidPresent;
+        private boolean askPresent;
+
+        private void reset() {
+            present = 0;
+            bidPresent = false;
+            askPresent = false;
+            bidPrice = bidSize = askPrice = askSize = Double.NaN;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.bybit.api.client.websocket.ticker;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Numeric values kept by a {@link TickerRecord}.
+ * Ticker fields are merged from tickers.{symbol} snapshots and deltas, book fields come from orderbook.1.{symbol}.
+ */
+public enum TickerField {
+    LAST_PRICE("lastPrice"),
+    MARK_PRICE("markPrice"),
+    INDEX_PRICE("indexPrice"),
+    // option tickers name the top of book bidPrice, bidSize, askPrice and askSize
+    BID1_PRICE("bid1Price", "bidPrice"),
+    BID1_SIZE("bid1Size", "bidSize"),
+    ASK1_PRICE("ask1Price", "askPrice"),
+    ASK1_SIZE("ask1Size", "askSize"),
+    HIGH_PRICE_24H("highPrice24h"),
+    LOW_PRICE_24H("lowPrice24h"),
+    PREV_PRICE_24H("prevPrice24h"),
+    PRICE_24H_PCNT("price24hPcnt"),
+    VOLUME_24H("volume24h"),
+    TURNOVER_24H("turnover24h"),
+    OPEN_INTEREST("openInterest"),
+    OPEN_INTEREST_VALUE("openInterestValue"),
+    FUNDING_RATE("fundingRate"),
+    NEXT_FUNDING_TIME("nextFundingTime"),
+    USD_INDEX_PRICE("usdIndexPrice"),
+    BASIS_RATE("basisRate"),
+    PREDICTED_DELIVERY_PRICE("predictedDeliveryPrice"),
+    UNDERLYING_PRICE("underlyingPrice"),
+    MARK_PRICE_IV("markPriceIv"),
+    BID_IV("bidIv"),
+    ASK_IV("askIv"),
+    DELTA("delta"),
+    GAMMA("gamma"),
+    VEGA("vega"),
+    THETA("theta"),
+    BEST_BID_PRICE(),
+    BEST_BID_SIZE(),
+    BEST_ASK_PRICE(),
+    BEST_ASK_SIZE();
+
+    private static final Map<String, TickerField> BY_JSON_NAME = new HashMap<>();
+
+    static {
+        for (TickerField field : values()) {
+            for (String name : field.jsonNames) {
+                BY_JSON_NAME.put(name, field);
+            }
+        }
+    }
+
+    private final String[] jsonNames;
+
+    TickerField(String... jsonNames) {
+        this.jsonNames = jsonNames;
+    }
+
+    /**
+     * @return true for fields updated by tickers.{symbol}, false for the orderbook.1 top of book
+     */
+    public boolean isTickerField() {
+        return jsonNames.length > 0;
+    }
+
+    static TickerField ofJsonName(String name) {
+        return BY_JSON_NAME.get(name);
+    }
+}
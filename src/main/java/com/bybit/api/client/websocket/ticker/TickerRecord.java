@@ -0,0 +1,130 @@
+package com.bybit.api.client.websocket.ticker;
+
+import lombok.Getter;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+
+/**
+ * Latest merged ticker and top of book of one symbol, guarded by a seqlock.
+ * Stream threads write under the record monitor, readers never lock: they copy the values and retry
+ * when the version changed or was odd, i.e. a write was in progress, while they were reading.
+ */
+public class TickerRecord {
+    private static final VarHandle VERSION;
+
+    static {
+        try {
+            VERSION = MethodHandles.lookup().findVarHandle(TickerRecord.class, "version", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    @Getter
+    private final String symbol;
+    private final double[] values = new double[TickerField.values().length];
+    private long tickerTimestamp;
+    private long bookTimestamp;
+    // even when stable, odd while a write is in progress
+    private long version;
+
+    public TickerRecord(String symbol) {
+        this.symbol = symbol;
+        Arrays.fill(values, Double.NaN);
+    }
+
+    /**
+     * @return version of the record, incremented by two on every merge
+     */
+    public long getVersion() {
+        return (long) VERSION.getAcquire(this);
+    }
+
+    /**
+     * Copy a consistent view of the record.
+     *
+     * @param into snapshot to fill, reused across polls
+     * @return into
+     */
+    public TickerSnapshot read(TickerSnapshot into) {
+        long before;
+        do {
+            before = awaitStable();
+            System.arraycopy(values, 0, into.values, 0, values.length);
+            into.tickerTimestamp = tickerTimestamp;
+            into.bookTimestamp = bookTimestamp;
+            VarHandle.acquireFence();
+        } while (before != (long) VERSION.getOpaque(this));
+        into.symbol = symbol;
+        into.version = before;
+        return into;
+    }
+
+    /**
+     * Consistent read of a single value without copying the record.
+     */
+    public double get(TickerField field) {
+        long before;
+        double value;
+        do {
+            before = awaitStable();
+            value = values[field.ordinal()];
+            VarHandle.acquireFence();
+        } while (before != (long) VERSION.getOpaque(this));
+        return value;
+    }
+
+    private long awaitStable() {
+        long current;
+        while (((current = (long) VERSION.getAcquire(this)) & 1) != 0) {
+            Thread.onSpinWait();
+        }
+        return current;
+    }
+
+    /**
+     * Merge the ticker fields flagged in {@code present}. A snapshot replaces every ticker field, missing ones become NaN.
+     */
+    synchronized void mergeTicker(double[] update, long present, boolean snapshot, long timestamp) {
+        beginWrite();
+        for (TickerField field : TickerField.values()) {
+            int i = field.ordinal();
+            if ((present & (1L << i)) != 0) {
+                values[i] = update[i];
+            } else if (snapshot && field.isTickerField()) {
+                values[i] = Double.NaN;
+            }
+        }
+        tickerTimestamp = timestamp;
+        endWrite();
+    }
+
+    /**
+     * Set the top of book, NaN marks an empty side.
+     */
+    synchronized void mergeBook(double bidPrice, double bidSize, double askPrice, double askSize, boolean bidPresent, boolean askPresent, long timestamp) {
+        beginWrite();
+        if (bidPresent) {
+            values[TickerField.BEST_BID_PRICE.ordinal()] = bidPrice;
+            values[TickerField.BEST_BID_SIZE.ordinal()] = bidSize;
+        }
+        if (askPresent) {
+            values[TickerField.BEST_ASK_PRICE.ordinal()] = askPrice;
+            values[TickerField.BEST_ASK_SIZE.ordinal()] = askSize;
+        }
+        bookTimestamp = timestamp;
+        endWrite();
+    }
+
+    private void beginWrite() {
+        VERSION.setOpaque(this, version + 1);
+        // the odd version must be visible before any value changes
+        VarHandle.releaseFence();
+    }
+
+    private void endWrite() {
+        VERSION.setRelease(this, version + 1);
+    }
+}
@@ -0,0 +1,57 @@
+package com.bybit.api.client.websocket.ticker;
+
+import lombok.Getter;
+
+import java.util.Arrays;
+
+/**
+ * Consistent copy of a {@link TickerRecord}, meant to be reused by a reader across polls.
+ * Values never received are NaN.
+ */
+public class TickerSnapshot {
+    final double[] values = new double[TickerField.values().length];
+    @Getter
+    String symbol;
+    @Getter
+    long version;
+    @Getter
+    long tickerTimestamp;
+    @Getter
+    long bookTimestamp;
+
+    public TickerSnapshot() {
+        Arrays.fill(values, Double.NaN);
+    }
+
+    public double get(TickerField field) {
+        return values[field.ordinal()];
+    }
+
+    public double getLastPrice() {
+        return values[TickerField.LAST_PRICE.ordinal()];
+    }
+
+    public double getMarkPrice() {
+        return values[TickerField.MARK_PRICE.ordinal()];
+    }
+
+    public double getIndexPrice() {
+        return values[TickerField.INDEX_PRICE.ordinal()];
+    }
+
+    public double getBestBidPrice() {
+        return values[TickerField.BEST_BID_PRICE.ordinal()];
+    }
+
+    public double getBestBidSize() {
+        return values[TickerField.BEST_BID_SIZE.ordinal()];
+    }
+
+    public double getBestAskPrice() {
+        return values[TickerField.BEST_ASK_PRICE.ordinal()];
+    }
+
+    public double getBestAskSize() {
+        return values[TickerField.BEST_ASK_SIZE.ordinal()];
+    }
+}
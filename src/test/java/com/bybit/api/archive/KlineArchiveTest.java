@@ -0,0 +1,120 @@
+package com.bybit.api.archive;
+
+import com.bybit.api.client.archive.KlineArchive;
+import com.bybit.api.client.archive.KlineSeries;
+import com.bybit.api.client.domain.CategoryType;
+import com.bybit.api.client.domain.market.MarketInterval;
+import com.bybit.api.client.domain.market.request.MarketDataRequest;
+import com.bybit.api.client.restApi.BybitApiMarketRestClient;
+import com.bybit.api.service.ClientStubs;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class KlineArchiveTest {
+    private static final long MINUTE = 60_000;
+    private static final long NOW = 10_000 * MINUTE + 30_000;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private final List<long[]> requests = Collections.synchronizedList(new ArrayList<>());
+
+    /**
+     * Market client serving one minute klines from minute 100, with no candle during minute 500, newest first like the exchange.
+     */
+    private BybitApiMarketRestClient client() {
+        return ClientStubs.stub(BybitApiMarketRestClient.class, args -> {
+            MarketDataRequest request = (MarketDataRequest) args[0];
+            requests.add(new long[]{request.getStart(), request.getEnd()});
+            List<List<Object>> klines = LongStream.rangeClosed(request.getStart() / MINUTE, request.getEnd() / MINUTE)
+                    .filter(minute -> minute >= 100 && minute != 500)
+                    .map(minute -> minute * MINUTE)
+                    .filter(time -> time <= NOW)
+                    .boxed().sorted(Collections.reverseOrder())
+                    .map(time -> List.<Object>of(String.valueOf(time), "1.5", "2.5", "0.5", "2", String.valueOf(time / MINUTE), "10"))
+                    .collect(Collectors.toList());
+            return Map.of("retCode", 0, "result", Map.of("list", klines));
+        });
+    }
+
+    @Test
+    public void testDownloadsOnlyMissingRanges() throws Exception {
+        try (KlineArchive archive = new KlineArchive(client(), folder.getRoot().toPath(), () -> NOW)) {
+            KlineSeries first = archive.getKlines(CategoryType.LINEAR, "BTCUSDT", MarketInterval.ONE_MINUTE, 200 * MINUTE, 400 * MINUTE);
+            assertEquals(200, first.getSize());
+            assertEquals(200 * MINUTE, first.getStartTimes()[0]);
+            assertEquals(399 * MINUTE, first.getStartTimes()[199]);
+            assertEquals(2.5, first.getHighPrices()[0], 0);
+            assertEquals(200, first.getVolumes()[0], 0);
+            requests.clear();
+
+            // only [0, 200) and [400, 600) are missing, minute 500 has no candle and is not requested again
+            KlineSeries second = archive.getKlines(CategoryType.LINEAR, "BTCUSDT", MarketInterval.ONE_MINUTE, 0, 600 * MINUTE);
+            assertEquals(499, second.getSize());
+            assertEquals(100 * MINUTE, second.getStartTimes()[0]);
+            List<Long> starts = requests.stream().map(range -> range[0]).sorted().collect(Collectors.toList());
+            assertEquals(Arrays.asList(0L, 400 * MINUTE), starts);
+            requests.clear();
+
+            KlineSeries cached = archive.getKlines(CategoryType.LINEAR, "BTCUSDT", MarketInterval.ONE_MINUTE, 0, 600 * MINUTE);
+            assertTrue(requests.isEmpty());
+            assertArrayEquals(second.getStartTimes(), cached.getStartTimes());
+        }
+    }
+
+    @Test
+    public void testServesArchiveAfterReopening() {
+        try (KlineArchive archive = new KlineArchive(client(), folder.getRoot().toPath(), () -> NOW)) {
+            archive.getKlines(CategoryType.LINEAR, "BTCUSDT", MarketInterval.ONE_MINUTE, 100 * MINUTE, 20_000 * MINUTE);
+        }
+        requests.clear();
+        try (KlineArchive archive = new KlineArchive(client(), folder.getRoot().toPath(), () -> NOW)) {
+            KlineSeries series = archive.getKlines(CategoryType.LINEAR, "BTCUSDT", MarketInterval.ONE_MINUTE, 100 * MINUTE, 20_000 * MINUTE);
+            assertTrue(requests.isEmpty());
+            // the candle of minute 10000 is still in progress
+            assertEquals(10_000 - 100 - 1, series.getSize());
+            assertEquals(9_999 * MINUTE, series.getStartTimes()[series.getSize() - 1]);
+        }
+    }
+
+    @Test
+    public void testDownloadsSymbolsInParallel() throws Exception {
+        try (KlineArchive archive = new KlineArchive(client(), folder.getRoot().toPath(), () -> NOW)) {
+            Map<String, KlineSeries> series = archive.getKlines(CategoryType.SPOT, Arrays.asList("BTCUSDT", "ETHUSDT", "SOLUSDT"),
+                    MarketInterval.ONE_MINUTE, 100 * MINUTE, 300 * MINUTE).get(10, TimeUnit.SECONDS);
+            assertEquals(Arrays.asList("BTCUSDT", "ETHUSDT", "SOLUSDT"), new ArrayList<>(series.keySet()));
+            for (KlineSeries symbol : series.values()) {
+                assertEquals(200, symbol.getSize());
+            }
+        }
+    }
+
+    @Test
+    public void testCloseStopsDownloads() {
+        KlineArchive archive = new KlineArchive(client(), folder.getRoot().toPath(), () -> NOW);
+        archive.getKlinesAsync(CategoryType.LINEAR, "BTCUSDT", MarketInterval.ONE_MINUTE, 100 * MINUTE, 300 * MINUTE).join();
+        archive.close();
+        try {
+            archive.getKlinesAsync(CategoryType.LINEAR, "BTCUSDT", MarketInterval.ONE_MINUTE, 100 * MINUTE, 300 * MINUTE);
+            fail("expected the download to be rejected");
+        } catch (RejectedExecutionException e) {
+            // expected
+        }
+    }
+}
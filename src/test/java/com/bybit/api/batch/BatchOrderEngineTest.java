@@ -0,0 +1,157 @@
+package com.bybit.api.batch;
+
+import com.bybit.api.client.batch.BatchOrderEngine;
+import com.bybit.api.client.batch.BatchOrderLegResult;
+import com.bybit.api.client.batch.OrderCoalescer;
+import com.bybit.api.client.domain.CategoryType;
+import com.bybit.api.client.domain.TradeOrderType;
+import com.bybit.api.client.domain.trade.Side;
+import com.bybit.api.client.domain.trade.request.TradeOrderRequest;
+import com.bybit.api.client.log.LogOption;
+import com.bybit.api.client.restApi.BybitApiTypedService;
+import com.bybit.api.client.service.BybitApiServiceGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.Buffer;
+import org.junit.Test;
+
+import java.io.InterruptedIOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class BatchOrderEngineTest {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+    private final AtomicInteger concurrent = new AtomicInteger();
+    private final AtomicInteger maxConcurrent = new AtomicInteger();
+
+    /**
+     * Service answering the batch endpoints locally: linear legs whose orderLinkId starts with "bad" fail,
+     * inverse batches are rejected as a whole.
+     */
+    private BybitApiTypedService service() {
+        OkHttpClient exchange = BybitApiServiceGenerator.getBaseClient(false, 0, 0).newBuilder()
+                .addInterceptor(chain -> {
+                    int current = concurrent.incrementAndGet();
+                    maxConcurrent.accumulateAndGet(current, Math::max);
+                    try {
+                        Buffer buffer = new Buffer();
+                        chain.request().body().writeTo(buffer);
+                        JsonNode request = MAPPER.readTree(buffer.readByteArray());
+                        batchSizes.add(request.get("request").size());
+                        Thread.sleep(20);
+                        ObjectNode response = MAPPER.createObjectNode();
+                        if ("inverse".equals(request.get("category").asText())) {
+                            response.put("retCode", 10001).put("retMsg", "params error");
+                        } else {
+                            response.put("retCode", 0).put("retMsg", "OK");
+                            ArrayNode legs = response.putObject("result").putArray("list");
+                            ArrayNode statuses = response.putObject("retExtInfo").putArray("list");
+                            for (JsonNode leg : request.get("request")) {
+                                String linkId = leg.get("orderLinkId").asText();
+                                boolean bad = linkId.startsWith("bad");
+                                legs.addObject().put("orderId", bad ? "" : "id-" + linkId).put("orderLinkId", linkId);
+                                statuses.addObject().put("code", bad ? 170131 : 0).put("msg", bad ? "Insufficient balance." : "OK");
+                            }
+                        }
+                        return new Response.Builder().request(chain.request()).protocol(Protocol.HTTP_1_1).code(200).message("OK")
+                                .body(ResponseBody.create(MAPPER.writeValueAsBytes(response), MediaType.get("application/json"))).build();
+                    } catch (InterruptedException e) {
+                        throw new InterruptedIOException();
+                    } finally {
+                        concurrent.decrementAndGet();
+                    }
+                })
+                .build();
+        return BybitApiServiceGenerator.createService(BybitApiTypedService.class, "key", "secret", "https://api.bybit.com/",
+                false, 5000L, LogOption.SLF4J.getLogOptionType(), "", null, exchange);
+    }
+
+    private static TradeOrderRequest order(CategoryType category, String linkId) {
+        return TradeOrderRequest.builder().category(category).symbol("BTCUSDT").side(Side.BUY)
+                .orderType(TradeOrderType.LIMIT).qty("0.01").price("25000").orderLinkId(linkId).build();
+    }
+
+    @Test
+    public void testChunksByCategoryAndAlignsResults() {
+        List<TradeOrderRequest> orders = IntStream.range(0, 45)
+                .mapToObj(i -> i % 3 == 0 ? order(CategoryType.OPTION, "o-" + i) : order(CategoryType.LINEAR, (i == 7 ? "bad-" : "l-") + i))
+                .collect(Collectors.toList());
+        BatchOrderEngine engine = new BatchOrderEngine(service(), 2);
+        List<BatchOrderLegResult> results = engine.placeOrders(orders).join();
+
+        assertEquals(45, results.size());
+        for (int i = 0; i < results.size(); i++) {
+            BatchOrderLegResult result = results.get(i);
+            assertEquals(i, result.getIndex());
+            assertEquals(orders.get(i).getOrderLinkId(), result.getOrderLinkId());
+            assertEquals(i != 7, result.isSuccess());
+        }
+        assertEquals(170131, results.get(7).getCode());
+        assertEquals("id-o-3", results.get(3).getOrderId());
+        // 30 linear legs in batches of 10, 15 option legs in one batch of 20
+        assertEquals(4, batchSizes.size());
+        assertTrue(batchSizes.stream().allMatch(size -> size == 10 || size == 15));
+        assertTrue(maxConcurrent.get() <= 2);
+    }
+
+    @Test
+    public void testRejectedBatchFailsItsLegsOnly() {
+        BatchOrderEngine engine = new BatchOrderEngine(service());
+        engine.setMaxLegs(CategoryType.LINEAR, 20);
+        List<TradeOrderRequest> orders = List.of(order(CategoryType.INVERSE, "i-0"), order(CategoryType.LINEAR, "l-1"), order(CategoryType.INVERSE, "i-2"));
+        List<BatchOrderLegResult> results = engine.cancelOrders(orders).join();
+
+        assertFalse(results.get(0).isSuccess());
+        assertEquals(10001, results.get(0).getCode());
+        assertEquals("params error", results.get(2).getMessage());
+        assertTrue(results.get(1).isSuccess());
+    }
+
+    @Test
+    public void testCoalescerBatchesOrdersOfAWindow() throws Exception {
+        try (OrderCoalescer coalescer = new OrderCoalescer(service(), 50, TimeUnit.MILLISECONDS)) {
+            List<CompletableFuture<BatchOrderLegResult>> futures = IntStream.range(0, 25)
+                    .mapToObj(i -> coalescer.createOrder(order(CategoryType.LINEAR, (i == 4 ? "bad-" : "l-") + i)))
+                    .collect(Collectors.toList());
+            // two full batches are sent right away, the remaining 5 orders wait for the window
+            for (CompletableFuture<BatchOrderLegResult> future : futures) {
+                future.get(5, TimeUnit.SECONDS);
+            }
+            assertEquals(List.of(10, 10, 5), batchSizes);
+            assertEquals(170131, futures.get(4).get().getCode());
+            assertEquals("id-l-24", futures.get(24).get().getOrderId());
+            assertEquals(0, coalescer.getPendingCount());
+        }
+    }
+
+    @Test
+    public void testCoalescerSendsPendingOrdersOnClose() {
+        OrderCoalescer coalescer = new OrderCoalescer(service(), 1, TimeUnit.HOURS);
+        CompletableFuture<BatchOrderLegResult> option = coalescer.createOrder(order(CategoryType.OPTION, "o-1"));
+        CompletableFuture<BatchOrderLegResult> linear = coalescer.createOrder(order(CategoryType.LINEAR, "l-1"));
+        assertEquals(2, coalescer.getPendingCount());
+        coalescer.close();
+
+        assertEquals("id-o-1", option.join().getOrderId());
+        assertEquals("id-l-1", linear.join().getOrderId());
+        assertEquals(2, batchSizes.size());
+    }
+}
@@ -0,0 +1,75 @@
+package com.bybit.api.domain.trade;
+
+import com.bybit.api.client.domain.GenericResponse;
+import com.bybit.api.client.domain.TriggerBy;
+import com.bybit.api.client.domain.trade.OrderStatus;
+import com.bybit.api.client.domain.trade.PositionIdx;
+import com.bybit.api.client.domain.trade.StopOrderType;
+import com.bybit.api.client.domain.trade.TimeInForce;
+import com.bybit.api.client.domain.trade.response.OrderEntry;
+import com.bybit.api.client.domain.trade.response.OrderResult;
+import com.bybit.api.client.restApi.BybitApiTypedService;
+import com.bybit.api.client.service.BybitConverterFactory;
+import okhttp3.MediaType;
+import okhttp3.ResponseBody;
+import org.junit.Test;
+import retrofit2.Converter;
+
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class OrderResultDeserializerTest {
+    private static final String OPEN_ORDERS_JSON = "{\"retCode\":0,\"retMsg\":\"OK\",\"result\":{\"list\":[{" +
+            "\"orderId\":\"fd4300ae-7847-404e-b947-b46980a4d140\",\"orderLinkId\":\"test-000005\",\"blockTradeId\":\"\"," +
+            "\"symbol\":\"ETHUSDT\",\"price\":\"1600.00\",\"qty\":\"0.10\",\"side\":\"Buy\",\"isLeverage\":\"\"," +
+            "\"positionIdx\":1,\"orderStatus\":\"New\",\"cancelType\":\"UNKNOWN\",\"rejectReason\":\"EC_NoError\"," +
+            "\"avgPrice\":\"0\",\"leavesQty\":\"0.10\",\"leavesValue\":\"160\",\"cumExecQty\":\"0.00\",\"cumExecValue\":\"0\"," +
+            "\"cumExecFee\":\"0\",\"timeInForce\":\"GTC\",\"orderType\":\"Limit\",\"stopOrderType\":\"\",\"orderIv\":\"\"," +
+            "\"triggerPrice\":\"0.00\",\"takeProfit\":\"2500.00\",\"stopLoss\":\"1500.00\",\"tpTriggerBy\":\"LastPrice\"," +
+            "\"slTriggerBy\":\"LastPrice\",\"triggerDirection\":0,\"triggerBy\":\"UNKNOWN\",\"lastPriceOnCreated\":\"\"," +
+            "\"reduceOnly\":false,\"closeOnTrigger\":false,\"smpType\":\"None\",\"smpGroup\":0,\"smpOrderId\":\"\"," +
+            "\"tpslMode\":\"Full\",\"tpLimitPrice\":\"\",\"slLimitPrice\":\"\",\"placeType\":\"\"," +
+            "\"createdTime\":\"1684738540559\",\"updatedTime\":\"1684738540561\"}]," +
+            "\"nextPageCursor\":\"page_args%3Dfd4300ae-7847-404e-b947-b46980a4d140%26symbol%3D6%26\",\"category\":\"linear\"}," +
+            "\"retExtInfo\":{},\"time\":1684765770483}";
+
+    @Test
+    public void testOpenOrdersDecodedFromByteStream() throws Exception {
+        GenericResponse<OrderResult> response = decode("getOpenOrders", OPEN_ORDERS_JSON);
+
+        assertEquals(0, response.getRetCode());
+        OrderResult result = response.getResult();
+        assertEquals("linear", result.getCategory());
+        assertEquals("page_args%3Dfd4300ae-7847-404e-b947-b46980a4d140%26symbol%3D6%26", result.getNextPageCursor());
+        assertEquals(1, result.getOrderEntries().size());
+
+        OrderEntry entry = result.getOrderEntries().get(0);
+        assertEquals("ETHUSDT", entry.getSymbol());
+        assertEquals(PositionIdx.HEDGE_MODE_BUY, entry.getPositionIdx());
+        assertEquals(OrderStatus.NEW, entry.getOrderStatus());
+        assertEquals(TimeInForce.GOOD_TILL_CANCEL, entry.getTimeInForce());
+        assertEquals(TriggerBy.LAST_PRICE, entry.getTpTriggerBy());
+        // values without a constant, e.g. UNKNOWN or empty strings, decode to null
+        assertNull(entry.getCancelType());
+        assertNull(entry.getStopOrderType());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T decode(String methodName, String json) throws IOException {
+        Type type = null;
+        for (Method method : BybitApiTypedService.class.getMethods()) {
+            if (method.getName().equals(methodName)) {
+                // Call<GenericResponse<X>> -> GenericResponse<X>
+                type = ((ParameterizedType) method.getGenericReturnType()).getActualTypeArguments()[0];
+            }
+        }
+        Converter<ResponseBody, ?> converter = BybitConverterFactory.create().responseBodyConverter(type, new Annotation[0], null);
+        return (T) converter.convert(ResponseBody.create(json, MediaType.get("application/json")));
+    }
+}
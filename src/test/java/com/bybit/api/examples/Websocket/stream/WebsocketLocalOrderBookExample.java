@@ -0,0 +1,22 @@
+package com.bybit.api.examples.Websocket.stream;
+
+import com.bybit.api.client.config.BybitApiConfig;
+import com.bybit.api.client.service.BybitApiClientFactory;
+import com.bybit.api.client.util.ScaledDecimal;
+import com.bybit.api.client.websocket.orderbook.OrderBookManager;
+
+import java.util.List;
+
+public class WebsocketLocalOrderBookExample {
+    public static void main(String[] args) {
+        var client = BybitApiClientFactory.newInstance(BybitApiConfig.STREAM_MAINNET_DOMAIN, false).newWebsocketClient();
+
+        // Maintain local books, every other topic goes to the downstream handler
+        var books = new OrderBookManager(client, System.out::println);
+        books.setListener(book -> System.out.println(book.getSymbol()
+                + " bid " + ScaledDecimal.toDouble(book.bestBidPrice(), book.getPriceScale())
+                + " ask " + ScaledDecimal.toDouble(book.bestAskPrice(), book.getPriceScale())));
+
+        client.getPublicChannelStream(List.of("orderbook.50.BTCUSDT", "orderbook.50.ETHUSDT"), BybitApiConfig.V5_PUBLIC_LINEAR);
+    }
+}
@@ -0,0 +1,133 @@
+package com.bybit.api.instrument;
+
+import com.bybit.api.client.domain.CategoryType;
+import com.bybit.api.client.domain.GenericResponse;
+import com.bybit.api.client.domain.market.request.MarketDataRequest;
+import com.bybit.api.client.domain.market.response.instrumentInfo.InstrumentInfoResult;
+import com.bybit.api.client.exception.BybitApiException;
+import com.bybit.api.client.instrument.InstrumentRegistry;
+import com.bybit.api.client.instrument.InstrumentSpec;
+import com.bybit.api.client.restApi.BybitApiTypedMarketRestClient;
+import com.bybit.api.service.ClientStubs;
+import com.bybit.api.service.ResponseFixtures;
+import com.fasterxml.jackson.core.type.TypeReference;
+import org.junit.Test;
+
+import java.math.RoundingMode;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class InstrumentRegistryTest {
+    private static final String LINEAR_CURSOR = "first%3DBTCUSDT%26last%3DETHUSDT";
+    private static final String LINEAR_LAST = ResponseFixtures.read("market/instruments-info-linear-last.json");
+
+    private final Map<String, String> pages = new ConcurrentHashMap<>();
+
+    private BybitApiTypedMarketRestClient client() {
+        pages.put("linear:null", ResponseFixtures.read("market/instruments-info-linear.json"));
+        pages.put("linear:" + LINEAR_CURSOR, LINEAR_LAST);
+        pages.put("inverse:null", ResponseFixtures.read("market/instruments-info-inverse.json"));
+        pages.put("spot:null", ResponseFixtures.read("market/instruments-info-spot.json"));
+        return ClientStubs.stub(BybitApiTypedMarketRestClient.class, args -> {
+            MarketDataRequest request = (MarketDataRequest) args[0];
+            String page = pages.get(request.getCategory().getCategoryTypeId() + ":" + request.getCursor());
+            if (page == null) {
+                page = "{\"retCode\":10001,\"retMsg\":\"params error\"}";
+            }
+            return ResponseFixtures.decode(page, new TypeReference<GenericResponse<InstrumentInfoResult>>() {
+            });
+        });
+    }
+
+    @Test
+    public void testLoadsEveryPageOfEveryCategory() {
+        InstrumentRegistry registry = new InstrumentRegistry(client(), EnumSet.of(CategoryType.LINEAR, CategoryType.INVERSE, CategoryType.SPOT)).load();
+        assertEquals(3, registry.getInstruments(CategoryType.LINEAR).size());
+        assertEquals(1, registry.getInstruments(CategoryType.SPOT).size());
+        InstrumentSpec linear = registry.require(CategoryType.LINEAR, "BTCUSDT");
+        assertEquals(0.1, linear.getTickSize(), 0);
+        assertEquals(100, linear.getMaxLeverage(), 0);
+        assertTrue(linear.isTrading());
+        // spot shares the symbol with linear and uses the base precision as quantity step
+        InstrumentSpec spot = registry.require(CategoryType.SPOT, "BTCUSDT");
+        assertEquals(0.000001, spot.getQtyStep(), 0);
+        assertEquals(Double.POSITIVE_INFINITY, spot.getMaxPrice(), 0);
+        assertEquals(0.5, registry.require(CategoryType.INVERSE, "BTCUSD").getTickSize(), 0);
+        assertNull(registry.get(CategoryType.INVERSE, "ETHUSD"));
+        assertNull(registry.get(CategoryType.OPTION, "BTC-30DEC22-18000-C"));
+    }
+
+    @Test
+    public void testRoundsAndValidates() {
+        InstrumentRegistry registry = new InstrumentRegistry(client(), EnumSet.of(CategoryType.LINEAR, CategoryType.SPOT)).load();
+        InstrumentSpec btc = registry.require(CategoryType.LINEAR, "BTCUSDT");
+        assertEquals("25000.1", btc.roundPrice(25000.14));
+        assertEquals("25000.2", btc.roundPrice(25000.11, RoundingMode.CEILING));
+        assertEquals("25000.1", btc.roundPrice(25000.19, RoundingMode.FLOOR));
+        // 0.3 is not exactly representable, it is still on the tick
+        assertEquals("0.3", btc.roundPrice(0.1 + 0.2, RoundingMode.FLOOR));
+        assertEquals("0.012", btc.roundQty(0.0129));
+        assertTrue(btc.isPriceValid(25000.1));
+        assertFalse(btc.isPriceValid(25000.15));
+        assertFalse(btc.isPriceValid(200000));
+        assertTrue(btc.isQtyValid(0.3));
+        assertFalse(btc.isQtyValid(0.0005));
+        assertEquals("1230", registry.roundQty(CategoryType.LINEAR, "SHIB1000USDT", 1239));
+        assertEquals("0.001235", registry.roundPrice(CategoryType.LINEAR, "SHIB1000USDT", 0.0012345, RoundingMode.HALF_UP));
+        assertEquals("0.123456", registry.roundQty(CategoryType.SPOT, "BTCUSDT", 0.1234567));
+        try {
+            registry.roundQty(CategoryType.LINEAR, "XRPUSDT", 1);
+            fail("expected an exception");
+        } catch (BybitApiException e) {
+            assertTrue(e.getMessage().contains("XRPUSDT"));
+        }
+    }
+
+    @Test
+    public void testRefreshKeepsUnchangedInstruments() {
+        InstrumentRegistry registry = new InstrumentRegistry(client(), EnumSet.of(CategoryType.LINEAR)).load();
+        InstrumentSpec btc = registry.require(CategoryType.LINEAR, "BTCUSDT");
+        InstrumentSpec shib = registry.require(CategoryType.LINEAR, "SHIB1000USDT");
+        assertEquals(0, registry.refresh(CategoryType.LINEAR));
+        pages.put("linear:" + LINEAR_CURSOR, LINEAR_LAST.replace("\"tickSize\": \"0.000001\"", "\"tickSize\": \"0.0000005\""));
+        assertEquals(1, registry.refresh(CategoryType.LINEAR));
+        assertSame(btc, registry.require(CategoryType.LINEAR, "BTCUSDT"));
+        assertEquals(0.0000005, registry.require(CategoryType.LINEAR, "SHIB1000USDT").getTickSize(), 0);
+        assertEquals(0.000001, shib.getTickSize(), 0);
+    }
+
+    @Test
+    public void testFailedRefreshKeepsInstruments() {
+        InstrumentRegistry registry = new InstrumentRegistry(client(), EnumSet.of(CategoryType.LINEAR)).load();
+        pages.remove("linear:" + LINEAR_CURSOR);
+        try {
+            registry.refresh(CategoryType.LINEAR);
+            fail("expected an exception");
+        } catch (BybitApiException e) {
+            assertTrue(e.getMessage().contains("10001"));
+        }
+        assertEquals(3, registry.getInstruments(CategoryType.LINEAR).size());
+    }
+
+    @Test
+    public void testCloseStopsLoading() {
+        InstrumentRegistry registry = new InstrumentRegistry(client(), EnumSet.of(CategoryType.LINEAR)).load();
+        registry.close();
+        try {
+            registry.refreshAsync();
+            fail("expected the refresh to be rejected");
+        } catch (RejectedExecutionException e) {
+            // expected
+        }
+        assertEquals(3, registry.getInstruments(CategoryType.LINEAR).size());
+    }
+}
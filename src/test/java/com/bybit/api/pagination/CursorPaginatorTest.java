@@ -0,0 +1,151 @@
+package com.bybit.api.pagination;
+
+import com.bybit.api.client.domain.GenericResponse;
+import com.bybit.api.client.domain.trade.request.TradeOrderRequest;
+import com.bybit.api.client.domain.trade.response.OrderEntry;
+import com.bybit.api.client.domain.trade.response.OrderResult;
+import com.bybit.api.client.exception.BybitApiException;
+import com.bybit.api.client.pagination.CursorPaginator;
+import com.bybit.api.client.restApi.BybitApiTradeRestClient;
+import com.bybit.api.client.restApi.BybitApiTypedTradeRestClient;
+import com.bybit.api.service.ClientStubs;
+import com.bybit.api.service.ResponseFixtures;
+import com.fasterxml.jackson.core.type.TypeReference;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class CursorPaginatorTest {
+
+    private static Map<String, Object> page(String cursor, int first, int size) {
+        List<Map<String, Object>> list = new ArrayList<>();
+        for (int i = first; i < first + size; i++) {
+            list.add(Collections.singletonMap("orderId", String.valueOf(i)));
+        }
+        Map<String, Object> result = new HashMap<>();
+        result.put("list", list);
+        result.put("nextPageCursor", cursor);
+        Map<String, Object> response = new HashMap<>();
+        response.put("retCode", 0);
+        response.put("retMsg", "OK");
+        response.put("result", result);
+        return response;
+    }
+
+    /**
+     * Three pages of two orders, cursors "1" and "2" lead to the second and third page.
+     */
+    private static Object threePages(String cursor) {
+        if (cursor == null) {
+            return page("1", 0, 2);
+        }
+        return "1".equals(cursor) ? page("2", 2, 2) : page("", 4, 2);
+    }
+
+    @Test
+    public void testFollowsCursorInOrder() {
+        List<String> cursors = Collections.synchronizedList(new ArrayList<>());
+        try (Stream<Map<String, Object>> orders = CursorPaginator.stream(cursor -> {
+            cursors.add(String.valueOf(cursor));
+            return threePages(cursor);
+        })) {
+            List<Object> ids = orders.map(order -> order.get("orderId")).collect(Collectors.toList());
+            assertEquals(List.of("0", "1", "2", "3", "4", "5"), ids);
+        }
+        assertEquals(List.of("null", "1", "2"), cursors);
+    }
+
+    @Test
+    public void testReadsRowsAndStopsOnRepeatedCursor() {
+        Map<String, Object> result = new HashMap<>();
+        result.put("rows", List.of(Collections.singletonMap("id", "a")));
+        result.put("nextPageCursor", "same");
+        Map<String, Object> response = Collections.singletonMap("result", result);
+        List<String> cursors = Collections.synchronizedList(new ArrayList<>());
+        long count = CursorPaginator.stream(cursor -> {
+            cursors.add(String.valueOf(cursor));
+            return response;
+        }).count();
+        // the second page points to itself
+        assertEquals(2, count);
+        assertEquals(List.of("null", "same"), cursors);
+    }
+
+    @Test
+    public void testPrefetchesNextPage() throws Exception {
+        CountDownLatch secondPage = new CountDownLatch(1);
+        try (Stream<Map<String, Object>> orders = CursorPaginator.stream(cursor -> {
+            if (cursor != null) {
+                secondPage.countDown();
+            }
+            return threePages(cursor);
+        })) {
+            orders.findFirst();
+            // the second page is fetched while the first one is consumed
+            assertTrue(secondPage.await(5, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    public void testErrorResponseFailsIteration() {
+        Map<String, Object> error = new HashMap<>();
+        error.put("retCode", 10006);
+        error.put("retMsg", "Too many visits!");
+        try {
+            CursorPaginator.stream(cursor -> cursor == null ? page("1", 0, 2) : error).count();
+            fail("expected an exception");
+        } catch (BybitApiException e) {
+            assertTrue(e.getMessage().contains("10006"));
+        }
+    }
+
+    @Test
+    public void testClientStreamSetsCursorOnRequest() {
+        List<String> cursors = new ArrayList<>();
+        BybitApiTradeRestClient client = ClientStubs.stub(BybitApiTradeRestClient.class, args -> {
+            String cursor = ((TradeOrderRequest) args[0]).getCursor();
+            cursors.add(String.valueOf(cursor));
+            return threePages(cursor);
+        });
+        TradeOrderRequest request = TradeOrderRequest.builder().build();
+        assertEquals(6, client.streamOrderHistory(request).count());
+        assertEquals(List.of("null", "1", "2"), cursors);
+    }
+
+    @Test
+    public void testTypedClientStreamFailsOnErrorPage() {
+        List<String> cursors = new ArrayList<>();
+        BybitApiTypedTradeRestClient client = ClientStubs.stub(BybitApiTypedTradeRestClient.class, args -> {
+            String cursor = ((TradeOrderRequest) args[0]).getCursor();
+            cursors.add(String.valueOf(cursor));
+            String json = cursor == null
+                    ? "{\"retCode\":0,\"retMsg\":\"OK\",\"result\":{\"category\":\"linear\",\"nextPageCursor\":\"1\",\"list\":[{\"orderId\":\"a\"},{\"orderId\":\"b\"}]}}"
+                    : "{\"retCode\":10006,\"retMsg\":\"Too many visits!\",\"result\":{}}";
+            return ResponseFixtures.decode(json, new TypeReference<GenericResponse<OrderResult>>() {
+            });
+        });
+        Iterator<OrderEntry> orders = client.streamOrderHistory(TradeOrderRequest.builder().build()).iterator();
+        assertEquals("a", orders.next().getOrderId());
+        assertEquals("b", orders.next().getOrderId());
+        try {
+            orders.hasNext();
+            fail("expected an exception");
+        } catch (BybitApiException e) {
+            assertTrue(e.getMessage().contains("10006"));
+        }
+        assertEquals(List.of("null", "1"), cursors);
+    }
+}
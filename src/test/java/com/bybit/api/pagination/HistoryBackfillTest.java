@@ -0,0 +1,149 @@
+package com.bybit.api.pagination;
+
+import com.bybit.api.client.domain.CategoryType;
+import com.bybit.api.client.domain.market.MarketInterval;
+import com.bybit.api.client.domain.market.request.MarketDataRequest;
+import com.bybit.api.client.exception.BybitApiException;
+import com.bybit.api.client.pagination.HistoryBackfill;
+import com.bybit.api.client.restApi.BybitApiMarketRestClient;
+import com.bybit.api.service.ClientStubs;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class HistoryBackfillTest {
+    private static final long DAY = TimeUnit.DAYS.toMillis(1);
+
+    private static Map<String, Object> execution(long time) {
+        Map<String, Object> execution = new HashMap<>();
+        execution.put("execId", "e" + time);
+        execution.put("execTime", String.valueOf(time));
+        return execution;
+    }
+
+    /**
+     * One execution per hour, returned newest first by pages of 10 like the endpoint does.
+     */
+    private static Object executions(long startTime, long endTime, String cursor) {
+        List<Map<String, Object>> all = LongStream.rangeClosed(startTime / 3_600_000, endTime / 3_600_000)
+                .map(hour -> hour * 3_600_000)
+                .filter(time -> time >= startTime && time <= endTime)
+                .boxed().sorted(Collections.reverseOrder())
+                .map(HistoryBackfillTest::execution)
+                .collect(Collectors.toList());
+        int from = cursor == null ? 0 : Integer.parseInt(cursor);
+        int to = Math.min(all.size(), from + 10);
+        Map<String, Object> result = new HashMap<>();
+        result.put("list", all.subList(from, to));
+        result.put("nextPageCursor", to < all.size() ? String.valueOf(to) : "");
+        Map<String, Object> response = new HashMap<>();
+        response.put("retCode", 0);
+        response.put("result", result);
+        return response;
+    }
+
+    @Test
+    public void testEmitsRangeInTimeOrderWithoutDuplicates() {
+        List<long[]> slices = Collections.synchronizedList(new ArrayList<>());
+        HistoryBackfill<Map<String, Object>> backfill = HistoryBackfill.ofPages((startTime, endTime, cursor) -> {
+            if (cursor == null) {
+                slices.add(new long[]{startTime, endTime});
+            }
+            // the endpoint also returns the execution at the start of the next slice
+            return executions(startTime, endTime + 1, cursor);
+        }, "execTime", "execId").setWindow(7, TimeUnit.DAYS);
+        List<Long> times;
+        try (Stream<Map<String, Object>> stream = backfill.stream(0, 30 * DAY)) {
+            times = stream.map(execution -> Long.parseLong((String) execution.get("execTime"))).collect(Collectors.toList());
+        }
+        assertEquals(30 * 24, times.size());
+        for (int i = 0; i < times.size(); i++) {
+            assertEquals(i * 3_600_000L, (long) times.get(i));
+        }
+        assertEquals(5, slices.size());
+        for (long[] slice : slices) {
+            assertTrue(slice[1] - slice[0] < 7 * DAY);
+        }
+    }
+
+    @Test
+    public void testFetchesSlicesConcurrently() throws Exception {
+        int concurrency = 3;
+        CountDownLatch started = new CountDownLatch(concurrency);
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        HistoryBackfill<Map<String, Object>> backfill = new HistoryBackfill<Map<String, Object>>((startTime, endTime) -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            started.countDown();
+            try {
+                // every slice waits for the first ones to start, which fails unless they run together
+                if (!started.await(5, TimeUnit.SECONDS)) {
+                    throw new BybitApiException("slices not fetched concurrently");
+                }
+                return Stream.of(execution(startTime));
+            } catch (InterruptedException e) {
+                throw new BybitApiException(e);
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        }, execution -> Long.parseLong((String) execution.get("execTime")), execution -> execution.get("execId"))
+                .setWindow(1, TimeUnit.DAYS)
+                .setMaxConcurrentSlices(concurrency);
+        assertEquals(10, backfill.stream(0, 10 * DAY).count());
+        assertEquals(concurrency, maxInFlight.get());
+    }
+
+    @Test
+    public void testSliceErrorFailsStream() {
+        HistoryBackfill<Map<String, Object>> backfill = HistoryBackfill.ofPages((startTime, endTime, cursor) -> {
+            if (startTime >= 7 * DAY) {
+                return Collections.singletonMap("retCode", 10006);
+            }
+            return executions(startTime, endTime, cursor);
+        }, "execTime", "execId");
+        try {
+            backfill.stream(0, 30 * DAY).count();
+            fail("expected an exception");
+        } catch (BybitApiException e) {
+            assertTrue(e.getMessage().contains("10006"));
+        }
+    }
+
+    @Test
+    public void testBackfillKlines() {
+        Map<Long, Integer> limits = new ConcurrentHashMap<>();
+        BybitApiMarketRestClient client = ClientStubs.stub(BybitApiMarketRestClient.class, args -> {
+            MarketDataRequest request = (MarketDataRequest) args[0];
+            limits.put(request.getStart(), request.getLimit());
+            List<List<Object>> klines = LongStream.rangeClosed(request.getStart() / 60_000, request.getEnd() / 60_000)
+                    .map(minute -> minute * 60_000)
+                    .boxed().sorted(Collections.reverseOrder())
+                    .map(time -> List.<Object>of(String.valueOf(time), "1", "1", "1", "1", "1", "1"))
+                    .collect(Collectors.toList());
+            return Map.of("retCode", 0, "result", Map.of("list", klines));
+        });
+        MarketDataRequest request = MarketDataRequest.builder().category(CategoryType.LINEAR).symbol("BTCUSDT")
+                .marketInterval(MarketInterval.ONE_MINUTE).build();
+        List<Long> times = client.backfillMarketLinesData(request, 0, 2500 * 60_000L)
+                .map(kline -> Long.parseLong((String) kline.get(0))).collect(Collectors.toList());
+        assertEquals(2500, times.size());
+        assertEquals(2499 * 60_000L, (long) times.get(2499));
+        assertEquals(3, limits.size());
+        assertEquals(Integer.valueOf(1000), limits.get(1000 * 60_000L));
+    }
+}
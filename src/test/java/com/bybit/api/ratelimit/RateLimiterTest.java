@@ -0,0 +1,92 @@
+package com.bybit.api.ratelimit;
+
+import com.bybit.api.client.ratelimit.EndpointGroup;
+import com.bybit.api.client.ratelimit.RateLimitBudget;
+import com.bybit.api.client.ratelimit.RateLimitExceededException;
+import com.bybit.api.client.ratelimit.RateLimitPolicy;
+import com.bybit.api.client.ratelimit.RateLimiter;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class RateLimiterTest {
+    private static final String CREATE = "/v5/order/create";
+    private final AtomicLong clock = new AtomicLong(1_700_000_000_000L);
+
+    @Test
+    public void testGroupDefaultsApplyBeforeCalibration() throws IOException {
+        RateLimiter limiter = new RateLimiter(RateLimitPolicy.REJECT, 0, clock::get);
+        assertEquals(EndpointGroup.ORDER_CREATE, limiter.getBudget(CREATE).getGroup());
+        for (int i = 0; i < 10; i++) {
+            limiter.acquire(CREATE);
+        }
+        assertRejected(limiter, CREATE);
+        // refilled at 10 requests per second
+        clock.addAndGet(100);
+        limiter.acquire(CREATE);
+        assertRejected(limiter, CREATE);
+        assertEquals(2, limiter.getRejectedCount());
+    }
+
+    @Test
+    public void testCalibrationFromHeaders() throws IOException {
+        RateLimiter limiter = new RateLimiter(RateLimitPolicy.REJECT, 0, clock::get);
+        limiter.onResponse(CREATE, "20", "19", String.valueOf(clock.get()));
+        RateLimitBudget budget = limiter.getBudget(CREATE);
+        assertTrue(budget.isCalibrated());
+        assertEquals(20, budget.getLimit());
+        assertEquals(19, budget.getRemaining());
+
+        // the server reports the budget exhausted until the reset timestamp
+        limiter.onResponse(CREATE, "20", "0", String.valueOf(clock.get() + 300));
+        clock.addAndGet(200);
+        assertEquals(0, limiter.getBudget(CREATE).getRemaining());
+        assertRejected(limiter, CREATE);
+        clock.addAndGet(100);
+        limiter.acquire(CREATE);
+    }
+
+    @Test
+    public void testOtherEndpointsLimitedOnceReported() throws IOException {
+        RateLimiter limiter = new RateLimiter(RateLimitPolicy.REJECT, 0, clock::get);
+        String path = "/v5/user/query-api";
+        for (int i = 0; i < 100; i++) {
+            limiter.acquire(path);
+        }
+        assertEquals(-1, limiter.getBudget(path).getRemaining());
+        limiter.onResponse(path, "10", "1", null);
+        limiter.acquire(path);
+        assertRejected(limiter, path);
+        assertFalse(limiter.getBudgets().isEmpty());
+    }
+
+    @Test
+    public void testQueuedRequestsWaitOrAreRejectedAfterMaxWait() throws IOException {
+        RateLimiter limiter = new RateLimiter(RateLimitPolicy.QUEUE, 150, clock::get);
+        for (int i = 0; i < 10; i++) {
+            limiter.acquire(CREATE);
+        }
+        long start = System.nanoTime();
+        // waits one refill interval of 100 ms
+        limiter.acquire(CREATE);
+        assertTrue(System.nanoTime() - start >= 90_000_000L);
+        assertEquals(1, limiter.getQueuedCount());
+        // queued behind the previous request, 200 ms exceeds the maximum wait
+        assertRejected(limiter, CREATE);
+    }
+
+    private static void assertRejected(RateLimiter limiter, String path) throws IOException {
+        try {
+            limiter.acquire(path);
+            fail("request should be rejected");
+        } catch (RateLimitExceededException expected) {
+            // rejected locally
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.bybit.api.security;
+
+import com.bybit.api.client.constant.BybitApiConstants;
+import com.bybit.api.client.security.AuthenticationInterceptor;
+import com.bybit.api.client.security.HmacSHA256Signer;
+import com.bybit.api.client.security.SignableRequestBody;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.Buffer;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class AuthenticationInterceptorTest {
+    private static final String SECRET = "XXXXXXXXXXXXXXXXXXXXXXXXXXXXXXXXXXXX";
+    private static final String API_KEY = "XXXXXXXXXXXXXXXX";
+    private static final String ORDER = "{\"category\":\"linear\",\"symbol\":\"BTCUSDT\",\"side\":\"Buy\",\"orderType\":\"Market\",\"qty\":\"0.01\"}";
+
+    private final AtomicReference<Request> sent = new AtomicReference<>();
+
+    /**
+     * Client answering every request itself, after the authentication interceptor.
+     */
+    private OkHttpClient client() {
+        return new OkHttpClient.Builder()
+                .addInterceptor(new AuthenticationInterceptor(API_KEY, SECRET, 5000L, ""))
+                .addInterceptor(chain -> {
+                    sent.set(chain.request());
+                    return new Response.Builder().request(chain.request()).protocol(Protocol.HTTP_1_1).code(200).message("OK")
+                            .body(ResponseBody.create("{}", MediaType.get("application/json"))).build();
+                })
+                .build();
+    }
+
+    private static String signatureOf(Request request, String payload) {
+        long timestamp = Long.parseLong(request.header(BybitApiConstants.TIMESTAMP_HEADER));
+        return HmacSHA256Signer.forSecret(SECRET).sign(API_KEY, timestamp, 5000L, payload);
+    }
+
+    @Test
+    public void testSignableBodyIsSignedAndSentAsIs() throws IOException {
+        SignableRequestBody body = new SignableRequestBody(ORDER.getBytes(StandardCharsets.UTF_8));
+        Request request = new Request.Builder().url("https://api.bybit.com/v5/order/create")
+                .header(BybitApiConstants.SIGN_TYPE_HEADER, "2").post(body).build();
+        client().newCall(request).execute().close();
+
+        assertSame(body, sent.get().body());
+        assertEquals(signatureOf(sent.get(), ORDER), sent.get().header(BybitApiConstants.SIGN_HEADER));
+    }
+
+    @Test
+    public void testOtherBodiesAreBufferedOnce() throws IOException {
+        Request request = new Request.Builder().url("https://api.bybit.com/v5/order/create")
+                .header(BybitApiConstants.SIGN_TYPE_HEADER, "2").post(RequestBody.create(ORDER, MediaType.get("application/json"))).build();
+        client().newCall(request).execute().close();
+
+        Buffer buffer = new Buffer();
+        sent.get().body().writeTo(buffer);
+        assertEquals(ORDER, buffer.readUtf8());
+        assertEquals(signatureOf(sent.get(), ORDER), sent.get().header(BybitApiConstants.SIGN_HEADER));
+    }
+
+    @Test
+    public void testQueryIsSignedAndUnsignedRequestsAreUntouched() throws IOException {
+        Request signed = new Request.Builder().url("https://api.bybit.com/v5/order/realtime?category=linear&symbol=BTCUSDT")
+                .header(BybitApiConstants.SIGN_TYPE_HEADER, "2").build();
+        client().newCall(signed).execute().close();
+        assertEquals(signatureOf(sent.get(), "category=linear&symbol=BTCUSDT"), sent.get().header(BybitApiConstants.SIGN_HEADER));
+
+        Request unsigned = new Request.Builder().url("https://api.bybit.com/v5/market/time").build();
+        client().newCall(unsigned).execute().close();
+        assertSame(unsigned, sent.get());
+        assertNull(sent.get().header(BybitApiConstants.SIGN_HEADER));
+    }
+}
@@ -0,0 +1,110 @@
+package com.bybit.api.security;
+
+import com.bybit.api.client.security.HmacSHA256Signer;
+import org.apache.commons.codec.binary.Hex;
+import org.junit.Test;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+public class HmacSHA256SignerTest {
+    private static final String SECRET = "XXXXXXXXXXXXXXXXXXXXXXXXXXXXXXXXXXXX";
+    private static final String API_KEY = "XXXXXXXXXXXXXXXX";
+
+    private static String reference(String secret, String message) throws Exception {
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+        return Hex.encodeHexString(mac.doFinal(message.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    public void testSignMatchesReference() throws Exception {
+        String payload = "{\"category\":\"linear\",\"symbol\":\"BTCUSDT\",\"side\":\"Buy\",\"orderType\":\"Limit\",\"qty\":\"0.01\",\"price\":\"25000\"}";
+        HmacSHA256Signer signer = HmacSHA256Signer.forSecret(SECRET);
+        assertEquals(reference(SECRET, "1700000000000" + API_KEY + "5000" + payload), signer.sign(API_KEY, 1700000000000L, 5000L, payload));
+        assertEquals(reference(SECRET, "1700000000000" + API_KEY + "5000" + payload), HmacSHA256Signer.sign(API_KEY, SECRET, payload, "1700000000000", "5000"));
+        assertEquals(reference(SECRET, "GET/realtime1700000010000"), HmacSHA256Signer.getSignature("GET/realtime1700000010000", SECRET));
+        // buffers are reused, a shorter message must not see the previous one
+        assertEquals(reference(SECRET, "1700000000000" + API_KEY + "5000"), signer.sign(API_KEY, 1700000000000L, 5000L, ""));
+    }
+
+    @Test
+    public void testSignBytesMatchesString() {
+        String payload = "{\"category\":\"spot\",\"orderLinkId\":\"订单-1\"}";
+        HmacSHA256Signer signer = HmacSHA256Signer.forSecret(SECRET);
+        assertEquals(signer.sign(API_KEY, 1700000000000L, 5000L, payload),
+                signer.sign(API_KEY, 1700000000000L, 5000L, payload.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    public void testSignNonAsciiAndLargePayload() throws Exception {
+        String payload = "orderLinkId=测试-" + "x".repeat(2000) + "é";
+        assertEquals(reference(SECRET, "1" + API_KEY + "0" + payload), HmacSHA256Signer.forSecret(SECRET).sign(API_KEY, 1L, 0L, payload));
+    }
+
+    @Test
+    public void testSignersAreCachedAndThreadSafe() throws Exception {
+        assertSame(HmacSHA256Signer.forSecret(SECRET), HmacSHA256Signer.forSecret(SECRET));
+        String expected = reference(SECRET, "1700000000000" + API_KEY + "5000category=linear");
+        List<CompletableFuture<String>> signatures = IntStream.range(0, 64)
+                .mapToObj(i -> CompletableFuture.supplyAsync(() -> HmacSHA256Signer.forSecret(SECRET).sign(API_KEY, 1700000000000L, 5000L, "category=linear")))
+                .collect(Collectors.toList());
+        for (CompletableFuture<String> signature : signatures) {
+            assertEquals(expected, signature.get());
+        }
+    }
+
+    @Test
+    public void testSignerCacheIsBounded() {
+        HmacSHA256Signer signer = HmacSHA256Signer.forSecret("rotated-secret");
+        for (int i = 0; i < 100; i++) {
+            HmacSHA256Signer.forSecret("secret-" + i);
+        }
+        HmacSHA256Signer recreated = HmacSHA256Signer.forSecret("rotated-secret");
+        assertNotSame(signer, recreated);
+        assertEquals(signer.auth("GET/realtime1"), recreated.auth("GET/realtime1"));
+    }
+
+    @Test
+    public void testSignOnNewThreadPerRequest() throws Exception {
+        // as in the virtual thread mode, more requests signed at once than states pooled
+        HmacSHA256Signer signer = HmacSHA256Signer.forSecret(SECRET);
+        CountDownLatch start = new CountDownLatch(1);
+        List<CompletableFuture<String>> signatures = new ArrayList<>();
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            String payload = "category=linear&limit=" + i;
+            CompletableFuture<String> signature = new CompletableFuture<>();
+            signatures.add(signature);
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                    signature.complete(payload.length() % 2 == 0
+                            ? signer.sign(API_KEY, 1700000000000L, 5000L, payload)
+                            : signer.sign(API_KEY, 1700000000000L, 5000L, payload.getBytes(StandardCharsets.UTF_8)));
+                } catch (Throwable e) {
+                    signature.completeExceptionally(e);
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        start.countDown();
+        for (int i = 0; i < signatures.size(); i++) {
+            assertEquals(reference(SECRET, "1700000000000" + API_KEY + "5000category=linear&limit=" + i), signatures.get(i).get(10, TimeUnit.SECONDS));
+            threads.get(i).join();
+        }
+    }
+}
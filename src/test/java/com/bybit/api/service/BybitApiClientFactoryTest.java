@@ -0,0 +1,74 @@
+package com.bybit.api.service;
+
+import com.bybit.api.client.impl.BybitApiTypedMarketRestClientImpl;
+import com.bybit.api.client.impl.BybitApiTypedTradeRestClientImpl;
+import com.bybit.api.client.restApi.BybitApiTypedService;
+import com.bybit.api.client.service.BybitApiClientFactory;
+import com.bybit.api.client.service.BybitApiServiceGenerator;
+import okhttp3.OkHttpClient;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+public class BybitApiClientFactoryTest {
+
+    @Test
+    public void testClientsShareServiceOfSameConfiguration() {
+        BybitApiTypedMarketRestClientImpl first = (BybitApiTypedMarketRestClientImpl) BybitApiClientFactory.newInstance().newTypedMarketDataRestClient();
+        BybitApiTypedMarketRestClientImpl second = (BybitApiTypedMarketRestClientImpl) BybitApiClientFactory.newInstance().newTypedMarketDataRestClient();
+        assertSame(first.getBybitApiService(), second.getBybitApiService());
+
+        // public endpoints do not depend on the api key
+        BybitApiTypedMarketRestClientImpl keyed = (BybitApiTypedMarketRestClientImpl) BybitApiClientFactory.newInstance("key", "secret").newTypedMarketDataRestClient();
+        assertSame(first.getBybitApiService(), keyed.getBybitApiService());
+
+        BybitApiTypedMarketRestClientImpl debug = (BybitApiTypedMarketRestClientImpl) BybitApiClientFactory.newInstance(true).newTypedMarketDataRestClient();
+        assertNotSame(first.getBybitApiService(), debug.getBybitApiService());
+    }
+
+    @Test
+    public void testConnectionPoolSettings() {
+        OkHttpClient pooled = BybitApiServiceGenerator.getBaseClient(false, 32, TimeUnit.MINUTES.toMillis(2));
+        assertSame(pooled, BybitApiServiceGenerator.getBaseClient(false, 32, TimeUnit.MINUTES.toMillis(2)));
+        assertNotSame(BybitApiServiceGenerator.getBaseClient(false, 0, 0), pooled);
+        // the pooled client keeps the dispatcher of the shared client
+        assertSame(BybitApiServiceGenerator.getBaseClient(false, 0, 0).dispatcher(), pooled.dispatcher());
+        assertEquals(0, pooled.connectionPool().connectionCount());
+
+        BybitApiTypedMarketRestClientImpl shared = (BybitApiTypedMarketRestClientImpl) BybitApiClientFactory.newInstance().newTypedMarketDataRestClient();
+        BybitApiTypedMarketRestClientImpl sized = (BybitApiTypedMarketRestClientImpl) BybitApiClientFactory.newInstance()
+                .withConnectionPool(32, 2, TimeUnit.MINUTES).newTypedMarketDataRestClient();
+        assertNotSame(shared.getBybitApiService(), sized.getBybitApiService());
+    }
+
+    @Test
+    public void testSignedServicesKeptForManyApiKeys() {
+        // more api keys than public services cached, as in processes trading for many subaccounts
+        List<BybitApiClientFactory> factories = new ArrayList<>();
+        List<BybitApiTypedService> services = new ArrayList<>();
+        for (int i = 0; i < 250; i++) {
+            BybitApiClientFactory factory = BybitApiClientFactory.newInstance("key" + i, "secret" + i);
+            factories.add(factory);
+            services.add(((BybitApiTypedTradeRestClientImpl) factory.newTypedTradeRestClient()).getBybitApiService());
+            factory.newTradeRestClient();
+            factory.newAsyncTradeRestClient();
+        }
+        for (int i = 0; i < factories.size(); i++) {
+            BybitApiClientFactory factory = factories.get(i);
+            assertSame(services.get(i), ((BybitApiTypedTradeRestClientImpl) factory.newTypedTradeRestClient()).getBybitApiService());
+            // copies with other options than those of the service share it as well
+            assertSame(services.get(i), ((BybitApiTypedTradeRestClientImpl) factory.withPreTradeValidator(null).newTypedTradeRestClient()).getBybitApiService());
+        }
+        assertNotSame(services.get(0), services.get(1));
+
+        // a rotated key gets a new factory, the services of the previous one go with it
+        BybitApiTypedTradeRestClientImpl rotated = (BybitApiTypedTradeRestClientImpl) BybitApiClientFactory.newInstance("key0", "secret0").newTypedTradeRestClient();
+        assertNotSame(services.get(0), rotated.getBybitApiService());
+    }
+}
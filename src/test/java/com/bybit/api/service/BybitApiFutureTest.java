@@ -0,0 +1,154 @@
+package com.bybit.api.service;
+
+import com.bybit.api.client.exception.BybitApiException;
+import com.bybit.api.client.impl.BybitApiCallbackAdapter;
+import com.bybit.api.client.restApi.BybitApiFutureCallback;
+import com.bybit.api.client.service.BybitApiExecutors;
+import com.bybit.api.client.service.BybitApiServiceGenerator;
+import okhttp3.MediaType;
+import okhttp3.Request;
+import okhttp3.ResponseBody;
+import org.jetbrains.annotations.NotNull;
+import org.junit.Test;
+import retrofit2.Call;
+import retrofit2.Callback;
+import retrofit2.Response;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class BybitApiFutureTest {
+
+    @Test
+    public void testFuturesComposeWithAllOf() {
+        List<CompletableFuture<Object>> futures = IntStream.range(0, 20)
+                .mapToObj(i -> BybitApiServiceGenerator.executeAsync(new StubCall<>(Response.success((Object) ("position-" + i)))))
+                .collect(Collectors.toList());
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        assertEquals("position-7", futures.get(7).join());
+    }
+
+    @Test
+    public void testCallbackVariantAsFuture() throws Exception {
+        CompletableFuture<String> future = BybitApiFutureCallback.future(callback -> callback.onResponse("ok"));
+        assertEquals("ok", future.get());
+
+        CompletableFuture<String> failed = BybitApiFutureCallback.future(callback -> {
+            throw new IOException("invalid json");
+        });
+        assertFailsWithApiException(failed);
+    }
+
+    @Test
+    public void testGatewayTimeoutCompletesExceptionally() {
+        Response<Object> timeout = Response.error(504, ResponseBody.create("", MediaType.get("application/json")));
+        CompletableFuture<Object> future = BybitApiServiceGenerator.executeAsync(new StubCall<>(timeout));
+        assertFailsWithApiException(future);
+    }
+
+    @Test
+    public void testCancelCancelsCall() {
+        StubCall<Object> call = new StubCall<>(null);
+        CompletableFuture<Object> future = BybitApiServiceGenerator.executeAsync(call);
+        future.cancel(false);
+        assertTrue(call.isCanceled());
+    }
+
+    @Test
+    public void testExecuteAllKeepsOrder() {
+        List<Call<Object>> calls = IntStream.range(0, 200)
+                .mapToObj(i -> (Call<Object>) new StubCall<>(Response.success((Object) i)))
+                .collect(Collectors.toList());
+        List<Object> results = BybitApiServiceGenerator.executeAll(calls);
+        assertEquals(200, results.size());
+        assertEquals(150, results.get(150));
+    }
+
+    @Test
+    public void testExecuteAllThrowsFirstFailure() {
+        List<Call<Object>> calls = List.of(new StubCall<>(Response.success((Object) "ok")), new StubCall<>(badGateway()), new StubCall<>(badGateway()));
+        try {
+            BybitApiServiceGenerator.executeAll(calls, BybitApiExecutors.newVirtualThreadPerTaskExecutor());
+            fail("executeAll should fail");
+        } catch (BybitApiException e) {
+            assertEquals("Server error.", e.getMessage());
+            assertEquals(1, e.getSuppressed().length);
+        }
+    }
+
+    private static Response<Object> badGateway() {
+        return Response.error(502, ResponseBody.create("{\"code\":10016,\"msg\":\"Server error.\"}", MediaType.get("application/json")));
+    }
+
+    private static void assertFailsWithApiException(CompletableFuture<?> future) {
+        try {
+            future.get();
+            fail("future should fail");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof BybitApiException);
+        } catch (InterruptedException e) {
+            fail("interrupted");
+        }
+    }
+
+    /**
+     * Call answering with a fixed response when enqueued, or never when the response is null.
+     */
+    private static final class StubCall<T> implements Call<T> {
+        private final Response<T> response;
+        private volatile boolean canceled;
+
+        private StubCall(Response<T> response) {
+            this.response = response;
+        }
+
+        @NotNull
+        @Override
+        public Response<T> execute() {
+            return response;
+        }
+
+        @Override
+        public void enqueue(@NotNull Callback<T> callback) {
+            assertTrue(callback instanceof BybitApiCallbackAdapter);
+            if (response != null) {
+                callback.onResponse(this, response);
+            }
+        }
+
+        @Override
+        public boolean isExecuted() {
+            return true;
+        }
+
+        @Override
+        public void cancel() {
+            canceled = true;
+        }
+
+        @Override
+        public boolean isCanceled() {
+            return canceled;
+        }
+
+        @NotNull
+        @Override
+        public Call<T> clone() {
+            return new StubCall<>(response);
+        }
+
+        @NotNull
+        @Override
+        public Request request() {
+            return new Request.Builder().url("https://api.bybit.com/v5/position/list").build();
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.bybit.api.service;
+
+import com.bybit.api.client.service.BybitApiServiceGenerator;
+import okhttp3.OkHttpClient;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+public class BybitApiServiceGeneratorTest {
+
+    @Test
+    public void testBaseClientIsSharedClient() {
+        OkHttpClient shared = BybitApiServiceGenerator.getSharedClient();
+        assertSame(shared, BybitApiServiceGenerator.getBaseClient(false, 0, 0));
+    }
+
+    @Test
+    public void testVirtualThreadClientReused() {
+        OkHttpClient shared = BybitApiServiceGenerator.getSharedClient();
+        OkHttpClient virtual = BybitApiServiceGenerator.getBaseClient(true, 0, 0);
+        assertSame(virtual, BybitApiServiceGenerator.getBaseClient(true, 0, 0));
+        // sized for many requests in flight, apart from the shared client
+        assertNotSame(shared.dispatcher(), virtual.dispatcher());
+        assertNotSame(shared.connectionPool(), virtual.connectionPool());
+    }
+
+    @Test
+    public void testPooledClientsReusedPerSettings() {
+        OkHttpClient virtual = BybitApiServiceGenerator.getBaseClient(true, 0, 0);
+        OkHttpClient pooled = BybitApiServiceGenerator.getBaseClient(true, 8, TimeUnit.MINUTES.toMillis(1));
+        assertSame(pooled, BybitApiServiceGenerator.getBaseClient(true, 8, TimeUnit.MINUTES.toMillis(1)));
+        assertNotSame(pooled, BybitApiServiceGenerator.getBaseClient(true, 8, TimeUnit.MINUTES.toMillis(2)));
+        assertSame(virtual.dispatcher(), pooled.dispatcher());
+        assertNotSame(virtual.connectionPool(), pooled.connectionPool());
+    }
+}
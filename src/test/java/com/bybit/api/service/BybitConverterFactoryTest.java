@@ -0,0 +1,76 @@
+package com.bybit.api.service;
+
+import com.bybit.api.client.domain.GenericResponse;
+import com.bybit.api.client.domain.market.response.fundingRate.FundingRateResult;
+import com.bybit.api.client.domain.market.response.instrumentInfo.InstrumentEntry;
+import com.bybit.api.client.domain.market.response.instrumentInfo.InstrumentInfoResult;
+import com.bybit.api.client.domain.market.response.kline.MarketKlineResult;
+import com.bybit.api.client.domain.market.response.openInterests.OpenInterestResult;
+import com.bybit.api.client.domain.market.response.orderbook.OrderbookResult;
+import com.bybit.api.client.domain.market.response.recentTrade.RecentTradeResult;
+import com.bybit.api.client.domain.market.response.tickers.TickerEntry;
+import com.bybit.api.client.domain.market.response.tickers.TickersResult;
+import com.fasterxml.jackson.core.type.TypeReference;
+import org.junit.Test;
+
+import static com.bybit.api.service.ResponseFixtures.decode;
+import static com.bybit.api.service.ResponseFixtures.read;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+public class BybitConverterFactoryTest {
+    private static final TypeReference<GenericResponse<InstrumentInfoResult>> INSTRUMENTS = new TypeReference<>() {
+    };
+    private static final TypeReference<GenericResponse<TickersResult>> TICKERS = new TypeReference<>() {
+    };
+
+    @Test
+    public void testDecodesInstrumentsOfEveryCategory() {
+        InstrumentEntry linear = decode(read("market/instruments-info-linear.json"), INSTRUMENTS).getResult().getInstrumentEntries().get(0);
+        assertEquals("BTCUSDT", linear.getSymbol());
+        assertEquals("0.001", linear.getLotSizeFilter().getQtyStep());
+        assertEquals("0.10", linear.getPriceFilter().getTickSize());
+        assertEquals("100.00", linear.getLeverageFilter().getMaxLeverage());
+        InstrumentEntry inverse = decode(read("market/instruments-info-inverse.json"), INSTRUMENTS).getResult().getInstrumentEntries().get(0);
+        assertEquals("BTCUSD", inverse.getSymbol());
+        assertEquals("0.50", inverse.getPriceFilter().getTickSize());
+        assertEquals("1000000", inverse.getLotSizeFilter().getMaxOrderQty());
+        InstrumentEntry spot = decode(read("market/instruments-info-spot.json"), INSTRUMENTS).getResult().getInstrumentEntries().get(0);
+        assertEquals("0.000001", spot.getLotSizeFilter().getBasePrecision());
+        assertEquals("2000000", spot.getLotSizeFilter().getMaxOrderAmt());
+    }
+
+    @Test
+    public void testDecodesTickersOfEveryCategory() {
+        TickerEntry linear = decode(read("market/tickers-linear.json"), TICKERS).getResult().getTickerEntries().get(0);
+        assertEquals("16596.00", linear.getBid1Price());
+        assertEquals("16597.50", linear.getAsk1Price());
+        TickerEntry inverse = decode(read("market/tickers-inverse.json"), TICKERS).getResult().getTickerEntries().get(0);
+        assertEquals("BTCUSD", inverse.getSymbol());
+        assertEquals("49337318", inverse.getVolume24h());
+        TickerEntry spot = decode(read("market/tickers-spot.json"), TICKERS).getResult().getTickerEntries().get(0);
+        assertEquals("20784.12009279", spot.getUsdIndexPrice());
+    }
+
+    @Test
+    public void testDecodesMarketData() {
+        OrderbookResult orderbook = decode(read("market/orderbook-linear.json"), new TypeReference<GenericResponse<OrderbookResult>>() {
+        }).getResult();
+        assertEquals("65485.47", orderbook.getOrderbookBidEntries().get(0).getBidPrice());
+        assertEquals(230704, orderbook.getUpdateId());
+        RecentTradeResult trades = decode(read("market/recent-trade-linear.json"), new TypeReference<GenericResponse<RecentTradeResult>>() {
+        }).getResult();
+        assertEquals("16618.49", trades.getRecentTradeEntries().get(0).getPrice());
+        assertFalse(trades.getRecentTradeEntries().get(0).getIsBlockTrade());
+        MarketKlineResult klines = decode(read("market/kline-linear.json"), new TypeReference<GenericResponse<MarketKlineResult>>() {
+        }).getResult();
+        assertEquals(1670608800000L, klines.getMarketKlineEntries().get(0).getStartTime());
+        assertEquals("15.74462667", klines.getMarketKlineEntries().get(0).getTurnover());
+        FundingRateResult funding = decode(read("market/funding-history-linear.json"), new TypeReference<GenericResponse<FundingRateResult>>() {
+        }).getResult();
+        assertEquals("0.0001", funding.getFundingRateEntries().get(0).getFundingRate());
+        OpenInterestResult openInterest = decode(read("market/open-interest-linear.json"), new TypeReference<GenericResponse<OpenInterestResult>>() {
+        }).getResult();
+        assertEquals("461134384.00000000", openInterest.getOpenInterestEntries().get(0).getOpenInterest());
+    }
+}
@@ -0,0 +1,28 @@
+package com.bybit.api.service;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Proxy;
+import java.util.function.Function;
+
+/**
+ * Stubs of the client and service interfaces, answering every endpoint from the test while default methods run as implemented.
+ */
+public final class ClientStubs {
+
+    private ClientStubs() {
+    }
+
+    /**
+     * @param type   client or service interface
+     * @param answer response of an endpoint called with the given arguments
+     */
+    public static <C> C stub(Class<C> type, Function<Object[], Object> answer) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            if (method.isDefault()) {
+                return MethodHandles.privateLookupIn(type, MethodHandles.lookup())
+                        .unreflectSpecial(method, type).bindTo(proxy).invokeWithArguments(args);
+            }
+            return answer.apply(args);
+        }));
+    }
+}
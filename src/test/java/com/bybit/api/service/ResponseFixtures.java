@@ -0,0 +1,45 @@
+package com.bybit.api.service;
+
+import com.bybit.api.client.service.BybitConverterFactory;
+import com.fasterxml.jackson.core.type.TypeReference;
+import okhttp3.MediaType;
+import okhttp3.ResponseBody;
+import retrofit2.Retrofit;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.annotation.Annotation;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Untrimmed exchange responses under {@code src/test/resources}, decoded the way the REST clients decode them.
+ */
+public final class ResponseFixtures {
+    private static final BybitConverterFactory CONVERTER_FACTORY = BybitConverterFactory.create();
+    private static final Retrofit RETROFIT = new Retrofit.Builder().baseUrl("https://api.bybit.com/").build();
+
+    private ResponseFixtures() {
+    }
+
+    public static String read(String name) {
+        try (InputStream in = ResponseFixtures.class.getResourceAsStream("/" + name)) {
+            if (in == null) {
+                throw new IllegalArgumentException("no fixture " + name);
+            }
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> T decode(String json, TypeReference<T> type) {
+        try {
+            return (T) CONVERTER_FACTORY.responseBodyConverter(type.getType(), new Annotation[0], RETROFIT)
+                    .convert(ResponseBody.create(json, MediaType.get("application/json")));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.bybit.api.validation;
+
+import com.bybit.api.client.domain.CategoryType;
+import com.bybit.api.client.domain.GenericResponse;
+import com.bybit.api.client.domain.TradeOrderType;
+import com.bybit.api.client.domain.market.request.MarketDataRequest;
+import com.bybit.api.client.domain.market.response.instrumentInfo.InstrumentInfoResult;
+import com.bybit.api.client.domain.trade.PositionIdx;
+import com.bybit.api.client.domain.trade.Side;
+import com.bybit.api.client.domain.trade.request.BatchOrderRequest;
+import com.bybit.api.client.domain.trade.request.PlaceBatchOrderRequest;
+import com.bybit.api.client.domain.trade.request.TradeOrderRequest;
+import com.bybit.api.client.impl.BybitApiTradeRestClientImpl;
+import com.bybit.api.client.instrument.InstrumentRegistry;
+import com.bybit.api.client.restApi.BybitApiService;
+import com.bybit.api.client.restApi.BybitApiTypedMarketRestClient;
+import com.bybit.api.client.service.BybitJsonConverter;
+import com.bybit.api.client.validation.PreTradeValidationException;
+import com.bybit.api.client.validation.PreTradeValidator;
+import com.bybit.api.service.ClientStubs;
+import com.bybit.api.service.ResponseFixtures;
+import com.fasterxml.jackson.core.type.TypeReference;
+import org.junit.Test;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class PreTradeValidatorTest {
+    private static final String LINEAR = ResponseFixtures.read("market/instruments-info-linear.json");
+    private static final String LINEAR_LAST = ResponseFixtures.read("market/instruments-info-linear-last.json");
+    private static final String SPOT = ResponseFixtures.read("market/instruments-info-spot.json");
+
+    private static PreTradeValidator validator() {
+        BybitApiTypedMarketRestClient client = ClientStubs.stub(BybitApiTypedMarketRestClient.class, args -> {
+            MarketDataRequest request = (MarketDataRequest) args[0];
+            String page = request.getCategory() == CategoryType.SPOT ? SPOT : request.getCursor() == null ? LINEAR : LINEAR_LAST;
+            return ResponseFixtures.decode(page, new TypeReference<GenericResponse<InstrumentInfoResult>>() {
+            });
+        });
+        return new PreTradeValidator(new InstrumentRegistry(client, EnumSet.of(CategoryType.LINEAR, CategoryType.SPOT)).load());
+    }
+
+    private static TradeOrderRequest.TradeOrderRequestBuilder limit(Side side, String qty, String price) {
+        return TradeOrderRequest.builder().category(CategoryType.LINEAR).symbol("BTCUSDT")
+                .side(side).orderType(TradeOrderType.LIMIT).qty(qty).price(price);
+    }
+
+    private static void assertRejected(PreTradeValidator validator, TradeOrderRequest order, String reason) {
+        try {
+            validator.validateOrder(order, order.getCategory());
+            fail("expected a rejection");
+        } catch (PreTradeValidationException e) {
+            assertTrue(e.getMessage(), e.getMessage().contains(reason));
+        }
+    }
+
+    @Test
+    public void testValidOrderIsReturnedAsGiven() {
+        TradeOrderRequest order = limit(Side.BUY, "0.010", "25000.1").takeProfit("26000").build();
+        assertSame(order, validator().validateOrder(order, CategoryType.LINEAR));
+    }
+
+    @Test
+    public void testNormalizesCopy() {
+        TradeOrderRequest buy = limit(Side.BUY, "0.0129", "25000.19").stopLoss("24000.04").build();
+        TradeOrderRequest normalized = validator().validateOrder(buy, CategoryType.LINEAR);
+        assertNotSame(buy, normalized);
+        assertEquals("0.012", normalized.getQty());
+        assertEquals("25000.1", normalized.getPrice());
+        assertEquals("24000.0", normalized.getStopLoss());
+        // the request of the caller is untouched
+        assertEquals("0.0129", buy.getQty());
+        assertEquals("25000.19", buy.getPrice());
+        assertEquals("25000.2", validator().validateOrder(limit(Side.SELL, "1", "25000.11").build(), CategoryType.LINEAR).getPrice());
+    }
+
+    @Test
+    public void testRejectsOrdersTheExchangeWouldReject() {
+        PreTradeValidator validator = validator();
+        assertRejected(validator, limit(Side.BUY, "0.0009", "25000").build(), "qty 0.000 out of");
+        assertRejected(validator, limit(Side.BUY, "101", "25000").build(), "qty 101 out of");
+        assertRejected(validator, limit(Side.BUY, "1", "250000").build(), "price 250000 out of");
+        assertRejected(validator, limit(Side.BUY, "1", null).build(), "price is required");
+        assertRejected(validator, limit(Side.BUY, "abc", "25000").build(), "invalid qty abc");
+        assertRejected(validator, limit(Side.BUY, "1", "25000").symbol("XRPUSDT").build(), "unknown instrument");
+        assertRejected(validator, limit(Side.BUY, "1", "2000").symbol("ETHUSDT").build(), "instrument is PreLaunch");
+        // spot orders must be worth at least minOrderAmt
+        assertRejected(validator, limit(Side.BUY, "0.00005", "10000").category(CategoryType.SPOT).build(), "order value");
+        assertRejected(validator, TradeOrderRequest.builder().category(CategoryType.SPOT).symbol("BTCUSDT").side(Side.BUY)
+                .orderType(TradeOrderType.MARKET).qty("0.5").build(), "order value 0.5 out of");
+    }
+
+    @Test
+    public void testChecksPositionMode() {
+        PreTradeValidator validator = validator();
+        assertRejected(validator, limit(Side.BUY, "1", "25000").positionIdx(PositionIdx.HEDGE_MODE_BUY).build(), "one-way mode");
+        validator.setHedgeMode(true);
+        assertRejected(validator, limit(Side.BUY, "1", "25000").build(), "hedge mode");
+        validator.validateOrder(limit(Side.BUY, "1", "25000").positionIdx(PositionIdx.HEDGE_MODE_BUY).build(), CategoryType.LINEAR);
+        validator.setHedgeMode("BTCUSDT", false);
+        validator.validateOrder(limit(Side.BUY, "1", "25000").build(), CategoryType.LINEAR);
+        // spot has no position mode
+        validator.validateOrder(limit(Side.BUY, "0.01", "25000").category(CategoryType.SPOT).build(), CategoryType.SPOT);
+    }
+
+    @Test
+    public void testBatchLegsUseBatchCategory() {
+        BybitJsonConverter converter = new BybitJsonConverter(validator());
+        BatchOrderRequest batch = BatchOrderRequest.builder().category(CategoryType.LINEAR)
+                .request(List.of(limit(Side.BUY, "0.0129", "25000.19").category(null).build())).build();
+        PlaceBatchOrderRequest request = converter.convertToPlaceBatchOrderRequest(batch);
+        assertEquals("0.012", request.getRequest().get(0).getQty());
+        assertEquals("25000.1", request.getRequest().get(0).getPrice());
+    }
+
+    @Test
+    public void testTradeClientFailsFastWithoutRequest() {
+        AtomicInteger calls = new AtomicInteger();
+        BybitApiService service = ClientStubs.stub(BybitApiService.class, args -> {
+            calls.incrementAndGet();
+            throw new UnsupportedOperationException();
+        });
+        BybitApiTradeRestClientImpl client = new BybitApiTradeRestClientImpl(service, validator());
+        try {
+            client.createOrder(limit(Side.BUY, "0.0001", "25000").build());
+            fail("expected a rejection");
+        } catch (PreTradeValidationException e) {
+            assertEquals(0, calls.get());
+        }
+        try {
+            client.amendOrder(limit(Side.BUY, "1", "250000").orderId("1").build());
+            fail("expected a rejection");
+        } catch (PreTradeValidationException e) {
+            assertEquals(0, calls.get());
+        }
+    }
+}
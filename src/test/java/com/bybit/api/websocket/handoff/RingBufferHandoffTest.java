@@ -0,0 +1,124 @@
+package com.bybit.api.websocket.handoff;
+
+import com.bybit.api.client.websocket.handoff.OverflowPolicy;
+import com.bybit.api.client.websocket.handoff.RingBufferHandoff;
+import com.bybit.api.client.websocket.handoff.WaitStrategy;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+public class RingBufferHandoffTest {
+    private final List<String> handled = Collections.synchronizedList(new ArrayList<>());
+    private final CountDownLatch first = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private RingBufferHandoff handoff;
+
+    @After
+    public void tearDown() {
+        release.countDown();
+        if (handoff != null) {
+            handoff.close();
+        }
+    }
+
+    @Test
+    public void testTopicOrderKeptAcrossConsumers() throws InterruptedException {
+        int perTopic = 5000;
+        String[] topics = {"tickers.BTCUSDT", "tickers.ETHUSDT", "publicTrade.BTCUSDT", "orderbook.1.SOLUSDT"};
+        CountDownLatch done = new CountDownLatch(perTopic * topics.length);
+        Map<String, List<Integer>> sequences = new ConcurrentHashMap<>();
+        Map<String, Thread> threads = new ConcurrentHashMap<>();
+        handoff = new RingBufferHandoff(message -> {
+            String topic = message.substring(10, message.indexOf('"', 10));
+            int seq = Integer.parseInt(message.substring(message.lastIndexOf(':') + 1, message.length() - 1));
+            sequences.computeIfAbsent(topic, t -> new ArrayList<>()).add(seq);
+            assertSame(threads.computeIfAbsent(topic, t -> Thread.currentThread()), Thread.currentThread());
+            done.countDown();
+        }, 64, 2, WaitStrategy.YIELD, OverflowPolicy.BLOCK);
+
+        for (int i = 0; i < perTopic; i++) {
+            for (String topic : topics) {
+                handoff.onMessage("{\"topic\":\"" + topic + "\",\"seq\":" + i + "}");
+            }
+        }
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        for (String topic : topics) {
+            List<Integer> seq = sequences.get(topic);
+            assertEquals(perTopic, seq.size());
+            for (int i = 0; i < perTopic; i++) {
+                assertEquals(i, seq.get(i).intValue());
+            }
+        }
+        assertEquals(0, handoff.getDroppedCount());
+    }
+
+    @Test
+    public void testDropWhenFull() throws InterruptedException {
+        handoff = new RingBufferHandoff(this::blockingHandle, 4, 1, WaitStrategy.PARK, OverflowPolicy.DROP);
+        handoff.onMessage("m0");
+        assertTrue(first.await(5, TimeUnit.SECONDS));
+        for (int i = 1; i <= 7; i++) {
+            handoff.onMessage("m" + i);
+        }
+        assertEquals(3, handoff.getDroppedCount());
+        assertEquals(4, handoff.getBacklog());
+
+        release.countDown();
+        awaitHandled(5);
+        assertEquals(List.of("m0", "m1", "m2", "m3", "m4"), handled);
+    }
+
+    @Test
+    public void testConflateKeepsLatestPerTopicInOrder() throws InterruptedException {
+        handoff = new RingBufferHandoff(this::blockingHandle, 2, 1, WaitStrategy.PARK, OverflowPolicy.CONFLATE);
+        handoff.onMessage(frame("tickers.XRPUSDT", 0));
+        assertTrue(first.await(5, TimeUnit.SECONDS));
+        handoff.onMessage(frame("tickers.BTCUSDT", 1));
+        handoff.onMessage(frame("tickers.ETHUSDT", 1));
+        // ring is full from here
+        handoff.onMessage(frame("tickers.BTCUSDT", 2));
+        handoff.onMessage(frame("tickers.ETHUSDT", 2));
+        handoff.onMessage(frame("tickers.BTCUSDT", 3));
+        handoff.onMessage("pong");
+        assertEquals(1, handoff.getConflatedCount());
+        assertEquals(0, handoff.getDroppedCount());
+
+        release.countDown();
+        awaitHandled(6);
+        handoff.onMessage(frame("tickers.BTCUSDT", 4));
+        awaitHandled(7);
+        assertEquals(List.of(frame("tickers.XRPUSDT", 0), frame("tickers.BTCUSDT", 1), frame("tickers.ETHUSDT", 1),
+                frame("tickers.BTCUSDT", 3), frame("tickers.ETHUSDT", 2), "pong", frame("tickers.BTCUSDT", 4)), handled);
+    }
+
+    private void blockingHandle(String message) {
+        handled.add(message);
+        first.countDown();
+        try {
+            release.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void awaitHandled(int count) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (handled.size() < count && System.currentTimeMillis() < deadline) {
+            Thread.sleep(1);
+        }
+        assertEquals(count, handled.size());
+    }
+
+    private static String frame(String topic, int seq) {
+        return "{\"topic\":\"" + topic + "\",\"seq\":" + seq + "}";
+    }
+}
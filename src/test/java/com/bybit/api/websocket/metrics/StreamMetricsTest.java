@@ -0,0 +1,112 @@
+package com.bybit.api.websocket.metrics;
+
+import com.bybit.api.client.websocket.metrics.InstrumentedMessageCallback;
+import com.bybit.api.client.websocket.metrics.LatencyRecorder;
+import com.bybit.api.client.websocket.metrics.MicrometerStreamMetricsBinder;
+import com.bybit.api.client.websocket.metrics.TopicMetrics;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.*;
+
+public class StreamMetricsTest {
+    private final AtomicLong clock = new AtomicLong(1672304485000L);
+    private final List<String> handled = new ArrayList<>();
+    private final InstrumentedMessageCallback callback = new InstrumentedMessageCallback(handled::add, clock::get);
+
+    @Test
+    public void testGapAndOutOfOrderDetection() throws JsonProcessingException {
+        callback.onMessage(book("snapshot", 100, 1672304484978L));
+        callback.onMessage(book("delta", 101, 1672304484988L));
+        callback.onMessage(book("delta", 104, 1672304484998L));
+        callback.onMessage(book("delta", 104, 1672304484998L));
+        // a new snapshot resets the update id
+        callback.onMessage(book("snapshot", 500, 1672304484999L));
+        callback.onMessage(book("delta", 501, 1672304484999L));
+
+        TopicMetrics metrics = callback.getTopicMetrics("orderbook.50.BTCUSDT");
+        assertEquals(6, metrics.getMessageCount());
+        assertEquals(1, metrics.getGapCount());
+        assertEquals(1, metrics.getOutOfOrderCount());
+        assertEquals(6, handled.size());
+        assertEquals(6, metrics.getHandlerTime().getCount());
+    }
+
+    @Test
+    public void testLatencyAndRate() throws JsonProcessingException {
+        callback.onMessage(book("snapshot", 1, 1672304484978L));
+        callback.onMessage("{\"topic\":\"tickers.BTCUSDT\",\"type\":\"delta\",\"data\":{\"symbol\":\"BTCUSDT\"},\"cs\":24987956060,\"ts\":1672304484990}");
+        callback.onMessage("{\"topic\":\"tickers.BTCUSDT\",\"type\":\"delta\",\"data\":{\"symbol\":\"BTCUSDT\"},\"cs\":24987956059,\"ts\":1672304484991}");
+        clock.addAndGet(1000);
+        callback.onMessage("{\"topic\":\"tickers.BTCUSDT\",\"type\":\"delta\",\"data\":{\"symbol\":\"BTCUSDT\"},\"cs\":24987956061,\"ts\":1672304485995}");
+        callback.onMessage("{\"success\":true,\"ret_msg\":\"pong\",\"conn_id\":\"abc\",\"op\":\"ping\"}");
+
+        TopicMetrics book = callback.getTopicMetrics("orderbook.50.BTCUSDT");
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(22), book.getPushLatency().getMax());
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(25), book.getEngineLatency().getMax());
+        TopicMetrics ticker = callback.getTopicMetrics("tickers.BTCUSDT");
+        assertEquals(2, ticker.getMessageRate());
+        assertEquals(1, ticker.getOutOfOrderCount());
+        assertEquals(2, callback.getTopicMetrics().size());
+        assertEquals(5, handled.size());
+    }
+
+    @Test
+    public void testRateOfQuietTopic() throws JsonProcessingException {
+        String ticker = "{\"topic\":\"tickers.BTCUSDT\",\"type\":\"delta\",\"data\":{\"symbol\":\"BTCUSDT\"},\"ts\":1672304485000}";
+        for (int i = 0; i < 3; i++) {
+            callback.onMessage(ticker);
+        }
+        TopicMetrics metrics = callback.getTopicMetrics("tickers.BTCUSDT");
+        // the current second is not complete yet
+        assertEquals(0, metrics.getMessageRate());
+        clock.addAndGet(1000);
+        assertEquals(3, metrics.getMessageRate());
+        callback.onMessage(ticker);
+        assertEquals(3, metrics.getMessageRate());
+        clock.addAndGet(1000);
+        assertEquals(1, metrics.getMessageRate());
+        // no message for a whole second
+        clock.addAndGet(1000);
+        assertEquals(0, metrics.getMessageRate());
+        clock.addAndGet(60_000);
+        assertEquals(0, metrics.getMessageRate());
+    }
+
+    @Test
+    public void testRecorderPercentiles() {
+        LatencyRecorder recorder = new LatencyRecorder();
+        for (long i = 1; i <= 100_000; i++) {
+            recorder.record(i * 1000);
+        }
+        assertEquals(100_000, recorder.getCount());
+        assertEquals(100_000_000, recorder.getMax());
+        assertEquals(50_000_000, recorder.getValueAtPercentile(50), 50_000_000 * 0.07);
+        assertEquals(99_000_000, recorder.getValueAtPercentile(99), 99_000_000 * 0.07);
+        assertEquals(50_000_500, recorder.getMean(), 1);
+    }
+
+    @Test
+    public void testMicrometerBinding() throws JsonProcessingException {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        callback.onMessage(book("snapshot", 1, 1672304484978L));
+        new MicrometerStreamMetricsBinder(callback).bindTo(registry);
+        callback.onMessage(book("delta", 3, 1672304484978L).replace("BTCUSDT", "ETHUSDT"));
+        callback.onMessage(book("delta", 3, 1672304484978L));
+
+        assertEquals(2, registry.get("bybit.stream.messages").tag("topic", "orderbook.50.BTCUSDT").functionCounter().count(), 0);
+        assertEquals(1, registry.get("bybit.stream.gaps").tag("topic", "orderbook.50.BTCUSDT").functionCounter().count(), 0);
+        assertEquals(1, registry.get("bybit.stream.messages").tag("topic", "orderbook.50.ETHUSDT").functionCounter().count(), 0);
+    }
+
+    private static String book(String type, long updateId, long ts) {
+        return "{\"topic\":\"orderbook.50.BTCUSDT\",\"type\":\"" + type + "\",\"ts\":" + ts + ",\"data\":{\"s\":\"BTCUSDT\"," +
+                "\"b\":[[\"16493.50\",\"0.006\"]],\"a\":[],\"u\":" + updateId + ",\"seq\":7961638724},\"cts\":1672304484975}";
+    }
+}
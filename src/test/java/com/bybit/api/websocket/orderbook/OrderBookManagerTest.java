@@ -0,0 +1,134 @@
+package com.bybit.api.websocket.orderbook;
+
+import com.bybit.api.client.util.ScaledDecimal;
+import com.bybit.api.client.websocket.orderbook.LocalOrderBook;
+import com.bybit.api.client.websocket.orderbook.OrderBookManager;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class OrderBookManagerTest {
+    private static final String TOPIC = "orderbook.50.BTCUSDT";
+    private static final String SNAPSHOT = "{\"topic\":\"orderbook.50.BTCUSDT\",\"type\":\"snapshot\",\"ts\":1672304484978,\"data\":{\"s\":\"BTCUSDT\"," +
+            "\"b\":[[\"16493.50\",\"0.006\"],[\"16493.00\",\"0.100\"]]," +
+            "\"a\":[[\"16611.00\",\"0.029\"],[\"16612.00\",\"0.213\"]],\"u\":18521288,\"seq\":7961638724},\"cts\":1672304484976}";
+
+    private final List<String> forwarded = new ArrayList<>();
+    private final List<String> resynced = new ArrayList<>();
+    private OrderBookManager manager;
+
+    @Before
+    public void setup() {
+        manager = new OrderBookManager(2, 3, forwarded::add);
+        manager.setResyncHandler(resynced::add);
+    }
+
+    private static String delta(long updateId, String bids, String asks) {
+        return "{\"topic\":\"orderbook.50.BTCUSDT\",\"type\":\"delta\",\"ts\":1672304484979,\"data\":{\"s\":\"BTCUSDT\"," +
+                "\"b\":" + bids + ",\"a\":" + asks + ",\"u\":" + updateId + ",\"seq\":7961638725},\"cts\":1672304484977}";
+    }
+
+    @Test
+    public void testSnapshot() throws JsonProcessingException {
+        manager.onMessage(SNAPSHOT);
+        LocalOrderBook book = manager.getBook(TOPIC);
+        assertNotNull(book);
+        assertTrue(book.isSynced());
+        assertEquals("BTCUSDT", book.getSymbol());
+        assertEquals(1649350, book.bestBidPrice());
+        assertEquals(6, book.bestBidSize());
+        assertEquals(1661100, book.bestAskPrice());
+        assertEquals(2, book.bidDepth());
+        assertEquals(18521288, book.getUpdateId());
+        assertTrue(forwarded.isEmpty());
+    }
+
+    @Test
+    public void testDeltaInsertUpdateRemove() throws JsonProcessingException {
+        manager.onMessage(SNAPSHOT);
+        manager.onMessage(delta(18521289, "[[\"16494.00\",\"1.000\"],[\"16493.50\",\"0\"]]", "[[\"16612.00\",\"0.500\"]]"));
+        LocalOrderBook book = manager.getBook(TOPIC);
+        long[] prices = new long[10];
+        long[] sizes = new long[10];
+        int levels = book.copyBids(prices, sizes, 10);
+        assertEquals(2, levels);
+        assertEquals(1649400, prices[0]);
+        assertEquals(1000, sizes[0]);
+        assertEquals(1649300, prices[1]);
+        levels = book.copyAsks(prices, sizes, 10);
+        assertEquals(2, levels);
+        assertEquals(500, sizes[1]);
+    }
+
+    @Test
+    public void testGapTriggersResync() throws JsonProcessingException {
+        manager.onMessage(SNAPSHOT);
+        manager.onMessage(delta(18521291, "[]", "[]"));
+        LocalOrderBook book = manager.getBook(TOPIC);
+        assertFalse(book.isSynced());
+        assertEquals(List.of(TOPIC), resynced);
+        // deltas are ignored until a new snapshot arrives
+        manager.onMessage(delta(18521292, "[[\"20000.00\",\"1.000\"]]", "[]"));
+        assertEquals(1649350, book.bestBidPrice());
+        manager.onMessage(SNAPSHOT);
+        assertTrue(book.isSynced());
+    }
+
+    @Test
+    public void testLevelBeyondScaleTriggersResync() throws JsonProcessingException {
+        manager.onMessage(SNAPSHOT);
+        // would have been truncated to the 16493.50 level and deleted it
+        manager.onMessage(delta(18521289, "[[\"16493.505\",\"0\"]]", "[]"));
+        LocalOrderBook book = manager.getBook(TOPIC);
+        assertFalse(book.isSynced());
+        assertEquals(List.of(TOPIC), resynced);
+        assertEquals(1649350, book.bestBidPrice());
+        assertEquals(18521288, book.getUpdateId());
+
+        manager.onMessage(SNAPSHOT);
+        assertTrue(book.isSynced());
+        // would have wrapped around to a negative size
+        manager.onMessage(delta(18521289, "[]", "[[\"16611.00\",\"9300000000000000.000\"]]"));
+        assertFalse(book.isSynced());
+        assertEquals(List.of(TOPIC, TOPIC), resynced);
+        assertEquals(29, book.bestAskSize());
+    }
+
+    @Test
+    public void testScaledDecimalParse() {
+        assertEquals(1649350, ScaledDecimal.parse("16493.5", 2));
+        assertEquals(1649350, ScaledDecimal.parse("16493.500000", 2));
+        assertEquals(-5, ScaledDecimal.parse("-0.05", 2));
+        assertEquals(Long.MAX_VALUE, ScaledDecimal.parse("92233720368547758.07", 2));
+        for (String invalid : List.of("16493.505", "92233720368547758.08", "99999999999999999999", "1.2.3", "-", "")) {
+            try {
+                ScaledDecimal.parse(invalid, 2);
+                fail("expected an exception for " + invalid);
+            } catch (NumberFormatException e) {
+                // expected
+            }
+        }
+    }
+
+    @Test
+    public void testVwap() throws JsonProcessingException {
+        manager.onMessage(SNAPSHOT);
+        LocalOrderBook book = manager.getBook(TOPIC);
+        // 0.029 @ 16611 + 0.071 @ 16612
+        double expected = (0.029 * 16611 + 0.071 * 16612) / 0.1;
+        assertEquals(expected, book.vwapBuy(100), 1e-6);
+        assertTrue(Double.isNaN(book.vwapBuy(1000)));
+    }
+
+    @Test
+    public void testOtherTopicsForwarded() throws JsonProcessingException {
+        String trade = "{\"topic\":\"publicTrade.BTCUSDT\",\"type\":\"snapshot\",\"ts\":1672304486868,\"data\":[]}";
+        manager.onMessage(trade);
+        assertEquals(List.of(trade), forwarded);
+    }
+}
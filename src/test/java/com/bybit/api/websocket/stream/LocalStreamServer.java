@@ -0,0 +1,77 @@
+package com.bybit.api.websocket.stream;
+
+import org.java_websocket.WebSocket;
+import org.java_websocket.handshake.ClientHandshake;
+import org.java_websocket.server.WebSocketServer;
+
+import java.net.InetSocketAddress;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Websocket server on the loopback interface, recording the connections and the frames other than pings.
+ */
+public class LocalStreamServer extends WebSocketServer implements AutoCloseable {
+    private final BlockingQueue<WebSocket> connections = new LinkedBlockingQueue<>();
+    private final BlockingQueue<String> frames = new LinkedBlockingQueue<>();
+    private final CountDownLatch started = new CountDownLatch(1);
+
+    public LocalStreamServer(int port) throws InterruptedException {
+        super(new InetSocketAddress("127.0.0.1", port));
+        setReuseAddr(true);
+        start();
+        if (!started.await(5, TimeUnit.SECONDS)) {
+            throw new IllegalStateException("server did not start");
+        }
+    }
+
+    public String getUrl() {
+        return "ws://127.0.0.1:" + getPort();
+    }
+
+    /**
+     * @return the next connection opened, null if none within the timeout
+     */
+    public WebSocket nextConnection(long timeoutMillis) throws InterruptedException {
+        return connections.poll(timeoutMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * @return the next frame received, null if none within the timeout
+     */
+    public String nextFrame(long timeoutMillis) throws InterruptedException {
+        return frames.poll(timeoutMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void onStart() {
+        started.countDown();
+    }
+
+    @Override
+    public void onOpen(WebSocket conn, ClientHandshake handshake) {
+        connections.add(conn);
+    }
+
+    @Override
+    public void onMessage(WebSocket conn, String message) {
+        if (!message.contains("\"op\":\"ping\"")) {
+            frames.add(message);
+        }
+    }
+
+    @Override
+    public void onClose(WebSocket conn, int code, String reason, boolean remote) {
+    }
+
+    @Override
+    public void onError(WebSocket conn, Exception ex) {
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        stop(1000);
+    }
+}
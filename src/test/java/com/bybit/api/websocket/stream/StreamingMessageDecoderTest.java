@@ -0,0 +1,104 @@
+package com.bybit.api.websocket.stream;
+
+import com.bybit.api.client.domain.websocket_message.public_channel.KlineData;
+import com.bybit.api.client.domain.websocket_message.public_channel.PublicTickerData;
+import com.bybit.api.client.domain.websocket_message.public_channel.TradeData;
+import com.bybit.api.client.websocket.callback.PublicStreamListener;
+import com.bybit.api.client.websocket.impl.StreamingMessageDecoder;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class StreamingMessageDecoderTest {
+    private final List<String> trades = new ArrayList<>();
+    private final List<String> tickers = new ArrayList<>();
+    private final List<String> klines = new ArrayList<>();
+    private final List<String> others = new ArrayList<>();
+    private final List<TradeData> tradeInstances = new ArrayList<>();
+    private final List<String> tickDirections = new ArrayList<>();
+
+    private final StreamingMessageDecoder decoder = new StreamingMessageDecoder(new PublicStreamListener() {
+        @Override
+        public void onTrade(String topic, long ts, TradeData trade) {
+            trades.add(topic + "|" + ts + "|" + trade.getS() + "|" + trade.getSide() + "|" + trade.getP() + "|" + trade.getV() + "|" + trade.getT());
+            tradeInstances.add(trade);
+            tickDirections.add(trade.getL() + "|" + trade.getI() + "|" + trade.getBT());
+        }
+
+        @Override
+        public void onTicker(String topic, boolean snapshot, long ts, PublicTickerData ticker) {
+            tickers.add(snapshot + "|" + ticker.getSymbol() + "|" + ticker.getLastPrice() + "|" + ticker.getMarkPrice());
+        }
+
+        @Override
+        public void onKline(String topic, long ts, KlineData kline) {
+            klines.add(kline.getStart() + "|" + kline.getClose() + "|" + kline.getConfirm() + "|" + kline.getTimestamp());
+        }
+
+        @Override
+        public void onMessage(String message) {
+            others.add(message);
+        }
+    });
+
+    @Test
+    public void testTradesDecodedIntoPooledObjects() throws JsonProcessingException {
+        String message = "{\"topic\":\"publicTrade.BTCUSDT\",\"type\":\"snapshot\",\"ts\":1672304486868,\"data\":[" +
+                "{\"T\":1672304486865,\"s\":\"BTCUSDT\",\"S\":\"Buy\",\"v\":\"0.001\",\"p\":\"16578.50\",\"L\":\"PlusTick\",\"i\":\"20f43950\",\"BT\":false}," +
+                "{\"T\":1672304486866,\"s\":\"BTCUSDT\",\"S\":\"Sell\",\"v\":\"0.002\",\"p\":\"16578.00\",\"L\":\"MinusTick\",\"i\":\"20f43951\",\"BT\":false}]}";
+        decoder.onMessage(message);
+        decoder.onMessage(message);
+        assertEquals(4, trades.size());
+        assertEquals("publicTrade.BTCUSDT|1672304486868|BTCUSDT|Buy|16578.50|0.001|1672304486865", trades.get(0));
+        assertEquals("publicTrade.BTCUSDT|1672304486868|BTCUSDT|Sell|16578.00|0.002|1672304486866", trades.get(1));
+        // the same instances are reused for the next frame
+        assertSame(tradeInstances.get(0), tradeInstances.get(2));
+        assertSame(tradeInstances.get(1), tradeInstances.get(3));
+    }
+
+    @Test
+    public void testPooledObjectsDoNotKeepFieldsOfEarlierFrames() throws JsonProcessingException {
+        decoder.onMessage("{\"topic\":\"publicTrade.BTCUSDT\",\"type\":\"snapshot\",\"ts\":1672304486868,\"data\":[" +
+                "{\"T\":1672304486865,\"s\":\"BTCUSDT\",\"S\":\"Buy\",\"v\":\"0.001\",\"p\":\"16578.50\",\"L\":\"PlusTick\",\"i\":\"20f43950\",\"BT\":false}]}");
+        // spot trades carry no tick direction
+        decoder.onMessage("{\"topic\":\"publicTrade.ETHUSDT\",\"type\":\"snapshot\",\"ts\":1672304486870,\"data\":[" +
+                "{\"i\":\"2290000000061666327\",\"T\":1672304486869,\"p\":\"1650.5\",\"v\":\"0.1\",\"S\":\"Sell\",\"s\":\"ETHUSDT\"}]}");
+        assertSame(tradeInstances.get(0), tradeInstances.get(1));
+        assertEquals(List.of("PlusTick|20f43950|false", "null|2290000000061666327|null"), tickDirections);
+
+        decoder.onMessage("{\"topic\":\"kline.5.BTCUSDT\",\"data\":[{\"start\":1672324800000,\"end\":1672325099999,\"interval\":\"5\",\"open\":\"16649.5\"," +
+                "\"close\":\"16677\",\"high\":\"16677\",\"low\":\"16608\",\"volume\":\"2.081\",\"turnover\":\"34666.4005\",\"confirm\":true,\"timestamp\":1672324988882}]," +
+                "\"ts\":1672324988882,\"type\":\"snapshot\"}");
+        decoder.onMessage("{\"topic\":\"kline.5.BTCUSDT\",\"data\":[{\"start\":1672325100000,\"close\":\"16680\"}],\"ts\":1672325100100,\"type\":\"snapshot\"}");
+        assertEquals(List.of("1672324800000|16677|true|1672324988882", "1672325100000|16680|null|null"), klines);
+    }
+
+    @Test
+    public void testTickerDeltaClearsUnchangedFields() throws JsonProcessingException {
+        decoder.onMessage("{\"topic\":\"tickers.BTCUSDT\",\"type\":\"snapshot\",\"data\":{\"symbol\":\"BTCUSDT\",\"lastPrice\":\"17216.00\",\"markPrice\":\"17217.33\"},\"cs\":24987956059,\"ts\":1673272861686}");
+        decoder.onMessage("{\"topic\":\"tickers.BTCUSDT\",\"type\":\"delta\",\"data\":{\"symbol\":\"BTCUSDT\",\"markPrice\":\"17218.00\"},\"cs\":24987956060,\"ts\":1673272861786}");
+        assertEquals(List.of("true|BTCUSDT|17216.00|17217.33", "false|BTCUSDT|null|17218.00"), tickers);
+    }
+
+    @Test
+    public void testKline() throws JsonProcessingException {
+        decoder.onMessage("{\"topic\":\"kline.5.BTCUSDT\",\"data\":[{\"start\":1672324800000,\"end\":1672325099999,\"interval\":\"5\",\"open\":\"16649.5\"," +
+                "\"close\":\"16677\",\"high\":\"16677\",\"low\":\"16608\",\"volume\":\"2.081\",\"turnover\":\"34666.4005\",\"confirm\":false,\"timestamp\":1672324988882}]," +
+                "\"ts\":1672324988882,\"type\":\"snapshot\"}");
+        assertEquals(List.of("1672324800000|16677|false|1672324988882"), klines);
+    }
+
+    @Test
+    public void testOtherFramesPassedThrough() throws JsonProcessingException {
+        String orderbook = "{\"topic\":\"orderbook.1.BTCUSDT\",\"type\":\"snapshot\",\"ts\":1,\"data\":{}}";
+        String pong = "{\"success\":true,\"ret_msg\":\"pong\",\"conn_id\":\"abc\",\"op\":\"ping\"}";
+        decoder.onMessage(orderbook);
+        decoder.onMessage(pong);
+        assertEquals(List.of(orderbook, pong), others);
+        assertTrue(trades.isEmpty());
+    }
+}
@@ -0,0 +1,71 @@
+package com.bybit.api.websocket.stream;
+
+import com.bybit.api.client.domain.websocket_message.private_channel.WebSocketOrderMessage;
+import com.bybit.api.client.domain.websocket_message.public_channel.WebSocketTradeMessage;
+import com.bybit.api.client.domain.websocket_message.public_channel.WebsocketOrderbookMessage;
+import com.bybit.api.client.websocket.callback.TopicHandler;
+import com.bybit.api.client.websocket.impl.TopicRouter;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class TopicRouterTest {
+    private static final String ORDERBOOK = "{\"topic\":\"orderbook.50.BTCUSDT\",\"type\":\"snapshot\",\"ts\":1672304484978," +
+            "\"data\":{\"s\":\"BTCUSDT\",\"b\":[[\"16493.50\",\"0.006\"]],\"a\":[[\"16611.00\",\"0.029\"]],\"u\":18521288,\"seq\":7961638724}}";
+    private static final String TRADE = "{\"topic\":\"publicTrade.ETHUSDT\",\"type\":\"snapshot\",\"ts\":1672304486868," +
+            "\"data\":[{\"T\":1672304486865,\"s\":\"ETHUSDT\",\"S\":\"Buy\",\"v\":\"0.001\",\"p\":\"1657.85\",\"L\":\"PlusTick\",\"i\":\"a1\",\"BT\":false}]}";
+    private static final String ORDER = "{\"id\":\"5923240c6880ab-c59f-420b-9adb-3639adc9dd90\",\"topic\":\"order\",\"creationTime\":1672364262474," +
+            "\"data\":[{\"symbol\":\"ETH-30DEC22-1400-C\",\"orderId\":\"5cf98598-39a7-459e-97bf-76ca765ee020\",\"side\":\"Sell\",\"orderType\":\"Market\"}]}";
+    private static final String PONG = "{\"success\":true,\"ret_msg\":\"pong\",\"conn_id\":\"abc\",\"op\":\"ping\"}";
+
+    private final List<String> fallback = new ArrayList<>();
+    private final TopicRouter router = new TopicRouter(fallback::add);
+
+    @Test
+    public void testWildcardAndExactPatterns() throws JsonProcessingException {
+        List<String> routed = new ArrayList<>();
+        router.register("orderbook.*.BTCUSDT", WebsocketOrderbookMessage.class, (topic, message) -> routed.add("book|" + message.getData().getS()))
+                .register("publicTrade.*", WebSocketTradeMessage.class, (topic, message) -> routed.add("trade|" + message.getData().get(0).getP()))
+                .register("order", WebSocketOrderMessage.class, (topic, message) -> routed.add("order|" + message.getData().get(0).getSide()));
+
+        router.onMessage(ORDERBOOK);
+        router.onMessage(TRADE);
+        router.onMessage(ORDER);
+        router.onMessage(ORDERBOOK.replace("BTCUSDT", "ETHUSDT"));
+        router.onMessage(PONG);
+
+        assertEquals(List.of("book|BTCUSDT", "trade|1657.85", "order|Sell"), routed);
+        assertEquals(2, fallback.size());
+        assertEquals(PONG, fallback.get(1));
+    }
+
+    @Test
+    public void testFrameDecodedOncePerClass() throws JsonProcessingException {
+        List<Object> messages = new ArrayList<>();
+        router.register("orderbook.*.*", WebsocketOrderbookMessage.class, (topic, message) -> messages.add(message))
+                .register("orderbook.50.BTCUSDT", WebsocketOrderbookMessage.class, (topic, message) -> messages.add(message))
+                .register("orderbook.50.*", String.class, (topic, message) -> messages.add(message));
+
+        router.onMessage(ORDERBOOK);
+        assertEquals(3, messages.size());
+        assertSame(messages.get(0), messages.get(1));
+        assertTrue(messages.contains(ORDERBOOK));
+    }
+
+    @Test
+    public void testUnregisterFallsBack() throws JsonProcessingException {
+        List<String> topics = new ArrayList<>();
+        TopicHandler<String> handler = (topic, message) -> topics.add(topic);
+        router.register("publicTrade.*", String.class, handler);
+        router.onMessage(TRADE);
+        router.unregister(handler);
+        router.onMessage(TRADE);
+
+        assertEquals(List.of("publicTrade.ETHUSDT"), topics);
+        assertEquals(List.of(TRADE), fallback);
+    }
+}
@@ -0,0 +1,63 @@
+package com.bybit.api.websocket.stream;
+
+import com.bybit.api.client.log.LogOption;
+import com.bybit.api.client.websocket.httpclient.WebSocketStreamHttpClientSingleton;
+import okhttp3.OkHttpClient;
+import org.junit.Test;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class WebSocketStreamHttpClientSingletonTest {
+
+    @Test
+    public void testStreamClientsShareDispatcherAndConnectionPool() {
+        WebSocketStreamHttpClientSingleton first = WebSocketStreamHttpClientSingleton.createInstance(false, null);
+        WebSocketStreamHttpClientSingleton second = WebSocketStreamHttpClientSingleton.createInstance(false, LogOption.SLF4J.getLogOptionType());
+        OkHttpClient client = first.createOkHttpClient(false, null);
+        assertSame(client, second.createOkHttpClient(false, LogOption.SLF4J.getLogOptionType()));
+        assertSame(client.dispatcher(), second.createOkHttpClient(false, null).dispatcher());
+        assertSame(client.connectionPool(), second.createOkHttpClient(false, null).connectionPool());
+    }
+
+    @Test
+    public void testDebugClientsReusedPerLogOption() {
+        WebSocketStreamHttpClientSingleton singleton = WebSocketStreamHttpClientSingleton.createInstance(true, null);
+        OkHttpClient shared = singleton.createOkHttpClient(false, null);
+        OkHttpClient slf4j = singleton.createOkHttpClient(true, LogOption.SLF4J.getLogOptionType());
+        OkHttpClient okhttp3 = singleton.createOkHttpClient(true, LogOption.OKHTTP3.getLogOptionType());
+
+        assertSame(slf4j, WebSocketStreamHttpClientSingleton.createInstance(true, null).createOkHttpClient(true, LogOption.SLF4J.getLogOptionType()));
+        assertSame(okhttp3, singleton.createOkHttpClient(true, LogOption.OKHTTP3.getLogOptionType()));
+        assertNotSame(slf4j, okhttp3);
+        assertNotSame(shared, slf4j);
+        // the logging interceptor is the only difference to the shared client
+        assertSame(shared.dispatcher(), slf4j.dispatcher());
+        assertSame(shared.connectionPool(), slf4j.connectionPool());
+        assertSame(shared.dispatcher(), okhttp3.dispatcher());
+        assertSame(shared.connectionPool(), okhttp3.connectionPool());
+        assertEquals(shared.interceptors().size() + 1, slf4j.interceptors().size());
+    }
+
+    @Test
+    public void testConnectionTasksRunOnOneScheduler() throws InterruptedException {
+        Set<Thread> threads = ConcurrentHashMap.newKeySet();
+        CountDownLatch done = new CountDownLatch(3);
+        Runnable task = () -> {
+            threads.add(Thread.currentThread());
+            done.countDown();
+        };
+        WebSocketStreamHttpClientSingleton.createInstance(false, null).execute(task);
+        WebSocketStreamHttpClientSingleton.createInstance(true, null).execute(task);
+        WebSocketStreamHttpClientSingleton.createInstance(false, null).schedule(task, 10, TimeUnit.MILLISECONDS);
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals(1, threads.size());
+    }
+}
@@ -0,0 +1,101 @@
+package com.bybit.api.websocket.stream;
+
+import com.bybit.api.client.config.BybitApiConfig;
+import com.bybit.api.client.exception.BybitApiException;
+import com.bybit.api.client.websocket.callback.WebSocketReconnectListener;
+import com.bybit.api.client.websocket.httpclient.WebsocketStreamClient;
+import com.bybit.api.client.websocket.impl.WebSocketStreamPool;
+import com.bybit.api.client.websocket.impl.WebsocketStreamClientImpl;
+import okhttp3.WebSocket;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+public class WebSocketStreamPoolTest {
+    private final List<WebsocketStreamClient> clients = new ArrayList<>();
+    private WebSocketStreamPool pool;
+
+    @Before
+    public void setup() {
+        pool = new WebSocketStreamPool(() -> {
+            WebsocketStreamClient client = mock(WebsocketStreamClient.class);
+            when(client.getWebSocket()).thenReturn(mock(WebSocket.class));
+            clients.add(client);
+            return client;
+        }, 2);
+    }
+
+    @Test
+    public void testTopicsShardedByBudget() {
+        pool.subscribe(BybitApiConfig.V5_PUBLIC_LINEAR, List.of("tickers.BTCUSDT", "tickers.ETHUSDT", "tickers.SOLUSDT"));
+        assertEquals(2, pool.getConnectionCount(BybitApiConfig.V5_PUBLIC_LINEAR));
+        assertEquals(List.of(Set.of("tickers.BTCUSDT", "tickers.ETHUSDT"), Set.of("tickers.SOLUSDT")),
+                pool.getTopicsPerConnection(BybitApiConfig.V5_PUBLIC_LINEAR));
+        verify(clients.get(0)).getPublicChannelStream(List.of("tickers.BTCUSDT", "tickers.ETHUSDT"), BybitApiConfig.V5_PUBLIC_LINEAR);
+        verify(clients.get(1)).getPublicChannelStream(List.of("tickers.SOLUSDT"), BybitApiConfig.V5_PUBLIC_LINEAR);
+
+        // next topic goes to the connection with room on the live socket
+        pool.subscribe(BybitApiConfig.V5_PUBLIC_LINEAR, List.of("tickers.XRPUSDT", "tickers.BTCUSDT"));
+        verify(clients.get(1)).subscribe(List.of("tickers.XRPUSDT"));
+        assertEquals(2, clients.size());
+    }
+
+    @Test
+    public void testConnectionsMergedOnUnsubscribe() {
+        pool.subscribe(BybitApiConfig.V5_PUBLIC_LINEAR, List.of("tickers.BTCUSDT", "tickers.ETHUSDT", "tickers.SOLUSDT", "tickers.XRPUSDT"));
+        assertEquals(2, pool.getConnectionCount(BybitApiConfig.V5_PUBLIC_LINEAR));
+
+        pool.unsubscribe(BybitApiConfig.V5_PUBLIC_LINEAR, List.of("tickers.BTCUSDT", "tickers.SOLUSDT"));
+        assertEquals(1, pool.getConnectionCount(BybitApiConfig.V5_PUBLIC_LINEAR));
+        assertEquals(List.of(Set.of("tickers.ETHUSDT", "tickers.XRPUSDT")), pool.getTopicsPerConnection(BybitApiConfig.V5_PUBLIC_LINEAR));
+        verify(clients.get(0)).close();
+        verify(clients.get(1)).subscribe(List.of("tickers.ETHUSDT"));
+        verify(clients.get(1)).unsubscribe(List.of("tickers.SOLUSDT"));
+    }
+
+    @Test
+    public void testClosedConnectionNotBroughtBack() throws InterruptedException {
+        try (LocalStreamServer server = new LocalStreamServer(0)) {
+            CountDownLatch disconnected = new CountDownLatch(2);
+            WebSocketStreamPool pool = new WebSocketStreamPool(() -> {
+                WebsocketStreamClientImpl client = new WebsocketStreamClientImpl(null, null, server.getUrl(), 20, "-1", false, null, message -> {
+                });
+                client.setReconnectBackoff(400, 400);
+                client.addReconnectListener(new WebSocketReconnectListener() {
+                    @Override
+                    public void onDisconnected(String reason) {
+                        disconnected.countDown();
+                    }
+                });
+                return client;
+            }, 1);
+            pool.subscribe(BybitApiConfig.V5_PUBLIC_LINEAR, List.of("tickers.BTCUSDT", "tickers.ETHUSDT"));
+            server.nextConnection(5000).close(1001, "going away");
+            server.nextConnection(5000).close(1001, "going away");
+            assertTrue(disconnected.await(5, TimeUnit.SECONDS));
+
+            // the shard is closed while its reconnect is pending, only the other one comes back
+            pool.unsubscribe(BybitApiConfig.V5_PUBLIC_LINEAR, List.of("tickers.BTCUSDT"));
+            assertNotNull(server.nextConnection(5000));
+            assertNull(server.nextConnection(800));
+            pool.close();
+        }
+    }
+
+    @Test(expected = BybitApiException.class)
+    public void testPrivatePathRejected() {
+        pool.subscribe(BybitApiConfig.V5_PRIVATE, List.of("order"));
+    }
+}
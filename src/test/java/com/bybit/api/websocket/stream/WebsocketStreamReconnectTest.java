@@ -0,0 +1,159 @@
+package com.bybit.api.websocket.stream;
+
+import com.bybit.api.client.config.BybitApiConfig;
+import com.bybit.api.client.websocket.callback.WebSocketReconnectListener;
+import com.bybit.api.client.websocket.impl.WebsocketStreamClientImpl;
+import okhttp3.WebSocket;
+import org.junit.After;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class WebsocketStreamReconnectTest {
+    private final List<WebsocketStreamClientImpl> clients = new ArrayList<>();
+    private LocalStreamServer server;
+
+    @After
+    public void tearDown() throws InterruptedException {
+        clients.forEach(WebsocketStreamClientImpl::close);
+        if (server != null) {
+            server.close();
+        }
+    }
+
+    private WebsocketStreamClientImpl client(String url, long initialDelay, long maxDelay) {
+        WebsocketStreamClientImpl client = new WebsocketStreamClientImpl(null, null, url, 20, "-1", false, null, message -> {
+        });
+        client.setReconnectBackoff(initialDelay, maxDelay);
+        clients.add(client);
+        return client;
+    }
+
+    @Test
+    public void testSubscriptionsReplayedAfterReconnect() throws InterruptedException {
+        server = new LocalStreamServer(0);
+        WebsocketStreamClientImpl client = client(server.getUrl(), 10, 40);
+        CountDownLatch reconnected = new CountDownLatch(1);
+        client.addReconnectListener(new WebSocketReconnectListener() {
+            @Override
+            public void onReconnected(int attempts, long recoveryMillis) {
+                reconnected.countDown();
+            }
+        });
+        client.getPublicChannelStream(List.of("tickers.BTCUSDT"), BybitApiConfig.V5_PUBLIC_LINEAR);
+        org.java_websocket.WebSocket first = server.nextConnection(5000);
+        assertTrue(server.nextFrame(5000).contains("tickers.BTCUSDT"));
+        client.subscribe(List.of("tickers.ETHUSDT"));
+        assertTrue(server.nextFrame(5000).contains("tickers.ETHUSDT"));
+
+        // dropped by the exchange, e.g. on maintenance
+        first.close(1001, "going away");
+        assertNotNull(server.nextConnection(5000));
+        String replayed = server.nextFrame(5000);
+        assertTrue(replayed, replayed.contains("\"op\":\"subscribe\""));
+        assertTrue(replayed, replayed.contains("tickers.BTCUSDT") && replayed.contains("tickers.ETHUSDT"));
+        assertTrue(reconnected.await(5, TimeUnit.SECONDS));
+        assertEquals(1, client.getReconnectCount());
+    }
+
+    @Test
+    public void testCloseDoesNotReconnect() throws InterruptedException {
+        server = new LocalStreamServer(0);
+        WebsocketStreamClientImpl client = client(server.getUrl(), 10, 40);
+        client.getPublicChannelStream(List.of("tickers.BTCUSDT"), BybitApiConfig.V5_PUBLIC_LINEAR);
+        assertNotNull(server.nextConnection(5000));
+        client.close();
+        assertNull(client.getWebSocket());
+        assertNull(server.nextConnection(300));
+
+        // a normal closure of the returned socket closes the client as well
+        WebSocket ws = client.connect();
+        assertNotNull(server.nextConnection(5000));
+        ws.close(1000, "bye");
+        assertNull(server.nextConnection(300));
+
+        // any other code only drops the connection
+        ws = client.connect();
+        assertNotNull(server.nextConnection(5000));
+        ws.close(4000, "reconnect");
+        assertNotNull(server.nextConnection(5000));
+    }
+
+    @Test
+    public void testCloseCancelsScheduledReconnect() throws InterruptedException {
+        server = new LocalStreamServer(0);
+        WebsocketStreamClientImpl client = client(server.getUrl(), 400, 400);
+        CountDownLatch disconnected = new CountDownLatch(1);
+        client.addReconnectListener(new WebSocketReconnectListener() {
+            @Override
+            public void onDisconnected(String reason) {
+                disconnected.countDown();
+            }
+        });
+        client.getPublicChannelStream(List.of("tickers.BTCUSDT"), BybitApiConfig.V5_PUBLIC_LINEAR);
+        server.nextConnection(5000).close(1001, "going away");
+        assertTrue(disconnected.await(5, TimeUnit.SECONDS));
+        client.close();
+        assertNull(server.nextConnection(800));
+    }
+
+    @Test
+    public void testReconnectBacksOffUpToMaximum() throws IOException, InterruptedException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        int failures = 8;
+        List<Long> disconnects = new ArrayList<>();
+        CountDownLatch failed = new CountDownLatch(failures);
+        CountDownLatch reconnected = new CountDownLatch(1);
+        int[] reconnectAttempts = new int[1];
+        WebsocketStreamClientImpl client = client("ws://127.0.0.1:" + port, 10, 40);
+        client.addReconnectListener(new WebSocketReconnectListener() {
+            @Override
+            public void onDisconnected(String reason) {
+                synchronized (disconnects) {
+                    disconnects.add(System.nanoTime());
+                }
+                failed.countDown();
+            }
+
+            @Override
+            public void onReconnected(int attempts, long recoveryMillis) {
+                reconnectAttempts[0] = attempts;
+                reconnected.countDown();
+            }
+        });
+        // nothing listens on the port, every attempt is refused
+        client.getPublicChannelStream(List.of("tickers.BTCUSDT"), BybitApiConfig.V5_PUBLIC_LINEAR);
+        assertTrue(failed.await(10, TimeUnit.SECONDS));
+        synchronized (disconnects) {
+            for (int attempt = 0; attempt < failures - 1; attempt++) {
+                long gapMillis = TimeUnit.NANOSECONDS.toMillis(disconnects.get(attempt + 1) - disconnects.get(attempt));
+                long delay = Math.min(10L << attempt, 40);
+                // jitter never goes below half the delay
+                assertTrue("attempt " + attempt + " after " + gapMillis + " ms", gapMillis >= delay / 2 - 1);
+            }
+            // without the maximum the last delay would be at least 640 ms
+            long lastGap = TimeUnit.NANOSECONDS.toMillis(disconnects.get(failures - 1) - disconnects.get(failures - 2));
+            assertTrue("last attempt after " + lastGap + " ms", lastGap < 640);
+        }
+
+        server = new LocalStreamServer(port);
+        assertNotNull(server.nextConnection(5000));
+        assertTrue(server.nextFrame(5000).contains("tickers.BTCUSDT"));
+        assertTrue(reconnected.await(5, TimeUnit.SECONDS));
+        assertTrue(reconnectAttempts[0] >= failures);
+        assertEquals(1, client.getReconnectCount());
+    }
+}
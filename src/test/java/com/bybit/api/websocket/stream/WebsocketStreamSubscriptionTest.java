@@ -0,0 +1,104 @@
+package com.bybit.api.websocket.stream;
+
+import com.bybit.api.client.config.BybitApiConfig;
+import com.bybit.api.client.websocket.impl.WebsocketStreamClientImpl;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import okhttp3.WebSocket;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+public class WebsocketStreamSubscriptionTest {
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final List<String> received = new ArrayList<>();
+    private WebsocketStreamClientImpl client;
+    private WebSocket ws;
+
+    @Before
+    public void setup() {
+        client = new WebsocketStreamClientImpl(null, null, BybitApiConfig.STREAM_TESTNET_DOMAIN, 20, "-1", false, null, received::add);
+        ws = mock(WebSocket.class);
+    }
+
+    @Test
+    public void testRegistryReplayedOnOpen() throws JsonProcessingException {
+        client.subscribe(List.of("tickers.BTCUSDT", "tickers.ETHUSDT"));
+        verify(ws, never()).send(anyString());
+
+        client.onOpen(ws);
+        List<JsonNode> frames = sentFrames(1);
+        assertEquals("subscribe", frames.get(0).get("op").asText());
+        assertEquals(2, frames.get(0).get("args").size());
+
+        // the same registry is replayed on the next connection
+        WebSocket reopened = mock(WebSocket.class);
+        client.onOpen(reopened);
+        verify(reopened).send(contains("tickers.ETHUSDT"));
+    }
+
+    @Test
+    public void testIncrementalChangesOnLiveConnection() throws JsonProcessingException {
+        client.onOpen(ws);
+        client.subscribe(List.of("tickers.BTCUSDT", "tickers.ETHUSDT"));
+        client.subscribe(List.of("tickers.BTCUSDT"));
+        client.unsubscribe(List.of("tickers.ETHUSDT", "tickers.SOLUSDT"));
+
+        List<JsonNode> frames = sentFrames(2);
+        assertEquals("subscribe", frames.get(0).get("op").asText());
+        assertEquals("unsubscribe", frames.get(1).get("op").asText());
+        assertEquals("[\"tickers.ETHUSDT\"]", frames.get(1).get("args").toString());
+        assertEquals(Set.of("tickers.BTCUSDT"), client.getSubscriptions());
+    }
+
+    @Test
+    public void testTopicsBatchedByRequestLimit() throws JsonProcessingException {
+        client.onOpen(ws);
+        List<String> topics = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            topics.add("orderbook.50.SYMBOL" + i + "USDT");
+        }
+        client.subscribe(topics);
+
+        List<JsonNode> frames = sentFrames(3);
+        int total = 0;
+        for (JsonNode frame : frames) {
+            assertTrue(frame.get("args").toString().length() <= 21000);
+            total += frame.get("args").size();
+        }
+        assertEquals(2000, total);
+    }
+
+    @Test
+    public void testRejectedTopicLeavesRegistry() throws JsonProcessingException {
+        client.onOpen(ws);
+        client.subscribe(List.of("tickers.BTCUSDT"));
+        client.subscribe(List.of("tickers.UNKNOWN"));
+        List<JsonNode> frames = sentFrames(2);
+
+        client.onMessage("{\"success\":true,\"ret_msg\":\"\",\"conn_id\":\"c\",\"req_id\":\"" + frames.get(0).get("req_id").asText() + "\",\"op\":\"subscribe\"}");
+        client.onMessage("{\"success\":false,\"ret_msg\":\"error:handler not found,topic:tickers.UNKNOWN\",\"conn_id\":\"c\",\"req_id\":\""
+                + frames.get(1).get("req_id").asText() + "\",\"op\":\"subscribe\"}");
+        assertEquals(Set.of("tickers.BTCUSDT"), client.getSubscriptions());
+        // responses are still passed to the message handler
+        assertEquals(2, received.size());
+    }
+
+    private List<JsonNode> sentFrames(int expected) throws JsonProcessingException {
+        ArgumentCaptor<String> captor = ArgumentCaptor.forClass(String.class);
+        verify(ws, times(expected)).send(captor.capture());
+        List<JsonNode> frames = new ArrayList<>();
+        for (String frame : captor.getAllValues()) {
+            frames.add(mapper.readTree(frame));
+        }
+        return frames;
+    }
+}
@@ -0,0 +1,109 @@
+package com.bybit.api.websocket.ticker;
+
+import com.bybit.api.client.websocket.ticker.TickerCache;
+import com.bybit.api.client.websocket.ticker.TickerField;
+import com.bybit.api.client.websocket.ticker.TickerRecord;
+import com.bybit.api.client.websocket.ticker.TickerSnapshot;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.Assert.*;
+
+public class TickerCacheTest {
+    private final List<String> others = new ArrayList<>();
+    private final TickerCache cache = new TickerCache(others::add);
+
+    @Test
+    public void testDeltaMergedIntoSnapshot() throws JsonProcessingException {
+        cache.onMessage("{\"topic\":\"tickers.BTCUSDT\",\"type\":\"snapshot\",\"data\":{\"symbol\":\"BTCUSDT\",\"tickDirection\":\"PlusTick\"," +
+                "\"lastPrice\":\"17216.00\",\"markPrice\":\"17217.33\",\"fundingRate\":\"-0.000212\",\"nextFundingTime\":\"1673280000000\"}," +
+                "\"cs\":24987956059,\"ts\":1673272861686}");
+        cache.onMessage("{\"topic\":\"tickers.BTCUSDT\",\"type\":\"delta\",\"data\":{\"symbol\":\"BTCUSDT\",\"markPrice\":\"17218.00\"},\"cs\":24987956060,\"ts\":1673272861786}");
+
+        TickerRecord record = cache.getRecord("BTCUSDT");
+        TickerSnapshot snapshot = record.read(new TickerSnapshot());
+        assertEquals(17216.00, snapshot.getLastPrice(), 0);
+        assertEquals(17218.00, snapshot.getMarkPrice(), 0);
+        assertEquals(-0.000212, snapshot.get(TickerField.FUNDING_RATE), 0);
+        assertEquals(1673280000000L, (long) snapshot.get(TickerField.NEXT_FUNDING_TIME));
+        assertTrue(Double.isNaN(snapshot.getIndexPrice()));
+        assertEquals(1673272861786L, snapshot.getTickerTimestamp());
+        assertEquals(4, snapshot.getVersion());
+
+        // a new snapshot replaces every field
+        cache.onMessage("{\"topic\":\"tickers.BTCUSDT\",\"type\":\"snapshot\",\"data\":{\"symbol\":\"BTCUSDT\",\"lastPrice\":\"17300\"},\"ts\":1673272861886}");
+        assertTrue(Double.isNaN(record.get(TickerField.MARK_PRICE)));
+        assertEquals(17300, record.get(TickerField.LAST_PRICE), 0);
+    }
+
+    @Test
+    public void testBookTopAndPassThrough() throws JsonProcessingException {
+        cache.onMessage("{\"topic\":\"orderbook.1.ETHUSDT\",\"type\":\"snapshot\",\"ts\":1672304484978,\"data\":{\"s\":\"ETHUSDT\"," +
+                "\"b\":[[\"1650.50\",\"2.5\"]],\"a\":[[\"1650.60\",\"1.2\"]],\"u\":1,\"seq\":2}}");
+        cache.onMessage("{\"topic\":\"orderbook.1.ETHUSDT\",\"type\":\"delta\",\"ts\":1672304484988,\"data\":{\"s\":\"ETHUSDT\"," +
+                "\"b\":[],\"a\":[[\"1650.60\",\"0\"]],\"u\":2,\"seq\":3}}");
+        String orderbook50 = "{\"topic\":\"orderbook.50.ETHUSDT\",\"type\":\"snapshot\",\"ts\":1,\"data\":{}}";
+        cache.onMessage(orderbook50);
+
+        TickerSnapshot snapshot = cache.getRecord("ETHUSDT").read(new TickerSnapshot());
+        assertEquals(1650.50, snapshot.getBestBidPrice(), 0);
+        assertEquals(2.5, snapshot.getBestBidSize(), 0);
+        assertTrue(Double.isNaN(snapshot.getBestAskPrice()));
+        assertEquals(1672304484988L, snapshot.getBookTimestamp());
+        assertEquals(List.of(orderbook50), others);
+    }
+
+    @Test
+    public void testBookTopReplacedWithinDelta() throws JsonProcessingException {
+        cache.onMessage("{\"topic\":\"orderbook.1.ETHUSDT\",\"type\":\"snapshot\",\"ts\":1672304484978,\"data\":{\"s\":\"ETHUSDT\"," +
+                "\"b\":[[\"1650.50\",\"2.5\"]],\"a\":[[\"1650.60\",\"1.2\"]],\"u\":1,\"seq\":2}}");
+        // the old best level is deleted before the new one is listed
+        cache.onMessage("{\"topic\":\"orderbook.1.ETHUSDT\",\"type\":\"delta\",\"ts\":1672304484988,\"data\":{\"s\":\"ETHUSDT\"," +
+                "\"b\":[[\"1650.50\",\"0\"],[\"1650.40\",\"3.1\"]],\"a\":[[\"1650.60\",\"0\"],[\"1650.70\",\"0.8\"]],\"u\":2,\"seq\":3}}");
+
+        TickerSnapshot snapshot = cache.getRecord("ETHUSDT").read(new TickerSnapshot());
+        assertEquals(1650.40, snapshot.getBestBidPrice(), 0);
+        assertEquals(3.1, snapshot.getBestBidSize(), 0);
+        assertEquals(1650.70, snapshot.getBestAskPrice(), 0);
+        assertEquals(0.8, snapshot.getBestAskSize(), 0);
+    }
+
+    @Test
+    public void testReadersNeverSeeTornRecord() throws Exception {
+        cache.onMessage(ticker(0));
+        TickerRecord record = cache.getRecord("BTCUSDT");
+        AtomicBoolean running = new AtomicBoolean(true);
+        Thread writer = new Thread(() -> {
+            try {
+                for (int i = 1; i < 200_000; i++) {
+                    cache.onMessage(ticker(i));
+                }
+            } catch (JsonProcessingException e) {
+                throw new RuntimeException(e);
+            } finally {
+                running.set(false);
+            }
+        });
+        writer.start();
+        TickerSnapshot snapshot = new TickerSnapshot();
+        long reads = 0;
+        while (running.get() || reads == 0) {
+            record.read(snapshot);
+            assertEquals(snapshot.getLastPrice(), snapshot.getMarkPrice(), 0);
+            assertEquals(snapshot.getLastPrice(), snapshot.getIndexPrice(), 0);
+            assertEquals(0, snapshot.getVersion() & 1);
+            reads++;
+        }
+        writer.join();
+        assertEquals(199_999, record.get(TickerField.LAST_PRICE), 0);
+    }
+
+    private static String ticker(int value) {
+        return "{\"topic\":\"tickers.BTCUSDT\",\"type\":\"delta\",\"data\":{\"lastPrice\":\"" + value + "\",\"markPrice\":\"" + value
+                + "\",\"indexPrice\":\"" + value + "\"},\"ts\":1}";
+    }
+}